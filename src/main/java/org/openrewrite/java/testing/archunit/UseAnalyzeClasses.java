@@ -0,0 +1,339 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.archunit;
+
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.*;
+import org.openrewrite.java.dependencies.AddDependency;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.service.AnnotationService;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.singletonList;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * ArchUnit only caches imported classes between tests that use {@code @AnalyzeClasses} with the same locations and
+ * import options. Tests that call {@code new ClassFileImporter().importPackages(..)} themselves read all class files
+ * again for every test method.
+ * <p>
+ * - A JUnit 5 test method which only checks a rule against imported packages becomes a {@code static final} {@code @ArchTest} rule field
+ * - The class gets an {@code @AnalyzeClasses} annotation with the imported packages in sorted order, and the import options as classes
+ * - Classes importing different packages or options in different methods are left as is, as they need more than one import
+ * - {@code @ArchTest} fields are only run by the ArchUnit JUnit 5 engine, so {@code archunit-junit5} is added to
+ * projects which use {@code @AnalyzeClasses} without it
+ */
+public class UseAnalyzeClasses extends Recipe {
+    private static final String ANALYZE_CLASSES_FQN = "com.tngtech.archunit.junit.AnalyzeClasses";
+    private static final String ARCH_TEST_FQN = "com.tngtech.archunit.junit.ArchTest";
+    private static final String ARCH_RULE_FQN = "com.tngtech.archunit.lang.ArchRule";
+    private static final String IMPORT_OPTION_FQN = "com.tngtech.archunit.core.importer.ImportOption";
+    private static final String CLASS_FILE_IMPORTER_FQN = "com.tngtech.archunit.core.importer.ClassFileImporter";
+    private static final String JAVA_CLASSES_FQN = "com.tngtech.archunit.core.domain.JavaClasses";
+    private static final String TEST_FQN = "org.junit.jupiter.api.Test";
+
+    /**
+     * The {@code ImportOption.Predefined} constants and the classes {@code @AnalyzeClasses(importOptions)} expects instead.
+     */
+    private static final Map<String, String> PREDEFINED_IMPORT_OPTIONS = new HashMap<>();
+
+    static {
+        PREDEFINED_IMPORT_OPTIONS.put("DO_NOT_INCLUDE_TESTS", "DoNotIncludeTests");
+        PREDEFINED_IMPORT_OPTIONS.put("ONLY_INCLUDE_TESTS", "OnlyIncludeTests");
+        PREDEFINED_IMPORT_OPTIONS.put("DO_NOT_INCLUDE_JARS", "DoNotIncludeJars");
+        PREDEFINED_IMPORT_OPTIONS.put("DO_NOT_INCLUDE_ARCHIVES", "DoNotIncludeArchives");
+        PREDEFINED_IMPORT_OPTIONS.put("DO_NOT_INCLUDE_PACKAGE_INFOS", "DoNotIncludePackageInfos");
+    }
+
+    @Getter
+    final String displayName = "Use `@AnalyzeClasses` to cache imported classes";
+
+    @Getter
+    final String description = "Replace JUnit 5 tests which import classes with `new ClassFileImporter().importPackages(..)` " +
+            "and check a single rule by `@ArchTest` rule fields on a class annotated with `@AnalyzeClasses`, " +
+            "so ArchUnit imports the classes once and caches them between tests and test classes using the same locations. " +
+            "The `archunit-junit5` engine which runs `@ArchTest` rules is added when it is missing.";
+
+    @Override
+    public List<Recipe> getRecipeList() {
+        return singletonList(new AddDependency("com.tngtech.archunit", "archunit-junit5", "1.x", null,
+                ANALYZE_CLASSES_FQN, null, null, null, null, null,
+                null, null, null, true));
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesMethod<>(Matchers.IMPORT_PACKAGES), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+                if (cd.getKind() != J.ClassDeclaration.Kind.Type.Class ||
+                        service(AnnotationService.class).isAnnotatedWith(cd, ANALYZE_CLASSES_FQN)) {
+                    return cd;
+                }
+
+                Set<String> fieldNames = new HashSet<>();
+                for (Statement statement : cd.getBody().getStatements()) {
+                    if (statement instanceof J.VariableDeclarations) {
+                        for (J.VariableDeclarations.NamedVariable variable : ((J.VariableDeclarations) statement).getVariables()) {
+                            fieldNames.add(variable.getSimpleName());
+                        }
+                    }
+                }
+                Map<J.MethodDeclaration, Expression> rules = new LinkedHashMap<>();
+                ImportLocations locations = null;
+                for (Statement statement : cd.getBody().getStatements()) {
+                    if (!(statement instanceof J.MethodDeclaration)) {
+                        continue;
+                    }
+                    J.MethodDeclaration method = (J.MethodDeclaration) statement;
+                    RuleCheck ruleCheck = RuleCheck.of(method);
+                    if (ruleCheck == null || fieldNames.contains(method.getSimpleName())) {
+                        continue;
+                    }
+                    if (locations != null && !locations.equals(ruleCheck.getLocations())) {
+                        // A single @AnalyzeClasses cannot serve both imports
+                        return cd;
+                    }
+                    locations = ruleCheck.getLocations();
+                    rules.put(method, ruleCheck.getRule());
+                }
+                if (locations == null) {
+                    return cd;
+                }
+
+                JavaParser.Builder<?, ?> parser = JavaParser.fromJavaVersion().dependsOn(
+                        //language=java
+                        "package com.tngtech.archunit.junit;" +
+                                "public @interface AnalyzeClasses {" +
+                                "  String[] packages() default {};" +
+                                "  Class<? extends com.tngtech.archunit.core.importer.ImportOption>[] importOptions() default {};" +
+                                "}",
+                        //language=java
+                        "package com.tngtech.archunit.junit;" +
+                                "public @interface ArchTest {}",
+                        //language=java
+                        "package com.tngtech.archunit.lang;" +
+                                "public interface ArchRule {}",
+                        //language=java
+                        "package com.tngtech.archunit.core.importer;" +
+                                "public interface ImportOption {" +
+                                "  final class DoNotIncludeTests implements ImportOption {}" +
+                                "  final class OnlyIncludeTests implements ImportOption {}" +
+                                "  final class DoNotIncludeJars implements ImportOption {}" +
+                                "  final class DoNotIncludeArchives implements ImportOption {}" +
+                                "  final class DoNotIncludePackageInfos implements ImportOption {}" +
+                                "}");
+
+                for (Map.Entry<J.MethodDeclaration, Expression> rule : rules.entrySet()) {
+                    J.MethodDeclaration method = rule.getKey();
+                    cd = JavaTemplate.builder("@ArchTest\nstatic final ArchRule " + method.getSimpleName() + " = #{any(" + ARCH_RULE_FQN + ")};")
+                            .imports(ARCH_TEST_FQN, ARCH_RULE_FQN)
+                            .javaParser(parser)
+                            .build()
+                            .apply(updateCursor(cd), cd.getBody().getCoordinates().lastStatement(), rule.getValue());
+                    // Move the rule field into the position of the test method it replaces
+                    List<Statement> statements = new ArrayList<>(cd.getBody().getStatements());
+                    Statement field = statements.remove(statements.size() - 1);
+                    for (int i = 0; i < statements.size(); i++) {
+                        if (statements.get(i).isScope(method)) {
+                            statements.set(i, field.withPrefix(method.getPrefix()));
+                            break;
+                        }
+                    }
+                    cd = cd.withBody(cd.getBody().withStatements(statements));
+                }
+
+                String annotation = "@AnalyzeClasses(packages = " + locations.packagesAsAnnotationValue();
+                if (!locations.getImportOptions().isEmpty()) {
+                    annotation += ", importOptions = " + locations.importOptionsAsAnnotationValue();
+                    maybeAddImport(IMPORT_OPTION_FQN);
+                }
+                cd = JavaTemplate.builder(annotation + ")")
+                        .imports(ANALYZE_CLASSES_FQN, IMPORT_OPTION_FQN)
+                        .javaParser(parser)
+                        .build()
+                        .apply(updateCursor(cd), cd.getCoordinates().addAnnotation(comparing(J.Annotation::getSimpleName)));
+
+                maybeAddImport(ANALYZE_CLASSES_FQN);
+                maybeAddImport(ARCH_TEST_FQN);
+                maybeAddImport(ARCH_RULE_FQN);
+                maybeRemoveImport(CLASS_FILE_IMPORTER_FQN);
+                maybeRemoveImport(JAVA_CLASSES_FQN);
+                maybeRemoveImport(IMPORT_OPTION_FQN);
+                maybeRemoveImport(TEST_FQN);
+                return cd;
+            }
+        });
+    }
+
+    /**
+     * The packages and import options of a {@code ClassFileImporter}, which together make up the ArchUnit cache key.
+     */
+    @Value
+    private static class ImportLocations {
+        SortedSet<String> packages;
+        SortedSet<String> importOptions;
+
+        String packagesAsAnnotationValue() {
+            return asArray(packages.stream().map(p -> "\"" + p + "\"").collect(joining(", ")), packages.size());
+        }
+
+        String importOptionsAsAnnotationValue() {
+            return asArray(importOptions.stream().map(o -> "ImportOption." + o + ".class").collect(joining(", ")), importOptions.size());
+        }
+
+        private static String asArray(String elements, int size) {
+            return size == 1 ? elements : "{" + elements + "}";
+        }
+
+        static @Nullable ImportLocations of(Expression importer) {
+            if (!(importer instanceof J.MethodInvocation) || !Matchers.IMPORT_PACKAGES.matches((J.MethodInvocation) importer)) {
+                return null;
+            }
+            J.MethodInvocation importPackages = (J.MethodInvocation) importer;
+            SortedSet<String> packages = new TreeSet<>();
+            for (Expression argument : importPackages.getArguments()) {
+                if (!(argument instanceof J.Literal) || !(((J.Literal) argument).getValue() instanceof String)) {
+                    return null;
+                }
+                packages.add((String) ((J.Literal) argument).getValue());
+            }
+
+            SortedSet<String> importOptions = new TreeSet<>();
+            Expression select = importPackages.getSelect();
+            while (select instanceof J.MethodInvocation && Matchers.WITH_IMPORT_OPTION.matches((J.MethodInvocation) select)) {
+                J.MethodInvocation withImportOption = (J.MethodInvocation) select;
+                String importOption = importOptionClass(withImportOption.getArguments().get(0));
+                if (importOption == null) {
+                    return null;
+                }
+                importOptions.add(importOption);
+                select = withImportOption.getSelect();
+            }
+            if (!(select instanceof J.NewClass) || !Matchers.NEW_CLASS_FILE_IMPORTER.matches((J.NewClass) select) || packages.isEmpty()) {
+                return null;
+            }
+            return new ImportLocations(packages, importOptions);
+        }
+
+        private static @Nullable String importOptionClass(Expression importOption) {
+            if (importOption instanceof J.FieldAccess && TypeUtils.isOfClassType(importOption.getType(), IMPORT_OPTION_FQN + "$Predefined")) {
+                return PREDEFINED_IMPORT_OPTIONS.get(((J.FieldAccess) importOption).getSimpleName());
+            }
+            if (importOption instanceof J.NewClass && ((J.NewClass) importOption).getArguments().stream().allMatch(J.Empty.class::isInstance)) {
+                JavaType.FullyQualified type = TypeUtils.asFullyQualified(importOption.getType());
+                if (type != null && type.getOwningClass() != null &&
+                        IMPORT_OPTION_FQN.equals(type.getOwningClass().getFullyQualifiedName()) &&
+                        PREDEFINED_IMPORT_OPTIONS.containsValue(type.getClassName().substring(type.getClassName().lastIndexOf('.') + 1))) {
+                    return type.getClassName().substring(type.getClassName().lastIndexOf('.') + 1);
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A JUnit 5 test method which does nothing but check one rule against freshly imported classes, either as
+     * {@code rule.check(new ClassFileImporter().importPackages(..))} or through a local {@code JavaClasses} variable.
+     */
+    @Value
+    private static class RuleCheck {
+        Expression rule;
+        ImportLocations locations;
+
+        static @Nullable RuleCheck of(J.MethodDeclaration method) {
+            if (method.getBody() == null ||
+                    method.hasModifier(J.Modifier.Type.Static) ||
+                    !(method.getParameters().isEmpty() || method.getParameters().get(0) instanceof J.Empty) ||
+                    method.getLeadingAnnotations().size() != 1 ||
+                    !Matchers.TEST_MATCHER.matches(method.getLeadingAnnotations().get(0))) {
+                return null;
+            }
+            List<Statement> statements = method.getBody().getStatements();
+            if (statements.isEmpty() || statements.size() > 2 ||
+                    !(statements.get(statements.size() - 1) instanceof J.MethodInvocation)) {
+                return null;
+            }
+            J.MethodInvocation check = (J.MethodInvocation) statements.get(statements.size() - 1);
+            if (!Matchers.CHECK.matches(check) || check.getSelect() == null || !isSelfContained(check.getSelect())) {
+                return null;
+            }
+
+            Expression importer = check.getArguments().get(0);
+            if (statements.size() == 2) {
+                if (!(statements.get(0) instanceof J.VariableDeclarations) ||
+                        ((J.VariableDeclarations) statements.get(0)).getVariables().size() != 1 ||
+                        !(importer instanceof J.Identifier)) {
+                    return null;
+                }
+                J.VariableDeclarations.NamedVariable classes = ((J.VariableDeclarations) statements.get(0)).getVariables().get(0);
+                if (!classes.getSimpleName().equals(((J.Identifier) importer).getSimpleName()) || classes.getInitializer() == null) {
+                    return null;
+                }
+                importer = classes.getInitializer();
+            }
+            ImportLocations locations = ImportLocations.of(importer);
+            return locations == null ? null : new RuleCheck(check.getSelect(), locations);
+        }
+
+        /**
+         * Whether the rule can be evaluated in a static field initializer, which is the case when it does not refer to
+         * local variables, parameters or instance members of the test.
+         */
+        private static boolean isSelfContained(Expression rule) {
+            return !new JavaIsoVisitor<AtomicBoolean>() {
+                @Override
+                public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean refersToInstance) {
+                    JavaType.Variable fieldType = identifier.getFieldType();
+                    if (fieldType != null && (fieldType.getOwner() instanceof JavaType.Method || !fieldType.hasFlags(Flag.Static))) {
+                        refersToInstance.set(true);
+                    }
+                    return identifier;
+                }
+
+                @Override
+                public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean refersToInstance) {
+                    if (method.getSelect() == null && method.getMethodType() != null && !method.getMethodType().hasFlags(Flag.Static)) {
+                        refersToInstance.set(true);
+                    }
+                    return super.visitMethodInvocation(method, refersToInstance);
+                }
+            }.reduce(rule, new AtomicBoolean()).get();
+        }
+    }
+
+    /**
+     * Lazy holder for the ArchUnit importer and rule matchers.
+     */
+    private static class Matchers {
+        static final AnnotationMatcher TEST_MATCHER = new AnnotationMatcher("@" + TEST_FQN);
+        static final MethodMatcher IMPORT_PACKAGES = new MethodMatcher(CLASS_FILE_IMPORTER_FQN + " importPackages(..)");
+        static final MethodMatcher WITH_IMPORT_OPTION = new MethodMatcher(CLASS_FILE_IMPORTER_FQN + " withImportOption(..)");
+        static final MethodMatcher NEW_CLASS_FILE_IMPORTER = new MethodMatcher(CLASS_FILE_IMPORTER_FQN + " <constructor>()");
+        static final MethodMatcher CHECK = new MethodMatcher(ARCH_RULE_FQN + " check(" + JAVA_CLASSES_FQN + ")", true);
+    }
+}
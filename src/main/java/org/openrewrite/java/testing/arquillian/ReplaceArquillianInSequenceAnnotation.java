@@ -23,6 +23,7 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.*;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.service.AnnotationService;
+import org.openrewrite.java.testing.cleanup.DeclarationOnlyVisitor;
 import org.openrewrite.java.tree.J;
 
 import java.util.Comparator;
@@ -39,7 +40,7 @@ public class ReplaceArquillianInSequenceAnnotation extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 new UsesType<>("org.jboss.arquillian.junit.InSequence", false),
-                new JavaIsoVisitor<ExecutionContext>() {
+                new DeclarationOnlyVisitor<ExecutionContext>() {
                     private final String IN_SEQUENCE = "org.jboss.arquillian.junit.InSequence";
                     private final String TEST_METHOD_ORDER = "org.junit.jupiter.api.TestMethodOrder";
                     private final String METHOD_ORDERER = "org.junit.jupiter.api.MethodOrderer";
@@ -58,7 +59,7 @@ public class ReplaceArquillianInSequenceAnnotation extends Recipe {
                         if (service(AnnotationService.class).matches(updateCursor(m), IN_SEQUENCE_MATCHER)) {
                             J.ClassDeclaration classWithInSequenceMethods = getCursor().firstEnclosing(J.ClassDeclaration.class);
                             if (classWithInSequenceMethods != null) {
-                                doAfterVisit(new JavaIsoVisitor<ExecutionContext>() {
+                                doAfterVisit(new DeclarationOnlyVisitor<ExecutionContext>() {
                                     @Override
                                     public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
                                         J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
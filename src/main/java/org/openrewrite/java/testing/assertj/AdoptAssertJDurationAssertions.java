@@ -45,22 +45,6 @@ public class AdoptAssertJDurationAssertions extends Recipe {
     private static final String LONG_ASSERT_IS_GREATER_THAN = "org.assertj.core.api.AbstractLongAssert isGreaterThan(..)";
     private static final String LONG_ASSERT_IS_EQUAL_TO = "org.assertj.core.api.AbstractLongAssert isEqualTo(..)";
 
-    private static final MethodMatcher ASSERT_THAT_MATCHER = new MethodMatcher("org.assertj.core.api.Assertions assertThat(..)");
-    private static final MethodMatcher GET_NANO_MATCHER = new MethodMatcher("java.time.Duration getNano()");
-    private static final MethodMatcher GET_SECONDS_MATCHER = new MethodMatcher("java.time.Duration getSeconds()");
-    private static final MethodMatcher AS_MATCHER = new MethodMatcher("org.assertj.core.api.AbstractObjectAssert as(..)");
-    private static final MethodMatcher TIME_UNIT_MATCHERS = new MethodMatcher(DURATION_ASSERT_HAS_LONG, true);
-
-    private static final List<MethodMatcher> IS_MATCHERS = Arrays.asList(
-            new MethodMatcher(INTEGER_ASSERT_IS_EQUAL_TO, true),
-            new MethodMatcher(INTEGER_ASSERT_IS_GREATER_THAN, true),
-            new MethodMatcher(INTEGER_ASSERT_IS_LESS_THAN, true),
-
-            new MethodMatcher(LONG_ASSERT_IS_EQUAL_TO, true),
-            new MethodMatcher(LONG_ASSERT_IS_GREATER_THAN, true),
-            new MethodMatcher(LONG_ASSERT_IS_LESS_THAN, true)
-    );
-
     private static final Map<String, String> METHOD_MAP = new HashMap<String, String>() {{
         put("getSeconds", "hasSeconds");
         put("getNano", "hasNanos");
@@ -97,10 +81,10 @@ public class AdoptAssertJDurationAssertions extends Recipe {
                     @Override
                     public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                         J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
-                        if (TIME_UNIT_MATCHERS.matches(mi)) {
+                        if (Matchers.TIME_UNIT_MATCHERS.matches(mi)) {
                             return simplifyTimeUnits(mi, ctx);
                         }
-                        if (IS_MATCHERS.stream().anyMatch(matcher -> matcher.matches(mi))) {
+                        if (Matchers.IS_MATCHERS.stream().anyMatch(matcher -> matcher.matches(mi))) {
                             return simplifyMultipleAssertions(mi, ctx);
                         }
                         return mi;
@@ -113,13 +97,13 @@ public class AdoptAssertJDurationAssertions extends Recipe {
                         templateParameters.add(null);
                         Expression asDescription = null;
 
-                        if (AS_MATCHER.matches(select)) {
+                        if (Matchers.AS_MATCHER.matches(select)) {
                             asDescription = ((J.MethodInvocation) select).getArguments().get(0);
                             select = ((J.MethodInvocation) select).getSelect();
                             templateParameters.add(asDescription);
                         }
 
-                        if (!ASSERT_THAT_MATCHER.matches(select)) {
+                        if (!Matchers.ASSERT_THAT_MATCHER.matches(select)) {
                             return m;
                         }
 
@@ -135,7 +119,7 @@ public class AdoptAssertJDurationAssertions extends Recipe {
                             return applyTemplate(ctx, m, formatted_template, templateParameters.toArray());
                         }
 
-                        if (GET_NANO_MATCHER.matches(assertThatArg) || GET_SECONDS_MATCHER.matches(assertThatArg)) {
+                        if (Matchers.GET_NANO_MATCHER.matches(assertThatArg) || Matchers.GET_SECONDS_MATCHER.matches(assertThatArg)) {
                             Expression assertThatArgSelect = assertThatArg.getSelect();
                             String methodName = assertThatArg.getSimpleName();
                             String formatted_template = formatTemplate("assertThat(#{any()}).%s(#{any()});", methodName, asDescription);
@@ -236,4 +220,25 @@ public class AdoptAssertJDurationAssertions extends Recipe {
                 }
         );
     }
+
+    /**
+     * Only initialized once the recipe runs, as the matchers are not needed to describe it.
+     */
+    private static class Matchers {
+        static final MethodMatcher ASSERT_THAT_MATCHER = new MethodMatcher("org.assertj.core.api.Assertions assertThat(..)");
+        static final MethodMatcher GET_NANO_MATCHER = new MethodMatcher("java.time.Duration getNano()");
+        static final MethodMatcher GET_SECONDS_MATCHER = new MethodMatcher("java.time.Duration getSeconds()");
+        static final MethodMatcher AS_MATCHER = new MethodMatcher("org.assertj.core.api.AbstractObjectAssert as(..)");
+        static final MethodMatcher TIME_UNIT_MATCHERS = new MethodMatcher(DURATION_ASSERT_HAS_LONG, true);
+
+        static final List<MethodMatcher> IS_MATCHERS = Arrays.asList(
+                new MethodMatcher(INTEGER_ASSERT_IS_EQUAL_TO, true),
+                new MethodMatcher(INTEGER_ASSERT_IS_GREATER_THAN, true),
+                new MethodMatcher(INTEGER_ASSERT_IS_LESS_THAN, true),
+
+                new MethodMatcher(LONG_ASSERT_IS_EQUAL_TO, true),
+                new MethodMatcher(LONG_ASSERT_IS_GREATER_THAN, true),
+                new MethodMatcher(LONG_ASSERT_IS_LESS_THAN, true)
+        );
+    }
 }
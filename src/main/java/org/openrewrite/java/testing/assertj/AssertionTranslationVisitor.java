@@ -0,0 +1,294 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.assertj;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.*;
+
+/**
+ * Translates static assertions such as JUnit's {@code assertEquals(expected, actual, message)} or TestNG's
+ * {@code assertSame(actual, expected, message)} to an AssertJ {@code assertThat(actual).as(message).isEqualTo(expected)}
+ * chain, driven by a table of {@link Translation} rows rather than one visitor per assertion method.
+ * <p>
+ * Invocations are dispatched on their method name first, so that a whole table is applied in a single pass and only
+ * the rows for that name are matched against the declaring type and the {@link Shape} of the actual value, in table
+ * order. The templates are shared by all rows of the same shape, and are built once per visitor.
+ */
+public class AssertionTranslationVisitor extends JavaIsoVisitor<ExecutionContext> {
+    private static final String ASSERTJ = "org.assertj.core.api.Assertions";
+
+    private final Map<String, List<Translation>> translationsByName = new HashMap<>();
+    private final Map<String, JavaTemplate> templates = new HashMap<>();
+
+    public AssertionTranslationVisitor(Collection<Translation> translations) {
+        for (Translation translation : translations) {
+            translationsByName.computeIfAbsent(translation.getMethodName(), k -> new ArrayList<>()).add(translation);
+        }
+    }
+
+    /**
+     * The kind of actual value a row applies to, which decides how it is passed to {@code assertThat}.
+     */
+    public enum Shape {
+        /**
+         * Any value, asserted as is.
+         */
+        VALUE("assertThat(#{any()})", "#{any()}"),
+
+        /**
+         * An array, asserted element by element.
+         */
+        ARRAY("assertThat(#{anyArray()})", "#{anyArray()}"),
+
+        /**
+         * A single-pass iterator, asserted element by element through {@code toIterable()}.
+         */
+        ITERATOR("assertThat(#{any()}).toIterable()", "#{any()}"),
+
+        /**
+         * A value assignable to the {@link Translation#getActualType() actual type} of the row, such as a collection.
+         */
+        COLLECTION("assertThat(#{any()})", "#{any()}");
+
+        final String subject;
+        final String expected;
+
+        Shape(String subject, String expected) {
+            this.subject = subject;
+            this.expected = expected;
+        }
+
+        boolean appliesTo(Expression actual, @Nullable String actualType) {
+            switch (this) {
+                case ARRAY:
+                    return TypeUtils.asArray(actual.getType()) != null;
+                case ITERATOR:
+                    return TypeUtils.isAssignableTo("java.util.Iterator", actual.getType());
+                case COLLECTION:
+                    return actualType != null && TypeUtils.isAssignableTo(actualType, actual.getType());
+                default:
+                    return true;
+            }
+        }
+    }
+
+    /**
+     * A row of the translation table.
+     */
+    @Value
+    public static class Translation {
+        /**
+         * The fully qualified name of the class declaring the assertion, e.g. {@code org.testng.Assert}.
+         */
+        String declaringType;
+
+        String methodName;
+
+        MethodMatcher matcher;
+
+        /**
+         * The number of asserted arguments, excluding any delta and message: 1 for {@code assertTrue(actual)},
+         * 2 for {@code assertEquals(expected, actual)}.
+         */
+        int arity;
+
+        /**
+         * Whether the expected value precedes the actual value, as in JUnit, rather than following it, as in TestNG.
+         */
+        boolean expectedFirst;
+
+        Shape shape;
+
+        /**
+         * The type the actual value must be assignable to for a {@link Shape#COLLECTION} row.
+         */
+        @Nullable
+        String actualType;
+
+        /**
+         * The AssertJ assertion, with a placeholder for the expected value of a binary assertion, or null to leave
+         * assertions of this shape unchanged.
+         */
+        @Nullable
+        String assertion;
+
+        /**
+         * The AssertJ assertion taking an expected value and an offset, used for overloads with a floating point delta.
+         */
+        @Nullable
+        String closeToMethod;
+
+        public static Translation unary(String declaringType, String methodSignature, String assertion) {
+            return new Translation(declaringType, methodName(methodSignature), matcher(declaringType, methodSignature),
+                    1, false, Shape.VALUE, null, assertion, null);
+        }
+
+        public static Translation binary(String declaringType, String methodSignature, boolean expectedFirst,
+                                         String assertion, @Nullable String closeToMethod) {
+            return new Translation(declaringType, methodName(methodSignature), matcher(declaringType, methodSignature),
+                    2, expectedFirst, Shape.VALUE, null, assertion, closeToMethod);
+        }
+
+        public static Translation array(String declaringType, String methodSignature, boolean expectedFirst,
+                                        String assertion, @Nullable String closeToMethod) {
+            return new Translation(declaringType, methodName(methodSignature), matcher(declaringType, methodSignature),
+                    2, expectedFirst, Shape.ARRAY, null, assertion, closeToMethod);
+        }
+
+        public static Translation iterator(String declaringType, String methodSignature, boolean expectedFirst,
+                                           @Nullable String assertion) {
+            return new Translation(declaringType, methodName(methodSignature), matcher(declaringType, methodSignature),
+                    2, expectedFirst, Shape.ITERATOR, null, assertion, null);
+        }
+
+        public static Translation collection(String declaringType, String methodSignature, boolean expectedFirst,
+                                             String actualType, String assertion) {
+            return new Translation(declaringType, methodName(methodSignature), matcher(declaringType, methodSignature),
+                    2, expectedFirst, Shape.COLLECTION, actualType, assertion, null);
+        }
+
+        boolean appliesTo(J.MethodInvocation mi) {
+            return mi.getArguments().size() >= arity &&
+                    shape.appliesTo(mi.getArguments().get(arity == 2 && expectedFirst ? 1 : 0), actualType);
+        }
+
+        private static MethodMatcher matcher(String declaringType, String methodSignature) {
+            return new MethodMatcher(declaringType + " " + methodSignature, true);
+        }
+
+        private static String methodName(String methodSignature) {
+            return methodSignature.substring(0, methodSignature.indexOf('('));
+        }
+    }
+
+    @Override
+    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+        J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+        List<Translation> candidates = translationsByName.get(mi.getSimpleName());
+        if (candidates == null) {
+            return mi;
+        }
+        for (Translation translation : candidates) {
+            if (translation.getMatcher().matches(mi) && translation.appliesTo(mi)) {
+                return translation.getAssertion() == null ? mi : translate(mi, translation, translation.getAssertion(), ctx);
+            }
+        }
+        return mi;
+    }
+
+    private J.MethodInvocation translate(J.MethodInvocation mi, Translation translation, String assertion, ExecutionContext ctx) {
+        List<Expression> args = mi.getArguments();
+        Expression actual = args.get(translation.isExpectedFirst() ? 1 : 0);
+        Expression expected = translation.getArity() == 1 ? null : args.get(translation.isExpectedFirst() ? 0 : 1);
+        if (expected != null && isNullLiteral(actual) && !isNullLiteral(expected)) {
+            // `assertThat(null)` is an ambiguous method call; asserting on the other argument calls the same `equals`
+            Expression swap = expected;
+            expected = actual;
+            actual = swap;
+        }
+
+        JavaType.Primitive deltaType = translation.getCloseToMethod() == null ? null : floatingPointDeltaType(mi, translation.getArity());
+        Expression delta = deltaType == null ? null : args.get(translation.getArity());
+        Expression message = args.size() > translation.getArity() + (delta == null ? 0 : 1) ? args.get(args.size() - 1) : null;
+
+        Shape shape = translation.getShape();
+        StringBuilder template = new StringBuilder(shape.subject);
+        List<Object> parameters = new ArrayList<>(4);
+        parameters.add(actual);
+        if (message != null) {
+            template.append(".as(#{any()})");
+            parameters.add(message);
+        }
+        if (delta != null && !isIntegralType(actual)) {
+            // When actual is integral but delta is floating-point, keep the exact assertion instead of using
+            // isCloseTo, as e.g. AbstractLongAssert.isCloseTo requires an Offset<Long>, not an Offset<Double>
+            template.append('.').append(translation.getCloseToMethod())
+                    .append('(').append(shape.expected).append(", ").append(withinExpression(deltaType, delta)).append(')');
+            parameters.add(expected);
+            parameters.add(delta);
+            maybeAddImport(ASSERTJ, "within", false);
+        } else {
+            template.append('.').append(assertion);
+            if (expected != null) {
+                parameters.add(expected);
+            }
+        }
+        template.append(';');
+
+        maybeRemoveImport(translation.getDeclaringType());
+        maybeAddImport(ASSERTJ, "assertThat", false);
+        return templates.computeIfAbsent(template.toString(), code -> JavaTemplate.builder(code)
+                        .staticImports(ASSERTJ + ".assertThat", ASSERTJ + ".within")
+                        .imports("java.util.function.Supplier")
+                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                        .build())
+                .apply(getCursor(), mi.getCoordinates().replace(), parameters.toArray());
+    }
+
+    /**
+     * Inspect the resolved method's delta parameter type, not the argument's expression type: a literal like {@code 0}
+     * passed to {@code assertEquals(float, float, float)} is widened to float by the compiler.
+     */
+    private static JavaType.@Nullable Primitive floatingPointDeltaType(J.MethodInvocation mi, int arity) {
+        if (mi.getMethodType() == null || mi.getMethodType().getParameterTypes().size() <= arity) {
+            return null;
+        }
+        JavaType.Primitive primitive = TypeUtils.asPrimitive(mi.getMethodType().getParameterTypes().get(arity));
+        return primitive == JavaType.Primitive.Double || primitive == JavaType.Primitive.Float ? primitive : null;
+    }
+
+    /**
+     * When the delta argument's expression type is narrower than the resolved parameter type (e.g. literal {@code 0}
+     * widened to {@code float} at the call site), insert an explicit cast so that AssertJ resolves {@code within(...)}
+     * to the matching {@code Offset<T>} overload.
+     */
+    private static String withinExpression(JavaType.Primitive paramType, Expression delta) {
+        JavaType argType = delta.getType();
+        if (TypeUtils.asPrimitive(argType) == paramType) {
+            return "within(#{any()})";
+        }
+        JavaType.FullyQualified fq = TypeUtils.asFullyQualified(argType);
+        if (fq != null && paramType.getClassName().equals(fq.getFullyQualifiedName())) {
+            return "within(#{any()})";
+        }
+        return "within((" + paramType.getKeyword() + ") #{any()})";
+    }
+
+    private static boolean isNullLiteral(Expression expression) {
+        return J.Literal.isLiteralValue(expression.unwrap(), null);
+    }
+
+    private static boolean isIntegralType(Expression expression) {
+        JavaType.FullyQualified fq = TypeUtils.asFullyQualified(expression.getType());
+        if (fq != null) {
+            String typeName = fq.getFullyQualifiedName();
+            return "java.lang.Long".equals(typeName) || "java.lang.Integer".equals(typeName);
+        }
+        JavaType.Primitive p = TypeUtils.asPrimitive(expression.getType());
+        return p == JavaType.Primitive.Long || p == JavaType.Primitive.Int;
+    }
+}
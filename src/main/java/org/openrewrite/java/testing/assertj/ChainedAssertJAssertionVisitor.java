@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.assertj;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.*;
+
+/**
+ * Replaces {@code assertThat(actual.chained(..)).assertToReplace(..)} with {@code assertThat(actual).dedicated(..)}
+ * for the first {@link Rule} that applies, e.g. {@code assertThat(list.size()).isEqualTo(2)} with
+ * {@code assertThat(list).hasSize(2)}.
+ * <p>
+ * The rules are indexed by the name of the assertion to replace and the name of the chained method, so that the work
+ * per method invocation does not grow with the number of rules. When the result can be simplified again, as for
+ * {@code assertThat(s.trim().isEmpty()).isTrue()}, it is simplified in the same visit.
+ */
+class ChainedAssertJAssertionVisitor extends JavaIsoVisitor<ExecutionContext> {
+    private static final MethodMatcher ASSERT_THAT_MATCHER = new MethodMatcher("org.assertj.core.api.Assertions assertThat(..)");
+    private static final MethodMatcher ASSERTJ_METHOD_MATCHER = new MethodMatcher("org.assertj.core.api.* *(..)");
+    private static final MethodMatcher JAVA_METHOD_MATCHER = new MethodMatcher("java..* *(..)");
+    private static final List<MethodMatcher> INTERMEDIATE_MATCHERS = Arrays.asList(
+            new MethodMatcher("org.assertj.core.api.* as(..)"),
+            new MethodMatcher("org.assertj.core.api.* describedAs(..)"),
+            new MethodMatcher("org.assertj.core.api.* withFailMessage(..)"),
+            new MethodMatcher("org.assertj.core.api.* overridingErrorMessage(..)")
+    );
+
+    /**
+     * The rules keyed by the name of the assertion to replace and then by the name of the chained method,
+     * in the order in which they were given.
+     */
+    private final Map<String, Map<String, List<Rule>>> rules;
+
+    ChainedAssertJAssertionVisitor(Map<String, Map<String, List<Rule>>> rules) {
+        this.rules = rules;
+    }
+
+    static Map<String, Map<String, List<Rule>>> index(List<Rule> rules) {
+        Map<String, Map<String, List<Rule>>> index = new HashMap<>();
+        for (Rule rule : rules) {
+            index.computeIfAbsent(rule.getAssertToReplace(), k -> new HashMap<>())
+                    .computeIfAbsent(rule.getChainedAssertion(), k -> new ArrayList<>())
+                    .add(rule);
+        }
+        return index;
+    }
+
+    @Value
+    static class Rule {
+        String chainedAssertion;
+        String assertToReplace;
+        String dedicatedAssertion;
+        String requiredType;
+    }
+
+    @Override
+    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation methodInvocation, ExecutionContext ctx) {
+        J.MethodInvocation mi = super.visitMethodInvocation(methodInvocation, ctx);
+        for (J.MethodInvocation simplified = simplify(mi, ctx); simplified != null; simplified = simplify(mi, ctx)) {
+            mi = simplified;
+            updateCursor(mi);
+        }
+        return mi;
+    }
+
+    private J.@Nullable MethodInvocation simplify(J.MethodInvocation mi, ExecutionContext ctx) {
+        // assert has correct assertion
+        Map<String, List<Rule>> byChainedMethod = rules.get(mi.getSimpleName());
+        if (byChainedMethod == null || mi.getArguments().size() != 1 || !(mi.getSelect() instanceof J.MethodInvocation) ||
+                !ASSERTJ_METHOD_MATCHER.matches(mi)) {
+            return null;
+        }
+
+        // Walk past intermediate methods (as, describedAs, etc.) to find assertThat
+        List<J.MethodInvocation> intermediates = new ArrayList<>();
+        J.MethodInvocation current = (J.MethodInvocation) mi.getSelect();
+        while (!ASSERT_THAT_MATCHER.matches(current)) {
+            if (isIntermediate(current) && current.getSelect() instanceof J.MethodInvocation) {
+                intermediates.add(current);
+                current = (J.MethodInvocation) current.getSelect();
+            } else {
+                return null;
+            }
+        }
+        J.MethodInvocation assertThat = current;
+        if (!(assertThat.getArguments().get(0) instanceof J.MethodInvocation)) {
+            return null;
+        }
+
+        J.MethodInvocation assertThatArg = (J.MethodInvocation) assertThat.getArguments().get(0);
+        List<Rule> candidates = byChainedMethod.get(assertThatArg.getSimpleName());
+        if (candidates == null || !JAVA_METHOD_MATCHER.matches(assertThatArg)) {
+            return null;
+        }
+
+        // Extract the actual argument for the new assertThat call
+        Expression actual = assertThatArg.getSelect() != null ? assertThatArg.getSelect() : assertThatArg;
+        Rule rule = null;
+        for (Rule candidate : candidates) {
+            if (TypeUtils.isAssignableTo(candidate.getRequiredType(), actual.getType())) {
+                rule = candidate;
+                break;
+            }
+        }
+        if (rule == null) {
+            return null;
+        }
+
+        // Skip transformation when actual type has wildcard type parameters and the
+        // dedicated assertion takes arguments (e.g. containsEntry on Map<?, ?>, contains on Optional<?>).
+        // When both arguments are empty the dedicated assertion has no parameters, so wildcards are not an issue.
+        boolean assertThatArgumentIsEmpty = assertThatArg.getArguments().get(0) instanceof J.Empty;
+        boolean methodToReplaceArgumentIsEmpty = mi.getArguments().get(0) instanceof J.Empty;
+        if (!(assertThatArgumentIsEmpty && methodToReplaceArgumentIsEmpty)) {
+            JavaType.Parameterized parameterized = TypeUtils.asParameterized(actual.getType());
+            if (parameterized != null) {
+                for (JavaType typeParam : parameterized.getTypeParameters()) {
+                    if (typeParam instanceof JavaType.GenericTypeVariable &&
+                        "?".equals(((JavaType.GenericTypeVariable) typeParam).getName())) {
+                        return null;
+                    }
+                }
+            }
+        }
+
+        // Skip transformation when the assertion argument type is wider than the chained method's
+        // return type (e.g. isEqualTo(1L) with size() returning int -> hasSize(1L) won't compile)
+        if (!methodToReplaceArgumentIsEmpty &&
+                TypeUtils.asPrimitive(mi.getArguments().get(0).getType()) == JavaType.Primitive.Long &&
+                TypeUtils.asPrimitive(assertThatArg.getType()) == JavaType.Primitive.Int) {
+            return null;
+        }
+
+        List<Expression> arguments = new ArrayList<>();
+        arguments.add(actual);
+
+        String template = getStringTemplateAndAppendArguments(rule, assertThatArg, mi, arguments);
+        J.MethodInvocation result = JavaTemplate.builder(String.format(template, rule.getDedicatedAssertion()))
+                .contextSensitive()
+                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-api-5", "assertj-core-3"))
+                .build()
+                .apply(getCursor(), mi.getCoordinates().replace(), arguments.toArray());
+
+        // Splice intermediate methods (as, describedAs, etc.) back into the chain
+        if (!intermediates.isEmpty()) {
+            Expression chain = result.getSelect();
+            for (int i = intermediates.size() - 1; i >= 0; i--) {
+                chain = intermediates.get(i).withSelect(chain);
+            }
+            result = result.withSelect(chain);
+        }
+        return result;
+    }
+
+    private boolean isIntermediate(J.MethodInvocation method) {
+        for (MethodMatcher matcher : INTERMEDIATE_MATCHERS) {
+            if (matcher.matches(method)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String getStringTemplateAndAppendArguments(Rule rule, J.MethodInvocation assertThatArg, J.MethodInvocation methodToReplace, List<Expression> arguments) {
+        Expression assertThatArgument = assertThatArg.getArguments().get(0);
+        Expression methodToReplaceArgument = methodToReplace.getArguments().get(0);
+        boolean assertThatArgumentIsEmpty = assertThatArgument instanceof J.Empty;
+        boolean methodToReplaceArgumentIsEmpty = methodToReplaceArgument instanceof J.Empty;
+
+        // If both arguments are empty, then the select is already added to the arguments list, and we use a minimal template
+        if (assertThatArgumentIsEmpty && methodToReplaceArgumentIsEmpty) {
+            return "assertThat(#{any()}).%s()";
+        }
+
+        // If both arguments are not empty, then we add both to the arguments to the arguments list, and return a template with two arguments
+        if (!assertThatArgumentIsEmpty && !methodToReplaceArgumentIsEmpty) {
+            // This should only happen for map assertions using a key and value
+            arguments.add(assertThatArgument);
+            arguments.add(methodToReplaceArgument);
+            return "assertThat(#{any()}).%s(#{any()}, #{any()})";
+        }
+
+        // If either argument is empty, we choose which one to add to the arguments list, and optionally extract the select
+        arguments.add(assertThatArgumentIsEmpty ? methodToReplaceArgument : assertThatArgument);
+
+        // Special case for Path.of() assertions
+        if ("java.nio.file.Path".equals(rule.getRequiredType()) && rule.getDedicatedAssertion().contains("Raw") &&
+            TypeUtils.isAssignableTo("java.lang.String", assertThatArgument.getType())) {
+            maybeAddImport("java.nio.file.Path");
+            return "assertThat(#{any()}).%s(Path.of(#{any()}))";
+        }
+
+        return "assertThat(#{any()}).%s(#{any()})";
+    }
+}
@@ -20,19 +20,14 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
-import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.search.UsesMethod;
-import org.openrewrite.java.tree.Expression;
-import org.openrewrite.java.tree.J;
+import org.openrewrite.java.testing.assertj.AssertionTranslationVisitor.Translation;
 
-import java.util.List;
+import static java.util.Collections.singletonList;
 
 public class JUnitAssertFalseToAssertThat extends Recipe {
 
-    private static final MethodMatcher ASSERT_FALSE_MATCHER = new MethodMatcher("org.junit.jupiter.api.Assertions assertFalse(boolean, ..)", true);
+    static final Translation TRANSLATION = Translation.unary("org.junit.jupiter.api.Assertions", "assertFalse(boolean, ..)", "isFalse()");
 
     @Getter
     final String displayName = "JUnit `assertFalse` to AssertJ";
@@ -42,34 +37,7 @@ public class JUnitAssertFalseToAssertThat extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(ASSERT_FALSE_MATCHER), new JavaIsoVisitor<ExecutionContext>() {
-            @Override
-            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
-                J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
-                if (!ASSERT_FALSE_MATCHER.matches(mi)) {
-                    return mi;
-                }
-
-                maybeRemoveImport("org.junit.jupiter.api.Assertions");
-                maybeAddImport("org.assertj.core.api.Assertions", "assertThat", false);
-
-                List<Expression> args = mi.getArguments();
-                Expression actual = args.get(0);
-                if (args.size() == 1) {
-                    return JavaTemplate.builder("assertThat(#{any(boolean)}).isFalse();")
-                            .staticImports("org.assertj.core.api.Assertions.assertThat")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
-                            .build()
-                            .apply(getCursor(), mi.getCoordinates().replace(), actual);
-                }
-
-                Expression message = args.get(1);
-                return JavaTemplate.builder("assertThat(#{any(boolean)}).as(#{any()}).isFalse();")
-                        .staticImports("org.assertj.core.api.Assertions.assertThat")
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
-                        .build()
-                        .apply(getCursor(), mi.getCoordinates().replace(), actual, message);
-            }
-        });
+        return Preconditions.check(new UsesMethod<>(TRANSLATION.getMatcher()),
+                new AssertionTranslationVisitor(singletonList(TRANSLATION)));
     }
 }
@@ -20,23 +20,14 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
-import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.search.UsesMethod;
-import org.openrewrite.java.tree.Expression;
-import org.openrewrite.java.tree.J;
-import org.openrewrite.java.tree.JavaType;
-import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.java.testing.assertj.AssertionTranslationVisitor.Translation;
 
-import java.util.List;
+import static java.util.Collections.singletonList;
 
 public class JUnitAssertNotEqualsToAssertThat extends Recipe {
 
-    private static final String JUNIT = "org.junit.jupiter.api.Assertions";
-    private static final String ASSERTJ = "org.assertj.core.api.Assertions";
-    private static final MethodMatcher ASSERT_NOT_EQUALS_MATCHER = new MethodMatcher(JUNIT + " assertNotEquals(..)", true);
+    static final Translation TRANSLATION = Translation.binary("org.junit.jupiter.api.Assertions", "assertNotEquals(..)", true, "isNotEqualTo(#{any()})", "isNotCloseTo");
 
     @Getter
     final String displayName = "JUnit `assertNotEquals` to AssertJ";
@@ -46,73 +37,7 @@ public class JUnitAssertNotEqualsToAssertThat extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(ASSERT_NOT_EQUALS_MATCHER), new JavaIsoVisitor<ExecutionContext>() {
-            @Override
-            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
-                J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
-                if (!ASSERT_NOT_EQUALS_MATCHER.matches(mi)) {
-                    return mi;
-                }
-
-                maybeRemoveImport(JUNIT);
-                maybeAddImport(ASSERTJ, "assertThat", false);
-
-                List<Expression> args = mi.getArguments();
-                Expression expected = args.get(0);
-                Expression actual = args.get(1);
-                if (isNullLiteral(actual) && !isNullLiteral(expected)) {
-                    // `assertThat(null)` is an ambiguous method call; asserting on the other argument calls the same `equals`
-                    expected = actual;
-                    actual = args.get(0);
-                }
-                if (args.size() == 2) {
-                    return JavaTemplate.builder("assertThat(#{any()}).isNotEqualTo(#{any()});")
-                            .staticImports(ASSERTJ + ".assertThat")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
-                            .build()
-                            .apply(getCursor(), mi.getCoordinates().replace(), actual, expected);
-                }
-                if (args.size() == 3 && isFloatingPointType(args.get(2))) {
-                    maybeAddImport(ASSERTJ, "within", false);
-                    return JavaTemplate.builder("assertThat(#{any()}).isNotCloseTo(#{any()}, within(#{any()}));")
-                            .staticImports(ASSERTJ + ".assertThat", ASSERTJ + ".within")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
-                            .build()
-                            .apply(getCursor(), mi.getCoordinates().replace(), actual, expected, args.get(2));
-                }
-                if (args.size() == 3) {
-                    Expression message = args.get(2);
-                    return JavaTemplate.builder("assertThat(#{any()}).as(#{any()}).isNotEqualTo(#{any()});")
-                            .staticImports(ASSERTJ + ".assertThat")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
-                            .build()
-                            .apply(getCursor(), mi.getCoordinates().replace(), actual, message, expected);
-                }
-
-                maybeAddImport(ASSERTJ, "within", false);
-
-                Expression message = args.get(3);
-                return JavaTemplate.builder("assertThat(#{any()}).as(#{any()}).isNotCloseTo(#{any()}, within(#{any()}));")
-                        .staticImports(ASSERTJ + ".assertThat", ASSERTJ + ".within")
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
-                        .build()
-                        .apply(getCursor(), method.getCoordinates().replace(), actual, message, expected, args.get(2));
-            }
-
-            private boolean isNullLiteral(Expression expression) {
-                return J.Literal.isLiteralValue(expression.unwrap(), null);
-            }
-
-            private boolean isFloatingPointType(Expression expression) {
-                JavaType.FullyQualified fullyQualified = TypeUtils.asFullyQualified(expression.getType());
-                if (fullyQualified != null) {
-                    String typeName = fullyQualified.getFullyQualifiedName();
-                    return "java.lang.Double".equals(typeName) || "java.lang.Float".equals(typeName);
-                }
-
-                JavaType.Primitive parameterType = TypeUtils.asPrimitive(expression.getType());
-                return parameterType == JavaType.Primitive.Double || parameterType == JavaType.Primitive.Float;
-            }
-        });
+        return Preconditions.check(new UsesMethod<>(TRANSLATION.getMatcher()),
+                new AssertionTranslationVisitor(singletonList(TRANSLATION)));
     }
 }
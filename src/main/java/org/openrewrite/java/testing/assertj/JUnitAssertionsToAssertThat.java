@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.assertj;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.assertj.AssertionTranslationVisitor.Translation;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
+public class JUnitAssertionsToAssertThat extends Recipe {
+
+    private static final List<Translation> TRANSLATIONS = asList(
+            JUnitAssertEqualsToAssertThat.TRANSLATION,
+            JUnitAssertFalseToAssertThat.TRANSLATION,
+            JUnitAssertNotEqualsToAssertThat.TRANSLATION,
+            JUnitAssertNotNullToAssertThat.TRANSLATION,
+            JUnitAssertNullToAssertThat.TRANSLATION,
+            JUnitAssertSameToAssertThat.TRANSLATION,
+            JUnitAssertTrueToAssertThat.TRANSLATION
+    );
+
+    @Getter
+    final String displayName = "JUnit assertions to AssertJ";
+
+    @Getter
+    final String description = "Convert JUnit-style `assertEquals()`, `assertNotEquals()`, `assertSame()`, `assertTrue()`, " +
+            "`assertFalse()`, `assertNull()` and `assertNotNull()` to the corresponding AssertJ `assertThat()` chain " +
+            "in a single pass over each source file.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesType<>("org.junit.jupiter.api.Assertions", false),
+                new AssertionTranslationVisitor(TRANSLATIONS));
+    }
+}
@@ -30,15 +30,6 @@ import java.util.List;
 
 public class JUnitTryFailToAssertThatThrownBy extends Recipe {
 
-    private static final MethodMatcher ASSERTJ_FAIL_MATCHER = new MethodMatcher("org.assertj.core.api.Assertions fail(..)");
-    private static final MethodMatcher JUPITER_FAIL_MATCHER = new MethodMatcher("org.junit.jupiter.api.Assertions fail(..)");
-    private static final MethodMatcher JUNIT4_FAIL_MATCHER = new MethodMatcher("org.junit.Assert fail(..)");
-    private static final MethodMatcher JUNIT_FAIL_MATCHER = new MethodMatcher("junit.framework.Assert fail(..)");
-
-    private static final MethodMatcher ASSERT_EQUALS_MATCHER = new MethodMatcher("org.junit.jupiter.api.Assertions assertEquals(..)");
-    private static final MethodMatcher JUNIT4_ASSERT_EQUALS_MATCHER = new MethodMatcher("org.junit.Assert assertEquals(..)");
-    private static final MethodMatcher GET_MESSAGE_MATCHER = new MethodMatcher("java.lang.Throwable getMessage()", true);
-
     @Getter
     final String displayName = "Convert try-catch-fail blocks to AssertJ's assertThatThrownBy";
 
@@ -118,10 +109,10 @@ public class JUnitTryFailToAssertThatThrownBy extends Recipe {
 
             private boolean isFailMethod(Statement method) {
                 if (method instanceof Expression) {
-                    return ASSERTJ_FAIL_MATCHER.matches((Expression) method) ||
-                            JUPITER_FAIL_MATCHER.matches((Expression) method) ||
-                            JUNIT4_FAIL_MATCHER.matches((Expression) method) ||
-                            JUNIT_FAIL_MATCHER.matches((Expression) method);
+                    return Matchers.ASSERTJ_FAIL_MATCHER.matches((Expression) method) ||
+                            Matchers.JUPITER_FAIL_MATCHER.matches((Expression) method) ||
+                            Matchers.JUNIT4_FAIL_MATCHER.matches((Expression) method) ||
+                            Matchers.JUNIT_FAIL_MATCHER.matches((Expression) method);
                 }
                 return false;
             }
@@ -131,21 +122,21 @@ public class JUnitTryFailToAssertThatThrownBy extends Recipe {
                 for (Statement statement : catchBlock.getBody().getStatements()) {
                     if (statement instanceof J.MethodInvocation) {
                         J.MethodInvocation mi = (J.MethodInvocation) statement;
-                        if (ASSERT_EQUALS_MATCHER.matches(mi) || JUNIT4_ASSERT_EQUALS_MATCHER.matches(mi)) {
+                        if (Matchers.ASSERT_EQUALS_MATCHER.matches(mi) || Matchers.JUNIT4_ASSERT_EQUALS_MATCHER.matches(mi)) {
                             // Handle assertEquals for exception message
                             if (2 <= mi.getArguments().size()) {
                                 Expression arg1 = mi.getArguments().get(0);
                                 Expression arg2 = mi.getArguments().get(1);
 
                                 // Check if one of the arguments is e.getMessage()
-                                if (GET_MESSAGE_MATCHER.matches(arg1)) {
+                                if (Matchers.GET_MESSAGE_MATCHER.matches(arg1)) {
                                     if (arg2 instanceof J.Literal) {
                                         J.Literal literal = (J.Literal) arg2;
                                         if (literal.getValue() instanceof String) {
                                             assertions.add(".hasMessage(\"" + literal.getValue() + "\")");
                                         }
                                     }
-                                } else if (GET_MESSAGE_MATCHER.matches(arg2)) {
+                                } else if (Matchers.GET_MESSAGE_MATCHER.matches(arg2)) {
                                     if (arg1 instanceof J.Literal) {
                                         J.Literal literal = (J.Literal) arg1;
                                         if (literal.getValue() instanceof String) {
@@ -189,4 +180,17 @@ public class JUnitTryFailToAssertThatThrownBy extends Recipe {
             }
         };
     }
+
+    /**
+     * Lazy holder for the fail and assertEquals method matchers.
+     */
+    private static class Matchers {
+        static final MethodMatcher ASSERTJ_FAIL_MATCHER = new MethodMatcher("org.assertj.core.api.Assertions fail(..)");
+        static final MethodMatcher JUPITER_FAIL_MATCHER = new MethodMatcher("org.junit.jupiter.api.Assertions fail(..)");
+        static final MethodMatcher JUNIT4_FAIL_MATCHER = new MethodMatcher("org.junit.Assert fail(..)");
+        static final MethodMatcher JUNIT_FAIL_MATCHER = new MethodMatcher("junit.framework.Assert fail(..)");
+        static final MethodMatcher ASSERT_EQUALS_MATCHER = new MethodMatcher("org.junit.jupiter.api.Assertions assertEquals(..)");
+        static final MethodMatcher JUNIT4_ASSERT_EQUALS_MATCHER = new MethodMatcher("org.junit.Assert assertEquals(..)");
+        static final MethodMatcher GET_MESSAGE_MATCHER = new MethodMatcher("java.lang.Throwable getMessage()", true);
+    }
 }
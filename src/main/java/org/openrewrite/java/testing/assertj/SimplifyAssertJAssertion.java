@@ -15,6 +15,7 @@
  */
 package org.openrewrite.java.testing.assertj;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -64,9 +65,12 @@ public class SimplifyAssertJAssertion extends Recipe {
     @Getter
     final String description = "Simplify AssertJ assertions by replacing them with more expressive dedicated assertions.";
 
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final MethodMatcher assertToReplaceMatcher = new MethodMatcher("org.assertj.core.api.* " + assertToReplace + "(..)");
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        final MethodMatcher assertToReplace = new MethodMatcher("org.assertj.core.api.* " + this.assertToReplace + "(..)");
+        MethodMatcher assertToReplace = getAssertToReplaceMatcher();
         return new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
@@ -15,6 +15,7 @@
  */
 package org.openrewrite.java.testing.assertj;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -23,21 +24,13 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Option;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
-import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.tree.Expression;
-import org.openrewrite.java.tree.J;
-import org.openrewrite.java.tree.JavaType;
-import org.openrewrite.java.tree.TypeUtils;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 
 @AllArgsConstructor
 @NoArgsConstructor
@@ -81,141 +74,16 @@ public class SimplifyChainedAssertJAssertion extends Recipe {
     final String description = "Many AssertJ chained assertions have dedicated assertions that function the same. " +
             "It is best to use the dedicated assertions.";
 
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final Map<String, Map<String, List<ChainedAssertJAssertionVisitor.Rule>>> rules =
+            ChainedAssertJAssertionVisitor.index(singletonList(new ChainedAssertJAssertionVisitor.Rule(
+                    chainedAssertion, assertToReplace, dedicatedAssertion, requiredType)));
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        MethodMatcher assertThatMatcher = new MethodMatcher("org.assertj.core.api.Assertions assertThat(..)");
-        MethodMatcher chainedAssertMatcher = new MethodMatcher("java..* " + chainedAssertion + "(..)");
-        MethodMatcher assertToReplace = new MethodMatcher("org.assertj.core.api.* " + this.assertToReplace + "(..)");
-        List<MethodMatcher> intermediateMatchers = Arrays.asList(
-                new MethodMatcher("org.assertj.core.api.* as(..)"),
-                new MethodMatcher("org.assertj.core.api.* describedAs(..)"),
-                new MethodMatcher("org.assertj.core.api.* withFailMessage(..)"),
-                new MethodMatcher("org.assertj.core.api.* overridingErrorMessage(..)")
-        );
-
-        return new JavaIsoVisitor<ExecutionContext>() {
-            @Override
-            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation methodInvocation, ExecutionContext ctx) {
-                J.MethodInvocation mi = super.visitMethodInvocation(methodInvocation, ctx);
-
-                // assert has correct assertion
-                if (!assertToReplace.matches(mi) || mi.getArguments().size() != 1 || !(mi.getSelect() instanceof J.MethodInvocation)) {
-                    return mi;
-                }
-
-                // Walk past intermediate methods (as, describedAs, etc.) to find assertThat
-                List<J.MethodInvocation> intermediates = new ArrayList<>();
-                J.MethodInvocation current = (J.MethodInvocation) mi.getSelect();
-                while (!assertThatMatcher.matches(current)) {
-                    if (isIntermediate(current) && current.getSelect() instanceof J.MethodInvocation) {
-                        intermediates.add(current);
-                        current = (J.MethodInvocation) current.getSelect();
-                    } else {
-                        return mi;
-                    }
-                }
-                J.MethodInvocation assertThat = current;
-                if (!(assertThat.getArguments().get(0) instanceof J.MethodInvocation)) {
-                    return mi;
-                }
-
-                J.MethodInvocation assertThatArg = (J.MethodInvocation) assertThat.getArguments().get(0);
-                if (!chainedAssertMatcher.matches(assertThatArg)) {
-                    return mi;
-                }
-
-                // Extract the actual argument for the new assertThat call
-                Expression actual = assertThatArg.getSelect() != null ? assertThatArg.getSelect() : assertThatArg;
-                if (!TypeUtils.isAssignableTo(requiredType, actual.getType())) {
-                    return mi;
-                }
-
-                // Skip transformation when actual type has wildcard type parameters and the
-                // dedicated assertion takes arguments (e.g. containsEntry on Map<?, ?>, contains on Optional<?>).
-                // When both arguments are empty the dedicated assertion has no parameters, so wildcards are not an issue.
-                boolean assertThatArgumentIsEmpty = assertThatArg.getArguments().get(0) instanceof J.Empty;
-                boolean methodToReplaceArgumentIsEmpty = mi.getArguments().get(0) instanceof J.Empty;
-                if (!(assertThatArgumentIsEmpty && methodToReplaceArgumentIsEmpty)) {
-                    JavaType.Parameterized parameterized = TypeUtils.asParameterized(actual.getType());
-                    if (parameterized != null) {
-                        for (JavaType typeParam : parameterized.getTypeParameters()) {
-                            if (typeParam instanceof JavaType.GenericTypeVariable &&
-                                "?".equals(((JavaType.GenericTypeVariable) typeParam).getName())) {
-                                return mi;
-                            }
-                        }
-                    }
-                }
-
-                // Skip transformation when the assertion argument type is wider than the chained method's
-                // return type (e.g. isEqualTo(1L) with size() returning int -> hasSize(1L) won't compile)
-                if (!methodToReplaceArgumentIsEmpty &&
-                        TypeUtils.asPrimitive(mi.getArguments().get(0).getType()) == JavaType.Primitive.Long &&
-                        TypeUtils.asPrimitive(assertThatArg.getType()) == JavaType.Primitive.Int) {
-                    return mi;
-                }
-
-                List<Expression> arguments = new ArrayList<>();
-                arguments.add(actual);
-
-                String template = getStringTemplateAndAppendArguments(assertThatArg, mi, arguments);
-                J.MethodInvocation result = JavaTemplate.builder(String.format(template, dedicatedAssertion))
-                        .contextSensitive()
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-api-5", "assertj-core-3"))
-                        .build()
-                        .apply(getCursor(), mi.getCoordinates().replace(), arguments.toArray());
-
-                // Splice intermediate methods (as, describedAs, etc.) back into the chain
-                if (!intermediates.isEmpty()) {
-                    Expression chain = result.getSelect();
-                    for (int i = intermediates.size() - 1; i >= 0; i--) {
-                        chain = intermediates.get(i).withSelect(chain);
-                    }
-                    result = result.withSelect(chain);
-                }
-                return result;
-            }
-
-            private boolean isIntermediate(J.MethodInvocation method) {
-                for (MethodMatcher matcher : intermediateMatchers) {
-                    if (matcher.matches(method)) {
-                        return true;
-                    }
-                }
-                return false;
-            }
-
-            private String getStringTemplateAndAppendArguments(J.MethodInvocation assertThatArg, J.MethodInvocation methodToReplace, List<Expression> arguments) {
-                Expression assertThatArgument = assertThatArg.getArguments().get(0);
-                Expression methodToReplaceArgument = methodToReplace.getArguments().get(0);
-                boolean assertThatArgumentIsEmpty = assertThatArgument instanceof J.Empty;
-                boolean methodToReplaceArgumentIsEmpty = methodToReplaceArgument instanceof J.Empty;
-
-                // If both arguments are empty, then the select is already added to the arguments list, and we use a minimal template
-                if (assertThatArgumentIsEmpty && methodToReplaceArgumentIsEmpty) {
-                    return "assertThat(#{any()}).%s()";
-                }
-
-                // If both arguments are not empty, then we add both to the arguments to the arguments list, and return a template with two arguments
-                if (!assertThatArgumentIsEmpty && !methodToReplaceArgumentIsEmpty) {
-                    // This should only happen for map assertions using a key and value
-                    arguments.add(assertThatArgument);
-                    arguments.add(methodToReplaceArgument);
-                    return "assertThat(#{any()}).%s(#{any()}, #{any()})";
-                }
-
-                // If either argument is empty, we choose which one to add to the arguments list, and optionally extract the select
-                arguments.add(assertThatArgumentIsEmpty ? methodToReplaceArgument : assertThatArgument);
-
-                // Special case for Path.of() assertions
-                if ("java.nio.file.Path".equals(requiredType) && dedicatedAssertion.contains("Raw") &&
-                    TypeUtils.isAssignableTo("java.lang.String", assertThatArgument.getType())) {
-                    maybeAddImport("java.nio.file.Path");
-                    return "assertThat(#{any()}).%s(Path.of(#{any()}))";
-                }
-
-                return "assertThat(#{any()}).%s(#{any()})";
-            }
-        };
+        if (chainedAssertion == null || assertToReplace == null || dedicatedAssertion == null || requiredType == null) {
+            return TreeVisitor.noop();
+        }
+        return new ChainedAssertJAssertionVisitor(getRules());
     }
 }
@@ -33,13 +33,6 @@ import org.openrewrite.java.tree.TypeUtils;
 
 public class SimplifyHasSizeFromIsEqualToAssertion extends Recipe {
 
-    private static final MethodMatcher ASSERT_THAT_MATCHER = new MethodMatcher("org.assertj.core.api.Assertions assertThat(..)");
-    private static final MethodMatcher IS_EQUAL_TO_MATCHER = new MethodMatcher("org.assertj.core.api.* isEqualTo(..)");
-
-    private static final MethodMatcher CHAR_SEQUENCE_LENGTH_MATCHER = new MethodMatcher("java.lang.CharSequence length()", true);
-    private static final MethodMatcher ITERABLE_SIZE_MATCHER = new MethodMatcher("java.lang.Iterable size()", true);
-    private static final MethodMatcher MAP_SIZE_MATCHER = new MethodMatcher("java.util.Map size()", true);
-
     @Getter
     final String displayName = "Simplify literal-first AssertJ size assertions to `hasSize`";
 
@@ -51,19 +44,19 @@ public class SimplifyHasSizeFromIsEqualToAssertion extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(IS_EQUAL_TO_MATCHER),
+        return Preconditions.check(new UsesMethod<>(Matchers.IS_EQUAL_TO_MATCHER),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                         J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
-                        if (!IS_EQUAL_TO_MATCHER.matches(mi) || mi.getArguments().size() != 1 ||
+                        if (!Matchers.IS_EQUAL_TO_MATCHER.matches(mi) || mi.getArguments().size() != 1 ||
                                 !(mi.getSelect() instanceof J.MethodInvocation)) {
                             return mi;
                         }
 
                         // The actual side must be an `assertThat(<int literal>)` call
                         J.MethodInvocation assertThat = (J.MethodInvocation) mi.getSelect();
-                        if (!ASSERT_THAT_MATCHER.matches(assertThat) || assertThat.getArguments().size() != 1) {
+                        if (!Matchers.ASSERT_THAT_MATCHER.matches(assertThat) || assertThat.getArguments().size() != 1) {
                             return mi;
                         }
                         Expression actualLiteral = assertThat.getArguments().get(0);
@@ -92,9 +85,9 @@ public class SimplifyHasSizeFromIsEqualToAssertion extends Recipe {
 
                     private @Nullable Expression extractSizedExpression(Expression sizeExpression) {
                         if (sizeExpression instanceof J.MethodInvocation) {
-                            if (CHAR_SEQUENCE_LENGTH_MATCHER.matches(sizeExpression) ||
-                                    ITERABLE_SIZE_MATCHER.matches(sizeExpression) ||
-                                    MAP_SIZE_MATCHER.matches(sizeExpression)) {
+                            if (Matchers.CHAR_SEQUENCE_LENGTH_MATCHER.matches(sizeExpression) ||
+                                    Matchers.ITERABLE_SIZE_MATCHER.matches(sizeExpression) ||
+                                    Matchers.MAP_SIZE_MATCHER.matches(sizeExpression)) {
                                 return ((J.MethodInvocation) sizeExpression).getSelect();
                             }
                         } else if (sizeExpression instanceof J.FieldAccess) {
@@ -107,4 +100,15 @@ public class SimplifyHasSizeFromIsEqualToAssertion extends Recipe {
                     }
                 });
     }
+
+    /**
+     * Lazy holder for the assertion and size method matchers.
+     */
+    private static class Matchers {
+        static final MethodMatcher ASSERT_THAT_MATCHER = new MethodMatcher("org.assertj.core.api.Assertions assertThat(..)");
+        static final MethodMatcher IS_EQUAL_TO_MATCHER = new MethodMatcher("org.assertj.core.api.* isEqualTo(..)");
+        static final MethodMatcher CHAR_SEQUENCE_LENGTH_MATCHER = new MethodMatcher("java.lang.CharSequence length()", true);
+        static final MethodMatcher ITERABLE_SIZE_MATCHER = new MethodMatcher("java.lang.Iterable size()", true);
+        static final MethodMatcher MAP_SIZE_MATCHER = new MethodMatcher("java.util.Map size()", true);
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.assertj;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.assertj.ChainedAssertJAssertionVisitor.Rule;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.singleton;
+
+/**
+ * Applies all known {@link SimplifyChainedAssertJAssertion} rules in a single visit. The table is indexed once, so
+ * each method invocation is only checked against the rules for its assertion and chained method names.
+ */
+public class SimplifyKnownChainedAssertJAssertions extends Recipe {
+
+    /**
+     * Rules of (chained assertion, assertion to replace, dedicated assertion, required type). Where several rules
+     * share the chained method and assertion, the first one whose required type matches the actual value applies.
+     */
+    private static final List<Rule> RULES = Arrays.asList(
+            rule("compareTo", "isZero", "isEqualByComparingTo", "java.math.BigDecimal"),
+            rule("isEmpty", "isTrue", "isEmpty", "java.lang.String"),
+            rule("getString", "hasSize", "isEmpty", "java.lang.String"),
+            rule("equals", "isTrue", "isEqualTo", "java.lang.String"),
+            rule("equalsIgnoreCase", "isTrue", "isEqualToIgnoringCase", "java.lang.String"),
+            rule("contains", "isTrue", "contains", "java.lang.String"),
+            rule("contains", "isFalse", "doesNotContain", "java.lang.String"),
+            rule("startsWith", "isTrue", "startsWith", "java.lang.String"),
+            rule("startsWith", "isFalse", "doesNotStartWith", "java.lang.String"),
+            rule("endsWith", "isTrue", "endsWith", "java.lang.String"),
+            rule("endsWith", "isFalse", "doesNotEndWith", "java.lang.String"),
+            rule("matches", "isTrue", "matches", "java.lang.String"),
+            rule("matches", "isFalse", "doesNotMatch", "java.lang.String"),
+            rule("trim", "isEmpty", "isBlank", "java.lang.String"),
+            rule("length", "isEqualTo", "hasSize", "java.lang.String"),
+            rule("isEmpty", "isFalse", "isNotEmpty", "java.lang.String"),
+            rule("length", "hasSize", "hasSameSizeAs", "java.lang.String"),
+            rule("getFile", "hasSize", "isEmpty", "java.io.File"),
+            rule("length", "isZero", "isEmpty", "java.io.File"),
+            rule("length", "isEqualTo", "hasSize", "java.io.File"),
+            rule("canRead", "isTrue", "canRead", "java.io.File"),
+            rule("canWrite", "isTrue", "canWrite", "java.io.File"),
+            rule("exists", "isTrue", "exists", "java.io.File"),
+            rule("getName", "isEqualTo", "hasName", "java.io.File"),
+            rule("getParent", "isEqualTo", "hasParent", "java.io.File"),
+            rule("getParentFile", "isNull", "hasNoParent", "java.io.File"),
+            rule("isAbsolute", "isTrue", "isAbsolute", "java.io.File"),
+            rule("isAbsolute", "isFalse", "isRelative", "java.io.File"),
+            rule("isDirectory", "isTrue", "isDirectory", "java.io.File"),
+            rule("isFile", "isTrue", "isFile", "java.io.File"),
+            rule("list", "isEmpty", "isEmptyDirectory", "java.io.File"),
+            rule("startsWith", "isTrue", "startsWithRaw", "java.nio.file.Path"),
+            rule("endsWith", "isTrue", "endsWithRaw", "java.nio.file.Path"),
+            rule("getParent", "isEqualTo", "hasParentRaw", "java.nio.file.Path"),
+            rule("getParent", "isNull", "hasNoParentRaw", "java.nio.file.Path"),
+            rule("isAbsolute", "isTrue", "isAbsolute", "java.nio.file.Path"),
+            rule("isAbsolute", "isFalse", "isRelative", "java.nio.file.Path"),
+            rule("isEmpty", "isTrue", "isEmpty", "java.util.Collection"),
+            rule("isEmpty", "isFalse", "isNotEmpty", "java.util.Collection"),
+            rule("size", "isZero", "isEmpty", "java.util.Collection"),
+            rule("size", "isEqualTo", "hasSize", "java.util.Collection"),
+            rule("contains", "isTrue", "contains", "java.util.Collection"),
+            rule("contains", "isFalse", "doesNotContain", "java.util.Collection"),
+            rule("containsAll", "isTrue", "containsAll", "java.util.Collection"),
+            rule("size", "isEqualTo", "hasSize", "java.util.Map"),
+            rule("containsKey", "isTrue", "containsKey", "java.util.Map"),
+            rule("keySet", "contains", "containsKey", "java.util.Map"),
+            rule("keySet", "containsOnly", "containsOnlyKeys", "java.util.Map"),
+            rule("containsValue", "isTrue", "containsValue", "java.util.Map"),
+            rule("values", "contains", "containsValue", "java.util.Map"),
+            rule("get", "isEqualTo", "containsEntry", "java.util.Map"),
+            rule("isEmpty", "isTrue", "isEmpty", "java.util.Map"),
+            rule("isEmpty", "isFalse", "isNotEmpty", "java.util.Map"),
+            rule("isPresent", "isTrue", "isPresent", "java.util.Optional"),
+            rule("isEmpty", "isTrue", "isEmpty", "java.util.Optional"),
+            rule("isPresent", "isFalse", "isNotPresent", "java.util.Optional"),
+            rule("isEmpty", "isFalse", "isNotEmpty", "java.util.Optional"),
+            rule("get", "isEqualTo", "contains", "java.util.Optional"),
+            rule("get", "isSameAs", "containsSame", "java.util.Optional"),
+            rule("hasNext", "isTrue", "hasNext", "java.util.Iterator"),
+            rule("hasNext", "isFalse", "isExhausted", "java.util.Iterator"),
+            rule("toString", "isEqualTo", "hasToString", "java.lang.Object"),
+            rule("equals", "isTrue", "isEqualTo", "java.lang.Object")
+    );
+
+    private static final Map<String, Map<String, List<Rule>>> INDEX = ChainedAssertJAssertionVisitor.index(RULES);
+
+    @Getter
+    final String displayName = "Simplify known AssertJ chained assertions";
+
+    @Getter
+    final String description = "Replace AssertJ assertions where a method is called on the actual value with a dedicated assertion, " +
+            "such as `assertThat(list.size()).isEqualTo(2)` with `assertThat(list).hasSize(2)`, " +
+            "for all chained methods of `String`, `File`, `Path`, `Collection`, `Map`, `Optional`, `Iterator` and `Object` " +
+            "that have a dedicated assertion.";
+
+    @Getter
+    final Set<String> tags = singleton("RSPEC-S5838");
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesMethod<>("org.assertj.core.api.Assertions assertThat(..)"),
+                new ChainedAssertJAssertionVisitor(INDEX));
+    }
+
+    private static Rule rule(String chainedAssertion, String assertToReplace, String dedicatedAssertion, String requiredType) {
+        return new Rule(chainedAssertion, assertToReplace, dedicatedAssertion, requiredType);
+    }
+}
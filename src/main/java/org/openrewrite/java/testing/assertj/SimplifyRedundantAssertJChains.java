@@ -33,70 +33,14 @@ public class SimplifyRedundantAssertJChains extends Recipe {
     @Getter
     final String description = "Removes redundant AssertJ assertions when chained methods already provide the same or stronger guarantees.";
 
-    // Matcher for hasSize() - redundant when followed by assertions that verify exact contents
-    private static final MethodMatcher hasSizeMatcher = new MethodMatcher("org.assertj.core.api..* hasSize(..)");
-
-    // Matchers for assertions that already imply exact size
-    private static final MethodMatcher exactSizeImplyingMatchers = new MethodMatcher("org.assertj.core.api..* containsExactly*(..)");
-
-    // Matcher for isNotNull() method - use wildcard to match any AbstractAssert subclass
-    private static final MethodMatcher isNotNullMatcher = new MethodMatcher("org.assertj.core.api..* isNotNull()");
-
-    // Matchers for assertions that already imply non-null - use wildcards for flexibility
-    private static final MethodMatcher[] nonNullImplyingMatchers = {
-            // String assertions
-            new MethodMatcher("org.assertj.core.api..* isNotEmpty()"),
-            new MethodMatcher("org.assertj.core.api..* isEmpty()"),
-            new MethodMatcher("org.assertj.core.api..* isBlank()"),
-            new MethodMatcher("org.assertj.core.api..* isNotBlank()"),
-            new MethodMatcher("org.assertj.core.api..* hasSize(..)"),
-            new MethodMatcher("org.assertj.core.api..* contains(..)"),
-            new MethodMatcher("org.assertj.core.api..* startsWith(..)"),
-            new MethodMatcher("org.assertj.core.api..* endsWith(..)"),
-            new MethodMatcher("org.assertj.core.api..* matches(..)"),
-            new MethodMatcher("org.assertj.core.api..* isEqualToIgnoringCase(..)"),
-
-            // More assertions that imply non-null - using wildcards consistently
-            exactSizeImplyingMatchers,
-            new MethodMatcher("org.assertj.core.api..* containsOnly(..)"),
-            new MethodMatcher("org.assertj.core.api..* containsAll(..)"),
-            new MethodMatcher("org.assertj.core.api..* containsKey(..)"),
-            new MethodMatcher("org.assertj.core.api..* containsKeys(..)"),
-            new MethodMatcher("org.assertj.core.api..* containsValue(..)"),
-            new MethodMatcher("org.assertj.core.api..* containsEntry(..)"),
-            new MethodMatcher("org.assertj.core.api..* isPresent()"),
-            new MethodMatcher("org.assertj.core.api..* isNotPresent()"),
-            new MethodMatcher("org.assertj.core.api..* isTrue()"),
-            new MethodMatcher("org.assertj.core.api..* isFalse()"),
-            // Note: isNotEqualTo and isNotSameAs are NOT here because they pass when actual is null
-            new MethodMatcher("org.assertj.core.api..* isInstanceOf(..)"),
-            new MethodMatcher("org.assertj.core.api..* hasSameClassAs(..)"),
-            new MethodMatcher("org.assertj.core.api..* hasToString(..)"),
-            new MethodMatcher("org.assertj.core.api..* isZero()"),
-            new MethodMatcher("org.assertj.core.api..* isNotZero()"),
-            new MethodMatcher("org.assertj.core.api..* isPositive()"),
-            new MethodMatcher("org.assertj.core.api..* isNegative()"),
-            new MethodMatcher("org.assertj.core.api..* exists()"),
-            new MethodMatcher("org.assertj.core.api..* isFile()"),
-            new MethodMatcher("org.assertj.core.api..* isDirectory()"),
-            new MethodMatcher("org.assertj.core.api..* isRegularFile()"),
-            new MethodMatcher("org.assertj.core.api..* canRead()"),
-            new MethodMatcher("org.assertj.core.api..* canWrite()")
-    };
-    // Matcher for isNotEmpty() preceded by isNotEmpty()
-    private static final MethodMatcher isNotEmptyMatcher = new MethodMatcher("org.assertj.core.api..* isNotEmpty()");
-    private static final MethodMatcher containsMatcher = new MethodMatcher("org.assertj.core.api..* contains*(..)");
-    // Matcher for isPresent() preceded by another assertion
-    private static final MethodMatcher isPresentMatcher = new MethodMatcher("org.assertj.core.api..* isPresent()");
-
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 Preconditions.or(
-                        new UsesMethod<>(hasSizeMatcher),
-                        new UsesMethod<>(isNotNullMatcher),
-                        new UsesMethod<>(isNotEmptyMatcher),
-                        new UsesMethod<>(isPresentMatcher)
+                        new UsesMethod<>(Matchers.hasSizeMatcher),
+                        new UsesMethod<>(Matchers.isNotNullMatcher),
+                        new UsesMethod<>(Matchers.isNotEmptyMatcher),
+                        new UsesMethod<>(Matchers.isPresentMatcher)
                 ),
                 new JavaIsoVisitor<ExecutionContext>() {
             @Override
@@ -111,8 +55,8 @@ public class SimplifyRedundantAssertJChains extends Recipe {
                 J.MethodInvocation select = (J.MethodInvocation) mi.getSelect();
 
                 // Check for isNotNull() followed by an assertion that implies non-null
-                if (isNotNullMatcher.matches(select)) {
-                    for (MethodMatcher matcher : nonNullImplyingMatchers) {
+                if (Matchers.isNotNullMatcher.matches(select)) {
+                    for (MethodMatcher matcher : Matchers.nonNullImplyingMatchers) {
                         if (matcher.matches(mi)) {
                             // Remove the redundant isNotNull() by returning the method with the select's select
                             return mi.withSelect(select.getSelect());
@@ -121,19 +65,19 @@ public class SimplifyRedundantAssertJChains extends Recipe {
                 }
 
                 // Check for isNotEmpty() followed by contains()
-                if (isNotEmptyMatcher.matches(select) && containsMatcher.matches(mi)) {
+                if (Matchers.isNotEmptyMatcher.matches(select) && Matchers.containsMatcher.matches(mi)) {
                     // Remove the redundant isNotEmpty()
                     return mi.withSelect(select.getSelect());
                 }
 
                 // Check for isPresent() followed by contains() (for Optional)
-                if (isPresentMatcher.matches(select) && containsMatcher.matches(mi)) {
+                if (Matchers.isPresentMatcher.matches(select) && Matchers.containsMatcher.matches(mi)) {
                     // Remove the redundant isPresent()
                     return mi.withSelect(select.getSelect());
                 }
 
                 // Check for hasSize() followed by containsExactly() or similar
-                if (hasSizeMatcher.matches(select) && exactSizeImplyingMatchers.matches(mi)) {
+                if (Matchers.hasSizeMatcher.matches(select) && Matchers.exactSizeImplyingMatchers.matches(mi)) {
                     // Remove the redundant hasSize()
                     return mi.withSelect(select.getSelect());
                 }
@@ -142,4 +86,66 @@ public class SimplifyRedundantAssertJChains extends Recipe {
             }
         });
     }
+
+    /**
+     * Holds the matchers, so that they are only created when the recipe runs, rather than when the recipe catalog is
+     * loaded.
+     */
+    private static class Matchers {
+        // Matcher for hasSize() - redundant when followed by assertions that verify exact contents
+        static final MethodMatcher hasSizeMatcher = new MethodMatcher("org.assertj.core.api..* hasSize(..)");
+
+        // Matchers for assertions that already imply exact size
+        static final MethodMatcher exactSizeImplyingMatchers = new MethodMatcher("org.assertj.core.api..* containsExactly*(..)");
+
+        // Matcher for isNotNull() method - use wildcard to match any AbstractAssert subclass
+        static final MethodMatcher isNotNullMatcher = new MethodMatcher("org.assertj.core.api..* isNotNull()");
+
+        // Matchers for assertions that already imply non-null - use wildcards for flexibility
+        static final MethodMatcher[] nonNullImplyingMatchers = {
+                // String assertions
+                new MethodMatcher("org.assertj.core.api..* isNotEmpty()"),
+                new MethodMatcher("org.assertj.core.api..* isEmpty()"),
+                new MethodMatcher("org.assertj.core.api..* isBlank()"),
+                new MethodMatcher("org.assertj.core.api..* isNotBlank()"),
+                new MethodMatcher("org.assertj.core.api..* hasSize(..)"),
+                new MethodMatcher("org.assertj.core.api..* contains(..)"),
+                new MethodMatcher("org.assertj.core.api..* startsWith(..)"),
+                new MethodMatcher("org.assertj.core.api..* endsWith(..)"),
+                new MethodMatcher("org.assertj.core.api..* matches(..)"),
+                new MethodMatcher("org.assertj.core.api..* isEqualToIgnoringCase(..)"),
+
+                // More assertions that imply non-null - using wildcards consistently
+                exactSizeImplyingMatchers,
+                new MethodMatcher("org.assertj.core.api..* containsOnly(..)"),
+                new MethodMatcher("org.assertj.core.api..* containsAll(..)"),
+                new MethodMatcher("org.assertj.core.api..* containsKey(..)"),
+                new MethodMatcher("org.assertj.core.api..* containsKeys(..)"),
+                new MethodMatcher("org.assertj.core.api..* containsValue(..)"),
+                new MethodMatcher("org.assertj.core.api..* containsEntry(..)"),
+                new MethodMatcher("org.assertj.core.api..* isPresent()"),
+                new MethodMatcher("org.assertj.core.api..* isNotPresent()"),
+                new MethodMatcher("org.assertj.core.api..* isTrue()"),
+                new MethodMatcher("org.assertj.core.api..* isFalse()"),
+                // Note: isNotEqualTo and isNotSameAs are NOT here because they pass when actual is null
+                new MethodMatcher("org.assertj.core.api..* isInstanceOf(..)"),
+                new MethodMatcher("org.assertj.core.api..* hasSameClassAs(..)"),
+                new MethodMatcher("org.assertj.core.api..* hasToString(..)"),
+                new MethodMatcher("org.assertj.core.api..* isZero()"),
+                new MethodMatcher("org.assertj.core.api..* isNotZero()"),
+                new MethodMatcher("org.assertj.core.api..* isPositive()"),
+                new MethodMatcher("org.assertj.core.api..* isNegative()"),
+                new MethodMatcher("org.assertj.core.api..* exists()"),
+                new MethodMatcher("org.assertj.core.api..* isFile()"),
+                new MethodMatcher("org.assertj.core.api..* isDirectory()"),
+                new MethodMatcher("org.assertj.core.api..* isRegularFile()"),
+                new MethodMatcher("org.assertj.core.api..* canRead()"),
+                new MethodMatcher("org.assertj.core.api..* canWrite()")
+        };
+        // Matcher for isNotEmpty() preceded by isNotEmpty()
+        static final MethodMatcher isNotEmptyMatcher = new MethodMatcher("org.assertj.core.api..* isNotEmpty()");
+        static final MethodMatcher containsMatcher = new MethodMatcher("org.assertj.core.api..* contains*(..)");
+        // Matcher for isPresent() preceded by another assertion
+        static final MethodMatcher isPresentMatcher = new MethodMatcher("org.assertj.core.api..* isPresent()");
+    }
 }
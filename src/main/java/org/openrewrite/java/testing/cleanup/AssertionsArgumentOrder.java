@@ -38,62 +38,6 @@ import static java.util.Collections.singleton;
 
 public class AssertionsArgumentOrder extends Recipe {
 
-    private static final MethodMatcher[] jupiterAssertionMatchers = new MethodMatcher[]{
-            new MethodMatcher("org.junit.jupiter.api.Assertions assertArrayEquals(..)"),
-            new MethodMatcher("org.junit.jupiter.api.Assertions assertEquals(..)"),
-            new MethodMatcher("org.junit.jupiter.api.Assertions assertNotEquals(..)"),
-            new MethodMatcher("org.junit.jupiter.api.Assertions assertSame(..)"),
-            new MethodMatcher("org.junit.jupiter.api.Assertions assertNotSame(..)")
-    };
-
-    private static final MethodMatcher[] junitAssertMatchers = new MethodMatcher[]{
-            new MethodMatcher("org.junit.Assert assertEquals(..)"),
-            new MethodMatcher("org.junit.Assert assertEquals(..)"),
-            new MethodMatcher("org.junit.Assert assertArrayEquals(..)"),
-            new MethodMatcher("org.junit.Assert assertSame(..)"),
-            new MethodMatcher("org.junit.Assert assertNotSame(..)"),
-            new MethodMatcher("org.junit.Assert assert*Null(String, Object)")
-    };
-
-    private static final MethodMatcher[] junitAssertWithMessageMatchers = new MethodMatcher[]{
-            new MethodMatcher("org.junit.Assert assertEquals(String, ..)"),
-            new MethodMatcher("org.junit.Assert assertArrayEquals(String, ..)")
-    };
-    private static final MethodMatcher jupiterAssertIterableEqualsMatcher = new MethodMatcher("org.junit.jupiter.api.Assertions assertIterableEquals(..)");
-
-    // `assertNull("message", result())` should be `assertNull(result(), "message")`
-    private static final MethodMatcher jupiterAssertNullMatcher = new MethodMatcher("org.junit.jupiter.api.Assertions assert*Null(Object, String)");
-
-    // Moving a null literal into the expected position short circuits the equality check, rather than calling equals
-    private static final MethodMatcher[] equalityMatchers = new MethodMatcher[]{
-            new MethodMatcher("org.junit.jupiter.api.Assertions assertEquals(..)"),
-            new MethodMatcher("org.junit.jupiter.api.Assertions assertNotEquals(..)"),
-            new MethodMatcher("org.junit.Assert assertEquals(..)"),
-            new MethodMatcher("org.junit.Assert assertNotEquals(..)"),
-            new MethodMatcher("org.testng.Assert assertEquals(..)"),
-            new MethodMatcher("org.testng.Assert assertNotEquals(..)")
-    };
-
-    private static final MethodMatcher[] testNgMatcher = new MethodMatcher[]{
-            new MethodMatcher("org.testng.Assert assertSame(..)"),
-            new MethodMatcher("org.testng.Assert assertNotSame(..)"),
-            new MethodMatcher("org.testng.Assert assertEquals(..)"),
-            new MethodMatcher("org.testng.Assert assertNotEquals(..)")
-    };
-
-    private static final TreeVisitor<?, ExecutionContext> precondition;
-
-    static {
-        List<MethodMatcher> matchers = new ArrayList<>(Arrays.asList(jupiterAssertionMatchers));
-        matchers.addAll(Arrays.asList(junitAssertMatchers));
-        matchers.addAll(Arrays.asList(junitAssertWithMessageMatchers));
-        matchers.add(jupiterAssertIterableEqualsMatcher);
-        matchers.add(jupiterAssertNullMatcher);
-        matchers.addAll(Arrays.asList(testNgMatcher));
-        //noinspection unchecked
-        precondition = Preconditions.or(matchers.stream().map(UsesMethod::new).toArray(TreeVisitor[]::new));
-    }
-
     @Getter
     final String displayName = "Assertion arguments should be passed in the correct order";
 
@@ -105,7 +49,7 @@ public class AssertionsArgumentOrder extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(precondition, new AssertionsArgumentOrderVisitor());
+        return Preconditions.check(Matchers.precondition, new AssertionsArgumentOrderVisitor());
     }
 
     private static class AssertionsArgumentOrderVisitor extends JavaIsoVisitor<ExecutionContext> {
@@ -140,21 +84,22 @@ public class AssertionsArgumentOrder extends Recipe {
             }
 
             if (!isCorrectOrder(expected, actual, mi)) {
-                mi = maybeAutoFormat(mi, mi.withArguments(ListUtils.map(mi.getArguments(), arg -> {
+                // Swapping the prefixes keeps the argument list formatted as it was, so no reformatting is needed
+                mi = mi.withArguments(ListUtils.map(mi.getArguments(), arg -> {
                     if (arg.equals(actual)) {
-                        return expected;
+                        return expected.withPrefix(actual.getPrefix());
                     }
                     if (arg.equals(expected)) {
-                        return actual;
+                        return actual.withPrefix(expected.getPrefix());
                     }
                     return arg;
-                })), ctx, getCursor().getParentOrThrow());
+                }));
             }
             return mi;
         }
 
         private boolean isEqualityAssertion(J.MethodInvocation mi) {
-            for (MethodMatcher equalityMatcher : equalityMatchers) {
+            for (MethodMatcher equalityMatcher : Matchers.equalityMatchers) {
                 if (equalityMatcher.matches(mi)) {
                     return true;
                 }
@@ -171,7 +116,7 @@ public class AssertionsArgumentOrder extends Recipe {
         }
 
         private boolean isCorrectOrder(Expression expected, Expression actual, J.MethodInvocation mi) {
-            if (jupiterAssertNullMatcher.matches(mi)) {
+            if (Matchers.jupiterAssertNullMatcher.matches(mi)) {
                 return isConstant(actual, mi) || !isConstant(expected, mi);
             }
             return isConstant(expected, mi) || !isConstant(actual, mi);
@@ -197,7 +142,7 @@ public class AssertionsArgumentOrder extends Recipe {
                 return var.hasFlags(Flag.Static, Flag.Final);
             }
 
-            if (jupiterAssertIterableEqualsMatcher.matches(mi)) {
+            if (Matchers.jupiterAssertIterableEqualsMatcher.matches(mi)) {
                 for (MethodMatcher iterableMatcher : newListMatchers) {
                     if (iterableMatcher.matches(expression)) {
                         return true;
@@ -208,16 +153,16 @@ public class AssertionsArgumentOrder extends Recipe {
         }
 
         private boolean isJupiterAssertion(J.MethodInvocation mi) {
-            for (MethodMatcher assertionMethodMatcher : jupiterAssertionMatchers) {
+            for (MethodMatcher assertionMethodMatcher : Matchers.jupiterAssertionMatchers) {
                 if (assertionMethodMatcher.matches(mi)) {
                     return true;
                 }
             }
-            return jupiterAssertIterableEqualsMatcher.matches(mi) || jupiterAssertNullMatcher.matches(mi);
+            return Matchers.jupiterAssertIterableEqualsMatcher.matches(mi) || Matchers.jupiterAssertNullMatcher.matches(mi);
         }
 
         private boolean isTestNgAssertion(J.MethodInvocation mi) {
-            for (MethodMatcher actExpMatcher : testNgMatcher) {
+            for (MethodMatcher actExpMatcher : Matchers.testNgMatcher) {
                 if (actExpMatcher.matches(mi)) {
                     return true;
                 }
@@ -226,7 +171,7 @@ public class AssertionsArgumentOrder extends Recipe {
         }
 
         private boolean isJunitAssertion(J.MethodInvocation mi) {
-            for (MethodMatcher assertionMethodMatcher : junitAssertMatchers) {
+            for (MethodMatcher assertionMethodMatcher : Matchers.junitAssertMatchers) {
                 if (assertionMethodMatcher.matches(mi)) {
                     return true;
                 }
@@ -235,7 +180,7 @@ public class AssertionsArgumentOrder extends Recipe {
         }
 
         private boolean isJunitAssertEqualsWithMessage(J.MethodInvocation mi) {
-            for (MethodMatcher actExpMatcher : junitAssertWithMessageMatchers) {
+            for (MethodMatcher actExpMatcher : Matchers.junitAssertWithMessageMatchers) {
                 if (actExpMatcher.matches(mi)) {
                     return true;
                 }
@@ -243,4 +188,66 @@ public class AssertionsArgumentOrder extends Recipe {
             return false;
         }
     }
+
+    /**
+     * Holds the matchers, so that they are only created when the recipe runs, rather than when the recipe catalog is
+     * loaded.
+     */
+    private static class Matchers {
+        static final MethodMatcher[] jupiterAssertionMatchers = new MethodMatcher[]{
+                new MethodMatcher("org.junit.jupiter.api.Assertions assertArrayEquals(..)"),
+                new MethodMatcher("org.junit.jupiter.api.Assertions assertEquals(..)"),
+                new MethodMatcher("org.junit.jupiter.api.Assertions assertNotEquals(..)"),
+                new MethodMatcher("org.junit.jupiter.api.Assertions assertSame(..)"),
+                new MethodMatcher("org.junit.jupiter.api.Assertions assertNotSame(..)")
+        };
+
+        static final MethodMatcher[] junitAssertMatchers = new MethodMatcher[]{
+                new MethodMatcher("org.junit.Assert assertEquals(..)"),
+                new MethodMatcher("org.junit.Assert assertEquals(..)"),
+                new MethodMatcher("org.junit.Assert assertArrayEquals(..)"),
+                new MethodMatcher("org.junit.Assert assertSame(..)"),
+                new MethodMatcher("org.junit.Assert assertNotSame(..)"),
+                new MethodMatcher("org.junit.Assert assert*Null(String, Object)")
+        };
+
+        static final MethodMatcher[] junitAssertWithMessageMatchers = new MethodMatcher[]{
+                new MethodMatcher("org.junit.Assert assertEquals(String, ..)"),
+                new MethodMatcher("org.junit.Assert assertArrayEquals(String, ..)")
+        };
+        static final MethodMatcher jupiterAssertIterableEqualsMatcher = new MethodMatcher("org.junit.jupiter.api.Assertions assertIterableEquals(..)");
+
+        // `assertNull("message", result())` should be `assertNull(result(), "message")`
+        static final MethodMatcher jupiterAssertNullMatcher = new MethodMatcher("org.junit.jupiter.api.Assertions assert*Null(Object, String)");
+
+        // Moving a null literal into the expected position short circuits the equality check, rather than calling equals
+        static final MethodMatcher[] equalityMatchers = new MethodMatcher[]{
+                new MethodMatcher("org.junit.jupiter.api.Assertions assertEquals(..)"),
+                new MethodMatcher("org.junit.jupiter.api.Assertions assertNotEquals(..)"),
+                new MethodMatcher("org.junit.Assert assertEquals(..)"),
+                new MethodMatcher("org.junit.Assert assertNotEquals(..)"),
+                new MethodMatcher("org.testng.Assert assertEquals(..)"),
+                new MethodMatcher("org.testng.Assert assertNotEquals(..)")
+        };
+
+        static final MethodMatcher[] testNgMatcher = new MethodMatcher[]{
+                new MethodMatcher("org.testng.Assert assertSame(..)"),
+                new MethodMatcher("org.testng.Assert assertNotSame(..)"),
+                new MethodMatcher("org.testng.Assert assertEquals(..)"),
+                new MethodMatcher("org.testng.Assert assertNotEquals(..)")
+        };
+
+        static final TreeVisitor<?, ExecutionContext> precondition;
+
+        static {
+            List<MethodMatcher> matchers = new ArrayList<>(Arrays.asList(jupiterAssertionMatchers));
+            matchers.addAll(Arrays.asList(junitAssertMatchers));
+            matchers.addAll(Arrays.asList(junitAssertWithMessageMatchers));
+            matchers.add(jupiterAssertIterableEqualsMatcher);
+            matchers.add(jupiterAssertNullMatcher);
+            matchers.addAll(Arrays.asList(testNgMatcher));
+            //noinspection unchecked
+            precondition = Preconditions.or(matchers.stream().map(UsesMethod::new).toArray(TreeVisitor[]::new));
+        }
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.cleanup;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.Tree;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.format.AutoFormatVisitor;
+import org.openrewrite.java.tree.J;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * An alternative to {@code maybeAutoFormat} for recipes that make small template insertions into large methods or
+ * classes. Instead of formatting the whole tree, only the subtrees that were added, such as the output of a
+ * {@code JavaTemplate}, or moved to another parent, such as statements wrapped in a new {@code try} block, are
+ * formatted in the context of their new parent. Subtrees that are unchanged in place keep their formatting, and are
+ * not traversed by the formatter at all.
+ * <p>
+ * Whitespace owned by an unchanged parent, such as the space before a {@code throws} clause that was added to a
+ * method declaration, is not formatted, so the recipe should set it when it creates the clause.
+ */
+public final class ChangedSubtreeFormatter {
+
+    private ChangedSubtreeFormatter() {
+    }
+
+    /**
+     * @param before the tree as it was before the recipe changed it.
+     * @param after  the changed tree.
+     * @param parent the cursor of the parent of both trees.
+     * @return {@code after} with its added and moved subtrees formatted, or {@code after} itself when unchanged.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends J, P> T maybeFormat(J before, T after, P p, Cursor parent) {
+        if (before == after) {
+            return after;
+        }
+        Map<UUID, @Nullable UUID> parentIds = new HashMap<>();
+        new JavaIsoVisitor<Map<UUID, @Nullable UUID>>() {
+            @Override
+            public J preVisit(J tree, Map<UUID, @Nullable UUID> ids) {
+                ids.put(tree.getId(), parentId(getCursor().getParentOrThrow()));
+                return tree;
+            }
+        }.visit(before, parentIds, parent);
+
+        return (T) new JavaIsoVisitor<P>() {
+            @Override
+            public @Nullable J visit(@Nullable Tree tree, P p) {
+                if (tree instanceof J && isAddedOrMoved((J) tree)) {
+                    return (J) new AutoFormatVisitor<P>().visit(tree, p, getCursor());
+                }
+                return super.visit(tree, p);
+            }
+
+            private boolean isAddedOrMoved(J tree) {
+                return !parentIds.containsKey(tree.getId()) ||
+                        !Objects.equals(parentIds.get(tree.getId()), parentId(getCursor()));
+            }
+        }.visitNonNull(after, p, parent);
+    }
+
+    private static @Nullable UUID parentId(Cursor cursor) {
+        for (Cursor c = cursor; c != null; c = c.getParent()) {
+            if (c.getValue() instanceof J) {
+                return ((J) c.getValue()).getId();
+            }
+        }
+        return null;
+    }
+}
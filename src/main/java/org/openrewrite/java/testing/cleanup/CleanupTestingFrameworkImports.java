@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.cleanup;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.kotlin.tree.K;
+
+import java.util.*;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Reconciles the imports of all supported testing frameworks at once, instead of running a cleanup recipe per
+ * library after a migration. The method invocations of a source file are collected in a single traversal, and
+ * imports that are still referenced according to the types in use of the source file are kept without scheduling
+ * an import removal for them.
+ */
+public class CleanupTestingFrameworkImports extends Recipe {
+
+    private static final String JUPITER_API = "org.junit.jupiter.api";
+    private static final String JUPITER_ASSERTIONS = "org.junit.jupiter.api.Assertions";
+
+    private static final Set<String> MOCKITO_METHOD_NAMES = new HashSet<>(Arrays.asList(
+            "after", "atLeast", "atLeastOnce", "atMost", "calls", "clearInvocations", "doAnswer", "doCallRealMethod",
+            "doNothing", "doReturn", "doThrow", "given", "ignoreStubs", "inOrder", "mock", "mockConstruction",
+            "mockStatic", "mockingDetails", "never", "only", "reset", "spy", "stub", "stubVoid", "then", "timeout",
+            "times", "verify", "verifyNoInteractions", "verifyNoMoreInteractions", "verifyZeroInteractions", "when",
+            "will", "willAnswer", "willCallRealMethod", "willDoNothing", "willReturn", "willThrow"));
+
+    @Getter
+    final String displayName = "Cleanup testing framework imports";
+
+    @Getter
+    final String description = "Removes unused JUnit 4, Mockito, PowerMock, Hamcrest and AssertJ import symbols in a " +
+            "single pass, and removes static JUnit 5 `Assertions` imports from Kotlin files with a wildcard " +
+            "`org.junit.jupiter.api.*` import. Mockito, Hamcrest and AssertJ static imports are kept when a method " +
+            "invocation of the same name has missing or unknown type information.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(Preconditions.or(
+                new UsesType<>("org.junit..*", false),
+                new UsesType<>("junit..*", false),
+                new UsesType<>("org.mockito..*", false),
+                new UsesType<>("org.powermock..*", false),
+                new UsesType<>("org.hamcrest..*", false),
+                new UsesType<>("org.assertj..*", false)
+        ), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J preVisit(J tree, ExecutionContext ctx) {
+                stopAfterPreVisit();
+                if (!(tree instanceof JavaSourceFile)) {
+                    return tree;
+                }
+                JavaSourceFile sf = (JavaSourceFile) tree;
+                boolean kotlin = sf instanceof K.CompilationUnit;
+                Invocations invocations = new Invocations();
+                new CollectInvocations().visit(sf, invocations);
+
+                for (J.Import anImport : sf.getImports()) {
+                    String packageName = anImport.getPackageName();
+                    if (packageName.startsWith("junit") || packageName.startsWith("org.junit") && !packageName.contains("jupiter")) {
+                        removeIfUnused(sf, anImport, anImport.getTypeName());
+                    } else if (packageName.startsWith("org.powermock")) {
+                        removeIfUnused(sf, anImport, packageName + "." + anImport.getClassName());
+                    } else if (packageName.startsWith("org.mockito") && !kotlin) {
+                        removeMockitoIfUnused(sf, anImport, invocations);
+                    } else if (packageName.startsWith("org.hamcrest") || packageName.startsWith("org.assertj")) {
+                        if (!anImport.isStatic() || !invocations.unknownTypeNames.contains(anImport.getQualid().getSimpleName())) {
+                            removeIfUnused(sf, anImport, memberName(anImport));
+                        }
+                    }
+                }
+                return kotlin ? removeAmbiguousKotlinAssertionImports((K.CompilationUnit) sf) : sf;
+            }
+
+            private void removeMockitoIfUnused(JavaSourceFile sf, J.Import anImport, Invocations invocations) {
+                if (!anImport.isStatic()) {
+                    if (!invocations.qualifiedMockito) {
+                        removeIfUnused(sf, anImport, anImport.getPackageName() + "." + anImport.getClassName());
+                    }
+                    return;
+                }
+                String staticName = anImport.getQualid().getSimpleName();
+                if (invocations.mockitoMethods.contains(staticName)) {
+                    return;
+                }
+                if ("*".equals(staticName)) {
+                    maybeRemoveImport(anImport.getPackageName() + "." + anImport.getClassName());
+                } else if (!invocations.unknownTypeNames.contains(staticName)) {
+                    removeIfUnused(sf, anImport, memberName(anImport));
+                }
+            }
+
+            /**
+             * Only schedule an import removal when the types in use of the source file do not already show that the
+             * import is referenced, as each removal is a traversal of its own.
+             */
+            private void removeIfUnused(JavaSourceFile sf, J.Import anImport, String fullyQualifiedName) {
+                if (!isReferenced(sf, anImport)) {
+                    maybeRemoveImport(fullyQualifiedName);
+                }
+            }
+        });
+    }
+
+    private static String memberName(J.Import anImport) {
+        String typeName = anImport.getPackageName() + "." + anImport.getClassName();
+        return anImport.isStatic() ? typeName + "." + anImport.getQualid().getSimpleName() : typeName;
+    }
+
+    private static boolean isReferenced(JavaSourceFile sf, J.Import anImport) {
+        String name = anImport.getQualid().getSimpleName();
+        if ("*".equals(name)) {
+            return false;
+        }
+        String typeName = anImport.getTypeName();
+        if (anImport.isStatic()) {
+            for (JavaType.Method method : sf.getTypesInUse().getUsedMethods()) {
+                if (name.equals(method.getName()) && TypeUtils.isOfClassType(method.getDeclaringType(), typeName)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        for (JavaType type : sf.getTypesInUse().getTypesInUse()) {
+            if (TypeUtils.isOfClassType(type, typeName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * In Kotlin, static {@code Assertions} imports next to a wildcard {@code org.junit.jupiter.api.*} import make calls
+     * ambiguous between the Java static methods and the Kotlin extension functions.
+     */
+    private static K.CompilationUnit removeAmbiguousKotlinAssertionImports(K.CompilationUnit cu) {
+        boolean hasWildcardImport = cu.getImports().stream()
+                .anyMatch(imp -> JUPITER_API.equals(imp.getPackageName()) &&
+                        "*".equals(imp.getQualid().getSimpleName()) &&
+                        !imp.isStatic());
+        if (!hasWildcardImport) {
+            return cu;
+        }
+        List<J.Import> filteredImports = cu.getImports().stream()
+                .filter(imp -> !JUPITER_ASSERTIONS.equals(imp.getTypeName()))
+                .collect(toList());
+        return filteredImports.size() == cu.getImports().size() ? cu : cu.withImports(filteredImports);
+    }
+
+    private static class Invocations {
+        /**
+         * Names of unqualified Mockito methods invoked with valid type information.
+         */
+        final Set<String> mockitoMethods = new HashSet<>();
+
+        /**
+         * Names of invoked methods whose type is missing or unknown, which may still need a static import.
+         */
+        final Set<String> unknownTypeNames = new HashSet<>();
+
+        /**
+         * Whether a Mockito method is invoked on the {@code Mockito} type, as in {@code Mockito.mock(..)}.
+         */
+        boolean qualifiedMockito;
+    }
+
+    private static class CollectInvocations extends JavaIsoVisitor<Invocations> {
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Invocations invocations) {
+            J.MethodInvocation mi = super.visitMethodInvocation(method, invocations);
+            String name = mi.getSimpleName();
+            boolean wellFormed = TypeUtils.isWellFormedType(mi.getType());
+            if (!wellFormed) {
+                invocations.unknownTypeNames.add(name);
+            }
+            if (MOCKITO_METHOD_NAMES.contains(name)) {
+                if (mi.getSelect() == null && wellFormed) {
+                    invocations.mockitoMethods.add(name);
+                } else if (mi.getSelect() != null && TypeUtils.isAssignableTo("org.mockito.Mockito", mi.getSelect().getType())) {
+                    invocations.qualifiedMockito = true;
+                }
+            }
+            return mi;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.cleanup;
+
+import org.openrewrite.Cursor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+
+/**
+ * A visitor for recipes that only inspect class, method and field declarations and their annotations, such as the
+ * migration of JUnit 4 annotations. Method bodies, initializer blocks and field initializers are not traversed,
+ * which on long test classes avoids visiting the vast majority of the tree.
+ * <p>
+ * Subclasses that need to see into bodies or initializers after all can opt back in by overriding
+ * {@link #isVisitingMethodBodies()} or {@link #isVisitingFieldInitializers()}. Note that classes declared inside a
+ * method body or field initializer, like local and anonymous classes, are skipped along with it, so recipes that
+ * must also reach those classes should not use this visitor.
+ */
+public class DeclarationOnlyVisitor<P> extends JavaIsoVisitor<P> {
+
+    protected boolean isVisitingMethodBodies() {
+        return false;
+    }
+
+    protected boolean isVisitingFieldInitializers() {
+        return false;
+    }
+
+    @Override
+    public J.Block visitBlock(J.Block block, P p) {
+        if (!isVisitingMethodBodies() && isBodyOrInitializerBlock()) {
+            return block;
+        }
+        return super.visitBlock(block, p);
+    }
+
+    @Override
+    public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, P p) {
+        if (isVisitingFieldInitializers() || variable.getInitializer() == null || !isField()) {
+            return super.visitVariable(variable, p);
+        }
+        J.VariableDeclarations.NamedVariable withoutInitializer = variable.getPadding().withInitializer(null);
+        J.VariableDeclarations.NamedVariable v = super.visitVariable(withoutInitializer, p);
+        return v == withoutInitializer ? variable : v.getPadding().withInitializer(variable.getPadding().getInitializer());
+    }
+
+    /**
+     * A method body, or an instance or static initializer block directly inside a class body.
+     */
+    private boolean isBodyOrInitializerBlock() {
+        Object parent = getCursor().getParentTreeCursor().getValue();
+        return parent instanceof J.MethodDeclaration ||
+                parent instanceof J.Block && getCursor().getParentTreeCursor().getParentTreeCursor().getValue() instanceof J.ClassDeclaration;
+    }
+
+    private boolean isField() {
+        Cursor block = getCursor().getParentTreeCursor().getParentTreeCursor();
+        return block.getValue() instanceof J.Block && block.getParentTreeCursor().getValue() instanceof J.ClassDeclaration;
+    }
+}
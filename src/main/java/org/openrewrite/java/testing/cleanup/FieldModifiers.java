@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.cleanup;
+
+import org.openrewrite.Tree;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Helps recipes turn instance fields into static fields, keeping the modifiers in the conventional order and spacing.
+ */
+public final class FieldModifiers {
+
+    private FieldModifiers() {
+    }
+
+    /**
+     * Adds the {@code static} modifier to a field declaration, right after its access modifier if it has one.
+     */
+    public static J.VariableDeclarations addStatic(J.VariableDeclarations vd) {
+        if (vd.hasModifier(J.Modifier.Type.Static)) {
+            return vd;
+        }
+        List<J.Modifier> modifiers = vd.getModifiers();
+        if (modifiers.isEmpty()) {
+            if (vd.getTypeExpression() == null) {
+                return vd;
+            }
+            return vd.withModifiers(singletonList(newStatic(vd.getTypeExpression().getPrefix())))
+                    .withTypeExpression(vd.getTypeExpression().withPrefix(Space.SINGLE_SPACE));
+        }
+
+        int insertAt = 0;
+        for (int i = 0; i < modifiers.size(); i++) {
+            J.Modifier.Type type = modifiers.get(i).getType();
+            if (type == J.Modifier.Type.Public || type == J.Modifier.Type.Protected || type == J.Modifier.Type.Private) {
+                insertAt = i + 1;
+            }
+        }
+        List<J.Modifier> newModifiers = new ArrayList<>(modifiers);
+        if (insertAt == 0) {
+            newModifiers.set(0, modifiers.get(0).withPrefix(Space.SINGLE_SPACE));
+            newModifiers.add(0, newStatic(modifiers.get(0).getPrefix()));
+        } else {
+            newModifiers.add(insertAt, newStatic(Space.SINGLE_SPACE));
+        }
+        return vd.withModifiers(newModifiers);
+    }
+
+    /**
+     * Whether an expression, such as a field initializer, refers to the instance of its class, through {@code this},
+     * {@code super}, an instance field or an instance method, so that it cannot be moved to a static context.
+     */
+    public static boolean usesInstanceMembers(Expression expression) {
+        return new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean found) {
+                JavaType.Variable fieldType = identifier.getFieldType();
+                if ("this".equals(identifier.getSimpleName()) || "super".equals(identifier.getSimpleName()) ||
+                        fieldType != null && fieldType.getOwner() instanceof JavaType.FullyQualified &&
+                                !fieldType.hasFlags(Flag.Static) && !isNameOfFieldAccess()) {
+                    found.set(true);
+                }
+                return identifier;
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean found) {
+                if (method.getSelect() == null && method.getMethodType() != null &&
+                        !method.getMethodType().hasFlags(Flag.Static)) {
+                    found.set(true);
+                }
+                return super.visitMethodInvocation(method, found);
+            }
+
+            private boolean isNameOfFieldAccess() {
+                Object parent = getCursor().getParentTreeCursor().getValue();
+                return parent instanceof J.FieldAccess && ((J.FieldAccess) parent).getName() == getCursor().getValue();
+            }
+        }.reduce(expression, new AtomicBoolean()).get();
+    }
+
+    private static J.Modifier newStatic(Space prefix) {
+        return new J.Modifier(Tree.randomId(), prefix, Markers.EMPTY, null, J.Modifier.Type.Static, new ArrayList<>());
+    }
+}
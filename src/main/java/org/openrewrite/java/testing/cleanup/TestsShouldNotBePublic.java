@@ -88,7 +88,7 @@ public class TestsShouldNotBePublic extends ScanningRecipe<TestsShouldNotBePubli
     }
 
     @RequiredArgsConstructor
-    private static final class TestsNotPublicVisitor extends JavaIsoVisitor<ExecutionContext> {
+    private static final class TestsNotPublicVisitor extends DeclarationOnlyVisitor<ExecutionContext> {
         private final Boolean orProtected;
         private final Accumulator acc;
 
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.cleanup;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.*;
+
+/**
+ * An alternative to {@code VariableNameUtils.generateVariableName} with the {@code INCREMENT_NUMBER} strategy for
+ * recipes that generate several variables in one source file. The names declared in each method and class are
+ * indexed once per source file, instead of walking the tree on every call, and the names handed out are recorded,
+ * so that two generated variables in the same scope never clash even before either is part of the tree.
+ * <p>
+ * The allocator is kept as a message on the cursor of the source file, so visitors need no mutable state of their
+ * own. The index is conservative: a name declared anywhere in a method, including its lambdas and anonymous classes,
+ * is taken for the whole method, and a name allocated for a class is also kept clear of the locals of its methods.
+ */
+public final class VariableNameAllocator {
+    private static final String KEY = VariableNameAllocator.class.getName();
+
+    private final Map<UUID, Scope> scopes = new HashMap<>();
+    private final Map<String, Integer> sequences = new HashMap<>();
+
+    private VariableNameAllocator(JavaSourceFile sourceFile) {
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Integer p) {
+                Set<String> own = scope(classDecl.getId()).own;
+                JavaType.@Nullable FullyQualified type = classDecl.getType() == null ? null : classDecl.getType().getSupertype();
+                while (type != null) {
+                    for (JavaType.Variable field : type.getMembers()) {
+                        own.add(field.getName());
+                    }
+                    type = type.getSupertype();
+                }
+                return super.visitClassDeclaration(classDecl, p);
+            }
+
+            @Override
+            public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Integer p) {
+                record(variable.getSimpleName(), getCursor());
+                return super.visitVariable(variable, p);
+            }
+        }.visit(sourceFile, 0);
+    }
+
+    /**
+     * @param cursor any cursor within a Java source file.
+     * @return the allocator of the source file, which is created and indexed on first use.
+     */
+    public static VariableNameAllocator of(Cursor cursor) {
+        Cursor sourceFile = cursor.getValue() instanceof JavaSourceFile ?
+                cursor : cursor.dropParentUntil(JavaSourceFile.class::isInstance);
+        return sourceFile.computeMessageIfAbsent(KEY, k -> new VariableNameAllocator(sourceFile.getValue()));
+    }
+
+    /**
+     * Allocate a variable name that does not clash with the names in scope at the cursor, nor with the names
+     * allocated for that scope before. When {@code baseName} is taken, its trailing number, if any, is incremented
+     * until a free name is found, in the same way as {@code GenerationStrategy.INCREMENT_NUMBER}.
+     *
+     * @param baseName the preferred name.
+     * @param cursor   the position of the new declaration, such as the block or class it is added to.
+     * @return the allocated name.
+     */
+    public String allocate(String baseName, Cursor cursor) {
+        List<Scope> enclosing = enclosingScopes(cursor);
+        String name = baseName;
+        if (isTaken(name, enclosing)) {
+            int digits = baseName.length();
+            while (digits > 0 && Character.isDigit(baseName.charAt(digits - 1))) {
+                digits--;
+            }
+            String stem = baseName.substring(0, digits);
+            int count = digits == baseName.length() ? 0 : Integer.parseInt(baseName.substring(digits));
+            do {
+                name = stem + ++count;
+            } while (isTaken(name, enclosing));
+        }
+        record(name, enclosing);
+        return name;
+    }
+
+    /**
+     * A counter shared by all visitors of the source file, for recipes that number the names they generate, such as
+     * {@code mockA1} and {@code mockB2}.
+     *
+     * @param sequence the name of the counter.
+     * @return the next number of the counter, starting at 1.
+     */
+    public int nextInSequence(String sequence) {
+        return sequences.merge(sequence, 1, Integer::sum);
+    }
+
+    private void record(String name, Cursor cursor) {
+        record(name, enclosingScopes(cursor));
+    }
+
+    private static void record(String name, List<Scope> enclosing) {
+        if (!enclosing.isEmpty()) {
+            enclosing.get(0).own.add(name);
+        }
+        for (Scope scope : enclosing) {
+            scope.subtree.add(name);
+        }
+    }
+
+    /**
+     * A name is taken when it is declared anywhere within the innermost scope, or directly in an enclosing scope, so
+     * that the new variable neither clashes with nor shadows another.
+     */
+    private static boolean isTaken(String name, List<Scope> enclosing) {
+        for (int i = 0; i < enclosing.size(); i++) {
+            if ((i == 0 ? enclosing.get(i).subtree : enclosing.get(i).own).contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The methods and classes enclosing the cursor, innermost first.
+     */
+    private List<Scope> enclosingScopes(Cursor cursor) {
+        List<Scope> enclosing = new ArrayList<>();
+        for (Iterator<Object> path = cursor.getPath(); path.hasNext(); ) {
+            Object value = path.next();
+            if (value instanceof J.MethodDeclaration || value instanceof J.ClassDeclaration) {
+                enclosing.add(scope(((J) value).getId()));
+            }
+        }
+        return enclosing;
+    }
+
+    private Scope scope(UUID id) {
+        return scopes.computeIfAbsent(id, k -> new Scope());
+    }
+
+    private static class Scope {
+        /**
+         * Names declared directly in the scope, such as the fields of a class or the locals of a method.
+         */
+        final Set<String> own = new HashSet<>();
+
+        /**
+         * Names declared anywhere within the scope, including nested methods and classes.
+         */
+        final Set<String> subtree = new HashSet<>();
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.datafaker;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.IsLikelyTest;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Every {@code new Faker()} loads and parses the locale YAML files, so test fixtures creating a {@code Faker} per test
+ * or per builder call spend most of their time in that parsing. This recipe hoists those constructions into one
+ * {@code private static final} instance per locale in the top-level class.
+ * <p>
+ * - Only the no-argument and the constant {@code Locale} constructors are shared, so seeded {@code Random} usages keep their own instance
+ * - A shared instance using a static field of the class itself as locale is declared right after that field, as it
+ * would otherwise be an illegal forward reference
+ * - Existing {@code static final Faker} fields with the same arguments are reused
+ */
+public class ShareFakerInstance extends Recipe {
+    private static final String FAKER_FQN = "net.datafaker.Faker";
+    private static final MethodMatcher NEW_FAKER = new MethodMatcher(FAKER_FQN + " <constructor>()");
+    private static final MethodMatcher NEW_FAKER_WITH_LOCALE = new MethodMatcher(FAKER_FQN + " <constructor>(java.util.Locale)");
+    private static final MethodMatcher NEW_LOCALE = new MethodMatcher("java.util.Locale <constructor>(..)");
+    private static final MethodMatcher LOCALE_FOR_LANGUAGE_TAG = new MethodMatcher("java.util.Locale forLanguageTag(java.lang.String)");
+
+    @Getter
+    final String displayName = "Share `Faker` instances in tests";
+
+    @Getter
+    final String description = "Replace repeated `new Faker()` and `new Faker(Locale)` constructions in test code with a single " +
+            "`private static final` instance per locale per class, as every construction loads and parses the locale files again. " +
+            "Constructions with a seeded `Random` are left as is.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.and(
+                        new IsLikelyTest().getVisitor(),
+                        Preconditions.or(new UsesMethod<>(NEW_FAKER), new UsesMethod<>(NEW_FAKER_WITH_LOCALE))),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+                        if (!(getCursor().getParentTreeCursor().getValue() instanceof JavaSourceFile) ||
+                                cd.getKind() == J.ClassDeclaration.Kind.Type.Interface ||
+                                cd.getKind() == J.ClassDeclaration.Kind.Type.Annotation) {
+                            return cd;
+                        }
+
+                        // Existing shared instances, and the constructions to replace, keyed by the constructor arguments
+                        Map<String, J.Identifier> sharedFakers = new HashMap<>();
+                        Set<UUID> sharedInitializers = new HashSet<>();
+                        Set<String> fieldNames = new HashSet<>();
+                        for (Statement statement : cd.getBody().getStatements()) {
+                            if (statement instanceof J.VariableDeclarations) {
+                                J.VariableDeclarations vd = (J.VariableDeclarations) statement;
+                                for (J.VariableDeclarations.NamedVariable variable : vd.getVariables()) {
+                                    fieldNames.add(variable.getSimpleName());
+                                    if (vd.hasModifier(J.Modifier.Type.Static) && vd.hasModifier(J.Modifier.Type.Final) &&
+                                            variable.getInitializer() instanceof J.NewClass &&
+                                            isShareable((J.NewClass) variable.getInitializer())) {
+                                        sharedFakers.putIfAbsent(key((J.NewClass) variable.getInitializer()), variable.getName());
+                                        sharedInitializers.add(variable.getInitializer().getId());
+                                    }
+                                }
+                            }
+                        }
+
+                        Map<String, J.NewClass> constructions = new LinkedHashMap<>();
+                        new JavaIsoVisitor<Map<String, J.NewClass>>() {
+                            @Override
+                            public J.NewClass visitNewClass(J.NewClass newClass, Map<String, J.NewClass> acc) {
+                                if (isShareable(newClass) && !sharedInitializers.contains(newClass.getId())) {
+                                    acc.putIfAbsent(key(newClass), newClass);
+                                }
+                                return super.visitNewClass(newClass, acc);
+                            }
+                        }.visit(cd, constructions);
+                        if (constructions.isEmpty()) {
+                            return cd;
+                        }
+
+                        Set<String> added = new HashSet<>();
+                        // Inserted one by one before the first statement or after the locale field of this class they
+                        // refer to, so walk backwards to keep the order of appearance
+                        List<Map.Entry<String, J.NewClass>> inOrder = new ArrayList<>(constructions.entrySet());
+                        Collections.reverse(inOrder);
+                        for (Map.Entry<String, J.NewClass> construction : inOrder) {
+                            if (sharedFakers.containsKey(construction.getKey())) {
+                                continue;
+                            }
+                            String name = fieldName(construction.getValue(), fieldNames);
+                            fieldNames.add(name);
+                            added.add(name);
+                            maybeAddImport(FAKER_FQN);
+                            Statement localeField = declaringStatement(cd, construction.getValue());
+                            cd = JavaTemplate.builder("private static final Faker " + name + " = #{any(net.datafaker.Faker)};")
+                                    .imports(FAKER_FQN)
+                                    .javaParser(JavaParser.fromJavaVersion().dependsOn(
+                                            //language=java
+                                            "package net.datafaker;" +
+                                                    "public class Faker {" +
+                                                    "  public Faker() {}" +
+                                                    "  public Faker(java.util.Locale locale) {}" +
+                                                    "}"))
+                                    .build()
+                                    .apply(updateCursor(cd), localeField == null ?
+                                                    cd.getBody().getCoordinates().firstStatement() :
+                                                    localeField.getCoordinates().after(),
+                                            construction.getValue().withId(Tree.randomId()).withPrefix(Space.SINGLE_SPACE));
+                        }
+                        for (Statement statement : cd.getBody().getStatements()) {
+                            if (statement instanceof J.VariableDeclarations &&
+                                    added.contains(((J.VariableDeclarations) statement).getVariables().get(0).getSimpleName())) {
+                                J.VariableDeclarations.NamedVariable variable = ((J.VariableDeclarations) statement).getVariables().get(0);
+                                sharedFakers.put(key((J.NewClass) Objects.requireNonNull(variable.getInitializer())), variable.getName());
+                                sharedInitializers.add(variable.getInitializer().getId());
+                            }
+                        }
+
+                        return (J.ClassDeclaration) new JavaVisitor<ExecutionContext>() {
+                            @Override
+                            public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                                J j = super.visitNewClass(newClass, ctx);
+                                if (j instanceof J.NewClass && isShareable((J.NewClass) j) && !sharedInitializers.contains(j.getId())) {
+                                    J.Identifier shared = sharedFakers.get(key((J.NewClass) j));
+                                    if (shared != null) {
+                                        return shared.withId(Tree.randomId()).withPrefix(j.getPrefix());
+                                    }
+                                }
+                                return j;
+                            }
+                        }.visitNonNull(cd, ctx, getCursor().getParentOrThrow());
+                    }
+                });
+    }
+
+    private static boolean isShareable(J.NewClass newClass) {
+        if (NEW_FAKER.matches(newClass)) {
+            return true;
+        }
+        return NEW_FAKER_WITH_LOCALE.matches(newClass) && isConstant(newClass.getArguments().get(0));
+    }
+
+    /**
+     * Whether the locale is the same on every evaluation: a static final field such as {@code Locale.GERMANY}, or
+     * {@code new Locale("nl")} and {@code Locale.forLanguageTag("nl")} with literal arguments. Other factory methods,
+     * such as {@code Locale.getDefault()}, may return a different locale on every call.
+     */
+    private static boolean isConstant(Expression locale) {
+        JavaType.Variable fieldType = fieldType(locale);
+        if (fieldType != null) {
+            return fieldType.hasFlags(Flag.Static, Flag.Final);
+        }
+        if (!(locale instanceof J.NewClass && NEW_LOCALE.matches((J.NewClass) locale) ||
+                locale instanceof J.MethodInvocation && LOCALE_FOR_LANGUAGE_TAG.matches((J.MethodInvocation) locale))) {
+            return false;
+        }
+        List<Expression> arguments = localeArguments(locale);
+        return arguments != null && !arguments.isEmpty() && arguments.stream().allMatch(J.Literal.class::isInstance);
+    }
+
+    /**
+     * The declaration of the static field of the class itself which the construction uses as its locale, if any.
+     */
+    private static @Nullable Statement declaringStatement(J.ClassDeclaration cd, J.NewClass newClass) {
+        JavaType.Variable fieldType = newClass.getArguments().isEmpty() ? null : fieldType(newClass.getArguments().get(0));
+        if (fieldType == null || cd.getType() == null || !TypeUtils.isOfType(fieldType.getOwner(), cd.getType())) {
+            return null;
+        }
+        for (Statement statement : cd.getBody().getStatements()) {
+            if (statement instanceof J.VariableDeclarations) {
+                for (J.VariableDeclarations.NamedVariable variable : ((J.VariableDeclarations) statement).getVariables()) {
+                    if (variable.getSimpleName().equals(fieldType.getName())) {
+                        return statement;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static JavaType.@Nullable Variable fieldType(Expression locale) {
+        if (locale instanceof J.FieldAccess) {
+            return ((J.FieldAccess) locale).getName().getFieldType();
+        }
+        if (locale instanceof J.Identifier) {
+            return ((J.Identifier) locale).getFieldType();
+        }
+        return null;
+    }
+
+    private static @Nullable List<Expression> localeArguments(Expression locale) {
+        if (locale instanceof J.NewClass) {
+            return ((J.NewClass) locale).getArguments();
+        }
+        if (locale instanceof J.MethodInvocation) {
+            JavaType.Method methodType = ((J.MethodInvocation) locale).getMethodType();
+            if (methodType != null && methodType.hasFlags(Flag.Static)) {
+                return ((J.MethodInvocation) locale).getArguments();
+            }
+        }
+        return null;
+    }
+
+    private static String key(J.NewClass newClass) {
+        Expression locale = newClass.getArguments().get(0);
+        JavaType.Variable fieldType = fieldType(locale);
+        if (fieldType != null) {
+            return fieldType.getOwner() + "#" + fieldType.getName();
+        }
+        List<Expression> arguments = localeArguments(locale);
+        if (arguments == null) {
+            return "";
+        }
+        JavaType.Method methodType = locale instanceof J.NewClass ?
+                ((J.NewClass) locale).getConstructorType() :
+                ((J.MethodInvocation) locale).getMethodType();
+        return methodType + arguments.stream()
+                .map(arg -> arg instanceof J.Literal ? String.valueOf(((J.Literal) arg).getValueSource()) : "")
+                .collect(joining(",", "(", ")"));
+    }
+
+    private static String fieldName(J.NewClass newClass, Set<String> taken) {
+        String name = "FAKER";
+        Expression locale = newClass.getArguments().get(0);
+        JavaType.Variable fieldType = fieldType(locale);
+        List<Expression> arguments = localeArguments(locale);
+        String suffix = "";
+        if (fieldType != null) {
+            suffix = fieldType.getName();
+        } else if (arguments != null) {
+            suffix = arguments.stream()
+                    .filter(J.Literal.class::isInstance)
+                    .map(arg -> String.valueOf(((J.Literal) arg).getValue()))
+                    .collect(joining("_"));
+        }
+        if (!suffix.isEmpty()) {
+            name += "_" + suffix.replaceAll("[^A-Za-z0-9]", "_").toUpperCase(Locale.ROOT);
+        }
+        String candidate = name;
+        for (int i = 1; taken.contains(candidate); i++) {
+            candidate = name + i;
+        }
+        return candidate;
+    }
+}
@@ -39,19 +39,13 @@ public class HamcrestHasPropertyToAssertJ extends Recipe {
     @Getter
     final String description = "Migrate Hamcrest `hasProperty` to AssertJ `hasFieldOrProperty` and `hasFieldOrPropertyWithValue`.";
 
-    private static final MethodMatcher ASSERT_THAT_MATCHER = new MethodMatcher("org.hamcrest.MatcherAssert assertThat(..)");
-    private static final MethodMatcher HAS_PROPERTY_MATCHER = new MethodMatcher("org.hamcrest.*Matchers hasProperty(..)");
-    private static final MethodMatcher EQUAL_TO_MATCHER = new MethodMatcher("org.hamcrest.*Matchers equalTo(..)");
-    private static final MethodMatcher IS_MATCHER = new MethodMatcher("org.hamcrest.*Matchers is(..)");
-    private static final MethodMatcher IS_NESTED_MATCHER = new MethodMatcher("org.hamcrest.*Matchers is(org.hamcrest.Matcher)");
-
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(HAS_PROPERTY_MATCHER), new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(new UsesMethod<>(Matchers.HAS_PROPERTY_MATCHER), new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.MethodInvocation visitMethodInvocation(J.MethodInvocation methodInvocation, ExecutionContext ctx) {
                 J.MethodInvocation mi = super.visitMethodInvocation(methodInvocation, ctx);
-                if (!ASSERT_THAT_MATCHER.matches(mi)) {
+                if (!Matchers.ASSERT_THAT_MATCHER.matches(mi)) {
                     return mi;
                 }
 
@@ -60,7 +54,7 @@ public class HamcrestHasPropertyToAssertJ extends Recipe {
                 Expression actualArgument = args.get(args.size() - 2);
                 Expression matcherArgument = args.get(args.size() - 1);
 
-                if (!HAS_PROPERTY_MATCHER.matches(matcherArgument)) {
+                if (!Matchers.HAS_PROPERTY_MATCHER.matches(matcherArgument)) {
                     return mi;
                 }
 
@@ -98,9 +92,9 @@ public class HamcrestHasPropertyToAssertJ extends Recipe {
                                                      Expression propertyName, Expression valueMatcher, ExecutionContext ctx) {
                 // Unwrap equalTo(val) or is(val) where is is not is(Matcher)
                 Expression value;
-                if (EQUAL_TO_MATCHER.matches(valueMatcher)) {
+                if (Matchers.EQUAL_TO_MATCHER.matches(valueMatcher)) {
                     value = ((J.MethodInvocation) valueMatcher).getArguments().get(0);
-                } else if (IS_MATCHER.matches(valueMatcher) && !IS_NESTED_MATCHER.matches(valueMatcher)) {
+                } else if (Matchers.IS_MATCHER.matches(valueMatcher) && !Matchers.IS_NESTED_MATCHER.matches(valueMatcher)) {
                     value = ((J.MethodInvocation) valueMatcher).getArguments().get(0);
                 } else {
                     // Unknown matcher, don't convert
@@ -140,4 +134,15 @@ public class HamcrestHasPropertyToAssertJ extends Recipe {
             }
         });
     }
+
+    /**
+     * Lazy holder for the Hamcrest method matchers.
+     */
+    private static class Matchers {
+        static final MethodMatcher ASSERT_THAT_MATCHER = new MethodMatcher("org.hamcrest.MatcherAssert assertThat(..)");
+        static final MethodMatcher HAS_PROPERTY_MATCHER = new MethodMatcher("org.hamcrest.*Matchers hasProperty(..)");
+        static final MethodMatcher EQUAL_TO_MATCHER = new MethodMatcher("org.hamcrest.*Matchers equalTo(..)");
+        static final MethodMatcher IS_MATCHER = new MethodMatcher("org.hamcrest.*Matchers is(..)");
+        static final MethodMatcher IS_NESTED_MATCHER = new MethodMatcher("org.hamcrest.*Matchers is(org.hamcrest.Matcher)");
+    }
 }
@@ -40,8 +40,7 @@ class JMockitBlockRewriter {
 
     private static final String WHEN_TEMPLATE_PREFIX = "when(#{any()}).";
     private static final String VERIFY_NO_INTERACTIONS_TEMPLATE_PREFIX = "verifyNoMoreInteractions(";
-    private static final String VERIFY_IN_ORDER_TEMPLATE_PREFIX_1 = "InOrder inOrder";
-    private static final String VERIFY_IN_ORDER_TEMPLATE_PREFIX_2 = " = inOrder(";
+    private static final String VERIFY_IN_ORDER_TEMPLATE_PREFIX = "InOrder %s = inOrder(";
     private static final String LENIENT_TEMPLATE_PREFIX = "lenient().";
     private static final String RETURN_TEMPLATE_PREFIX = "thenReturn(";
     private static final String THROW_TEMPLATE_PREFIX = "thenThrow(";
@@ -58,7 +57,8 @@ class JMockitBlockRewriter {
     private final ExecutionContext ctx;
     private final J.NewClass newExpectations;
     private final JMockitBlockType blockType;
-    private final int verificationsInOrderIdx;
+    // name of the InOrder variable, which is only used for a VerificationsInOrder block
+    private final String inOrderVariableName;
     // index of the Expectations block in the method body
     private final int bodyStatementIndex;
     private J.Block methodBody;
@@ -76,14 +76,14 @@ class JMockitBlockRewriter {
     private boolean hasSetupStatements = false;
 
     JMockitBlockRewriter(JavaVisitor<ExecutionContext> visitor, ExecutionContext ctx, J.Block methodBody,
-                         J.NewClass newExpectations, int bodyStatementIndex, JMockitBlockType blockType, int verificationsInOrderIdx) {
+                         J.NewClass newExpectations, int bodyStatementIndex, JMockitBlockType blockType, String inOrderVariableName) {
         this.visitor = visitor;
         this.ctx = ctx;
         this.methodBody = methodBody;
         this.newExpectations = newExpectations;
         this.bodyStatementIndex = bodyStatementIndex;
         this.blockType = blockType;
-        this.verificationsInOrderIdx = verificationsInOrderIdx;
+        this.inOrderVariableName = inOrderVariableName;
         this.nextStatementCoordinates = newExpectations.getCoordinates().replace();
     }
 
@@ -335,11 +335,7 @@ class JMockitBlockRewriter {
         StringBuilder templateBuilder = new StringBuilder();
 
         if (isVerificationsInOrder()) {
-            templateBuilder.append("inOrder");
-            if (this.verificationsInOrderIdx > 0) {
-                templateBuilder.append(this.verificationsInOrderIdx);
-            }
-            templateBuilder.append(".");
+            templateBuilder.append(inOrderVariableName).append(".");
         }
 
         templateBuilder.append("verify(\"\"");
@@ -444,12 +440,8 @@ class JMockitBlockRewriter {
     }
 
     private void rewriteInOrderVerify(List<Object> mocks) {
-        StringBuilder sb = new StringBuilder(VERIFY_IN_ORDER_TEMPLATE_PREFIX_1); // InOrder inOrder
-        if (verificationsInOrderIdx > 0) {
-            sb.append(verificationsInOrderIdx); // InOrder inOrder1
-        }
-        sb.append(VERIFY_IN_ORDER_TEMPLATE_PREFIX_2); // InOrder inOrder1 = inOrder(
-        if (rewriteMultipleMocks(mocks, sb.toString())) { // InOrder inOrder = inOrder(mock1, mock2 ..)
+        String template = String.format(VERIFY_IN_ORDER_TEMPLATE_PREFIX, inOrderVariableName); // InOrder inOrder1 = inOrder(
+        if (rewriteMultipleMocks(mocks, template)) { // InOrder inOrder1 = inOrder(mock1, mock2 ..)
             visitor.maybeAddImport(MOCKITO_IMPORT_FQN_PREFX, "inOrder", false);
             visitor.maybeAddImport(IN_ORDER_IMPORT_FQN);
         }
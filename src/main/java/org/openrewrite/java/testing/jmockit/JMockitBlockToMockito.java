@@ -23,6 +23,8 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.cleanup.ChangedSubtreeFormatter;
+import org.openrewrite.java.testing.cleanup.VariableNameAllocator;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.Statement;
 
@@ -69,7 +71,6 @@ public class JMockitBlockToMockito extends Recipe {
             J.Block methodBody = ssr.rewriteMethodBody();
             List<Statement> statements = methodBody.getStatements();
 
-            int verificationsInOrderIdx = 0;
             int bodyStatementIndex = 0;
             // iterate over each statement in the method body, find JMockit blocks and rewrite them
             while (bodyStatementIndex < statements.size()) {
@@ -77,23 +78,22 @@ public class JMockitBlockToMockito extends Recipe {
                 Optional<JMockitBlockType> blockTypeOpt = JMockitUtils.getJMockitBlock(s);
                 if (blockTypeOpt.isPresent()) {
                     JMockitBlockType blockType = blockTypeOpt.get();
+                    // each VerificationsInOrder block gets its own InOrder variable: inOrder, inOrder1, ...
+                    String inOrderVariableName = blockType == JMockitBlockType.VerificationsInOrder ?
+                            VariableNameAllocator.of(getCursor()).allocate("inOrder", getCursor()) : "inOrder";
                     JMockitBlockRewriter blockRewriter = new JMockitBlockRewriter(this, ctx, methodBody,
-                            ((J.NewClass) s), bodyStatementIndex, blockType, verificationsInOrderIdx);
+                            ((J.NewClass) s), bodyStatementIndex, blockType, inOrderVariableName);
                     methodBody = blockRewriter.rewriteMethodBody();
                     statements = methodBody.getStatements();
                     // if the block rewrite failed, skip the next statement
                     if (blockRewriter.isRewriteFailed()) {
                         bodyStatementIndex++;
-                    } else {
-                        if (blockType == JMockitBlockType.VerificationsInOrder) {
-                            verificationsInOrderIdx++;
-                        }
                     }
                 } else {
                     bodyStatementIndex++;
                 }
             }
-            return maybeAutoFormat(methodDeclaration, md.withBody(methodBody), ctx);
+            return ChangedSubtreeFormatter.maybeFormat(methodDeclaration, md.withBody(methodBody), ctx, getCursor().getParentOrThrow());
         }
     }
 }
@@ -21,6 +21,7 @@ import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.ShortenFullyQualifiedTypeReferences;
 import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.cleanup.ChangedSubtreeFormatter;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.SearchResult;
 import org.openrewrite.staticanalysis.LambdaBlockToExpression;
@@ -304,7 +305,7 @@ public class JMockitMockUpToMockito extends Recipe {
 
             doAfterVisit(new LambdaBlockToExpression().getVisitor());
             doAfterVisit(ShortenFullyQualifiedTypeReferences.modifyOnly(md));
-            return maybeAutoFormat(methodDecl, md, ctx);
+            return ChangedSubtreeFormatter.maybeFormat(methodDecl, md, ctx, getCursor().getParentOrThrow());
         }
 
         private String getMatcher(JavaType s) {
@@ -29,6 +29,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 public class AddHamcrestJUnitDependency extends ScanningRecipe<AtomicBoolean> {
 
+    private static final MethodMatcher ASSERT_THAT_MATCHER = new MethodMatcher("org.junit.Ass* *That(..)");
+
     @Getter
     final String displayName = "Add Hamcrest JUnit dependency";
 
@@ -43,14 +45,13 @@ public class AddHamcrestJUnitDependency extends ScanningRecipe<AtomicBoolean> {
     @Override
     public TreeVisitor<?, ExecutionContext> getScanner(AtomicBoolean acc) {
         // No need to scan for AddDependency, as we'll unconditionally add the dependency if we find a match below
-        MethodMatcher methodMatcher = new MethodMatcher("org.junit.Ass* *That(..)");
         return new TreeVisitor<Tree, ExecutionContext>() {
             @Override
             public Tree preVisit(Tree tree, ExecutionContext ctx) {
                 stopAfterPreVisit();
                 if (tree instanceof JavaSourceFile && !acc.get()) {
                     for (JavaType.Method type : ((JavaSourceFile) tree).getTypesInUse().getUsedMethods()) {
-                        if (methodMatcher.matches(type)) {
+                        if (ASSERT_THAT_MATCHER.matches(type)) {
                             acc.set(true);
                         }
                     }
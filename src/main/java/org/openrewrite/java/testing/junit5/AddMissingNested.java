@@ -22,12 +22,12 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.marker.JavaVersion;
 import org.openrewrite.java.search.FindAnnotations;
 import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.cleanup.DeclarationOnlyVisitor;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaSourceFile;
@@ -73,7 +73,7 @@ public class AddMissingNested extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(Preconditions.and(PRECONDITION, Preconditions.not(new KotlinFileChecker<>())), new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(Preconditions.and(PRECONDITION, Preconditions.not(new KotlinFileChecker<>())), new DeclarationOnlyVisitor<ExecutionContext>() {
             @Override
             public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
                 J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
@@ -84,7 +84,7 @@ public class AddMissingNested extends Recipe {
         });
     }
 
-    public static class AddNestedAnnotationVisitor extends JavaIsoVisitor<ExecutionContext> {
+    public static class AddNestedAnnotationVisitor extends DeclarationOnlyVisitor<ExecutionContext> {
         private static final int STATIC_MEMBERS_IN_INNER_CLASSES = 16;
 
         private static final String REQUIRES_MANUAL_MIGRATION = " Not converted to `@Nested`: this class declares " +
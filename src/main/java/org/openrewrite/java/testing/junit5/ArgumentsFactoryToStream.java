@@ -0,0 +1,303 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.junit5;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Objects.requireNonNull;
+import static org.openrewrite.Tree.randomId;
+
+/**
+ * Rewrites the argument factories of a converted parameterized test class to return a {@code Stream<Arguments>}.
+ * <p>
+ * - Rows collected by a {@code for} loop into a list are produced lazily by an {@code IntStream} or a stream over the
+ * iterated array or collection, so the first test cases run before the last rows are generated
+ * - Rows returned as an array literal or by {@code Arrays.asList(..)} and {@code List.of(..)} are streamed as they are
+ * <p>
+ * Factories of any other shape are left untouched, as {@code @MethodSource} accepts them as well.
+ */
+class ArgumentsFactoryToStream extends JavaIsoVisitor<ExecutionContext> {
+    private static final String ARGUMENTS_FQN = "org.junit.jupiter.params.provider.Arguments";
+    private static final MethodMatcher ARRAYS_AS_LIST = new MethodMatcher("java.util.Arrays asList(..)");
+    private static final MethodMatcher LIST_OF = new MethodMatcher("java.util.List of(..)");
+    private static final MethodMatcher COLLECTION_ADD = new MethodMatcher("java.util.Collection add(..)", true);
+
+    private final JavaType.FullyQualified classType;
+    private final Collection<String> factoryNames;
+
+    ArgumentsFactoryToStream(JavaType.FullyQualified classType, Collection<String> factoryNames) {
+        this.classType = classType;
+        this.factoryNames = factoryNames;
+    }
+
+    @Override
+    public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+        J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+        if (!factoryNames.contains(m.getSimpleName()) || m.getBody() == null ||
+                m.getMethodType() == null || !TypeUtils.isOfType(m.getMethodType().getDeclaringType(), classType) ||
+                !m.getParameters().isEmpty() && !(m.getParameters().get(0) instanceof J.Empty) ||
+                m.getReturnTypeExpression() == null || TypeUtils.isOfClassType(m.getReturnTypeExpression().getType(), "java.util.stream.Stream")) {
+            return m;
+        }
+
+        List<Statement> statements = m.getBody().getStatements();
+        if (statements.isEmpty() || !(statements.get(statements.size() - 1) instanceof J.Return)) {
+            return m;
+        }
+        J.Return ret = (J.Return) statements.get(statements.size() - 1);
+        J.Return streamed = statements.size() == 1 ? streamRows(ret, m, ctx) :
+                statements.size() == 3 ? streamLoop(statements, m, ctx) : null;
+        if (streamed == null || streamed.getExpression() == null || streamed.getExpression().getType() == null) {
+            return m;
+        }
+
+        maybeAddImport("java.util.stream.Stream");
+        maybeAddImport(ARGUMENTS_FQN);
+        maybeRemoveImport("java.util.ArrayList");
+        maybeRemoveImport("java.util.Arrays");
+        maybeRemoveImport("java.util.Collection");
+        maybeRemoveImport("java.util.List");
+        JavaType streamType = streamed.getExpression().getType();
+        J.Block body = m.getBody().withStatements(singletonList(streamed.withPrefix(statements.get(0).getPrefix())));
+        return m.withBody(body)
+                .withReturnTypeExpression(buildTypeTree(streamType).withPrefix(m.getReturnTypeExpression().getPrefix()))
+                .withMethodType(m.getMethodType().withReturnType(streamType));
+    }
+
+    /**
+     * {@code return new Object[][]{..}}, {@code return Arrays.asList(..)} or {@code return List.of(..)}
+     */
+    private J.@Nullable Return streamRows(J.Return ret, J.MethodDeclaration m, ExecutionContext ctx) {
+        Expression rows = ret.getExpression();
+        List<Expression> arguments;
+        String of = "of";
+        if (rows instanceof J.NewArray && ((J.NewArray) rows).getInitializer() != null) {
+            List<Expression> elements = ((J.NewArray) rows).getInitializer();
+            long arrayRows = elements.stream().filter(J.NewArray.class::isInstance).count();
+            if (arrayRows == 0 || isArrayOfArrays(rows.getType())) {
+                arguments = singletonList(rows);
+            } else if (arrayRows == elements.size()) {
+                // `new Object[]{new Object[]{..}, ..}` would be streamed as single column rows, so stream its rows instead
+                arguments = ListUtils.mapFirst(elements, first -> first.withPrefix(Space.EMPTY));
+                of = "<Object[]>of";
+            } else {
+                return null;
+            }
+        } else if (rows instanceof J.MethodInvocation && (ARRAYS_AS_LIST.matches(rows) || LIST_OF.matches(rows)) &&
+                !(((J.MethodInvocation) rows).getArguments().get(0) instanceof J.Empty)) {
+            arguments = ((J.MethodInvocation) rows).getArguments();
+            if (LIST_OF.matches(rows) && arguments.size() == 1 && arguments.get(0).getType() instanceof JavaType.Array) {
+                // unlike `Arrays.asList(array)`, `List.of(array)` holds a single row
+                of = "<Object[]>of";
+            }
+        } else {
+            return null;
+        }
+        J.Return streamed = template("return Stream." + of + "(#{any()}).map(Arguments::of);", ctx)
+                .apply(returnCursor(ret, m), ret.getCoordinates().replace(), arguments.get(0));
+        if (arguments.size() == 1) {
+            return streamed;
+        }
+        // Keep all rows of a varargs call, as they were formatted
+        return streamed.withExpression((Expression) new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Integer p) {
+                J.MethodInvocation mi = super.visitMethodInvocation(method, p);
+                return "of".equals(mi.getSimpleName()) && mi.getSelect() instanceof J.Identifier &&
+                        "Stream".equals(((J.Identifier) mi.getSelect()).getSimpleName()) ?
+                        mi.withArguments(arguments) : mi;
+            }
+        }.visitNonNull(requireNonNull(streamed.getExpression()), 0));
+    }
+
+    /**
+     * <pre>
+     * List&lt;Object[]&gt; rows = new ArrayList&lt;&gt;();
+     * for (int i = 0; i &lt; n; i++) {
+     *     rows.add(new Object[]{i, i * i});
+     * }
+     * return rows;
+     * </pre>
+     */
+    private J.@Nullable Return streamLoop(List<Statement> statements, J.MethodDeclaration m, ExecutionContext ctx) {
+        if (!(statements.get(0) instanceof J.VariableDeclarations) ||
+                ((J.VariableDeclarations) statements.get(0)).getVariables().size() != 1) {
+            return null;
+        }
+        J.VariableDeclarations.NamedVariable rows = ((J.VariableDeclarations) statements.get(0)).getVariables().get(0);
+        J.Return ret = (J.Return) statements.get(2);
+        if (!(rows.getInitializer() instanceof J.NewClass) ||
+                !(((J.NewClass) rows.getInitializer()).getArguments().get(0) instanceof J.Empty) ||
+                !isReferenceTo(ret.getExpression(), rows)) {
+            return null;
+        }
+
+        Statement loop = statements.get(1);
+        Statement loopBody = loop instanceof J.ForLoop ? ((J.ForLoop) loop).getBody() :
+                loop instanceof J.ForEachLoop ? ((J.ForEachLoop) loop).getBody() : null;
+        if (loopBody instanceof J.Block && ((J.Block) loopBody).getStatements().size() == 1) {
+            loopBody = ((J.Block) loopBody).getStatements().get(0);
+        }
+        if (!(loopBody instanceof J.MethodInvocation) || !COLLECTION_ADD.matches((J.MethodInvocation) loopBody) ||
+                !isReferenceTo(((J.MethodInvocation) loopBody).getSelect(), rows)) {
+            return null;
+        }
+        Expression row = ((J.MethodInvocation) loopBody).getArguments().get(0);
+        if (references(row, rows)) {
+            return null;
+        }
+        if (!(row instanceof J.NewArray) && TypeUtils.isObject(row.getType())) {
+            // a row typed as `Object` may still be an array at runtime, which `Arguments.of(..)` would not spread
+            return null;
+        }
+        List<Expression> columns = row instanceof J.NewArray && ((J.NewArray) row).getInitializer() != null ?
+                ((J.NewArray) row).getInitializer() : singletonList(row);
+        if (columns.isEmpty() || columns.get(0) instanceof J.Empty) {
+            return null;
+        }
+
+        List<Object> parameters = new ArrayList<>();
+        String source;
+        String variable;
+        if (loop instanceof J.ForLoop) {
+            J.ForLoop.Control control = ((J.ForLoop) loop).getControl();
+            if (control.getInit().size() != 1 || !(control.getInit().get(0) instanceof J.VariableDeclarations) ||
+                    control.getUpdate().size() != 1 || !(control.getCondition() instanceof J.Binary)) {
+                return null;
+            }
+            J.VariableDeclarations init = (J.VariableDeclarations) control.getInit().get(0);
+            J.Binary condition = (J.Binary) control.getCondition();
+            if (init.getVariables().size() != 1 || init.getVariables().get(0).getInitializer() == null ||
+                    init.getType() != JavaType.Primitive.Int ||
+                    !isReferenceTo(condition.getLeft(), init.getVariables().get(0)) ||
+                    condition.getOperator() != J.Binary.Type.LessThan && condition.getOperator() != J.Binary.Type.LessThanOrEqual ||
+                    !isIncrementOf(control.getUpdate().get(0), init.getVariables().get(0))) {
+                return null;
+            }
+            variable = init.getVariables().get(0).getSimpleName();
+            source = "IntStream." + (condition.getOperator() == J.Binary.Type.LessThan ? "range" : "rangeClosed") +
+                    "(#{any(int)}, #{any(int)}).mapToObj(";
+            parameters.add(init.getVariables().get(0).getInitializer());
+            parameters.add(condition.getRight());
+            maybeAddImport("java.util.stream.IntStream");
+        } else {
+            J.ForEachLoop.Control control = ((J.ForEachLoop) loop).getControl();
+            J.VariableDeclarations element = control.getVariable();
+            JavaType iterableType = control.getIterable().getType();
+            if (element.getVariables().size() != 1) {
+                return null;
+            }
+            variable = element.getVariables().get(0).getSimpleName();
+            if (iterableType instanceof JavaType.Array) {
+                JavaType elementType = ((JavaType.Array) iterableType).getElemType();
+                if (elementType instanceof JavaType.Primitive && elementType != JavaType.Primitive.Int &&
+                        elementType != JavaType.Primitive.Long && elementType != JavaType.Primitive.Double) {
+                    return null;
+                }
+                source = "Arrays.stream(#{anyArray()})." + (elementType instanceof JavaType.Primitive ? "mapToObj(" : "map(");
+                maybeAddImport("java.util.Arrays");
+            } else if (TypeUtils.isAssignableTo("java.util.Collection", iterableType)) {
+                source = "#{any(java.util.Collection)}.stream().map(";
+            } else {
+                return null;
+            }
+            parameters.add(control.getIterable());
+        }
+
+        StringBuilder template = new StringBuilder("return ").append(source).append(variable).append(" -> Arguments.of(");
+        for (int i = 0; i < columns.size(); i++) {
+            template.append(i == 0 ? "" : ", ").append("#{any()}");
+            parameters.add(columns.get(i).withPrefix(i == 0 ? Space.EMPTY : Space.SINGLE_SPACE));
+        }
+        template.append("));");
+        return template(template.toString(), ctx)
+                .apply(returnCursor(ret, m), ret.getCoordinates().replace(), parameters.toArray());
+    }
+
+    private static boolean isArrayOfArrays(@Nullable JavaType type) {
+        return type instanceof JavaType.Array && ((JavaType.Array) type).getElemType() instanceof JavaType.Array;
+    }
+
+    private Cursor returnCursor(J.Return ret, J.MethodDeclaration m) {
+        //noinspection DataFlowIssue
+        return new Cursor(new Cursor(getCursor(), m.getBody()), ret);
+    }
+
+    private static JavaTemplate template(String code, ExecutionContext ctx) {
+        return JavaTemplate.builder(code)
+                .imports("java.util.Arrays", "java.util.stream.IntStream", "java.util.stream.Stream", ARGUMENTS_FQN)
+                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-params-5"))
+                .build();
+    }
+
+    private static boolean isReferenceTo(@Nullable Expression expression, J.VariableDeclarations.NamedVariable variable) {
+        return expression instanceof J.Identifier &&
+                ((J.Identifier) expression).getSimpleName().equals(variable.getSimpleName());
+    }
+
+    private static boolean isIncrementOf(Statement update, J.VariableDeclarations.NamedVariable variable) {
+        return update instanceof J.Unary &&
+                (((J.Unary) update).getOperator() == J.Unary.Type.PostIncrement ||
+                        ((J.Unary) update).getOperator() == J.Unary.Type.PreIncrement) &&
+                isReferenceTo(((J.Unary) update).getExpression(), variable);
+    }
+
+    private static boolean references(J tree, J.VariableDeclarations.NamedVariable variable) {
+        return new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean found) {
+                if (isReferenceTo(identifier, variable)) {
+                    found.set(true);
+                }
+                return identifier;
+            }
+        }.reduce(tree, new AtomicBoolean()).get();
+    }
+
+    private static TypeTree buildTypeTree(JavaType type) {
+        JavaType.Parameterized parameterized = TypeUtils.asParameterized(type);
+        if (parameterized != null) {
+            List<JRightPadded<Expression>> typeParameters = new ArrayList<>(parameterized.getTypeParameters().size());
+            for (JavaType typeParameter : parameterized.getTypeParameters()) {
+                typeParameters.add(JRightPadded.build((Expression) buildTypeTree(typeParameter)));
+            }
+            return new J.ParameterizedType(randomId(), Space.EMPTY, Markers.EMPTY,
+                    new J.Identifier(randomId(), Space.EMPTY, Markers.EMPTY, emptyList(),
+                            parameterized.getType().getClassName(), parameterized.getType(), null),
+                    JContainer.build(Space.EMPTY, typeParameters, Markers.EMPTY),
+                    parameterized);
+        }
+        JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+        return new J.Identifier(randomId(), Space.EMPTY, Markers.EMPTY, emptyList(),
+                fq != null ? fq.getClassName() : "Object", type, null);
+    }
+}
@@ -40,6 +40,8 @@ import static java.util.Collections.singletonList;
 public class AssertThrowsOnLastStatement extends Recipe {
 
     private static final Pattern NUMBER_SUFFIX_PATTERN = Pattern.compile("^(.+?)(\\d+)$");
+    private static final MethodMatcher ASSERT_THROWS_MATCHER = new MethodMatcher(
+            "org.junit.jupiter.api.Assertions assertThrows(java.lang.Class, org.junit.jupiter.api.function.Executable, ..)");
 
     @Getter
     final String displayName = "Applies JUnit 5 `assertThrows` on last statement in lambda block only";
@@ -51,9 +53,7 @@ public class AssertThrowsOnLastStatement extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        MethodMatcher assertThrowsMatcher = new MethodMatcher(
-                "org.junit.jupiter.api.Assertions assertThrows(java.lang.Class, org.junit.jupiter.api.function.Executable, ..)");
-        return Preconditions.check(new UsesMethod<>(assertThrowsMatcher), new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(new UsesMethod<>(ASSERT_THROWS_MATCHER), new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
                 // Only Java and Kotlin are supported, as the extracted variable declaration is rendered per language
@@ -93,7 +93,7 @@ public class AssertThrowsOnLastStatement extends Recipe {
                     }
 
                     J.MethodInvocation methodInvocation = (J.MethodInvocation) statementToCheck;
-                    if (!assertThrowsMatcher.matches(methodInvocation)) {
+                    if (!ASSERT_THROWS_MATCHER.matches(methodInvocation)) {
                         return methodStatement;
                     }
 
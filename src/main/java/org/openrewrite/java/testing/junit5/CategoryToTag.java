@@ -20,9 +20,9 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.search.FindAnnotations;
 import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.cleanup.DeclarationOnlyVisitor;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 
@@ -47,7 +47,7 @@ public class CategoryToTag extends Recipe {
         return Preconditions.check(new UsesType<>("org.junit.experimental.categories.Category", false), new CategoryToTagVisitor());
     }
 
-    public static class CategoryToTagVisitor extends JavaIsoVisitor<ExecutionContext> {
+    public static class CategoryToTagVisitor extends DeclarationOnlyVisitor<ExecutionContext> {
         private static final JavaType.Class tagType = JavaType.ShallowClass.build("org.junit.jupiter.api.Tag");
 
         @Override
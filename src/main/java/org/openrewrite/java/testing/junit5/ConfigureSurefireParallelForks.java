@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.junit5;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.maven.MavenIsoVisitor;
+import org.openrewrite.xml.AddToTagVisitor;
+import org.openrewrite.xml.XPathMatcher;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class ConfigureSurefireParallelForks extends ScanningRecipe<TestParallelismCensus> {
+    private static final XPathMatcher BUILD_PLUGIN_MATCHER = new XPathMatcher("/project/build/plugins/plugin");
+
+    @Option(displayName = "Fork count",
+            description = "The number of forked JVMs to run the tests in. A value ending in `C` is multiplied by the " +
+                    "number of available CPU cores. Defaults to `1C`.",
+            example = "0.5C",
+            required = false)
+    @Nullable
+    String forkCount;
+
+    String displayName = "Run Surefire tests in parallel forks";
+
+    String description = "Configure the `maven-surefire-plugin` of modules whose tests can safely run in parallel " +
+            "with `forkCount`, `reuseForks` and `runOrder=balanced`. Modules whose tests bind fixed ports with " +
+            "Testcontainers, WireMock or MockWebServer are left untouched. When the JUnit Jupiter tests of a module " +
+            "also write no static fields, system properties or standard streams, test classes are run concurrently " +
+            "through the `configurationParameters` of the JUnit Platform provider. " +
+            "Settings that are already configured are never changed.";
+
+    @Override
+    public TestParallelismCensus getInitialValue(ExecutionContext ctx) {
+        return new TestParallelismCensus();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(TestParallelismCensus acc) {
+        return acc.scanner();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(TestParallelismCensus acc) {
+        return new MavenIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+                Xml.Tag t = super.visitTag(tag, ctx);
+                if (!BUILD_PLUGIN_MATCHER.matches(getCursor()) ||
+                        !"maven-surefire-plugin".equals(t.getChildValue("artifactId").orElse(null))) {
+                    return t;
+                }
+                TestParallelismCensus.Module module = acc.get(getCursor().firstEnclosingOrThrow(Xml.Document.class)
+                        .getMarkers().findFirst(JavaProject.class).orElse(null));
+                if (module == null || !module.canFork()) {
+                    return t;
+                }
+
+                Xml.Tag configuration = t.getChild("configuration").orElse(null);
+                String indent = t.getPrefix().substring(t.getPrefix().lastIndexOf('\n') + 1) + "    ";
+                List<String> settings = new ArrayList<>();
+                if (!hasChild(configuration, "forkCount") && !hasChild(configuration, "reuseForks") &&
+                        !hasChild(configuration, "forkMode")) {
+                    settings.add("<forkCount>" + (forkCount == null ? "1C" : forkCount) + "</forkCount>");
+                    settings.add("<reuseForks>true</reuseForks>");
+                }
+                if (!hasChild(configuration, "runOrder")) {
+                    settings.add("<runOrder>balanced</runOrder>");
+                }
+                Xml.Tag properties = configuration == null ? null : configuration.getChild("properties").orElse(null);
+                boolean concurrent = module.canRunConcurrently() && !module.configuresParallelExecution &&
+                        !hasChild(properties, "configurationParameters");
+                if (concurrent && properties != null) {
+                    doAfterVisit(new AddToTagVisitor<>(properties,
+                            Xml.Tag.build(configurationParameters(indent + "        "))));
+                } else if (concurrent) {
+                    settings.add("<properties>\n" + indent + "        " + configurationParameters(indent + "        ") +
+                            "\n" + indent + "    </properties>");
+                }
+
+                if (configuration == null && !settings.isEmpty()) {
+                    doAfterVisit(new AddToTagVisitor<>(t, Xml.Tag.build("<configuration>\n" + indent + "    " +
+                            String.join("\n" + indent + "    ", settings) + "\n" + indent + "</configuration>")));
+                } else if (configuration != null) {
+                    for (String setting : settings) {
+                        doAfterVisit(new AddToTagVisitor<>(configuration, Xml.Tag.build(setting)));
+                    }
+                }
+                return t;
+            }
+        };
+    }
+
+    private static boolean hasChild(Xml.@Nullable Tag tag, String name) {
+        return tag != null && tag.getChild(name).isPresent();
+    }
+
+    /**
+     * Run test classes concurrently, but the methods of one test class in the same thread, as test methods are
+     * more likely than test classes to share state through fields.
+     */
+    private static String configurationParameters(String indent) {
+        return "<configurationParameters>\n" +
+                indent + "    junit.jupiter.execution.parallel.enabled = true\n" +
+                indent + "    junit.jupiter.execution.parallel.mode.default = same_thread\n" +
+                indent + "    junit.jupiter.execution.parallel.mode.classes.default = concurrent\n" +
+                indent + "</configurationParameters>";
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.junit5;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.AnnotationMatcher;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.text.PlainText;
+import org.openrewrite.text.PlainTextParser;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+import static java.util.stream.Collectors.toList;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class CsvSourceToCsvFileSource extends ScanningRecipe<CsvSourceToCsvFileSource.Accumulator> {
+    private static final AnnotationMatcher CSV_SOURCE_MATCHER = new AnnotationMatcher("@org.junit.jupiter.params.provider.CsvSource");
+    private static final AnnotationMatcher VALUE_SOURCE_MATCHER = new AnnotationMatcher("@org.junit.jupiter.params.provider.ValueSource");
+    private static final String CSV_FILE_SOURCE_FQN = "org.junit.jupiter.params.provider.CsvFileSource";
+    private static final String TEST_SOURCES = "src/test/java/";
+    private static final String TEST_RESOURCES = "src/test/resources/";
+    private static final int DEFAULT_ROW_THRESHOLD = 500;
+
+    @Option(displayName = "Row threshold",
+            description = "Tables with more rows than this are moved to a CSV file. Defaults to 500.",
+            example = "1000",
+            required = false)
+    @Nullable
+    Integer rowThreshold;
+
+    String displayName = "Move large `@CsvSource` and `@ValueSource` tables to `@CsvFileSource` resources";
+
+    String description = "Move the rows of `@CsvSource` and `@ValueSource` annotations with more rows than the threshold " +
+            "to a CSV file in `src/test/resources`, referenced through `@CsvFileSource`. Large inline tables bloat the " +
+            "constant pool of the test class and slow down both compilation and parsing. " +
+            "Attributes such as `delimiter` or `nullValues` are carried over to the `@CsvFileSource`.";
+
+    public static class Accumulator {
+        final Set<Path> existingPaths = new HashSet<>();
+        final Map<UUID, CsvFile> csvFiles = new HashMap<>();
+    }
+
+    @Value
+    static class CsvFile {
+        Path path;
+        String resource;
+        List<String> lines;
+
+        /**
+         * Attributes of the original annotation that {@code @CsvFileSource} supports as well.
+         */
+        List<Expression> attributes;
+
+        boolean singleQuoted;
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        int threshold = rowThreshold == null ? DEFAULT_ROW_THRESHOLD : rowThreshold;
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree preVisit(Tree tree, ExecutionContext ctx) {
+                stopAfterPreVisit();
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                acc.existingPaths.add(((SourceFile) tree).getSourcePath());
+                if (tree instanceof J.CompilationUnit) {
+                    J.CompilationUnit cu = (J.CompilationUnit) tree;
+                    String sourcePath = cu.getSourcePath().toString().replace('\\', '/');
+                    int sources = sourcePath.indexOf(TEST_SOURCES);
+                    if (sources >= 0) {
+                        new FindLargeTables(acc, threshold, sourcePath.substring(0, sources) + TEST_RESOURCES).visit(cu, ctx);
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        List<SourceFile> generated = new ArrayList<>();
+        for (CsvFile csvFile : acc.csvFiles.values()) {
+            PlainTextParser.builder().build()
+                    .parse(ctx, String.join("\n", csvFile.getLines()) + "\n")
+                    .map(text -> ((PlainText) text).withSourcePath(csvFile.getPath()))
+                    .forEach(generated::add);
+        }
+        return generated;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+                J.Annotation a = super.visitAnnotation(annotation, ctx);
+                CsvFile csvFile = acc.csvFiles.get(a.getId());
+                if (csvFile == null) {
+                    return a;
+                }
+
+                StringBuilder template = new StringBuilder("@CsvFileSource(resources = \"").append(csvFile.getResource()).append('"');
+                for (Expression attribute : csvFile.getAttributes()) {
+                    template.append(", ").append(attribute.printTrimmed(getCursor()));
+                }
+                if (csvFile.isSingleQuoted()) {
+                    template.append(", quoteCharacter = '\\''");
+                }
+                template.append(')');
+                maybeRemoveImport("org.junit.jupiter.params.provider.CsvSource");
+                maybeRemoveImport("org.junit.jupiter.params.provider.ValueSource");
+                maybeAddImport(CSV_FILE_SOURCE_FQN);
+                return JavaTemplate.builder(template.toString())
+                        .imports(CSV_FILE_SOURCE_FQN)
+                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-params-5"))
+                        .build()
+                        .apply(getCursor(), a.getCoordinates().replace());
+            }
+        };
+    }
+
+    private static class FindLargeTables extends JavaIsoVisitor<ExecutionContext> {
+        private final Accumulator acc;
+        private final int threshold;
+        private final String resourcesRoot;
+
+        FindLargeTables(Accumulator acc, int threshold, String resourcesRoot) {
+            this.acc = acc;
+            this.threshold = threshold;
+            this.resourcesRoot = resourcesRoot;
+        }
+
+        @Override
+        public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+            boolean csvSource = CSV_SOURCE_MATCHER.matches(annotation);
+            if (!csvSource && !VALUE_SOURCE_MATCHER.matches(annotation) || annotation.getArguments() == null) {
+                return annotation;
+            }
+            J.MethodDeclaration method = getCursor().firstEnclosing(J.MethodDeclaration.class);
+            J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+            if (method == null || classDecl == null || classDecl.getType() == null) {
+                return annotation;
+            }
+
+            List<String> lines = null;
+            List<Expression> attributes = new ArrayList<>();
+            boolean quoteCharacter = false;
+            for (Expression argument : annotation.getArguments()) {
+                String name = argument instanceof J.Assignment ?
+                        ((J.Assignment) argument).getVariable().printTrimmed(getCursor()) : "value";
+                Expression value = argument instanceof J.Assignment ? ((J.Assignment) argument).getAssignment() : argument;
+                if (csvSource && ("value".equals(name) || "textBlock".equals(name))) {
+                    lines = csvLines(value, "textBlock".equals(name));
+                } else if (csvSource) {
+                    quoteCharacter |= "quoteCharacter".equals(name);
+                    attributes.add(argument);
+                } else if (lines == null && !"classes".equals(name)) {
+                    lines = valueLines(value);
+                } else {
+                    return annotation;
+                }
+            }
+            if (lines == null || lines.size() <= threshold) {
+                return annotation;
+            }
+
+            String directory = classDecl.getType().getFullyQualifiedName().replace('.', '/').replace('$', '/');
+            String resource = "/" + directory + "/" + method.getSimpleName() + ".csv";
+            for (int i = 2; acc.existingPaths.contains(Paths.get(resourcesRoot + resource.substring(1))) ||
+                    isGenerated(resource); i++) {
+                resource = "/" + directory + "/" + method.getSimpleName() + "_" + i + ".csv";
+            }
+            boolean singleQuoted = csvSource && !quoteCharacter &&
+                    lines.stream().anyMatch(line -> line.indexOf('\'') >= 0 || line.indexOf('"') >= 0);
+            acc.csvFiles.put(annotation.getId(), new CsvFile(Paths.get(resourcesRoot + resource.substring(1)),
+                    resource, lines, attributes, singleQuoted));
+            return annotation;
+        }
+
+        private boolean isGenerated(String resource) {
+            return acc.csvFiles.values().stream().anyMatch(csvFile -> csvFile.getResource().equals(resource));
+        }
+
+        /**
+         * The rows of a {@code @CsvSource}, which are already CSV lines. Only a text block may contain comments.
+         */
+        private static @Nullable List<String> csvLines(Expression value, boolean textBlock) {
+            List<Expression> elements = value instanceof J.NewArray && ((J.NewArray) value).getInitializer() != null ?
+                    ((J.NewArray) value).getInitializer() : Collections.singletonList(value);
+            List<String> lines = new ArrayList<>();
+            for (Expression element : elements) {
+                if (!(element instanceof J.Literal) || !(((J.Literal) element).getValue() instanceof String)) {
+                    return null;
+                }
+                for (String line : ((String) ((J.Literal) element).getValue()).split("\n")) {
+                    if (!textBlock && line.trim().startsWith("#")) {
+                        return null;
+                    }
+                    if (!line.trim().isEmpty()) {
+                        lines.add(line.trim());
+                    }
+                }
+            }
+            return lines;
+        }
+
+        /**
+         * The values of a {@code @ValueSource}, each as a single column CSV line. Strings which CSV would otherwise
+         * split, trim or treat as a comment are quoted.
+         */
+        private static @Nullable List<String> valueLines(Expression value) {
+            List<Expression> elements = value instanceof J.NewArray && ((J.NewArray) value).getInitializer() != null ?
+                    ((J.NewArray) value).getInitializer() : Collections.singletonList(value);
+            if (elements.stream().anyMatch(e -> !(e instanceof J.Literal) || ((J.Literal) e).getValue() == null)) {
+                return null;
+            }
+            return elements.stream()
+                    .map(e -> String.valueOf(((J.Literal) e).getValue()))
+                    .map(v -> v.isEmpty() || v.startsWith("#") || !v.trim().equals(v) ||
+                            v.indexOf(',') >= 0 || v.indexOf('"') >= 0 || v.indexOf('\n') >= 0 ?
+                            "\"" + v.replace("\"", "\"\"") + "\"" : v)
+                    .collect(toList());
+        }
+    }
+}
@@ -31,9 +31,7 @@ import org.openrewrite.marker.Markers;
 import org.openrewrite.staticanalysis.LambdaBlockToExpression;
 import org.openrewrite.trait.Comments;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -73,6 +71,7 @@ public class ExpectedExceptionToAssertThrows extends Recipe {
         private static final String HAS_MATCHER = "hasMatcher";
         private static final String EXCEPTION_CLASS = "exceptionClass";
         private static final String CANNOT_MIGRATE = "cannotMigrate";
+        private static final String EXPECTED_EXCEPTION_USAGES = "expectedExceptionUsages";
         private static final String CANNOT_MIGRATE_COMMENT = " TODO Migrate by hand and remove this rule: a test below reads a reassigned local, which the `assertThrows(..)` lambda can not capture.";
 
         private static final MethodMatcher EXPECTED_EXCEPTION_ALL_MATCHER = new MethodMatcher("org.junit.rules.ExpectedException expect*(..)");
@@ -89,6 +88,7 @@ public class ExpectedExceptionToAssertThrows extends Recipe {
 
         @Override
         public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+            getCursor().putMessage(EXPECTED_EXCEPTION_USAGES, ExpectedExceptionUsages.of(classDecl));
             J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
             // Only a migrated method can have produced the lambda that needs collapsing.
             if (cd != classDecl) {
@@ -122,6 +122,10 @@ public class ExpectedExceptionToAssertThrows extends Recipe {
 
         @Override
         public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+            ExpectedExceptionUsages usages = getCursor().getNearestMessage(EXPECTED_EXCEPTION_USAGES);
+            if (usages == null || !usages.methods.contains(method.getId())) {
+                return method;
+            }
             J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
             if (getCursor().getMessage(CANNOT_MIGRATE) != null) {
                 return m;
@@ -185,7 +189,9 @@ public class ExpectedExceptionToAssertThrows extends Recipe {
 
         @Override
         public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
-            J.Block simplified = inlineSingleUseReassignedLocals(block);
+            ExpectedExceptionUsages usages = getCursor().getNearestMessage(EXPECTED_EXCEPTION_USAGES);
+            Integer expectIndex = usages == null ? null : usages.firstExpectIndexByBlock.get(block.getId());
+            J.Block simplified = expectIndex == null ? block : inlineSingleUseReassignedLocals(block, expectIndex);
             updateCursor(simplified);
             J.Block b = super.visitBlock(simplified, ctx);
             List<Statement> statementsAfterExpectException = getCursor().pollMessage(STATEMENTS_AFTER_EXPECT_EXCEPTION);
@@ -364,26 +370,66 @@ public class ExpectedExceptionToAssertThrows extends Recipe {
             for (Statement statement : moved) {
                 collector.visit(statement, 0);
             }
+            if (capturedLocals.isEmpty()) {
+                return false;
+            }
+            List<JavaType.Variable> assignedLocals = assignedLocals(method);
             for (JavaType.Variable local : capturedLocals) {
                 boolean declaredInLambda = declaredInMoved.stream().anyMatch(declared -> TypeUtils.isOfType(declared, local));
-                if (!declaredInLambda && countAssignments(method, local) > 0) {
+                if (!declaredInLambda && assignedLocals.stream().anyMatch(assigned -> TypeUtils.isOfType(assigned, local))) {
                     return true;
                 }
             }
             return false;
         }
 
+        /**
+         * The locals assigned anywhere in the method, collected in one traversal rather than one per captured local.
+         */
+        private static List<JavaType.Variable> assignedLocals(J.MethodDeclaration method) {
+            List<JavaType.Variable> assigned = new ArrayList<>();
+            new JavaIsoVisitor<List<JavaType.Variable>>() {
+                @Override
+                public J.Assignment visitAssignment(J.Assignment assignment, List<JavaType.Variable> acc) {
+                    addLocal(assignment.getVariable(), acc);
+                    return super.visitAssignment(assignment, acc);
+                }
+
+                @Override
+                public J.AssignmentOperation visitAssignmentOperation(J.AssignmentOperation assignOp, List<JavaType.Variable> acc) {
+                    addLocal(assignOp.getVariable(), acc);
+                    return super.visitAssignmentOperation(assignOp, acc);
+                }
+
+                @Override
+                public J.Unary visitUnary(J.Unary unary, List<JavaType.Variable> acc) {
+                    if (unary.getOperator().isModifying()) {
+                        addLocal(unary.getExpression(), acc);
+                    }
+                    return super.visitUnary(unary, acc);
+                }
+
+                private void addLocal(Expression target, List<JavaType.Variable> acc) {
+                    JavaType.Variable local = localVariable(target);
+                    if (local != null) {
+                        acc.add(local);
+                    }
+                }
+            }.visit(method, assigned);
+            return assigned;
+        }
+
         /**
          * Narrow case: a local reassigned exactly once before expect*() (RHS not self-referencing),
          * not read again before expect*(), and read exactly once among the statements moving into
          * the assertThrows(...) lambda -- inline the RHS at that use site instead of leaving a
          * non-effectively-final capture. Chains and multi-use reads are left untouched.
          */
-        private static J.Block inlineSingleUseReassignedLocals(J.Block block) {
+        private static J.Block inlineSingleUseReassignedLocals(J.Block block, int firstExpectIndex) {
+            int expectIndex = firstExpectIndex;
             for (boolean changed = true; changed; ) {
                 changed = false;
                 List<Statement> statements = block.getStatements();
-                int expectIndex = findExpectIndex(statements);
                 if (expectIndex <= 0) {
                     return block;
                 }
@@ -406,7 +452,9 @@ public class ExpectedExceptionToAssertThrows extends Recipe {
                     }
                     J.Block updated = inlineAtSingleUse(block, statements, i, expectIndex, local, rhs);
                     if (updated != null) {
+                        // The reassignment is removed, which moves expect*() up by one statement
                         block = updated;
+                        expectIndex--;
                         changed = true;
                     }
                 }
@@ -414,16 +462,6 @@ public class ExpectedExceptionToAssertThrows extends Recipe {
             return block;
         }
 
-        private static int findExpectIndex(List<Statement> statements) {
-            for (int i = 0; i < statements.size(); i++) {
-                if (statements.get(i) instanceof J.MethodInvocation &&
-                        EXPECTED_EXCEPTION_ALL_MATCHER.matches((J.MethodInvocation) statements.get(i))) {
-                    return i;
-                }
-            }
-            return -1;
-        }
-
         // Only local variables are inlined; a field assignment can be observed outside this method.
         private static JavaType.@Nullable Variable localVariable(Expression target) {
             if (target instanceof J.Identifier) {
@@ -679,5 +717,56 @@ public class ExpectedExceptionToAssertThrows extends Recipe {
         private boolean isHamcrestIs(J.MethodInvocation method) {
             return IS_MATCHER_CORE_MATCHERS.matches(method) || IS_MATCHER_CORE_IS.matches(method);
         }
+
+        /**
+         * Where a class invokes {@code ExpectedException}, collected in one traversal before the class is rewritten.
+         * Methods that are not indexed are not traversed again, and reassigned locals are only inlined in the blocks
+         * that directly hold an {@code expect*(..)} statement.
+         */
+        private static class ExpectedExceptionUsages {
+            final Set<UUID> methods = new HashSet<>();
+
+            /**
+             * The index of the first {@code expect*(..)} statement, keyed by the id of the block holding it.
+             */
+            final Map<UUID, Integer> firstExpectIndexByBlock = new HashMap<>();
+
+            static ExpectedExceptionUsages of(J.ClassDeclaration classDecl) {
+                ExpectedExceptionUsages usages = new ExpectedExceptionUsages();
+                new JavaIsoVisitor<ExpectedExceptionUsages>() {
+                    @Override
+                    public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration cd, ExpectedExceptionUsages u) {
+                        if (cd == classDecl) {
+                            return super.visitClassDeclaration(cd, u);
+                        }
+                        // A nested class is indexed once the rewrite reaches it, which requires visiting the methods
+                        // declaring it as a local class.
+                        addEnclosingMethods(u);
+                        return cd;
+                    }
+
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExpectedExceptionUsages u) {
+                        if (EXPECTED_EXCEPTION_ALL_MATCHER.matches(method)) {
+                            addEnclosingMethods(u);
+                            Object parent = getCursor().getParentTreeCursor().getValue();
+                            if (parent instanceof J.Block) {
+                                u.firstExpectIndexByBlock.putIfAbsent(((J.Block) parent).getId(),
+                                        ((J.Block) parent).getStatements().indexOf(method));
+                            }
+                        }
+                        return super.visitMethodInvocation(method, u);
+                    }
+
+                    // Including the methods enclosing an anonymous class, so that the rewrite reaches its methods
+                    private void addEnclosingMethods(ExpectedExceptionUsages u) {
+                        getCursor().getPathAsStream()
+                                .filter(J.MethodDeclaration.class::isInstance)
+                                .forEach(m -> u.methods.add(((J.MethodDeclaration) m).getId()));
+                    }
+                }.visit(classDecl, usages);
+                return usages;
+            }
+        }
     }
 }
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.junit5;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.groovy.tree.G;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.kotlin.tree.K;
+
+import java.util.*;
+
+import static java.util.Collections.singletonList;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class GradleConfigureTestParallelism extends ScanningRecipe<TestParallelismCensus> {
+    String displayName = "Gradle `Test` forking and parallelism";
+
+    String description = "Configure the `Test` tasks of Gradle modules whose tests can safely run in parallel. " +
+            "`maxParallelForks` is set to half the available processors unless tests bind fixed Testcontainers, " +
+            "WireMock or MockWebServer ports, `forkEvery` recycles the test JVM of modules using static mocks or " +
+            "the JMockit and PowerMock agents, and JUnit Jupiter runs test classes concurrently when tests also " +
+            "write no static fields, system properties or standard streams. " +
+            "Settings that are already configured are never changed. Both Groovy and Kotlin DSL build scripts are supported.";
+
+    private static final String MAX_PARALLEL_FORKS = "maxParallelForks";
+    private static final String FORK_EVERY = "forkEvery";
+    private static final String SYSTEM_PROPERTY = "systemProperty";
+    private static final String PARALLEL_PROPERTY_PREFIX = "junit.jupiter.execution.parallel";
+
+    @Override
+    public TestParallelismCensus getInitialValue(ExecutionContext ctx) {
+        return new TestParallelismCensus();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(TestParallelismCensus acc) {
+        return acc.scanner();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(TestParallelismCensus acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree preVisit(Tree tree, ExecutionContext ctx) {
+                stopAfterPreVisit();
+                if (!(tree instanceof JavaSourceFile)) {
+                    return tree;
+                }
+                // Avoid configuring script plugins, which may be applied more broadly than to the module itself
+                String sourcePath = ((JavaSourceFile) tree).getSourcePath().toString();
+                boolean kotlin = sourcePath.endsWith("build.gradle.kts");
+                if (!kotlin && !sourcePath.endsWith("build.gradle")) {
+                    return tree;
+                }
+                TestParallelismCensus.Module module = acc.get(tree.getMarkers().findFirst(JavaProject.class).orElse(null));
+                if (module == null || !module.hasTests) {
+                    return tree;
+                }
+
+                Set<String> configured = configuredSettings((JavaSourceFile) tree);
+                Set<String> settings = new HashSet<>();
+                if (module.canFork() && !configured.contains(MAX_PARALLEL_FORKS)) {
+                    settings.add(MAX_PARALLEL_FORKS);
+                }
+                if (module.leaksIntoJvm() && !configured.contains(FORK_EVERY)) {
+                    settings.add(FORK_EVERY);
+                }
+                if (module.canRunConcurrently() && !module.configuresParallelExecution &&
+                        !configured.contains(SYSTEM_PROPERTY)) {
+                    settings.add(SYSTEM_PROPERTY);
+                }
+                J.MethodInvocation template = createTestTaskConfiguration(ctx, kotlin).orElse(null);
+                if (settings.isEmpty() || template == null) {
+                    return tree;
+                }
+
+                J.Lambda closure = (J.Lambda) template.getArguments().get(0);
+                J.Block body = (J.Block) closure.getBody();
+                List<Statement> statements = ListUtils.map(body.getStatements(), s -> {
+                    Statement statement = s instanceof J.Return && ((J.Return) s).getExpression() instanceof Statement ?
+                            (Statement) ((J.Return) s).getExpression() : s;
+                    return settings.contains(settingOf(statement)) ? statement : null;
+                });
+
+                AddToTestTaskConfiguration addToExisting = new AddToTestTaskConfiguration(statements);
+                Tree t = addToExisting.visitNonNull(tree, ctx);
+                if (addToExisting.added) {
+                    return t;
+                }
+                // No existing test task configuration, add a whole new one
+                J.MethodInvocation testTask = template.withArguments(
+                        singletonList(closure.withBody(body.withStatements(statements))));
+                if (t instanceof G.CompilationUnit) {
+                    G.CompilationUnit cu = (G.CompilationUnit) t;
+                    return cu.withStatements(ListUtils.concat(cu.getStatements(), testTask));
+                }
+                if (t instanceof K.CompilationUnit) {
+                    // The statements of a Kotlin script are wrapped in a single block
+                    K.CompilationUnit cu = (K.CompilationUnit) t;
+                    if (cu.getStatements().size() == 1 && cu.getStatements().get(0) instanceof J.Block) {
+                        return cu.withStatements(ListUtils.mapFirst(cu.getStatements(), script ->
+                                ((J.Block) script).withStatements(ListUtils.concat(((J.Block) script).getStatements(), testTask))));
+                    }
+                    return cu.withStatements(ListUtils.concat(cu.getStatements(), testTask));
+                }
+                return t;
+            }
+        };
+    }
+
+    private static @Nullable String settingOf(Statement statement) {
+        if (statement instanceof J.Assignment && ((J.Assignment) statement).getVariable() instanceof J.Identifier) {
+            return ((J.Identifier) ((J.Assignment) statement).getVariable()).getSimpleName();
+        }
+        return statement instanceof J.MethodInvocation ? ((J.MethodInvocation) statement).getSimpleName() : null;
+    }
+
+    /**
+     * The settings a build script already configures, whichever way, so these are left as they are.
+     */
+    private static Set<String> configuredSettings(JavaSourceFile buildScript) {
+        return new JavaIsoVisitor<Set<String>>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, Set<String> configured) {
+                String name = identifier.getSimpleName();
+                if (MAX_PARALLEL_FORKS.equals(name) || "setMaxParallelForks".equals(name)) {
+                    configured.add(MAX_PARALLEL_FORKS);
+                } else if (FORK_EVERY.equals(name) || "setForkEvery".equals(name)) {
+                    configured.add(FORK_EVERY);
+                }
+                return super.visitIdentifier(identifier, configured);
+            }
+
+            @Override
+            public J.Literal visitLiteral(J.Literal literal, Set<String> configured) {
+                if (literal.getValue() instanceof String && ((String) literal.getValue()).contains(PARALLEL_PROPERTY_PREFIX)) {
+                    configured.add(SYSTEM_PROPERTY);
+                }
+                return literal;
+            }
+        }.reduce(buildScript, new HashSet<>());
+    }
+
+    /**
+     * Adds the settings to the first {@code Test} task configuration of the build script, in any of the forms
+     * recognized by {@link GradleTestTasks#isTestTaskConfiguration}.
+     */
+    private static class AddToTestTaskConfiguration extends JavaIsoVisitor<ExecutionContext> {
+        private final List<Statement> settings;
+        boolean added;
+
+        AddToTestTaskConfiguration(List<Statement> settings) {
+            this.settings = settings;
+        }
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+            if (added || m.getArguments().isEmpty() || !GradleTestTasks.isTestTaskConfiguration(m, getCursor())) {
+                return m;
+            }
+            Expression last = m.getArguments().get(m.getArguments().size() - 1);
+            if (!(last instanceof J.Lambda) || !(((J.Lambda) last).getBody() instanceof J.Block)) {
+                return m;
+            }
+            J.Lambda closure = (J.Lambda) last;
+            J.Block body = (J.Block) closure.getBody();
+            Space prefix = body.getStatements().isEmpty() ?
+                    Space.format(body.getEnd().getWhitespace() + "    ") :
+                    body.getStatements().get(0).getPrefix();
+            added = true;
+            return m.withArguments(ListUtils.mapLast(m.getArguments(), a -> closure.withBody(body.withStatements(
+                    ListUtils.concatAll(body.getStatements(), ListUtils.map(settings, s -> s.withPrefix(prefix)))))));
+        }
+    }
+
+    private static final String TEMPLATE_KEY = GradleConfigureTestParallelism.class.getName() + ".template.";
+
+    private static Optional<J.MethodInvocation> createTestTaskConfiguration(ExecutionContext ctx, boolean kotlin) {
+        return GradleTestTasks.template(ctx, TEMPLATE_KEY + kotlin, kotlin, kotlin ?
+                "plugins {\n" +
+                "    java\n" +
+                "}\n" +
+                "tasks.withType<Test>().configureEach {\n" +
+                "    maxParallelForks = (Runtime.getRuntime().availableProcessors() / 2).coerceAtLeast(1)\n" +
+                "    forkEvery = 100L\n" +
+                "    systemProperty(\"junit.jupiter.execution.parallel.enabled\", \"true\")\n" +
+                "    systemProperty(\"junit.jupiter.execution.parallel.mode.default\", \"same_thread\")\n" +
+                "    systemProperty(\"junit.jupiter.execution.parallel.mode.classes.default\", \"concurrent\")\n" +
+                "}" :
+                "plugins {\n" +
+                "    id 'java'\n" +
+                "}\n" +
+                "tasks.withType(Test).configureEach {\n" +
+                "    maxParallelForks = Runtime.runtime.availableProcessors().intdiv(2) ?: 1\n" +
+                "    forkEvery = 100\n" +
+                "    systemProperty 'junit.jupiter.execution.parallel.enabled', 'true'\n" +
+                "    systemProperty 'junit.jupiter.execution.parallel.mode.default', 'same_thread'\n" +
+                "    systemProperty 'junit.jupiter.execution.parallel.mode.classes.default', 'concurrent'\n" +
+                "}", "configureEach");
+    }
+}
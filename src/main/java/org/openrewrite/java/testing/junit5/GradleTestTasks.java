@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.junit5;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Parser;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.gradle.GradleParser;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.tree.ParseError;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Recognizes and creates configurations of Gradle {@code Test} tasks, shared by the recipes that configure them.
+ */
+final class GradleTestTasks {
+
+    private GradleTestTasks() {
+    }
+
+    /**
+     * Whether the invocation configures a {@code Test} task, in one of a non-exhaustive list of common forms of
+     * both the Groovy and the Kotlin DSL.
+     *
+     * @param m      The method invocation to test.
+     * @param cursor The cursor pointing at the method invocation.
+     */
+    static boolean isTestTaskConfiguration(J.MethodInvocation m, Cursor cursor) {
+        // test { }                               tasks.test { }
+        // tasks.withType(Test) { }               tasks.withType<Test> { }
+        // tasks.withType(Test).configureEach { } tasks.withType<Test>().configureEach { }
+        // tasks.named("test") { }                tasks.named<Test>("test") { }
+        // tasks.named("test", Test) { }
+        switch (m.getSimpleName()) {
+            case "test":
+                if (m.getSelect() == null) {
+                    // Other DSLs may be named "test" so only assume it is `test {}` if it isn't enclosed in anything else
+                    return cursor.getParentTreeCursor().firstEnclosing(J.MethodInvocation.class) == null;
+                }
+                return isTasks(m.getSelect());
+            case "named":
+                return !m.getArguments().isEmpty() && m.getArguments().get(0) instanceof J.Literal &&
+                        "test".equals(((J.Literal) m.getArguments().get(0)).getValue());
+            case "withType":
+                return isTasks(m.getSelect()) && isOfTestType(m);
+            case "configureEach":
+                return m.getSelect() instanceof J.MethodInvocation &&
+                        "withType".equals(((J.MethodInvocation) m.getSelect()).getSimpleName()) &&
+                        isOfTestType((J.MethodInvocation) m.getSelect());
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isTasks(@Nullable Expression select) {
+        // With Gradle 9 we saw the type change to Object, so fall back to checking simple name
+        return select instanceof J.Identifier && "tasks".equals(((J.Identifier) select).getSimpleName()) ||
+                select != null && TypeUtils.isOfClassType(select.getType(), "org.gradle.api.tasks.TaskContainer");
+    }
+
+    private static boolean isOfTestType(J.MethodInvocation withType) {
+        if (withType.getTypeParameters() != null) {
+            for (Expression typeParameter : withType.getTypeParameters()) {
+                if (typeParameter instanceof J.Identifier && "Test".equals(((J.Identifier) typeParameter).getSimpleName())) {
+                    return true;
+                }
+            }
+        }
+        return !withType.getArguments().isEmpty() && withType.getArguments().get(0) instanceof J.Identifier &&
+                "Test".equals(((J.Identifier) withType.getArguments().get(0)).getSimpleName());
+    }
+
+    /**
+     * Parses a build script snippet into the first invocation of the given name, to use as a template.
+     * <p>
+     * Parsing a Gradle snippet spins up the Groovy or Kotlin compiler and resolves the Gradle classpath, which is
+     * expensive. The result depends only on the snippet, so the parsed template is cached on the (run-scoped) context
+     * under the given key to pay that cost once per run rather than once per modified build script. Caching on the
+     * context rather than statically keeps the type-attributed LST (and the Gradle type graph it references) from
+     * being retained beyond the lifetime of the run.
+     *
+     * @param ctx        The execution context to cache the template on.
+     * @param cacheKey   A key unique to the snippet.
+     * @param kotlin     Whether the snippet uses the Kotlin DSL.
+     * @param snippet    The build script snippet.
+     * @param methodName The name of the invocation to return from the snippet.
+     * @return A copy of the template with fresh ids, if the snippet could be parsed.
+     */
+    static Optional<J.MethodInvocation> template(ExecutionContext ctx, String cacheKey, boolean kotlin,
+                                                 String snippet, String methodName) {
+        J.MethodInvocation template = ctx.computeMessageIfAbsent(cacheKey,
+                k -> parseTemplate(ctx, kotlin, snippet, methodName));
+        // Hand back a copy with fresh ids so reusing the cached template (across files, or across multiple matching
+        // test blocks within one script) never produces colliding ids in the resulting tree.
+        return template == null ? Optional.empty() : Optional.of(withNewIds(template));
+    }
+
+    private static J.@Nullable MethodInvocation parseTemplate(ExecutionContext ctx, boolean kotlin,
+                                                              String snippet, String methodName) {
+        SourceFile sourceFile = GradleParser.builder()
+                .build()
+                .parseInputs(singletonList(Parser.Input.fromString(
+                        Paths.get(kotlin ? "build.gradle.kts" : "build.gradle"), snippet)), null, ctx)
+                .findFirst()
+                .orElse(null);
+        if (sourceFile == null) {
+            return null;
+        }
+        if (sourceFile instanceof ParseError) {
+            throw ((ParseError) sourceFile).toException();
+        }
+        return new JavaIsoVisitor<List<J.MethodInvocation>>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, List<J.MethodInvocation> found) {
+                if (methodName.equals(method.getSimpleName())) {
+                    found.add(method);
+                }
+                return super.visitMethodInvocation(method, found);
+            }
+        }.reduce(sourceFile, new ArrayList<>()).stream().findFirst().orElse(null);
+    }
+
+    private static J.MethodInvocation withNewIds(J.MethodInvocation template) {
+        return (J.MethodInvocation) new JavaIsoVisitor<Integer>() {
+            @Override
+            public @Nullable J visit(@Nullable Tree tree, Integer p) {
+                J j = super.visit(tree, p);
+                return j == null ? null : j.withId(Tree.randomId());
+            }
+        }.visitNonNull(template, 0);
+    }
+}
@@ -21,10 +21,7 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
-import org.openrewrite.SourceFile;
-import org.openrewrite.Tree;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.gradle.GradleParser;
 import org.openrewrite.gradle.IsBuildGradle;
 import org.openrewrite.gradle.marker.GradleProject;
 import org.openrewrite.groovy.GroovyIsoVisitor;
@@ -32,8 +29,6 @@ import org.openrewrite.groovy.tree.G;
 import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
-import org.openrewrite.java.tree.TypeUtils;
-import org.openrewrite.tree.ParseError;
 
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -156,65 +151,10 @@ public class GradleUseJunitJupiter extends Recipe {
         @Override
         public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
             J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
-            String mName = m.getSimpleName();
-            // A non-exhaustive list of common ways by which the task may already be configured
-            // test { }
-            // tasks.withType(Test) { }
-            // tasks.withType(Test).configureEach { }
-            // tasks.named("test") { }
-            // tasks.named("test", Test) { }
-            switch (mName) {
-                case "test":
-                    if (!(m.getArguments().size() == 1 && m.getArguments().get(0) instanceof J.Lambda)) {
-                        return m;
-                    }
-                    // Other DSLs may be named "test" so only assume it is `test {}` if it isn't enclosed in anything else
-                    if (getCursor().getParentTreeCursor().firstEnclosing(J.MethodInvocation.class) != null) {
-                        return m;
-                    }
-                    break;
-                case "named":
-                    if (m.getArguments().isEmpty()) {
-                        return m;
-                    }
-                    if (!(m.getArguments().get(0) instanceof J.Literal && "test".equals(((J.Literal) m.getArguments().get(0)).getValue()))) {
-                        return m;
-                    }
-                    // The final argument must be a J.Lambda
-                    if (!(m.getArguments().get(m.getArguments().size() - 1) instanceof J.Lambda)) {
-                        return m;
-                    }
-                    break;
-                case "withType":
-                    if (m.getSelect() == null) {
-                        return m;
-                    }
-                    if (!TypeUtils.isOfClassType(m.getSelect().getType(), "org.gradle.api.tasks.TaskContainer") &&
-                            // With Gradle 9 we saw the type change to Object, so fall back to checking simple name
-                            !(m.getSelect() instanceof J.Identifier && "tasks".equals(((J.Identifier) m.getSelect()).getSimpleName()))) {
-                        return m;
-                    }
-                    if (!(m.getArguments().get(0) instanceof J.Identifier && "Test".equals(((J.Identifier) m.getArguments().get(0)).getSimpleName()))) {
-                        return m;
-                    }
-                    break;
-                case "configureEach":
-                    if (m.getArguments().size() != 1 || !(m.getArguments().get(0) instanceof J.Lambda)) {
-                        return m;
-                    }
-                    if (m.getSelect() == null || !(m.getSelect() instanceof J.MethodInvocation)) {
-                        return m;
-                    }
-                    J.MethodInvocation select = (J.MethodInvocation) m.getSelect();
-                    if (!"withType".equals(select.getSimpleName()) ||
-                            select.getArguments().size() != 1 ||
-                            !(select.getArguments().get(0) instanceof J.Identifier) ||
-                            !"Test".equals(((J.Identifier) select.getArguments().get(0)).getSimpleName())) {
-                        return m;
-                    }
-                    break;
-                default:
-                    return m;
+            if (m.getArguments().isEmpty() ||
+                    !(m.getArguments().get(m.getArguments().size() - 1) instanceof J.Lambda) ||
+                    !GradleTestTasks.isTestTaskConfiguration(m, getCursor())) {
+                return m;
             }
 
             return (J.MethodInvocation) new AddJUnitPlatformAsLastStatementInClosure()
@@ -245,47 +185,12 @@ public class GradleUseJunitJupiter extends Recipe {
     private static final String TEMPLATE_KEY = GradleUseJunitJupiter.class.getName() + ".template.";
 
     private static Optional<J.MethodInvocation> createTaskUseJUnitPlatform(ExecutionContext ctx, boolean forEachInvocation) {
-        // Parsing a Gradle snippet spins up the Groovy compiler and resolves the Gradle classpath, which is expensive.
-        // The result depends only on `forEachInvocation`, so cache the parsed template on the (run-scoped) context to
-        // pay that cost once per run rather than once per modified build script. Caching on the context rather than
-        // statically keeps the type-attributed LST (and the Gradle type graph it references) from being retained
-        // beyond the lifetime of the run.
-        J.MethodInvocation template = ctx.computeMessageIfAbsent(TEMPLATE_KEY + forEachInvocation,
-                k -> parseTemplate(ctx, forEachInvocation));
-        // Hand back a copy with fresh ids so reusing the cached template (across files, or across multiple matching
-        // test blocks within one script) never produces colliding ids in the resulting tree.
-        return template == null ? Optional.empty() : Optional.of(withNewIds(template));
-    }
-
-    private static J.@Nullable MethodInvocation parseTemplate(ExecutionContext ctx, boolean forEachInvocation) {
-        String groovySnippet = "plugins {\n" +
+        return GradleTestTasks.template(ctx, TEMPLATE_KEY + forEachInvocation, false,
+                "plugins {\n" +
                 "    id 'java'\n" +
                 "}\n" +
                 "tasks.withType(Test)" + (forEachInvocation ? ".configureEach" : "") + " {\n" +
                 "    useJUnitPlatform()\n" +
-                "}";
-        SourceFile sourceFile = GradleParser.builder()
-                .build()
-                .parse(ctx, groovySnippet)
-                .findFirst()
-                .orElse(null);
-        if (sourceFile == null) {
-            return null;
-        }
-        if (sourceFile instanceof ParseError) {
-            throw ((ParseError) sourceFile).toException();
-        }
-        G.CompilationUnit cu = (G.CompilationUnit) sourceFile;
-        return (J.MethodInvocation) cu.getStatements().get(1);
-    }
-
-    private static J.MethodInvocation withNewIds(J.MethodInvocation template) {
-        return (J.MethodInvocation) new GroovyIsoVisitor<Integer>() {
-            @Override
-            public @Nullable J visit(@Nullable Tree tree, Integer p) {
-                J j = super.visit(tree, p);
-                return j == null ? null : j.withId(Tree.randomId());
-            }
-        }.visitNonNull(template, 0);
+                "}", forEachInvocation ? "configureEach" : "withType");
     }
 }
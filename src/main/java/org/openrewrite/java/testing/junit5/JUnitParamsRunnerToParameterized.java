@@ -15,8 +15,9 @@
  */
 package org.openrewrite.java.testing.junit5;
 
-import lombok.Getter;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
@@ -41,17 +42,10 @@ import static java.util.stream.Collectors.joining;
  * `@Parameters(named = "...")` and associated `@NamedParameter` init-method
  * Unsupported tests are identified with a comment on the associated `@Parameters(...)` annotation.
  */
+@Value
+@EqualsAndHashCode(callSuper = false)
 public class JUnitParamsRunnerToParameterized extends Recipe {
 
-    private static final AnnotationMatcher RUN_WITH_JUNIT_PARAMS_ANNOTATION_MATCHER = new AnnotationMatcher("@org.junit.runner.RunWith(junitparams.JUnitParamsRunner.class)");
-    private static final AnnotationMatcher JUNIT_TEST_ANNOTATION_MATCHER = new AnnotationMatcher("@org.junit.Test");
-    private static final AnnotationMatcher JUPITER_TEST_ANNOTATION_MATCHER = new AnnotationMatcher("@org.junit.jupiter.api.Test");
-
-    private static final AnnotationMatcher PARAMETERS_MATCHER = new AnnotationMatcher("@junitparams.Parameters");
-    private static final AnnotationMatcher TEST_CASE_NAME_MATCHER = new AnnotationMatcher("@junitparams.naming.TestCaseName");
-    private static final AnnotationMatcher NAMED_PARAMETERS_MATCHER = new AnnotationMatcher("@junitparams.NamedParameters");
-    private static final AnnotationMatcher CONVERTER_MATCHER = new AnnotationMatcher("@junitparams.converters.Param");
-
     private static final String INIT_METHOD_REFERENCES = "init-method-references";
     private static final String CSV_PARAMS = "csv-params";
     private static final String PARAMETERS_FOR_PREFIX = "parametersFor";
@@ -59,11 +53,16 @@ public class JUnitParamsRunnerToParameterized extends Recipe {
     private static final String INIT_METHODS_MAP = "named-parameters-map";
     private static final String CONVERSION_NOT_SUPPORTED = "conversion-not-supported";
 
-    @Getter
-    final String displayName = "Pragmatists `@RunWith(JUnitParamsRunner.class)` to JUnit Jupiter `@Parameterized` tests";
+    @Option(displayName = "Stream arguments",
+            description = "Rewrite the parameter methods to return a `Stream<Arguments>`, so that rows generated " +
+                    "in a loop are produced lazily rather than collected before the first test runs.",
+            required = false)
+    @Nullable
+    Boolean streamArguments;
 
-    @Getter
-    final String description = "Convert Pragmatists Parameterized test to the JUnit Jupiter ParameterizedTest equivalent.";
+    String displayName = "Pragmatists `@RunWith(JUnitParamsRunner.class)` to JUnit Jupiter `@Parameterized` tests";
+
+    String description = "Convert Pragmatists Parameterized test to the JUnit Jupiter ParameterizedTest equivalent.";
 
     private static String junitParamsDefaultInitMethodName(String methodName) {
         return PARAMETERS_FOR_PREFIX + methodName.substring(0, 1).toUpperCase() + methodName.substring(1);
@@ -71,10 +70,13 @@ public class JUnitParamsRunnerToParameterized extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("junitparams.*", false), new ParameterizedTemplateVisitor());
+        return Preconditions.check(new UsesType<>("junitparams.*", false),
+                new ParameterizedTemplateVisitor(Boolean.TRUE.equals(streamArguments)));
     }
 
+    @RequiredArgsConstructor
     private static class ParameterizedTemplateVisitor extends JavaIsoVisitor<ExecutionContext> {
+        private final boolean streamArguments;
 
         @Override
         public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
@@ -85,7 +87,8 @@ public class JUnitParamsRunnerToParameterized extends Recipe {
                 doAfterVisit(new ParametersNoArgsImplicitMethodSource(initMethods,
                         getCursor().computeMessageIfAbsent(INIT_METHODS_MAP, v -> new HashMap<>()),
                         getCursor().computeMessageIfAbsent(CONVERSION_NOT_SUPPORTED, v -> new HashSet<>()),
-                        getCursor().computeMessageIfAbsent(PARAMETERIZED_TESTS, v -> new HashSet<>())));
+                        getCursor().computeMessageIfAbsent(PARAMETERIZED_TESTS, v -> new HashSet<>()),
+                        streamArguments));
             }
             return cd;
         }
@@ -105,8 +108,8 @@ public class JUnitParamsRunnerToParameterized extends Recipe {
         public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
             J.Annotation anno = super.visitAnnotation(annotation, ctx);
             Cursor classDeclCursor = getCursor().dropParentUntil(J.ClassDeclaration.class::isInstance);
-            if (PARAMETERS_MATCHER.matches(anno)) {
-                Annotated annotated = new Annotated.Matcher(PARAMETERS_MATCHER).require(annotation, getCursor().getParentOrThrow());
+            if (Matchers.PARAMETERS_MATCHER.matches(anno)) {
+                Annotated annotated = new Annotated.Matcher(Matchers.PARAMETERS_MATCHER).require(annotation, getCursor().getParentOrThrow());
                 String annotationArgumentValue = getAnnotationArgumentForInitMethod(annotated, "method", "named");
                 classDeclCursor.computeMessageIfAbsent(PARAMETERIZED_TESTS, v -> new HashSet<>())
                         .add(getCursor().firstEnclosing(J.MethodDeclaration.class).getSimpleName());
@@ -129,16 +132,16 @@ public class JUnitParamsRunnerToParameterized extends Recipe {
                     unsupportedMethods.add(m.getSimpleName());
                     unsupportedMethods.add(junitParamsDefaultInitMethodName(m.getSimpleName()));
                 }
-            } else if (NAMED_PARAMETERS_MATCHER.matches(annotation)) {
-                Annotated annotated = new Annotated.Matcher(NAMED_PARAMETERS_MATCHER).require(annotation, getCursor().getParentOrThrow());
+            } else if (Matchers.NAMED_PARAMETERS_MATCHER.matches(annotation)) {
+                Annotated annotated = new Annotated.Matcher(Matchers.NAMED_PARAMETERS_MATCHER).require(annotation, getCursor().getParentOrThrow());
                 Optional<Literal> value = annotated.getDefaultAttribute("value");
                 if (value.isPresent()) {
                     J.MethodDeclaration m = getCursor().dropParentUntil(J.MethodDeclaration.class::isInstance).getValue();
                     classDeclCursor.computeMessageIfAbsent(INIT_METHOD_REFERENCES, v -> new HashSet<>()).add(m.getSimpleName());
                     classDeclCursor.computeMessageIfAbsent(INIT_METHODS_MAP, v -> new HashMap<>()).put(value.get().getString(), m.getSimpleName());
                 }
-            } else if (TEST_CASE_NAME_MATCHER.matches(anno)) {
-                Annotated annotated = new Annotated.Matcher(TEST_CASE_NAME_MATCHER).require(annotation, getCursor().getParentOrThrow());
+            } else if (Matchers.TEST_CASE_NAME_MATCHER.matches(anno)) {
+                Annotated annotated = new Annotated.Matcher(Matchers.TEST_CASE_NAME_MATCHER).require(annotation, getCursor().getParentOrThrow());
                 // test name for ParameterizedTest argument
                 Optional<Literal> value = annotated.getDefaultAttribute("value");
                 if (value.isPresent()) {
@@ -178,7 +181,7 @@ public class JUnitParamsRunnerToParameterized extends Recipe {
             return method.getParameters().stream()
                     .filter(J.VariableDeclarations.class::isInstance)
                     .map(J.VariableDeclarations.class::cast)
-                    .anyMatch(v -> v.getLeadingAnnotations().stream().anyMatch(CONVERTER_MATCHER::matches));
+                    .anyMatch(v -> v.getLeadingAnnotations().stream().anyMatch(Matchers.CONVERTER_MATCHER::matches));
         }
 
         private static JavaTemplate getCsVParamTemplate(ExecutionContext ctx) {
@@ -203,12 +206,14 @@ public class JUnitParamsRunnerToParameterized extends Recipe {
         private final Set<String> unsupportedConversions;
         private final Set<String> parameterizedTests;
         private final Map<String, String> initMethodReferences;
+        private final boolean streamArguments;
 
-        public ParametersNoArgsImplicitMethodSource(Set<String> initMethods, Map<String, String> initMethodReferences, Set<String> unsupportedConversions, Set<String> parameterizedTests) {
+        public ParametersNoArgsImplicitMethodSource(Set<String> initMethods, Map<String, String> initMethodReferences, Set<String> unsupportedConversions, Set<String> parameterizedTests, boolean streamArguments) {
             this.initMethods = initMethods;
             this.initMethodReferences = initMethodReferences;
             this.unsupportedConversions = unsupportedConversions;
             this.parameterizedTests = parameterizedTests;
+            this.streamArguments = streamArguments;
         }
 
         @SuppressWarnings("SpellCheckingInspection")
@@ -216,11 +221,16 @@ public class JUnitParamsRunnerToParameterized extends Recipe {
         public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
             J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
             // Remove @RunWith(JUnitParamsRunner.class) annotation
-            doAfterVisit(new RemoveAnnotationVisitor(RUN_WITH_JUNIT_PARAMS_ANNOTATION_MATCHER));
+            doAfterVisit(new RemoveAnnotationVisitor(Matchers.RUN_WITH_JUNIT_PARAMS_ANNOTATION_MATCHER));
             List<String> methodNames = getCursor().getMessage(MakeMethodStatic.REFERENCED_METHODS, emptyList());
             if (cd.getType() != null && !methodNames.isEmpty()) {
                 doAfterVisit(new MakeMethodStatic(cd.getType(), methodNames));
             }
+            if (streamArguments && cd.getType() != null) {
+                Set<String> factories = new HashSet<>(initMethods);
+                factories.removeAll(unsupportedConversions);
+                doAfterVisit(new ArgumentsFactoryToStream(cd.getType(), factories));
+            }
 
             // Update Imports
             maybeRemoveImport("org.junit.Test");
@@ -245,7 +255,7 @@ public class JUnitParamsRunnerToParameterized extends Recipe {
             final String paramTestName = initMethodReferences.get(m.getSimpleName());
 
             List<J.Annotation> annotations = ListUtils.map(m.getLeadingAnnotations(), anno -> {
-                if (TEST_CASE_NAME_MATCHER.matches(anno) || NAMED_PARAMETERS_MATCHER.matches(anno)) {
+                if (Matchers.TEST_CASE_NAME_MATCHER.matches(anno) || Matchers.NAMED_PARAMETERS_MATCHER.matches(anno)) {
                     return null;
                 }
                 anno = maybeReplaceTestAnnotation(new Cursor(getCursor(), anno), paramTestName, ctx);
@@ -262,7 +272,7 @@ public class JUnitParamsRunnerToParameterized extends Recipe {
         }
 
         private J.Annotation maybeReplaceTestAnnotation(Cursor anno, @Nullable String parameterizedTestArgument, ExecutionContext ctx) {
-            if (JUPITER_TEST_ANNOTATION_MATCHER.matches(anno.getValue()) || JUNIT_TEST_ANNOTATION_MATCHER.matches(anno.getValue())) {
+            if (Matchers.JUPITER_TEST_ANNOTATION_MATCHER.matches(anno.getValue()) || Matchers.JUNIT_TEST_ANNOTATION_MATCHER.matches(anno.getValue())) {
                 if (!parameterizedTests.contains(anno.firstEnclosing(J.MethodDeclaration.class).getSimpleName())) {
                     return anno.getValue();
                 }
@@ -290,7 +300,7 @@ public class JUnitParamsRunnerToParameterized extends Recipe {
         }
 
         private J.Annotation maybeReplaceParametersAnnotation(Cursor anno, String methodName, ExecutionContext ctx) {
-            if (PARAMETERS_MATCHER.matches(anno.getValue())) {
+            if (Matchers.PARAMETERS_MATCHER.matches(anno.getValue())) {
                 String initMethodName = junitParamsDefaultInitMethodName(methodName);
                 JavaTemplate methodSourceTemplate = JavaTemplate.builder("@MethodSource(#{})")
                         .javaParser(JavaParser.fromJavaVersion()
@@ -385,4 +395,17 @@ public class JUnitParamsRunnerToParameterized extends Recipe {
             return super.visitMethodInvocation(method, ctx);
         }
     }
+
+    /**
+     * Lazy holder for the JUnitParams annotation matchers.
+     */
+    private static class Matchers {
+        static final AnnotationMatcher RUN_WITH_JUNIT_PARAMS_ANNOTATION_MATCHER = new AnnotationMatcher("@org.junit.runner.RunWith(junitparams.JUnitParamsRunner.class)");
+        static final AnnotationMatcher JUNIT_TEST_ANNOTATION_MATCHER = new AnnotationMatcher("@org.junit.Test");
+        static final AnnotationMatcher JUPITER_TEST_ANNOTATION_MATCHER = new AnnotationMatcher("@org.junit.jupiter.api.Test");
+        static final AnnotationMatcher PARAMETERS_MATCHER = new AnnotationMatcher("@junitparams.Parameters");
+        static final AnnotationMatcher TEST_CASE_NAME_MATCHER = new AnnotationMatcher("@junitparams.naming.TestCaseName");
+        static final AnnotationMatcher NAMED_PARAMETERS_MATCHER = new AnnotationMatcher("@junitparams.NamedParameters");
+        static final AnnotationMatcher CONVERTER_MATCHER = new AnnotationMatcher("@junitparams.converters.Param");
+    }
 }
@@ -22,8 +22,8 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.AnnotationMatcher;
-import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.cleanup.DeclarationOnlyVisitor;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.J.MethodDeclaration;
 import org.openrewrite.java.tree.J.Modifier.Type;
@@ -57,7 +57,7 @@ public class LifecycleNonPrivate extends Recipe {
         return Preconditions.check(PRECONDITION, new LifecycleNonPrivateVisitor());
     }
 
-    private static class LifecycleNonPrivateVisitor extends JavaIsoVisitor<ExecutionContext> {
+    private static class LifecycleNonPrivateVisitor extends DeclarationOnlyVisitor<ExecutionContext> {
         final List<AnnotationMatcher> lifeCycleAnnotationMatchers = ANNOTATION_TYPES.stream()
                 .map(annoFqn -> "@" + annoFqn).map(AnnotationMatcher::new).collect(toList());
 
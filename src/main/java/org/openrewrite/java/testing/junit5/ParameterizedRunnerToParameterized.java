@@ -15,7 +15,8 @@
  */
 package org.openrewrite.java.testing.junit5;
 
-import lombok.Getter;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
@@ -28,17 +29,13 @@ import org.openrewrite.marker.Markers;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.*;
 import static org.openrewrite.Tree.randomId;
 
+@Value
+@EqualsAndHashCode(callSuper = false)
 public class ParameterizedRunnerToParameterized extends Recipe {
-    private static final AnnotationMatcher RUN_WITH_PARAMETERS = new AnnotationMatcher("@org.junit.runner.RunWith(org.junit.runners.Parameterized.class)");
-    private static final AnnotationMatcher JUNIT_TEST = new AnnotationMatcher("@org.junit.Test");
-    private static final AnnotationMatcher JUPITER_TEST = new AnnotationMatcher("@org.junit.jupiter.api.Test");
-    private static final AnnotationMatcher PARAMETERS = new AnnotationMatcher("@org.junit.runners.Parameterized$Parameters");
-    private static final AnnotationMatcher BEFORE = new AnnotationMatcher("@org.junit.Before");
-    private static final AnnotationMatcher PARAMETER = new AnnotationMatcher("@org.junit.runners.Parameterized$Parameter");
-    private static final AnnotationMatcher PARAMETERIZED_TEST = new AnnotationMatcher("@org.junit.jupiter.params.ParameterizedTest");
 
     private static final String PARAMETERS_ANNOTATION_ARGUMENTS = "parameters-annotation-args";
     private static final String CONSTRUCTOR_ARGUMENTS = "constructor-args";
@@ -46,18 +43,30 @@ public class ParameterizedRunnerToParameterized extends Recipe {
     private static final String PARAMETERS_METHOD_NAME = "parameters-method-name";
     private static final String BEFORE_METHOD_NAME = "before-method-name";
 
-    @Getter
-    final String displayName = "JUnit 4 `@RunWith(Parameterized.class)` to JUnit Jupiter parameterized tests";
+    @Option(displayName = "Stream arguments",
+            description = "Rewrite the `@Parameters` factory to return a `Stream<Arguments>`, so that rows generated " +
+                    "in a loop are produced lazily rather than collected before the first test runs.",
+            required = false)
+    @Nullable
+    Boolean streamArguments;
 
-    @Getter
-    final String description = "Convert JUnit 4 parameterized runner the JUnit Jupiter parameterized test equivalent.";
+    String displayName = "JUnit 4 `@RunWith(Parameterized.class)` to JUnit Jupiter parameterized tests";
+
+    String description = "Convert JUnit 4 parameterized runner the JUnit Jupiter parameterized test equivalent.";
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("org.junit.runners.Parameterized", false), new ParameterizedRunnerVisitor());
+        return Preconditions.check(new UsesType<>("org.junit.runners.Parameterized", false),
+                new ParameterizedRunnerVisitor(Boolean.TRUE.equals(streamArguments)));
     }
 
     private static class ParameterizedRunnerVisitor extends JavaIsoVisitor<ExecutionContext> {
+        private final boolean streamArguments;
+
+        ParameterizedRunnerVisitor(boolean streamArguments) {
+            this.streamArguments = streamArguments;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
@@ -81,6 +90,12 @@ public class ParameterizedRunnerToParameterized extends Recipe {
                     List<Statement> fieldParams = new ArrayList<>(fieldInjectionParams.values());
                     doAfterVisit(new ParameterizedRunnerToParameterizedTestsVisitor(classDecl, parametersMethodName, initMethodName, parametersAnnotationArguments, fieldParams, false, beforeMethodName));
                 }
+
+                if (streamArguments && parametersMethodName != null && cd.getType() != null &&
+                        (constructorParams != null && constructorParams.stream().anyMatch(J.VariableDeclarations.class::isInstance) ||
+                                fieldInjectionParams != null)) {
+                    doAfterVisit(new ArgumentsFactoryToStream(cd.getType(), singletonList(parametersMethodName)));
+                }
             }
             return cd;
         }
@@ -94,12 +109,12 @@ public class ParameterizedRunnerToParameterized extends Recipe {
                 params.put(CONSTRUCTOR_ARGUMENTS, m.getParameters());
             }
             for (J.Annotation annotation : service(AnnotationService.class).getAllAnnotations(getCursor())) {
-                if (PARAMETERS.matches(annotation)) {
+                if (Matchers.PARAMETERS.matches(annotation)) {
                     params.put(PARAMETERS_ANNOTATION_ARGUMENTS, annotation.getArguments());
                     params.put(PARAMETERS_METHOD_NAME, method.getSimpleName());
                     break;
                 }
-                if (BEFORE.matches(annotation)) {
+                if (Matchers.BEFORE.matches(annotation)) {
                     params.put(BEFORE_METHOD_NAME, method.getSimpleName());
                 }
             }
@@ -113,7 +128,7 @@ public class ParameterizedRunnerToParameterized extends Recipe {
             J.Annotation parameterAnnotation = null;
             Integer position = 0;
             for (J.Annotation leadingAnnotation : service(AnnotationService.class).getAllAnnotations(getCursor())) {
-                if (PARAMETER.matches(leadingAnnotation)) {
+                if (Matchers.PARAMETER.matches(leadingAnnotation)) {
                     parameterAnnotation = leadingAnnotation;
                     if (parameterAnnotation.getArguments() != null && !(parameterAnnotation.getArguments().get(0) instanceof J.Empty)) {
                         J positionArg = parameterAnnotation.getArguments().get(0);
@@ -212,9 +227,9 @@ public class ParameterizedRunnerToParameterized extends Recipe {
         public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
             J.CompilationUnit c = super.visitCompilationUnit(cu, ctx);
             if (c != cu) {
-                doAfterVisit(new RemoveAnnotationVisitor(PARAMETERS));
-                doAfterVisit(new RemoveAnnotationVisitor(PARAMETER));
-                doAfterVisit(new RemoveAnnotationVisitor(RUN_WITH_PARAMETERS));
+                doAfterVisit(new RemoveAnnotationVisitor(Matchers.PARAMETERS));
+                doAfterVisit(new RemoveAnnotationVisitor(Matchers.PARAMETER));
+                doAfterVisit(new RemoveAnnotationVisitor(Matchers.RUN_WITH_PARAMETERS));
 
                 maybeRemoveImport("org.junit.Test");
                 maybeRemoveImport("org.junit.runner.RunWith");
@@ -287,7 +302,7 @@ public class ParameterizedRunnerToParameterized extends Recipe {
 
             final AtomicReference<Space> annoPrefix = new AtomicReference<>();
             vdecls = vdecls.withLeadingAnnotations(ListUtils.map(vdecls.getLeadingAnnotations(), anno -> {
-                if (PARAMETER.matches(anno)) {
+                if (Matchers.PARAMETER.matches(anno)) {
                     annoPrefix.set(anno.getPrefix());
                     return null;
                 }
@@ -315,7 +330,7 @@ public class ParameterizedRunnerToParameterized extends Recipe {
                     .imports("org.junit.jupiter.params.ParameterizedTest")
                     .build();
             m = m.withLeadingAnnotations(ListUtils.map(m.getLeadingAnnotations(), annotation -> {
-                if (JUPITER_TEST.matches(annotation) || JUNIT_TEST.matches(annotation)) {
+                if (Matchers.JUPITER_TEST.matches(annotation) || Matchers.JUNIT_TEST.matches(annotation)) {
                     List<Comment> annotationComments = annotation.getComments();
                     if (parameterizedTestAnnotationParameters == null) {
                         annotation = parameterizedTestTemplate.apply(
@@ -337,7 +352,7 @@ public class ParameterizedRunnerToParameterized extends Recipe {
             }));
 
             // Add @MethodSource, insert test init statement, add test method parameters
-            if (m.getLeadingAnnotations().stream().anyMatch(PARAMETERIZED_TEST::matches)) {
+            if (m.getLeadingAnnotations().stream().anyMatch(Matchers.PARAMETERIZED_TEST::matches)) {
                 m = JavaTemplate.builder("@MethodSource(\"" + parametersMethodName + "\")")
                         .javaParser(JavaParser.fromJavaVersion()
                             .classpathFromResources(ctx, "junit-jupiter-api-5", "junit-jupiter-params-5"))
@@ -385,4 +400,17 @@ public class ParameterizedRunnerToParameterized extends Recipe {
             return m;
         }
     }
+
+    /**
+     * Lazy holder for the runner and parameter annotation matchers.
+     */
+    private static class Matchers {
+        static final AnnotationMatcher RUN_WITH_PARAMETERS = new AnnotationMatcher("@org.junit.runner.RunWith(org.junit.runners.Parameterized.class)");
+        static final AnnotationMatcher JUNIT_TEST = new AnnotationMatcher("@org.junit.Test");
+        static final AnnotationMatcher JUPITER_TEST = new AnnotationMatcher("@org.junit.jupiter.api.Test");
+        static final AnnotationMatcher PARAMETERS = new AnnotationMatcher("@org.junit.runners.Parameterized$Parameters");
+        static final AnnotationMatcher BEFORE = new AnnotationMatcher("@org.junit.Before");
+        static final AnnotationMatcher PARAMETER = new AnnotationMatcher("@org.junit.runners.Parameterized$Parameter");
+        static final AnnotationMatcher PARAMETERIZED_TEST = new AnnotationMatcher("@org.junit.jupiter.params.ParameterizedTest");
+    }
 }
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.junit5;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.java.marker.JavaSourceSet;
+import org.openrewrite.java.tree.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per module census of the tests, telling whether the tests of a module can run in several forked JVMs at the same
+ * time, and whether they can run concurrently within one JVM.
+ * <p>
+ * - Tests binding fixed ports with Testcontainers, WireMock or MockWebServer cannot run in parallel at all
+ * - Tests writing static state, system properties or the standard streams, or using the JMockit and PowerMock
+ * agents, can only run in parallel in separate JVMs. Static state includes {@code static final} fields holding
+ * anything but a primitive, {@code String} or enum constant
+ */
+class TestParallelismCensus {
+    private static final List<String> AGENT_PACKAGES = Arrays.asList("mockit.", "org.powermock.");
+    private static final String JUNIT_PLATFORM_PROPERTIES = "junit-platform.properties";
+    private static final List<String> IMMUTABLE_TYPES = Arrays.asList("java.lang.String", "java.lang.Boolean",
+            "java.lang.Byte", "java.lang.Character", "java.lang.Short", "java.lang.Integer", "java.lang.Long",
+            "java.lang.Float", "java.lang.Double");
+
+    static class Module {
+        boolean hasTests;
+        boolean usesJupiter;
+        boolean bindsFixedPorts;
+        boolean sharesJvmState;
+        boolean usesStaticMocks;
+        boolean usesMockingAgents;
+        boolean configuresParallelExecution;
+
+        /**
+         * Whether several forked JVMs can run the tests of this module at the same time.
+         */
+        boolean canFork() {
+            return hasTests && !bindsFixedPorts;
+        }
+
+        /**
+         * Whether JUnit Jupiter can run the test classes of this module concurrently within one JVM.
+         */
+        boolean canRunConcurrently() {
+            return canFork() && usesJupiter && !sharesJvmState && !usesMockingAgents;
+        }
+
+        /**
+         * Whether the mocking of this module leaks state into the JVM that is only reclaimed by a fresh fork.
+         */
+        boolean leaksIntoJvm() {
+            return usesStaticMocks || usesMockingAgents;
+        }
+    }
+
+    private final Map<@Nullable JavaProject, Module> modules = new HashMap<>();
+
+    @Nullable
+    Module get(@Nullable JavaProject project) {
+        return modules.get(project);
+    }
+
+    TreeVisitor<?, ExecutionContext> scanner() {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree preVisit(Tree tree, ExecutionContext ctx) {
+                stopAfterPreVisit();
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                SourceFile sourceFile = (SourceFile) tree;
+                JavaProject project = sourceFile.getMarkers().findFirst(JavaProject.class).orElse(null);
+                if (sourceFile.getSourcePath().endsWith(JUNIT_PLATFORM_PROPERTIES)) {
+                    if (sourceFile.printAll().contains("junit.jupiter.execution.parallel")) {
+                        modules.computeIfAbsent(project, p -> new Module()).configuresParallelExecution = true;
+                    }
+                } else if (sourceFile instanceof JavaSourceFile && isTestSource(sourceFile)) {
+                    Module module = modules.computeIfAbsent(project, p -> new Module());
+                    module.hasTests = true;
+                    scan((JavaSourceFile) sourceFile, module);
+                }
+                return tree;
+            }
+        };
+    }
+
+    private static boolean isTestSource(SourceFile sourceFile) {
+        return sourceFile.getMarkers().findFirst(JavaSourceSet.class)
+                .map(sourceSet -> sourceSet.getName().toLowerCase(Locale.ROOT).contains("test"))
+                .orElse(false);
+    }
+
+    private static void scan(JavaSourceFile sourceFile, Module module) {
+        for (JavaType type : sourceFile.getTypesInUse().getTypesInUse()) {
+            if (type instanceof JavaType.FullyQualified) {
+                String fqn = ((JavaType.FullyQualified) type).getFullyQualifiedName();
+                if (fqn.startsWith("org.junit.jupiter.")) {
+                    module.usesJupiter = true;
+                } else if (fqn.startsWith("org.testcontainers.containers.FixedHostPortGenericContainer")) {
+                    module.bindsFixedPorts = true;
+                }
+                for (String agentPackage : AGENT_PACKAGES) {
+                    if (fqn.startsWith(agentPackage)) {
+                        module.usesMockingAgents = true;
+                    }
+                }
+            }
+        }
+        for (JavaType.Method method : sourceFile.getTypesInUse().getUsedMethods()) {
+            if (Matchers.SYSTEM_STATE_MATCHER.matches(method) || Matchers.CLEAR_PROPERTY_MATCHER.matches(method)) {
+                module.sharesJvmState = true;
+            }
+            for (MethodMatcher matcher : Matchers.STATIC_MOCK_MATCHERS) {
+                module.usesStaticMocks |= matcher.matches(method);
+            }
+            for (MethodMatcher matcher : Matchers.PORT_BINDING_MATCHERS) {
+                module.bindsFixedPorts |= matcher.matches(method);
+            }
+        }
+        if (!module.bindsFixedPorts || !module.sharesJvmState) {
+            new JavaIsoVisitor<Module>() {
+                @Override
+                public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, Module m) {
+                    // annotated static fields, such as a `@Container` or `@RegisterExtension`, are managed per class
+                    if (getCursor().getParentTreeCursor().getParentTreeCursor().getValue() instanceof J.ClassDeclaration &&
+                            multiVariable.hasModifier(J.Modifier.Type.Static) &&
+                            !(multiVariable.hasModifier(J.Modifier.Type.Final) && isImmutable(multiVariable.getType())) &&
+                            multiVariable.getLeadingAnnotations().isEmpty()) {
+                        m.sharesJvmState = true;
+                    }
+                    return super.visitVariableDeclarations(multiVariable, m);
+                }
+
+                @Override
+                public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Module m) {
+                    if (bindsFixedPort(method.getMethodType(), method.getArguments())) {
+                        m.bindsFixedPorts = true;
+                    }
+                    return super.visitMethodInvocation(method, m);
+                }
+
+                @Override
+                public J.NewClass visitNewClass(J.NewClass newClass, Module m) {
+                    if (bindsFixedPort(newClass.getMethodType(), newClass.getArguments())) {
+                        m.bindsFixedPorts = true;
+                    }
+                    return super.visitNewClass(newClass, m);
+                }
+            }.visit(sourceFile, module);
+        }
+    }
+
+    /**
+     * Whether a {@code static final} field of this type is a constant, rather than a shared instance like a
+     * collection or a mock which tests running concurrently could modify.
+     */
+    private static boolean isImmutable(@Nullable JavaType type) {
+        if (type instanceof JavaType.Primitive) {
+            return true;
+        }
+        JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+        return fq != null && (fq.getKind() == JavaType.FullyQualified.Kind.Enum ||
+                IMMUTABLE_TYPES.contains(fq.getFullyQualifiedName()));
+    }
+
+    /**
+     * Any port argument is taken to be fixed, whether a literal, a constant or read from configuration, unless it
+     * is the literal {@code 0} or obviously dynamic, such as WireMock's {@code DYNAMIC_PORT} or a call like
+     * {@code findAvailableTcpPort()}.
+     */
+    private static boolean bindsFixedPort(JavaType.@Nullable Method method, List<Expression> arguments) {
+        if (method == null) {
+            return false;
+        }
+        for (MethodMatcher matcher : Matchers.FIXED_PORT_MATCHERS) {
+            if (matcher.matches(method)) {
+                List<JavaType> parameterTypes = method.getParameterTypes();
+                for (int i = 0; i < parameterTypes.size() && i < arguments.size(); i++) {
+                    if (parameterTypes.get(i) == JavaType.Primitive.Int) {
+                        return !isDynamicPort(arguments.get(i));
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDynamicPort(Expression port) {
+        Expression p = port;
+        if (p instanceof J.Literal) {
+            return Integer.valueOf(0).equals(((J.Literal) p).getValue());
+        }
+        if (p instanceof J.Identifier || p instanceof J.FieldAccess) {
+            return "DYNAMIC_PORT".equals(p instanceof J.Identifier ?
+                    ((J.Identifier) p).getSimpleName() : ((J.FieldAccess) p).getSimpleName());
+        }
+        if (p instanceof J.MethodInvocation) {
+            String name = ((J.MethodInvocation) p).getSimpleName().toLowerCase(Locale.ROOT);
+            return name.contains("port") && (name.contains("free") || name.contains("available") ||
+                    name.contains("random") || name.contains("dynamic"));
+        }
+        return false;
+    }
+
+    /**
+     * The matchers of the scanner, initialized on first use rather than when the recipe class is loaded.
+     */
+    private static class Matchers {
+        static final MethodMatcher[] FIXED_PORT_MATCHERS = {
+                new MethodMatcher("com.github.tomakehurst.wiremock.core.WireMockConfiguration port(int)"),
+                new MethodMatcher("com.github.tomakehurst.wiremock.core.WireMockConfiguration httpsPort(int)"),
+                new MethodMatcher("com.github.tomakehurst.wiremock.WireMockServer <constructor>(int, ..)"),
+                new MethodMatcher("com.github.tomakehurst.wiremock.junit.WireMockRule <constructor>(int, ..)"),
+                new MethodMatcher("com.github.tomakehurst.wiremock.junit.WireMockClassRule <constructor>(int, ..)"),
+                new MethodMatcher("okhttp3.mockwebserver.MockWebServer start(int)"),
+                new MethodMatcher("okhttp3.mockwebserver.MockWebServer start(java.net.InetAddress, int)"),
+                new MethodMatcher("mockwebserver3.MockWebServer start(int)"),
+                new MethodMatcher("mockwebserver3.MockWebServer start(java.net.InetAddress, int)")
+        };
+        static final MethodMatcher[] PORT_BINDING_MATCHERS = {
+                new MethodMatcher("org.testcontainers.containers.FixedHostPortGenericContainer withFixedExposedPort(..)"),
+                new MethodMatcher("org.testcontainers.containers.GenericContainer setPortBindings(..)", true)
+        };
+        static final MethodMatcher SYSTEM_STATE_MATCHER = new MethodMatcher("java.lang.System set*(..)");
+        static final MethodMatcher CLEAR_PROPERTY_MATCHER = new MethodMatcher("java.lang.System clearProperty(..)");
+        static final MethodMatcher[] STATIC_MOCK_MATCHERS = {
+                new MethodMatcher("org.mockito.Mockito mockStatic(..)"),
+                new MethodMatcher("org.mockito.Mockito mockConstruction(..)"),
+                new MethodMatcher("org.mockito.Mockito mockConstructionWithAnswer(..)")
+        };
+    }
+}
@@ -25,6 +25,7 @@ import org.openrewrite.java.ChangeType;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.RemoveAnnotationVisitor;
 import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.cleanup.DeclarationOnlyVisitor;
 import org.openrewrite.java.tree.J;
 
 import java.util.LinkedHashMap;
@@ -68,7 +69,7 @@ public class UpdateBeforeAfterAnnotations extends Recipe {
         }
     }
 
-    private static class RemoveRedundantJUnit4LifecycleAnnotations extends JavaIsoVisitor<ExecutionContext> {
+    private static class RemoveRedundantJUnit4LifecycleAnnotations extends DeclarationOnlyVisitor<ExecutionContext> {
 
         @Override
         public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
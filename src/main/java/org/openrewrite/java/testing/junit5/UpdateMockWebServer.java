@@ -15,19 +15,25 @@
  */
 package org.openrewrite.java.testing.junit5;
 
-import lombok.Getter;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.dependencies.UpgradeDependencyVersion;
 import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.cleanup.FieldModifiers;
+import org.openrewrite.java.testing.table.PerTestMockWebServers;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -41,22 +47,43 @@ import static java.util.Objects.requireNonNull;
  * - If MockWebServer Rule exists remove the Rule annotation and update okhttp3 to version 4.x
  * - If AfterEach method exists insert a close statement for the MockWebServer and throws for IOException
  * - If AfterEach does not exist then insert new afterEachTest method closing MockWebServer
+ * <p>
+ * With the per-class lifecycle option the MockWebServer becomes a static field, started in a BeforeAll method and
+ * closed in an AfterAll method. Queued responses are discarded after each test by resetting the dispatcher.
+ * Classes asserting on takeRequest() or getRequestCount() keep a server per test, as recorded requests would otherwise
+ * bleed between tests, and so do classes which shut the server down in an AfterEach method of their own.
+ * <p>
+ * The lifecycle is only decided here, where the {@code @Rule} is replaced. {@link UpdateMockWebServerMockResponse} and
+ * {@link UpdateMockWebServerDispatcher} migrate the response and dispatcher APIs of a server declared elsewhere, and do
+ * not create or close servers, so they have no per-class lifecycle option.
  */
 @SuppressWarnings({"JavadocLinkAsPlainText"})
+@Value
+@EqualsAndHashCode(callSuper = false)
 public class UpdateMockWebServer extends Recipe {
-    private static final AnnotationMatcher RULE_MATCHER = new AnnotationMatcher("@org.junit.Rule");
-    private static final AnnotationMatcher AFTER_EACH_MATCHER = new AnnotationMatcher("@org.junit.jupiter.api.AfterEach");
     private static final String AFTER_EACH_FQN = "org.junit.jupiter.api.AfterEach";
+    private static final String BEFORE_ALL_FQN = "org.junit.jupiter.api.BeforeAll";
+    private static final String AFTER_ALL_FQN = "org.junit.jupiter.api.AfterAll";
     private static final String MOCK_WEB_SERVER_FQN = "okhttp3.mockwebserver.MockWebServer";
+    private static final String QUEUE_DISPATCHER_FQN = "okhttp3.mockwebserver.QueueDispatcher";
     private static final String IO_EXCEPTION_FQN = "java.io.IOException";
     private static final String MOCK_WEBSERVER_VARIABLE = "mock-web-server-variable";
     private static final String AFTER_EACH_METHOD = "after-each-method";
+    private static final String PER_CLASS_LIFECYCLE = "per-class-lifecycle";
+
+    @Option(displayName = "Per-class lifecycle",
+            description = "Share one `MockWebServer` between the tests of a class, started in `@BeforeAll` and closed in `@AfterAll`, " +
+                    "instead of starting a server for every test method. " +
+                    "Classes which assert on `takeRequest()` or `getRequestCount()` keep a server per test method.",
+            required = false)
+    @Nullable
+    Boolean perClassLifecycle;
+
+    transient PerTestMockWebServers perTestMockWebServers = new PerTestMockWebServers(this);
 
-    @Getter
-    final String displayName = "OkHttp 3.x `MockWebServer` `@Rule` To 4.x `MockWebServer`";
+    String displayName = "OkHttp 3.x `MockWebServer` `@Rule` To 4.x `MockWebServer`";
 
-    @Getter
-    final String description = "Replace usages of okhttp3 3.x `@Rule` MockWebServer with 4.x `MockWebServer`.";
+    String description = "Replace usages of okhttp3 3.x `@Rule` MockWebServer with 4.x `MockWebServer`.";
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
@@ -69,10 +96,17 @@ public class UpdateMockWebServer extends Recipe {
 
                     @Override
                     public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        boolean perClass = Boolean.TRUE.equals(perClassLifecycle) && hasMockWebServerRule(classDecl) &&
+                                canShareMockWebServer(classDecl, ctx);
+                        getCursor().putMessage(PER_CLASS_LIFECYCLE, perClass);
                         J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
                         final J.Identifier mockWebServerVariable = getCursor().pollMessage(MOCK_WEBSERVER_VARIABLE);
                         final J.MethodDeclaration afterEachMethod = getCursor().pollMessage(AFTER_EACH_METHOD);
-                        if (mockWebServerVariable != null) {
+                        if (mockWebServerVariable != null && perClass) {
+                            cd = addClassLifecycle(cd, mockWebServerVariable, afterEachMethod,
+                                    uses(classDecl, Matchers.ENQUEUE_MATCHER), ctx);
+                            maybeRemoveImport("org.junit.Rule");
+                        } else if (mockWebServerVariable != null) {
                             if (afterEachMethod == null) {
                                 cd = JavaTemplate.builder("@AfterEach\nvoid afterEachTest() throws IOException {#{any(okhttp3.mockwebserver.MockWebServer)}.close();\n}")
                                         .contextSensitive()
@@ -146,7 +180,7 @@ public class UpdateMockWebServer extends Recipe {
                         JavaType.FullyQualified fieldType = variableDeclarations.getTypeAsFullyQualified();
                         if (TypeUtils.isOfClassType(fieldType, "okhttp3.mockwebserver.MockWebServer")) {
                             variableDeclarations = variableDeclarations.withLeadingAnnotations(ListUtils.map(variableDeclarations.getLeadingAnnotations(), annotation -> {
-                                if (RULE_MATCHER.matches(annotation)) {
+                                if (Matchers.RULE_MATCHER.matches(annotation)) {
                                     return null;
                                 }
                                 return annotation;
@@ -156,6 +190,9 @@ public class UpdateMockWebServer extends Recipe {
                                         variableDeclarations.getModifiers(), Space.EMPTY));
                             }
                         }
+                        if (multiVariable != variableDeclarations && getCursor().getNearestMessage(PER_CLASS_LIFECYCLE, false)) {
+                            variableDeclarations = FieldModifiers.addStatic(variableDeclarations);
+                        }
                         if (multiVariable != variableDeclarations) {
                             getCursor().putMessageOnFirstEnclosing(J.ClassDeclaration.class, MOCK_WEBSERVER_VARIABLE, variableDeclarations.getVariables().get(0).getName());
                         }
@@ -166,19 +203,135 @@ public class UpdateMockWebServer extends Recipe {
                     public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
                         J.MethodDeclaration md = super.visitMethodDeclaration(method, ctx);
                         for (J.Annotation annotation : md.getLeadingAnnotations()) {
-                            if (AFTER_EACH_MATCHER.matches(annotation)) {
+                            if (Matchers.AFTER_EACH_MATCHER.matches(annotation)) {
                                 getCursor().putMessageOnFirstEnclosing(J.ClassDeclaration.class, AFTER_EACH_METHOD, md);
                                 break;
                             }
                         }
                         return md;
                     }
+
+                    private boolean canShareMockWebServer(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        String reason = null;
+                        if (uses(classDecl, Matchers.TAKE_REQUEST_MATCHER) || uses(classDecl, Matchers.GET_REQUEST_COUNT_MATCHER)) {
+                            reason = "Asserts on `takeRequest()` or `getRequestCount()`, which depend on the requests of a single test";
+                        } else if (!(getCursor().getParentTreeCursor().getValue() instanceof JavaSourceFile) &&
+                                !classDecl.hasModifier(J.Modifier.Type.Static)) {
+                            reason = "Inner class, which cannot declare static lifecycle methods";
+                        } else if (classDecl.getBody().getStatements().stream().anyMatch(s -> s instanceof J.MethodDeclaration &&
+                                ((J.MethodDeclaration) s).getLeadingAnnotations().stream().anyMatch(Matchers.CLASS_LIFECYCLE_MATCHER::matches))) {
+                            reason = "Declares its own `@BeforeAll` or `@AfterAll` methods";
+                        } else if (classDecl.getBody().getStatements().stream().anyMatch(s -> s instanceof J.MethodDeclaration &&
+                                ((J.MethodDeclaration) s).getLeadingAnnotations().stream().anyMatch(Matchers.AFTER_EACH_MATCHER::matches) &&
+                                (uses(s, Matchers.SHUTDOWN_MATCHER) || uses(s, Matchers.CLOSE_MATCHER)))) {
+                            reason = "Shuts the server down in an `@AfterEach` method, which a shared server must survive";
+                        }
+                        if (reason == null) {
+                            return true;
+                        }
+                        perTestMockWebServers.insertRow(ctx, new PerTestMockWebServers.Row(
+                                getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString(),
+                                classDecl.getType() == null ? classDecl.getSimpleName() : classDecl.getType().getFullyQualifiedName(),
+                                reason));
+                        return false;
+                    }
+
+                    private J.ClassDeclaration addClassLifecycle(J.ClassDeclaration cd, J.Identifier mockWebServerVariable,
+                                                                 J.@Nullable MethodDeclaration afterEachMethod, boolean enqueues,
+                                                                 ExecutionContext ctx) {
+                        JavaParser.Builder<?, ?> parser = JavaParser.fromJavaVersion()
+                                .classpathFromResources(ctx,
+                                        "junit-4",
+                                        "junit-jupiter-api-5",
+                                        "apiguardian-api-1.1",
+                                        "mockwebserver-3.14");
+                        cd = JavaTemplate.builder("@BeforeAll\nstatic void beforeAll() throws IOException {#{any(okhttp3.mockwebserver.MockWebServer)}.start();\n}")
+                                .contextSensitive()
+                                .imports(BEFORE_ALL_FQN, MOCK_WEB_SERVER_FQN, IO_EXCEPTION_FQN)
+                                .javaParser(parser)
+                                .build()
+                                .apply(updateCursor(cd), cd.getBody().getCoordinates().lastStatement(), mockWebServerVariable);
+                        maybeAddImport(BEFORE_ALL_FQN);
+                        if (enqueues) {
+                            // Responses enqueued, but not consumed, by one test must not be served to the next one
+                            if (afterEachMethod == null) {
+                                cd = JavaTemplate.builder("@AfterEach\nvoid afterEachTest() {#{any(okhttp3.mockwebserver.MockWebServer)}.setDispatcher(new QueueDispatcher());\n}")
+                                        .contextSensitive()
+                                        .imports(AFTER_EACH_FQN, MOCK_WEB_SERVER_FQN, QUEUE_DISPATCHER_FQN)
+                                        .javaParser(parser)
+                                        .build()
+                                        .apply(updateCursor(cd), cd.getBody().getCoordinates().lastStatement(), mockWebServerVariable);
+                                maybeAddImport(AFTER_EACH_FQN);
+                            } else {
+                                for (Statement statement : cd.getBody().getStatements()) {
+                                    if (statement.isScope(afterEachMethod) && ((J.MethodDeclaration) statement).getBody() != null) {
+                                        cd = JavaTemplate.builder("#{any(okhttp3.mockwebserver.MockWebServer)}.setDispatcher(new QueueDispatcher());")
+                                                .contextSensitive()
+                                                .imports(MOCK_WEB_SERVER_FQN, QUEUE_DISPATCHER_FQN)
+                                                .javaParser(parser)
+                                                .build()
+                                                .apply(updateCursor(cd),
+                                                        requireNonNull(((J.MethodDeclaration) statement).getBody()).getCoordinates().lastStatement(),
+                                                        mockWebServerVariable);
+                                        break;
+                                    }
+                                }
+                            }
+                            maybeAddImport(QUEUE_DISPATCHER_FQN);
+                        }
+                        cd = JavaTemplate.builder("@AfterAll\nstatic void afterAll() throws IOException {#{any(okhttp3.mockwebserver.MockWebServer)}.close();\n}")
+                                .contextSensitive()
+                                .imports(AFTER_ALL_FQN, MOCK_WEB_SERVER_FQN, IO_EXCEPTION_FQN)
+                                .javaParser(parser)
+                                .build()
+                                .apply(updateCursor(cd), cd.getBody().getCoordinates().lastStatement(), mockWebServerVariable);
+                        maybeAddImport(AFTER_ALL_FQN);
+                        maybeAddImport(IO_EXCEPTION_FQN);
+                        return cd;
+                    }
                 });
     }
 
+    private static boolean hasMockWebServerRule(J.ClassDeclaration classDecl) {
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.VariableDeclarations &&
+                    TypeUtils.isOfClassType(((J.VariableDeclarations) statement).getTypeAsFullyQualified(), MOCK_WEB_SERVER_FQN) &&
+                    ((J.VariableDeclarations) statement).getLeadingAnnotations().stream().anyMatch(Matchers.RULE_MATCHER::matches)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean uses(J tree, MethodMatcher matcher) {
+        return new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean found) {
+                if (matcher.matches(method)) {
+                    found.set(true);
+                }
+                return super.visitMethodInvocation(method, found);
+            }
+        }.reduce(tree, new AtomicBoolean()).get();
+    }
+
     @Override
     public List<Recipe> getRecipeList() {
         return singletonList(new UpgradeDependencyVersion("com.squareup.okhttp3", "mockwebserver", "4.X",
                 null, false, emptyList()));
     }
+
+    /**
+     * Lazy holder for the lifecycle annotation and MockWebServer method matchers.
+     */
+    private static class Matchers {
+        static final AnnotationMatcher RULE_MATCHER = new AnnotationMatcher("@org.junit.Rule");
+        static final AnnotationMatcher AFTER_EACH_MATCHER = new AnnotationMatcher("@org.junit.jupiter.api.AfterEach");
+        static final AnnotationMatcher CLASS_LIFECYCLE_MATCHER = new AnnotationMatcher("@org.junit.jupiter.api.*All");
+        static final MethodMatcher TAKE_REQUEST_MATCHER = new MethodMatcher("okhttp3.mockwebserver.MockWebServer takeRequest(..)");
+        static final MethodMatcher GET_REQUEST_COUNT_MATCHER = new MethodMatcher("okhttp3.mockwebserver.MockWebServer getRequestCount()");
+        static final MethodMatcher ENQUEUE_MATCHER = new MethodMatcher("okhttp3.mockwebserver.MockWebServer enqueue(..)");
+        static final MethodMatcher SHUTDOWN_MATCHER = new MethodMatcher("okhttp3.mockwebserver.MockWebServer shutdown()");
+        static final MethodMatcher CLOSE_MATCHER = new MethodMatcher("okhttp3.mockwebserver.MockWebServer close()");
+    }
 }
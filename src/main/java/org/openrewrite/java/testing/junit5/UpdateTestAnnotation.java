@@ -25,6 +25,7 @@ import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
 import org.openrewrite.java.search.FindImports;
 import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.cleanup.DeclarationOnlyVisitor;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.kotlin.tree.K;
 import org.openrewrite.marker.Markup;
@@ -215,7 +216,7 @@ public class UpdateTestAnnotation extends Recipe {
             return method.withThrows(filteredThrows);
         }
 
-        private static class ChangeTestAnnotation extends JavaIsoVisitor<ExecutionContext> {
+        private static class ChangeTestAnnotation extends DeclarationOnlyVisitor<ExecutionContext> {
             @Nullable
             Expression expectedException;
 
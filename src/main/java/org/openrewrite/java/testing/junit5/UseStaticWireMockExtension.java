@@ -0,0 +1,259 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.junit5;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.AnnotationMatcher;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.cleanup.FieldModifiers;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Turns instance {@code @RegisterExtension WireMockExtension} fields into {@code static} fields, so that the WireMock
+ * server is started once per test class instead of once per test method.
+ * <p>
+ * - Fields whose initializer refers to instance fields or methods are left alone, as they cannot become {@code static}
+ * - Optionally, a fixed port is replaced with a dynamic port when the port number is not referenced anywhere else in the
+ * source file
+ * - The extension resets its stubs before each test by default; only when the builder disables this with
+ * {@code resetOnEachTest(false)} and the class stubs in its test methods, the stubs are reset with {@code resetAll()}
+ * in an {@code @AfterEach} method
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class UseStaticWireMockExtension extends Recipe {
+    private static final String WIREMOCK_EXTENSION_FQN = "com.github.tomakehurst.wiremock.junit5.WireMockExtension";
+    private static final String AFTER_EACH_FQN = "org.junit.jupiter.api.AfterEach";
+    private static final AnnotationMatcher REGISTER_EXTENSION_MATCHER = new AnnotationMatcher("@org.junit.jupiter.api.extension.RegisterExtension");
+    private static final AnnotationMatcher AFTER_EACH_MATCHER = new AnnotationMatcher("@" + AFTER_EACH_FQN);
+    private static final MethodMatcher FIXED_PORT_MATCHER = new MethodMatcher("com.github.tomakehurst.wiremock.core.WireMockConfiguration port(int)");
+    private static final MethodMatcher RESET_ON_EACH_TEST_MATCHER = new MethodMatcher(WIREMOCK_EXTENSION_FQN + "$Builder resetOnEachTest(boolean)");
+    private static final Set<String> STUBBING_METHODS = new HashSet<>(Arrays.asList("stubFor", "givenThat", "addStubMapping"));
+    private static final String UNRESET_WIREMOCK_EXTENSION = "unreset-wiremock-extension";
+    private static final String STUBS_PER_TEST = "stubs-per-test";
+
+    @Option(displayName = "Use a dynamic port",
+            description = "Replace a fixed `port(int)` with `dynamicPort()` when the port number is not referenced anywhere " +
+                    "else in the source file. Ports referenced from configuration files such as `application.yml` or from " +
+                    "other classes cannot be seen, so this is off by default.",
+            example = "true",
+            required = false)
+    @Nullable
+    private Boolean useDynamicPort;
+
+    @Getter
+    final String displayName = "Share one WireMock server per test class";
+
+    @Getter
+    final String description = "Make `@RegisterExtension WireMockExtension` fields `static` so that the WireMock server " +
+            "is started once per test class rather than once per test method. Optionally, fixed ports are replaced with a " +
+            "dynamic port when the port number is not referenced anywhere else in the source file. When the extension is built with " +
+            "`resetOnEachTest(false)`, stubs registered by test methods are reset with `resetAll()` in an `@AfterEach` method.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesType<>(WIREMOCK_EXTENSION_FQN, false), new JavaIsoVisitor<ExecutionContext>() {
+
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+                J.Identifier wireMock = getCursor().pollMessage(UNRESET_WIREMOCK_EXTENSION);
+                if (wireMock == null || getCursor().pollMessage(STUBS_PER_TEST) == null) {
+                    return cd;
+                }
+
+                J.MethodDeclaration afterEach = null;
+                for (Statement statement : cd.getBody().getStatements()) {
+                    if (statement instanceof J.MethodDeclaration &&
+                            ((J.MethodDeclaration) statement).getLeadingAnnotations().stream().anyMatch(AFTER_EACH_MATCHER::matches)) {
+                        afterEach = (J.MethodDeclaration) statement;
+                        break;
+                    }
+                }
+
+                JavaParser.Builder<?, ?> parser = JavaParser.fromJavaVersion()
+                        .classpathFromResources(ctx, "junit-jupiter-api-5", "apiguardian-api-1.1", "wiremock-jre8-2.35");
+                if (afterEach == null) {
+                    maybeAddImport(AFTER_EACH_FQN);
+                    return JavaTemplate.builder("@AfterEach\nvoid resetWireMock() {\n" + wireMock.getSimpleName() + ".resetAll();\n}")
+                            .contextSensitive()
+                            .imports(AFTER_EACH_FQN, WIREMOCK_EXTENSION_FQN)
+                            .javaParser(parser)
+                            .build()
+                            .apply(updateCursor(cd), cd.getBody().getCoordinates().lastStatement());
+                }
+                if (afterEach.getBody() == null || resetsWireMock(afterEach.getBody(), wireMock)) {
+                    return cd;
+                }
+                return JavaTemplate.builder(wireMock.getSimpleName() + ".resetAll();")
+                        .contextSensitive()
+                        .imports(WIREMOCK_EXTENSION_FQN)
+                        .javaParser(parser)
+                        .build()
+                        .apply(updateCursor(cd), afterEach.getBody().getCoordinates().lastStatement());
+            }
+
+            @Override
+            public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, ctx);
+                if (!TypeUtils.isOfClassType(vd.getTypeAsFullyQualified(), WIREMOCK_EXTENSION_FQN) ||
+                        vd.getVariables().size() != 1 ||
+                        vd.getLeadingAnnotations().stream().noneMatch(REGISTER_EXTENSION_MATCHER::matches)) {
+                    return vd;
+                }
+
+                J.VariableDeclarations.NamedVariable variable = vd.getVariables().get(0);
+                if (vd.hasModifier(J.Modifier.Type.Static) || !isFieldOfClassAllowingStatics() ||
+                        variable.getInitializer() != null && FieldModifiers.usesInstanceMembers(variable.getInitializer())) {
+                    return vd;
+                }
+                markIfResetDisabled(variable);
+                if (Boolean.TRUE.equals(useDynamicPort) && variable.getInitializer() != null) {
+                    J.CompilationUnit cu = getCursor().firstEnclosingOrThrow(J.CompilationUnit.class);
+                    vd = vd.withVariables(singletonList(variable.withInitializer(
+                            new UseDynamicPort(cu).visitNonNull(variable.getInitializer(), ctx, getCursor()))));
+                }
+                return FieldModifiers.addStatic(vd);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+                if (STUBBING_METHODS.contains(mi.getSimpleName())) {
+                    J.MethodDeclaration enclosingMethod = getCursor().firstEnclosing(J.MethodDeclaration.class);
+                    if (enclosingMethod != null && !enclosingMethod.hasModifier(J.Modifier.Type.Static)) {
+                        getCursor().putMessageOnFirstEnclosing(J.ClassDeclaration.class, STUBS_PER_TEST, true);
+                    }
+                }
+                return mi;
+            }
+
+            /**
+             * Only an extension built with {@code resetOnEachTest(false)} keeps the stubs of one test for the next once
+             * it is shared; an extension that was static already is left as the author configured it.
+             */
+            private void markIfResetDisabled(J.VariableDeclarations.NamedVariable variable) {
+                if (variable.getInitializer() != null && disablesResetOnEachTest(variable.getInitializer())) {
+                    getCursor().putMessageOnFirstEnclosing(J.ClassDeclaration.class, UNRESET_WIREMOCK_EXTENSION, variable.getName());
+                }
+            }
+
+            /**
+             * Non-static inner classes such as {@code @Nested} test classes can only declare static fields on Java 16+.
+             */
+            private boolean isFieldOfClassAllowingStatics() {
+                Cursor classCursor = getCursor().getParentTreeCursor().getParentTreeCursor();
+                if (!(classCursor.getValue() instanceof J.ClassDeclaration)) {
+                    return false;
+                }
+                J.ClassDeclaration enclosingClass = classCursor.getValue();
+                return classCursor.getParentTreeCursor().getValue() instanceof JavaSourceFile ||
+                        enclosingClass.hasModifier(J.Modifier.Type.Static);
+            }
+        });
+    }
+
+    private static boolean disablesResetOnEachTest(Expression initializer) {
+        return new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean found) {
+                if (RESET_ON_EACH_TEST_MATCHER.matches(method) && J.Literal.isLiteralValue(method.getArguments().get(0), false)) {
+                    found.set(true);
+                }
+                return super.visitMethodInvocation(method, found);
+            }
+        }.reduce(initializer, new AtomicBoolean()).get();
+    }
+
+    /**
+     * Whether the {@code @AfterEach} method body already calls {@code resetAll()} on the shared extension.
+     */
+    private static boolean resetsWireMock(J.Block body, J.Identifier wireMock) {
+        return new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean found) {
+                if ("resetAll".equals(method.getSimpleName()) && method.getSelect() instanceof J.Identifier &&
+                        ((J.Identifier) method.getSelect()).getSimpleName().equals(wireMock.getSimpleName())) {
+                    found.set(true);
+                }
+                return super.visitMethodInvocation(method, found);
+            }
+        }.reduce(body, new AtomicBoolean()).get();
+    }
+
+    /**
+     * Replaces {@code port(int)} with {@code dynamicPort()}, unless the port number also occurs elsewhere in the source
+     * file, for instance in a hardcoded base URL.
+     */
+    private static class UseDynamicPort extends JavaIsoVisitor<ExecutionContext> {
+        private final J.CompilationUnit cu;
+
+        UseDynamicPort(J.CompilationUnit cu) {
+            this.cu = cu;
+        }
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+            if (!FIXED_PORT_MATCHER.matches(mi) || mi.getMethodType() == null ||
+                    !(mi.getArguments().get(0) instanceof J.Literal)) {
+                return mi;
+            }
+            J.Literal port = (J.Literal) mi.getArguments().get(0);
+            if (port.getValue() == null || isReferencedElsewhere(port)) {
+                return mi;
+            }
+            return mi.withName(mi.getName().withSimpleName("dynamicPort"))
+                    .withArguments(singletonList(new J.Empty(Tree.randomId(), Space.EMPTY, Markers.EMPTY)))
+                    .withMethodType(mi.getMethodType()
+                            .withName("dynamicPort")
+                            .withParameterNames(Collections.emptyList())
+                            .withParameterTypes(Collections.emptyList()));
+        }
+
+        private boolean isReferencedElsewhere(J.Literal port) {
+            String portNumber = String.valueOf(port.getValue());
+            return new JavaIsoVisitor<AtomicBoolean>() {
+                @Override
+                public J.Literal visitLiteral(J.Literal literal, AtomicBoolean found) {
+                    if (literal != port && literal.getValue() != null &&
+                            (literal.getValue() instanceof String ?
+                                    ((String) literal.getValue()).contains(":" + portNumber) :
+                                    portNumber.equals(String.valueOf(literal.getValue())))) {
+                        found.set(true);
+                    }
+                    return literal;
+                }
+            }.reduce(cu, new AtomicBoolean()).get();
+        }
+    }
+}
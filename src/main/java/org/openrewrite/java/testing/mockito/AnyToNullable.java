@@ -26,6 +26,8 @@ import org.openrewrite.java.tree.JavaSourceFile;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public class AnyToNullable extends ScanningRecipe<AtomicBoolean> {
+    private static final FindDependency FIND_MOCKITO_ALL = new FindDependency("org.mockito", "mockito-all", null, null, null);
+
     @Getter
     final String displayName = "Replace Mockito 1.x `anyString()`/`any()` with `nullable(Class)`";
 
@@ -39,11 +41,11 @@ public class AnyToNullable extends ScanningRecipe<AtomicBoolean> {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getScanner(AtomicBoolean acc) {
-        FindDependency findDependency = new FindDependency("org.mockito", "mockito-all", null, null, null);
+        TreeVisitor<?, ExecutionContext> findMockitoAll = FIND_MOCKITO_ALL.getVisitor();
         return new TreeVisitor<Tree, ExecutionContext>() {
             @Override
             public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
-                if (!acc.get() && tree != findDependency.getVisitor().visit(tree, ctx)) {
+                if (!acc.get() && tree != findMockitoAll.visit(tree, ctx)) {
                     acc.set(true);
                 }
                 return tree;
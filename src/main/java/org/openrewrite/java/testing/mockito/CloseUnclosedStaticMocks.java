@@ -15,13 +15,18 @@
  */
 package org.openrewrite.java.testing.mockito;
 
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
 import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.cleanup.FieldModifiers;
+import org.openrewrite.java.testing.cleanup.VariableNameAllocator;
 import org.openrewrite.java.trait.Annotated;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
@@ -35,21 +40,28 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toSet;
 import static org.openrewrite.Tree.randomId;
-import static org.openrewrite.java.VariableNameUtils.GenerationStrategy.INCREMENT_NUMBER;
-import static org.openrewrite.java.VariableNameUtils.generateVariableName;
 
 /**
  * Ensures that all mockStatic calls are properly closed.
  * If mockStatic is in lifecycle methods like @BeforeEach or @BeforeAll,
  * creates a class variable and closes it in @AfterEach or @AfterAll.
  * If mockStatic is inside a test method, wraps it in a try-with-resources block.
+ * Optionally, mockStatic calls in @BeforeEach are moved to @BeforeAll, so that one MockedStatic
+ * is shared by the tests of the class, and reset in @AfterEach.
  */
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = false)
 public class CloseUnclosedStaticMocks extends Recipe {
 
-    private static final MethodMatcher MOCKED_STATIC_CLOSE_MATCHER = new MethodMatcher("org.mockito.ScopedMock close*(..)");
-    private static final MethodMatcher MOCK_STATIC_MATCHER = new MethodMatcher("org.mockito.Mockito mockStatic(..)");
-    private static final AnnotationMatcher AFTER_EACH_MATCHER = new AnnotationMatcher("@org.junit.jupiter.api.AfterEach");
-    private static final AnnotationMatcher AFTER_ALL_MATCHER = new AnnotationMatcher("@org.junit.jupiter.api.AfterAll");
+    @Option(displayName = "Share `MockedStatic` per test class",
+            description = "Move `mockStatic` calls in the `@BeforeEach` method of a JUnit 5 test class to `@BeforeAll`, " +
+                    "so that one `MockedStatic` is created per test class. It is reset in `@AfterEach` and closed in `@AfterAll`. " +
+                    "Defaults to false.",
+            example = "true",
+            required = false)
+    @Nullable
+    private Boolean shareMockedStatic;
 
     @Getter
     final String displayName = "Close unclosed static mocks";
@@ -58,15 +70,21 @@ public class CloseUnclosedStaticMocks extends Recipe {
     final String description = "Ensures that all `mockStatic` calls are properly closed. " +
             "If `mockStatic` is in lifecycle methods like `@BeforeEach` or `@BeforeAll`, " +
             "creates a class variable and closes it in `@AfterEach` or `@AfterAll`. " +
-            "If `mockStatic` is inside a test method, wraps it in a try-with-resources block.";
+            "If `mockStatic` is inside a test method, wraps it in a try-with-resources block. " +
+            "Optionally, `mockStatic` calls in `@BeforeEach` are moved to `@BeforeAll`, so that one `MockedStatic` is " +
+            "shared by the tests of the class and reset in `@AfterEach`.";
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(MOCK_STATIC_MATCHER), new CloseUnclosedStaticMocksVisitor());
+        return Preconditions.check(new UsesMethod<>(Matchers.MOCK_STATIC_MATCHER),
+                new CloseUnclosedStaticMocksVisitor(Boolean.TRUE.equals(shareMockedStatic)));
     }
 
+    @RequiredArgsConstructor
     private static class CloseUnclosedStaticMocksVisitor extends JavaVisitor<ExecutionContext> {
 
+        private final boolean shareMockedStatic;
+
         @Override
         public J visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
             J j = super.visitCompilationUnit(cu, ctx);
@@ -95,12 +113,13 @@ public class CloseUnclosedStaticMocks extends Recipe {
         }
 
         @Override
-        public J visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+        public @Nullable J visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
             Cursor cursor = getCursor();
             new Annotated.Matcher("@org.junit.jupiter.api.*").asVisitor(a -> {
                 String annotationName = a.getTree().getSimpleName();
                 if (annotationName.startsWith("Before")) {
                     cursor.putMessage(MethodType.class.getSimpleName(), MethodType.LIFECYCLE);
+                    cursor.putMessage("beforeEach", "BeforeEach".equals(annotationName));
                 } else if (annotationName.endsWith("Test")) {
                     cursor.putMessage(MethodType.class.getSimpleName(), MethodType.TESTABLE);
                 }
@@ -112,7 +131,13 @@ public class CloseUnclosedStaticMocks extends Recipe {
                 return method;
             }
             cursor.putMessage("staticMethod", method.hasModifier(J.Modifier.Type.Static));
-            return super.visitMethodDeclaration(method, ctx);
+            J.MethodDeclaration md = (J.MethodDeclaration) super.visitMethodDeclaration(method, ctx);
+            if (cursor.getMessage("sharedMockedStatic") != null && md.getBody() != null && md.getBody().getStatements().isEmpty()) {
+                // Nothing is left to set up before each test
+                maybeRemoveImport("org.junit.jupiter.api.BeforeEach");
+                return null;
+            }
+            return md;
         }
 
         @Override
@@ -121,13 +146,17 @@ public class CloseUnclosedStaticMocks extends Recipe {
             if (isRedundantCloseOfTryWithResource(mi)) {
                 return null;
             }
-            if (!MOCK_STATIC_MATCHER.matches(mi) || !insideLifecycleMethod()) {
+            if (!Matchers.MOCK_STATIC_MATCHER.matches(mi) || !insideLifecycleMethod()) {
                 return mi;
             }
             if (getCursor().getParentTreeCursor().getValue() instanceof J.Block) {
                 String mockedClassName = getMockedClassName(mi);
                 if (mockedClassName != null) {
                     String varName = generateMockedVarName(mockedClassName);
+                    if (isSharable(mi)) {
+                        doAfterVisit(new ShareMockVar(getScopedClassName(), varName, mockedClassName, mi));
+                        return null;
+                    }
                     J.Assignment assignment = JavaTemplate.apply(varName + " = #{any()}", updateCursor(mi), mi.getCoordinates().replace(), mi);
                     boolean isStatic = Boolean.TRUE.equals(getCursor().getNearestMessage("staticMethod"));
                     doAfterVisit(new DeclareMockVarAndClose(getScopedClassName(), varName, mockedClassName, isStatic));
@@ -138,10 +167,15 @@ public class CloseUnclosedStaticMocks extends Recipe {
         }
 
         @Override
-        public J visitAssignment(J.Assignment assignment, ExecutionContext ctx) {
-            if (MOCK_STATIC_MATCHER.matches(assignment.getAssignment())) {
+        public @Nullable J visitAssignment(J.Assignment assignment, ExecutionContext ctx) {
+            if (Matchers.MOCK_STATIC_MATCHER.matches(assignment.getAssignment())) {
                 if (assignment.getVariable() instanceof J.Identifier) {
                     JavaType.Variable varType = ((J.Identifier) assignment.getVariable()).getFieldType();
+                    if (varType != null && varType.getOwner() instanceof JavaType.Class &&
+                            getCursor().getParentTreeCursor().getValue() instanceof J.Block && isSharable(assignment.getAssignment())) {
+                        doAfterVisit(new ShareMockVar(getScopedClassName(), varType.getName(), null, assignment.getAssignment()));
+                        return null;
+                    }
                     if (varType != null && varType.getOwner() instanceof JavaType.Class) {
                         doAfterVisit(new DeclareMockVarAndClose(getScopedClassName(), varType.getName(), null, varType.getFlags().contains(Flag.Static)));
                     }
@@ -151,10 +185,10 @@ public class CloseUnclosedStaticMocks extends Recipe {
         }
 
         @Override
-        public J visitVariableDeclarations(J.VariableDeclarations variableDeclarations, ExecutionContext ctx) {
+        public @Nullable J visitVariableDeclarations(J.VariableDeclarations variableDeclarations, ExecutionContext ctx) {
             J.VariableDeclarations vd = (J.VariableDeclarations) super.visitVariableDeclarations(variableDeclarations, ctx);
             J.VariableDeclarations.NamedVariable namedVariable = vd.getVariables().get(0);
-            if (!MOCK_STATIC_MATCHER.matches(namedVariable.getInitializer()) || !insideLifecycleMethod()) {
+            if (!Matchers.MOCK_STATIC_MATCHER.matches(namedVariable.getInitializer()) || !insideLifecycleMethod()) {
                 return vd;
             }
             if (namedVariable.getInitializer() == null) {
@@ -162,6 +196,10 @@ public class CloseUnclosedStaticMocks extends Recipe {
             }
             String varName = namedVariable.getSimpleName();
             String mockedClassName = getMockedClassName((J.MethodInvocation) namedVariable.getInitializer());
+            if (mockedClassName != null && isSharable(namedVariable.getInitializer())) {
+                doAfterVisit(new ShareMockVar(getScopedClassName(), varName, mockedClassName, namedVariable.getInitializer()));
+                return null;
+            }
             if (mockedClassName != null) {
                 boolean isStatic = vd.hasModifier(J.Modifier.Type.Static) ||
                                 Boolean.TRUE.equals(getCursor().getNearestMessage("staticMethod"));
@@ -232,10 +270,10 @@ public class CloseUnclosedStaticMocks extends Recipe {
         private boolean shouldUseTryWithResources(@Nullable Statement statement) {
             if (statement instanceof J.VariableDeclarations) {
                 J.VariableDeclarations varDecl = (J.VariableDeclarations) statement;
-                return MOCK_STATIC_MATCHER.matches(varDecl.getVariables().get(0).getInitializer());
+                return Matchers.MOCK_STATIC_MATCHER.matches(varDecl.getVariables().get(0).getInitializer());
             }
             if (statement instanceof J.MethodInvocation) {
-                return MOCK_STATIC_MATCHER.matches((J.MethodInvocation) statement);
+                return Matchers.MOCK_STATIC_MATCHER.matches((J.MethodInvocation) statement);
             }
             return false;
         }
@@ -255,7 +293,7 @@ public class CloseUnclosedStaticMocks extends Recipe {
         }
 
         private String generateMockedVarName(String mockedClassName) {
-            return generateVariableName("mockedStatic" + mockedClassName.replace(".", "_"), getCursor(), INCREMENT_NUMBER);
+            return VariableNameAllocator.of(getCursor()).allocate("mockedStatic" + mockedClassName.replace(".", "_"), getCursor());
         }
 
         private boolean isClassBody() {
@@ -267,13 +305,33 @@ public class CloseUnclosedStaticMocks extends Recipe {
             return getCursor().getNearestMessage(MethodType.class.getSimpleName()) == MethodType.LIFECYCLE;
         }
 
+        /**
+         * Whether the static mock is created in the {@code @BeforeEach} method of a top level class, which can
+         * declare the {@code @BeforeAll} and {@code @AfterAll} methods of a shared static mock on any Java version,
+         * without referring to the test instance, which the static {@code @BeforeAll} method cannot.
+         */
+        private boolean isSharable(Expression mockStatic) {
+            if (!shareMockedStatic || !Boolean.TRUE.equals(getCursor().getNearestMessage("beforeEach")) ||
+                    FieldModifiers.usesInstanceMembers(mockStatic)) {
+                return false;
+            }
+            Cursor methodCursor = getCursor().dropParentUntil(J.MethodDeclaration.class::isInstance);
+            Cursor classCursor = methodCursor.getParentTreeCursor().getParentTreeCursor();
+            if (classCursor.getValue() instanceof J.ClassDeclaration &&
+                    classCursor.getParentTreeCursor().getValue() instanceof JavaSourceFile) {
+                methodCursor.putMessage("sharedMockedStatic", true);
+                return true;
+            }
+            return false;
+        }
+
         private @Nullable String getScopedClassName() {
             J.ClassDeclaration enclosingClass = getCursor().firstEnclosing(J.ClassDeclaration.class);
             return enclosingClass != null ? enclosingClass.getSimpleName() : null;
         }
 
         private boolean isRedundantCloseOfTryWithResource(J.MethodInvocation mi) {
-            if (!MOCKED_STATIC_CLOSE_MATCHER.matches(mi)) {
+            if (!Matchers.MOCKED_STATIC_CLOSE_MATCHER.matches(mi)) {
                 return false;
             }
             if (mi.getSelect() instanceof J.Identifier) {
@@ -335,7 +393,7 @@ public class CloseUnclosedStaticMocks extends Recipe {
             if (closed) {
                 return md;
             }
-            AnnotationMatcher annotationMatcher = isStatic ? AFTER_ALL_MATCHER : AFTER_EACH_MATCHER;
+            AnnotationMatcher annotationMatcher = isStatic ? Matchers.AFTER_ALL_MATCHER : Matchers.AFTER_EACH_MATCHER;
             boolean matched = new Annotated.Matcher(annotationMatcher).<AtomicBoolean>asVisitor((a, found) -> {
                 found.set(true);
                 return a.getTree();
@@ -380,8 +438,126 @@ public class CloseUnclosedStaticMocks extends Recipe {
         }
     }
 
+    /**
+     * Moves the creation of a static mock from {@code @BeforeEach} to {@code @BeforeAll}, and makes sure the
+     * {@code MockedStatic} is a static field, which is reset after each test and closed after all tests.
+     */
+    @RequiredArgsConstructor
+    private static class ShareMockVar extends JavaIsoVisitor<ExecutionContext> {
+
+        @Nullable
+        private final String scopedClassName;
+
+        private final String varName;
+
+        @Nullable
+        private final String mockedClassName;
+
+        private final Expression mockStatic;
+
+        private boolean reset = false;
+
+        private boolean closed = false;
+
+        @Override
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+            if (!classDecl.getSimpleName().equals(scopedClassName)) {
+                return classDecl;
+            }
+            J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+            if (!isVarDeclared(cd)) {
+                cd = JavaTemplate.builder("private static MockedStatic<" + mockedClassName + "> " + varName + ";")
+                        .contextSensitive()
+                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "mockito-core-5"))
+                        .imports("org.mockito.MockedStatic")
+                        .build().apply(updateCursor(cd), cd.getBody().getCoordinates().firstStatement());
+            }
+            cd = addToLifecycleMethod(cd, Matchers.BEFORE_ALL_MATCHER, "@BeforeAll public static void setUpStaticMocks()",
+                    varName + " = #{any()};", ctx, mockStatic);
+            if (!reset) {
+                cd = addToLifecycleMethod(cd, Matchers.AFTER_EACH_MATCHER, "@AfterEach public void resetStaticMocks()",
+                        varName + ".reset();", ctx);
+            }
+            if (!closed) {
+                cd = addToLifecycleMethod(cd, Matchers.AFTER_ALL_MATCHER, "@AfterAll public static void closeStaticMocks()",
+                        varName + ".closeOnDemand();", ctx);
+            }
+            return cd;
+        }
+
+        @Override
+        public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+            J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, ctx);
+            if (!(getCursor().getParentTreeCursor().getParentTreeCursor().getValue() instanceof J.ClassDeclaration) ||
+                    vd.hasModifier(J.Modifier.Type.Static) ||
+                    vd.getVariables().stream().noneMatch(it -> it.getSimpleName().equals(varName))) {
+                return vd;
+            }
+            return FieldModifiers.addStatic(vd);
+        }
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+            if (!(mi.getSelect() instanceof J.Identifier) || !((J.Identifier) mi.getSelect()).getSimpleName().equals(varName)) {
+                return mi;
+            }
+            J.MethodDeclaration enclosing = getCursor().firstEnclosing(J.MethodDeclaration.class);
+            boolean afterEach = enclosing != null && enclosing.getLeadingAnnotations().stream().anyMatch(Matchers.AFTER_EACH_MATCHER::matches);
+            if (afterEach && mi.getSimpleName().startsWith("close") && mi.getMethodType() != null) {
+                // The shared mock stays open for the next test, which only needs a clean slate
+                reset = true;
+                return mi.withName(mi.getName().withSimpleName("reset"))
+                        .withMethodType(mi.getMethodType().withName("reset"));
+            }
+            reset |= afterEach && "reset".equals(mi.getSimpleName());
+            closed |= !afterEach && mi.getSimpleName().startsWith("close");
+            return mi;
+        }
+
+        private J.ClassDeclaration addToLifecycleMethod(J.ClassDeclaration cd, AnnotationMatcher annotationMatcher,
+                                                        String newMethod, String code, ExecutionContext ctx,
+                                                        Object... parameters) {
+            JavaParser.Builder<?, ?> parser = JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-api-5", "mockito-core-5");
+            for (Statement statement : cd.getBody().getStatements()) {
+                if (statement instanceof J.MethodDeclaration && ((J.MethodDeclaration) statement).getBody() != null &&
+                        ((J.MethodDeclaration) statement).getLeadingAnnotations().stream().anyMatch(annotationMatcher::matches)) {
+                    return JavaTemplate.builder(code).contextSensitive().javaParser(parser).build()
+                            .apply(updateCursor(cd), ((J.MethodDeclaration) statement).getBody().getCoordinates().lastStatement(), parameters);
+                }
+            }
+            maybeAddImport("org.junit.jupiter.api.BeforeAll");
+            maybeAddImport("org.junit.jupiter.api.AfterEach");
+            maybeAddImport("org.junit.jupiter.api.AfterAll");
+            return JavaTemplate.builder(newMethod + " { " + code + " }")
+                    .contextSensitive()
+                    .javaParser(parser)
+                    .imports("org.junit.jupiter.api.BeforeAll", "org.junit.jupiter.api.AfterEach", "org.junit.jupiter.api.AfterAll")
+                    .build().apply(updateCursor(cd), cd.getBody().getCoordinates().lastStatement(), parameters);
+        }
+
+        private boolean isVarDeclared(J.ClassDeclaration cd) {
+            return cd.getBody().getStatements().stream()
+                    .filter(J.VariableDeclarations.class::isInstance)
+                    .map(J.VariableDeclarations.class::cast)
+                    .flatMap(vd -> vd.getVariables().stream())
+                    .anyMatch(var -> var.getSimpleName().equals(varName));
+        }
+    }
+
     private enum MethodType {
         LIFECYCLE,
         TESTABLE
     }
+
+    /**
+     * Lazy holder for the mockStatic and lifecycle annotation matchers.
+     */
+    private static class Matchers {
+        static final MethodMatcher MOCKED_STATIC_CLOSE_MATCHER = new MethodMatcher("org.mockito.ScopedMock close*(..)");
+        static final MethodMatcher MOCK_STATIC_MATCHER = new MethodMatcher("org.mockito.Mockito mockStatic(..)");
+        static final AnnotationMatcher AFTER_EACH_MATCHER = new AnnotationMatcher("@org.junit.jupiter.api.AfterEach");
+        static final AnnotationMatcher AFTER_ALL_MATCHER = new AnnotationMatcher("@org.junit.jupiter.api.AfterAll");
+        static final AnnotationMatcher BEFORE_ALL_MATCHER = new AnnotationMatcher("@org.junit.jupiter.api.BeforeAll");
+    }
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.mockito;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.java.AnnotationMatcher;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Detects the mocking of static methods, constructions and final classes or methods, which Mockito only supports
+ * with the inline mock maker, both through the Mockito API and through PowerMock.
+ */
+final class InlineMockMakerUsage {
+
+    private static final String PREPARE_FOR_TEST = "org.powermock.core.classloader.annotations.PrepareForTest";
+
+    private static final MethodMatcher[] INLINE_ONLY_METHODS = {
+            new MethodMatcher("org.mockito.Mockito mockStatic(..)"),
+            new MethodMatcher("org.mockito.Mockito mockConstruction*(..)"),
+            new MethodMatcher("org.powermock.api.mockito.PowerMockito mockStatic(..)"),
+            new MethodMatcher("org.powermock.api.mockito.PowerMockito whenNew(..)")
+    };
+
+    private static final MethodMatcher MOCK = new MethodMatcher("org.mockito.Mockito mock(..)");
+    private static final MethodMatcher SPY = new MethodMatcher("org.mockito.Mockito spy(..)");
+    private static final AnnotationMatcher MOCK_ANNOTATION = new AnnotationMatcher("@org.mockito.Mock");
+    private static final AnnotationMatcher SPY_ANNOTATION = new AnnotationMatcher("@org.mockito.Spy");
+
+    private InlineMockMakerUsage() {
+    }
+
+    static boolean isRequiredBy(JavaSourceFile sourceFile) {
+        boolean mocks = false;
+        for (JavaType.Method type : sourceFile.getTypesInUse().getUsedMethods()) {
+            for (MethodMatcher matcher : INLINE_ONLY_METHODS) {
+                if (matcher.matches(type)) {
+                    return true;
+                }
+            }
+            mocks |= MOCK.matches(type) || SPY.matches(type);
+        }
+        for (JavaType type : sourceFile.getTypesInUse().getTypesInUse()) {
+            if (type instanceof JavaType.FullyQualified) {
+                String fqn = ((JavaType.FullyQualified) type).getFullyQualifiedName();
+                if (PREPARE_FOR_TEST.equals(fqn)) {
+                    return true;
+                }
+                mocks |= "org.mockito.Mock".equals(fqn) || "org.mockito.Spy".equals(fqn);
+            }
+        }
+        return mocks && mocksFinalClassOrMethod(sourceFile);
+    }
+
+    /**
+     * Whether a final class, such as an enum, a record or a Kotlin class, is mocked or spied upon, or a final
+     * method is used on a mocked class, in which case it is likely stubbed or verified.
+     */
+    private static boolean mocksFinalClassOrMethod(JavaSourceFile sourceFile) {
+        Set<String> mockedTypes = new HashSet<>();
+        for (JavaType.Class mocked : findMockedClasses(sourceFile)) {
+            if (mocked.hasFlags(Flag.Final) ||
+                    mocked.getKind() == JavaType.FullyQualified.Kind.Enum ||
+                    mocked.getKind() == JavaType.FullyQualified.Kind.Record) {
+                return true;
+            }
+            mockedTypes.add(mocked.getFullyQualifiedName());
+        }
+        for (JavaType.Method method : sourceFile.getTypesInUse().getUsedMethods()) {
+            if (method.hasFlags(Flag.Final) && mockedTypes.contains(method.getDeclaringType().getFullyQualifiedName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<JavaType.Class> findMockedClasses(JavaSourceFile sourceFile) {
+        return new JavaIsoVisitor<Set<JavaType.Class>>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Set<JavaType.Class> mocked) {
+                if (MOCK.matches(method) || SPY.matches(method)) {
+                    addIfClass(method.getType(), mocked);
+                }
+                return super.visitMethodInvocation(method, mocked);
+            }
+
+            @Override
+            public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, Set<JavaType.Class> mocked) {
+                if (multiVariable.getLeadingAnnotations().stream().anyMatch(a -> MOCK_ANNOTATION.matches(a) || SPY_ANNOTATION.matches(a))) {
+                    addIfClass(multiVariable.getType(), mocked);
+                }
+                return super.visitVariableDeclarations(multiVariable, mocked);
+            }
+
+            private void addIfClass(@Nullable JavaType type, Set<JavaType.Class> mocked) {
+                JavaType.Class clazz = TypeUtils.asClass(type);
+                if (clazz != null) {
+                    mocked.add(clazz);
+                }
+            }
+        }.reduce(sourceFile, new HashSet<>());
+    }
+}
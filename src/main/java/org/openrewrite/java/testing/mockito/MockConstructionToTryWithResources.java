@@ -25,6 +25,7 @@ import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.testing.cleanup.ChangedSubtreeFormatter;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.Space;
 import org.openrewrite.java.tree.Statement;
@@ -169,7 +170,7 @@ public class MockConstructionToTryWithResources extends Recipe {
                 // Now call super on the new block to handle nested cases and other transformations
                 newBlock = (J.Block) super.visitBlock(newBlock, ctx);
 
-                return maybeAutoFormat(block, newBlock, ctx);
+                return ChangedSubtreeFormatter.maybeFormat(block, newBlock, ctx, getCursor().getParentOrThrow());
             }
 
             private int findCloseCallIndex(List<Statement> statements, String varName, int startIndex) {
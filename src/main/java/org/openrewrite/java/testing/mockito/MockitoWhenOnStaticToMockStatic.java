@@ -15,12 +15,17 @@
  */
 package org.openrewrite.java.testing.mockito;
 
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
 import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.cleanup.ChangedSubtreeFormatter;
+import org.openrewrite.java.testing.cleanup.VariableNameAllocator;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.kotlin.KotlinIsoVisitor;
 import org.openrewrite.kotlin.KotlinParser;
@@ -33,26 +38,23 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.Collections.emptyList;
 import static java.util.Objects.requireNonNull;
-import static org.openrewrite.java.VariableNameUtils.GenerationStrategy.INCREMENT_NUMBER;
-import static org.openrewrite.java.VariableNameUtils.generateVariableName;
 import static org.openrewrite.java.tree.Flag.Static;
 
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = false)
 public class MockitoWhenOnStaticToMockStatic extends Recipe {
-    private static final AnnotationMatcher JUNIT_4_ANNOTATION = new AnnotationMatcher("org.junit.*");
-    private static final AnnotationMatcher JUNIT_5_ANNOTATION = new AnnotationMatcher("org.junit.jupiter.api.*");
-    private static final AnnotationMatcher TESTNG_ANNOTATION = new AnnotationMatcher("org.testng.annotations.*");
-
-    private static final AnnotationMatcher BEFORE = new AnnotationMatcher("org..Before*");
-    private static final AnnotationMatcher BEFORE_CLASS = new AnnotationMatcher("org..BeforeClass");
-    private static final AnnotationMatcher BEFORE_ALL = new AnnotationMatcher("org..BeforeAll");
-    private static final AnnotationMatcher BEFORE_PARAM_CLASS_INV = new AnnotationMatcher("org..BeforeParameterizedClassInvocation");
-
-    private static final MethodMatcher MOCKITO_WHEN = new MethodMatcher("org.mockito.Mockito when(..)");
-    private static final TypeMatcher MOCKED_STATIC = new TypeMatcher("org.mockito.MockedStatic");
-
     private static final String DEFAULT_AFTER_METHOD = "tearDown";
 
-    private int varCounter = 0;
+    @Option(displayName = "Share `MockedStatic` per test class",
+            description = "For JUnit 5 test classes, create one `MockedStatic` per stubbed class in `@BeforeAll`, " +
+                    "stub it from the tests, reset it in `@AfterEach` and close it in `@AfterAll`, " +
+                    "instead of opening a `MockedStatic` in every test. A class is only shared when the tests stub " +
+                    "each of its static methods before calling it. Defaults to false.",
+            example = "true",
+            required = false)
+    @Nullable
+    private Boolean shareMockedStatic;
 
     @Getter
     final String displayName = "Replace `Mockito.when` on static (non mock) with try-with-resource with MockedStatic";
@@ -60,11 +62,12 @@ public class MockitoWhenOnStaticToMockStatic extends Recipe {
     @Getter
     final String description = "Replace `Mockito.when` on static (non mock) with try-with-resource with MockedStatic as Mockito4 no longer allows this. " +
             "For JUnit 4/5 & TestNG: When `@Before*` is used, a `close` call is added to the corresponding `@After*` method. " +
-            "This change moves away from implicit bytecode manipulation for static method stubbing, making mocking behavior more explicit and scoped to avoid unintended side effects.";
+            "This change moves away from implicit bytecode manipulation for static method stubbing, making mocking behavior more explicit and scoped to avoid unintended side effects. " +
+            "Optionally, JUnit 5 test classes share one `MockedStatic` per stubbed class, which is reset between tests rather than recreated for each test.";
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(MOCKITO_WHEN), new TreeVisitor<Tree, ExecutionContext>() {
+        return Preconditions.check(new UsesMethod<>(Matchers.MOCKITO_WHEN), new TreeVisitor<Tree, ExecutionContext>() {
             @Override
             public @Nullable Tree preVisit(Tree tree, ExecutionContext ctx) {
                 stopAfterPreVisit();
@@ -82,16 +85,91 @@ public class MockitoWhenOnStaticToMockStatic extends Recipe {
     private JavaIsoVisitor<ExecutionContext> javaVisitor() {
         return new JavaIsoVisitor<ExecutionContext>() {
             private final Map<String, String> generatedMocks = new HashMap<>();
+            private final Map<String, String> sharedMocks = new HashMap<>();
+
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                if (!Boolean.TRUE.equals(shareMockedStatic) ||
+                        !(getCursor().getParentTreeCursor().getValue() instanceof JavaSourceFile) ||
+                        classDecl.getBody().getStatements().stream().noneMatch(it -> isMethodDeclarationWithAnnotation(it, Matchers.JUNIT_5_ANNOTATION))) {
+                    return super.visitClassDeclaration(classDecl, ctx);
+                }
+                Map<String, JavaType.Class> sharable = findSharableStaticMocks(classDecl);
+                if (sharable.isEmpty()) {
+                    return super.visitClassDeclaration(classDecl, ctx);
+                }
+
+                StringBuilder fields = new StringBuilder();
+                StringBuilder create = new StringBuilder();
+                StringBuilder reset = new StringBuilder();
+                StringBuilder close = new StringBuilder();
+                for (Map.Entry<String, JavaType.Class> mocked : sharable.entrySet()) {
+                    String className = mocked.getValue().getClassName();
+                    String variableName = VariableNameAllocator.of(getCursor()).allocate("mocked" + className.replace(".", ""), getCursor());
+                    sharedMocks.put(mocked.getKey(), variableName);
+                    fields.append(String.format("private static MockedStatic<%s> %s;\n", className, variableName));
+                    create.append(String.format("%s = mockStatic(%s.class);\n", variableName, className));
+                    reset.append(variableName).append(".reset();\n");
+                    close.append(variableName).append(".close();\n");
+                }
+                J.ClassDeclaration cd = javaTemplateMockStatic(fields.toString(), ctx)
+                        .apply(getCursor(), classDecl.getBody().getCoordinates().firstStatement());
+                cd = addToLifecycleMethod(cd, "BeforeAll", "static void", "setUpStaticMocks", create.toString(), ctx);
+                cd = addToLifecycleMethod(cd, "AfterEach", "void", "resetStaticMocks", reset.toString(), ctx);
+                cd = addToLifecycleMethod(cd, "AfterAll", "static void", "closeStaticMocks", close.toString(), ctx);
+
+                // Stubbings in the tests refer to the shared fields, so these need to be part of the template context
+                updateCursor(cd);
+                cd = super.visitClassDeclaration(cd, ctx);
+                sharedMocks.clear();
+                return cd;
+            }
+
+            /**
+             * Adds the statements to the existing JUnit 5 lifecycle method with the given annotation,
+             * or adds such a method at the end of the class.
+             */
+            private J.ClassDeclaration addToLifecycleMethod(J.ClassDeclaration cd, String annotation, String modifiers,
+                                                            String methodName, String code, ExecutionContext ctx) {
+                String annotationFqn = "org.junit.jupiter.api." + annotation;
+                AnnotationMatcher annotationMatcher = new AnnotationMatcher("@" + annotationFqn);
+                Optional<J.Block> existing = cd.getBody().getStatements().stream()
+                        .filter(it -> isMethodDeclarationWithAnnotation(it, annotationMatcher))
+                        .map(it -> ((J.MethodDeclaration) it).getBody())
+                        .filter(Objects::nonNull)
+                        .findFirst();
+                JavaTemplate.Builder template;
+                JavaCoordinates coordinates;
+                if (existing.isPresent()) {
+                    template = JavaTemplate.builder(code);
+                    // The mocks are created before any other setup, and closed after any other teardown
+                    coordinates = annotation.startsWith("Before") ?
+                            existing.get().getCoordinates().firstStatement() :
+                            existing.get().getCoordinates().lastStatement();
+                } else {
+                    String safeMethodName = getSafeAfterMethodName(methodName, cd.getBody().getStatements());
+                    template = JavaTemplate.builder(String.format("@%s\n%s %s() {\n%s}", annotation, modifiers, safeMethodName, code));
+                    coordinates = cd.getBody().getCoordinates().lastStatement();
+                    maybeAddImport(annotationFqn);
+                }
+                return template
+                        .contextSensitive()
+                        .imports(annotationFqn, "org.mockito.MockedStatic")
+                        .staticImports("org.mockito.Mockito.mockStatic")
+                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-api-5", "mockito-core-5"))
+                        .build()
+                        .apply(updateCursor(cd), coordinates);
+            }
 
             @Override
             public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
                 J.MethodDeclaration containingMethod = getCursor().firstEnclosing(J.MethodDeclaration.class);
-                List<Statement> newStatements = isMethodDeclarationWithAnnotation(containingMethod, BEFORE) ?
+                List<Statement> newStatements = isMethodDeclarationWithAnnotation(containingMethod, Matchers.BEFORE) ?
                         maybeStatementsToMockedStatic(block, block.getStatements(), ctx) :
                         maybeWrapStatementsInTryWithResourcesMockedStatic(block, block.getStatements(), ctx, new HashMap<>());
 
                 J.Block b = super.visitBlock(block.withStatements(newStatements), ctx);
-                return maybeAutoFormat(block, b, ctx);
+                return ChangedSubtreeFormatter.maybeFormat(block, b, ctx, getCursor().getParentOrThrow());
             }
 
             private List<Statement> maybeStatementsToMockedStatic(J.Block m, List<Statement> statements, ExecutionContext ctx) {
@@ -100,7 +178,10 @@ public class MockitoWhenOnStaticToMockStatic extends Recipe {
                     J.MethodInvocation whenArg = getWhenArg(statement);
                     if (whenArg != null) {
                         JavaType.@Nullable Class invokedType = getTypeFromInvocation(whenArg);
-                        if (invokedType != null) {
+                        String shared = invokedType == null ? null : sharedMocks.get(invokedType.getFullyQualifiedName());
+                        if (shared != null) {
+                            list.add(reuseMockedStatic(m, (J.MethodInvocation) statement, shared, whenArg, ctx));
+                        } else if (invokedType != null) {
                             list.addAll(mockedStatic(m, (J.MethodInvocation) statement, invokedType.getClassName(), whenArg, ctx));
                         }
                     } else {
@@ -123,7 +204,8 @@ public class MockitoWhenOnStaticToMockStatic extends Recipe {
                     if (whenArg != null) {
                         JavaType.@Nullable Class invokedType = getTypeFromInvocation(whenArg);
                         if (invokedType != null) {
-                            String pending = pendingResources.get(invokedType.getFullyQualifiedName());
+                            String pending = pendingResources.getOrDefault(invokedType.getFullyQualifiedName(),
+                                    sharedMocks.get(invokedType.getFullyQualifiedName()));
                             if (pending != null) {
                                 return reuseMockedStatic(block, (J.MethodInvocation) statement, pending, whenArg, ctx);
                             }
@@ -149,7 +231,7 @@ public class MockitoWhenOnStaticToMockStatic extends Recipe {
                                               J.MethodInvocation statement, JavaType.Class invokedType, J.MethodInvocation whenArg, ExecutionContext ctx,
                                               Map<String, String> pendingResources) {
                 String className = invokedType.getClassName();
-                String variableName = generateVariableName("mock" + className + ++varCounter, updateCursor(block), INCREMENT_NUMBER);
+                String variableName = mockVariableName(className, updateCursor(block));
                 Expression thenReturnArg = statement.getArguments().get(0);
 
                 J.Try try_ = (J.Try) javaTemplateMockStatic(String.format(
@@ -175,9 +257,17 @@ public class MockitoWhenOnStaticToMockStatic extends Recipe {
                         .withPrefix(statement.getPrefix());
             }
 
+            /**
+             * Mocks are numbered across the source file, e.g. {@code mockA1} and {@code mockB2}.
+             */
+            private String mockVariableName(String className, Cursor cursor) {
+                VariableNameAllocator names = VariableNameAllocator.of(cursor);
+                return names.allocate("mock" + className + names.nextInSequence("mock"), cursor);
+            }
+
             private Object nameForReuse(J.Block block, String className, J.VariableDeclarations.NamedVariable variable) {
                 if ("_".equals(variable.getSimpleName())) {
-                    String newName = generateVariableName("mock" + className + ++varCounter, updateCursor(block), INCREMENT_NUMBER);
+                    String newName = mockVariableName(className, updateCursor(block));
                     doAfterVisit(new RenameVariable<>(variable, newName));
                     return newName;
                 }
@@ -195,10 +285,10 @@ public class MockitoWhenOnStaticToMockStatic extends Recipe {
 
             private List<Statement> mockedStatic(J.Block block, J.MethodInvocation statement, String className, J.MethodInvocation whenArg, ExecutionContext ctx) {
                 J.MethodDeclaration containingMethod = getCursor().firstEnclosing(J.MethodDeclaration.class);
-                boolean staticSetup = isMethodDeclarationWithAnnotation(containingMethod, BEFORE_CLASS, BEFORE_ALL, BEFORE_PARAM_CLASS_INV);
-                String variableName = generateVariableName("mock" + className + ++varCounter, updateCursor(block), INCREMENT_NUMBER);
+                boolean staticSetup = isMethodDeclarationWithAnnotation(containingMethod, Matchers.BEFORE_CLASS, Matchers.BEFORE_ALL, Matchers.BEFORE_PARAM_CLASS_INV);
+                String variableName = mockVariableName(className, updateCursor(block));
                 // We know it will have a matching `@Before*` annotation based on callers
-                String matchedAnnotation = requireNonNull(tryGetMatchedAnnotationOnMethodDeclaration(containingMethod, BEFORE));
+                String matchedAnnotation = requireNonNull(tryGetMatchedAnnotationOnMethodDeclaration(containingMethod, Matchers.BEFORE));
                 String correspondingAfterFqn = matchedAnnotation.replace(".Before", ".After");
                 Expression thenReturnArg = statement.getArguments().get(0);
 
@@ -222,13 +312,13 @@ public class MockitoWhenOnStaticToMockStatic extends Recipe {
                         if (classDecl.getBody().getStatements().stream().noneMatch(it -> isMethodDeclarationWithAnnotation(it, new AnnotationMatcher(correspondingAfterFqn)))) {
                             String safeAfterMethodName = getSafeAfterMethodName(DEFAULT_AFTER_METHOD, afterStatements);
                             Optional<Statement> beforeMethodJunit4 = afterStatements.stream()
-                                    .filter(it -> isMethodDeclarationWithAllAnnotations(it, JUNIT_4_ANNOTATION, specificBeforeMatcher))
+                                    .filter(it -> isMethodDeclarationWithAllAnnotations(it, Matchers.JUNIT_4_ANNOTATION, specificBeforeMatcher))
                                     .findFirst();
                             Optional<Statement> beforeMethodJunit5 = afterStatements.stream()
-                                    .filter(it -> isMethodDeclarationWithAllAnnotations(it, JUNIT_5_ANNOTATION, specificBeforeMatcher))
+                                    .filter(it -> isMethodDeclarationWithAllAnnotations(it, Matchers.JUNIT_5_ANNOTATION, specificBeforeMatcher))
                                     .findFirst();
                             Optional<Statement> beforeMethodTestng = afterStatements.stream()
-                                    .filter(it -> isMethodDeclarationWithAllAnnotations(it, TESTNG_ANNOTATION, specificBeforeMatcher))
+                                    .filter(it -> isMethodDeclarationWithAllAnnotations(it, Matchers.TESTNG_ANNOTATION, specificBeforeMatcher))
                                     .findFirst();
                             String afterAnnotationName = correspondingAfterFqn.substring(correspondingAfterFqn.lastIndexOf('.') + 1);
                             String template = String.format("@%1$s public%2$s void %3$s() {}", afterAnnotationName, staticSetup ? " static" : "", safeAfterMethodName);
@@ -322,7 +412,7 @@ public class MockitoWhenOnStaticToMockStatic extends Recipe {
     }
 
     private static J.@Nullable MethodInvocation getWhenArg(Statement statement) {
-        if (statement instanceof J.MethodInvocation && MOCKITO_WHEN.matches(((J.MethodInvocation) statement).getSelect())) {
+        if (statement instanceof J.MethodInvocation && Matchers.MOCKITO_WHEN.matches(((J.MethodInvocation) statement).getSelect())) {
             J.MethodInvocation when = (J.MethodInvocation) ((J.MethodInvocation) statement).getSelect();
             if (when != null && when.getArguments().get(0) instanceof J.MethodInvocation) {
                 J.MethodInvocation whenArg = (J.MethodInvocation) when.getArguments().get(0);
@@ -334,6 +424,85 @@ public class MockitoWhenOnStaticToMockStatic extends Recipe {
         return null;
     }
 
+    /**
+     * The classes whose static methods are stubbed by the tests of a class and can share one {@code MockedStatic}
+     * per test class, keyed by fully qualified name. Classes that are already mocked statically somewhere in the
+     * class, or that are stubbed in a static setup method, keep their current handling.
+     * <p>
+     * The shared mock answers unstubbed calls with default values from the start of each test, so every call to a
+     * static method of the class has to follow a stubbing of that method, either earlier in the same method or in a
+     * {@code @Before*} method.
+     */
+    private static Map<String, JavaType.Class> findSharableStaticMocks(J.ClassDeclaration classDecl) {
+        Map<String, JavaType.Class> stubbed = new LinkedHashMap<>();
+        Set<String> excluded = new HashSet<>();
+        Set<String> setUpStubbings = new HashSet<>();
+        Map<String, Set<String>> callsBeforeStubbing = new HashMap<>();
+        new JavaIsoVisitor<Set<String>>() {
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Set<String> stubbings) {
+                return super.visitMethodDeclaration(method, new HashSet<>());
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Set<String> stubbings) {
+                J.MethodInvocation whenArg = getWhenArg(method);
+                JavaType.@Nullable Class invokedType = whenArg == null ? null : getTypeFromInvocation(whenArg);
+                if (invokedType != null) {
+                    J.MethodDeclaration containingMethod = getCursor().firstEnclosing(J.MethodDeclaration.class);
+                    String stubbing = signature(whenArg.getMethodType());
+                    if (stubbing == null ||
+                            isMethodDeclarationWithAnnotation(containingMethod, Matchers.BEFORE_CLASS, Matchers.BEFORE_ALL, Matchers.BEFORE_PARAM_CLASS_INV)) {
+                        excluded.add(invokedType.getFullyQualifiedName());
+                    } else {
+                        stubbed.putIfAbsent(invokedType.getFullyQualifiedName(), invokedType);
+                        stubbings.add(stubbing);
+                        if (isMethodDeclarationWithAnnotation(containingMethod, Matchers.BEFORE)) {
+                            setUpStubbings.add(stubbing);
+                        }
+                    }
+                } else if (Matchers.MOCKITO_MOCK_STATIC.matches(method)) {
+                    addMockedStaticType(method.getType(), excluded);
+                } else if (method.getMethodType() != null && method.getMethodType().hasFlags(Static)) {
+                    String call = requireNonNull(signature(method.getMethodType()));
+                    if (!stubbings.contains(call)) {
+                        callsBeforeStubbing.computeIfAbsent(method.getMethodType().getDeclaringType().getFullyQualifiedName(),
+                                k -> new HashSet<>()).add(call);
+                    }
+                }
+                return super.visitMethodInvocation(method, stubbings);
+            }
+
+            @Override
+            public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Set<String> stubbings) {
+                addMockedStaticType(variable.getType(), excluded);
+                return super.visitVariable(variable, stubbings);
+            }
+        }.visit(classDecl, new HashSet<>());
+        callsBeforeStubbing.forEach((type, calls) -> {
+            if (!setUpStubbings.containsAll(calls)) {
+                excluded.add(type);
+            }
+        });
+        stubbed.keySet().removeAll(excluded);
+        return stubbed;
+    }
+
+    private static @Nullable String signature(JavaType.@Nullable Method method) {
+        return method == null ? null :
+                method.getDeclaringType().getFullyQualifiedName() + "#" + method.getName() + method.getParameterTypes();
+    }
+
+    private static void addMockedStaticType(@Nullable JavaType type, Set<String> mockedTypes) {
+        JavaType.Parameterized parameterized = TypeUtils.asParameterized(type);
+        if (parameterized != null && Matchers.MOCKED_STATIC.matches(parameterized) && parameterized.getTypeParameters().size() == 1) {
+            JavaType.FullyQualified mockedType = TypeUtils.asFullyQualified(parameterized.getTypeParameters().get(0));
+            if (mockedType != null) {
+                mockedTypes.add(mockedType.getFullyQualifiedName());
+            }
+        }
+    }
+
     private static JavaType.@Nullable Class getTypeFromInvocation(J.MethodInvocation whenArg) {
         J.Identifier clazz = null;
         // Having a fieldType implies that something is a field rather than a class itself
@@ -415,7 +584,7 @@ public class MockitoWhenOnStaticToMockStatic extends Recipe {
     }
 
     private static boolean isMockedStaticOfType(JavaType mockedType, @Nullable JavaType comparisonType) {
-        if (comparisonType != null && MOCKED_STATIC.matches(comparisonType) && comparisonType instanceof JavaType.Parameterized) {
+        if (comparisonType != null && Matchers.MOCKED_STATIC.matches(comparisonType) && comparisonType instanceof JavaType.Parameterized) {
             JavaType.Parameterized parameterizedType = requireNonNull(TypeUtils.asParameterized(comparisonType));
             return parameterizedType.getTypeParameters().size() == 1 && TypeUtils.isAssignableTo(mockedType, parameterizedType.getTypeParameters().get(0));
         }
@@ -506,4 +675,23 @@ public class MockitoWhenOnStaticToMockStatic extends Recipe {
             }
         }.reduce(compilationUnit, new AtomicReference<>()).get();
     }
+
+    /**
+     * Lazily initialized holder of the annotation, method and type matchers, as listing the recipe should not compile
+     * their patterns.
+     */
+    private static class Matchers {
+        static final AnnotationMatcher JUNIT_4_ANNOTATION = new AnnotationMatcher("org.junit.*");
+        static final AnnotationMatcher JUNIT_5_ANNOTATION = new AnnotationMatcher("org.junit.jupiter.api.*");
+        static final AnnotationMatcher TESTNG_ANNOTATION = new AnnotationMatcher("org.testng.annotations.*");
+
+        static final AnnotationMatcher BEFORE = new AnnotationMatcher("org..Before*");
+        static final AnnotationMatcher BEFORE_CLASS = new AnnotationMatcher("org..BeforeClass");
+        static final AnnotationMatcher BEFORE_ALL = new AnnotationMatcher("org..BeforeAll");
+        static final AnnotationMatcher BEFORE_PARAM_CLASS_INV = new AnnotationMatcher("org..BeforeParameterizedClassInvocation");
+
+        static final MethodMatcher MOCKITO_WHEN = new MethodMatcher("org.mockito.Mockito when(..)");
+        static final MethodMatcher MOCKITO_MOCK_STATIC = new MethodMatcher("org.mockito.Mockito mockStatic(..)");
+        static final TypeMatcher MOCKED_STATIC = new TypeMatcher("org.mockito.MockedStatic");
+    }
 }
@@ -35,14 +35,6 @@ import static org.openrewrite.java.VariableNameUtils.generateVariableName;
 
 public class PowerMockitoWhenNewToMockito extends Recipe {
 
-    private static final MethodMatcher PM_WHEN_NEW = new MethodMatcher("org.powermock.api.mockito.PowerMockito whenNew(..)");
-    private static final MethodMatcher WITH_NO_ARGUMENTS = new MethodMatcher("*..* withNoArguments()");
-    private static final MethodMatcher WITH_ARGUMENTS = new MethodMatcher("*..* withArguments(..)");
-    private static final MethodMatcher WITH_ANY_ARGUMENTS = new MethodMatcher("*..* withAnyArguments()");
-    private static final MethodMatcher THEN_RETURN = new MethodMatcher("org.mockito.stubbing.OngoingStubbing thenReturn(..)");
-    private static final MethodMatcher MOCKITO_MOCK = new MethodMatcher("org.mockito.Mockito mock(..)");
-    private static final MethodMatcher PM_MOCK = new MethodMatcher("org.powermock.api.mockito.PowerMockito mock(..)");
-
     @Getter
     final String displayName = "Replace `PowerMockito.whenNew` with Mockito counterpart";
 
@@ -62,15 +54,15 @@ public class PowerMockitoWhenNewToMockito extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(PM_WHEN_NEW), new JavaVisitor<ExecutionContext>() {
+        return Preconditions.check(new UsesMethod<>(Matchers.PM_WHEN_NEW), new JavaVisitor<ExecutionContext>() {
             @Override
             public @Nullable J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
-                if (THEN_RETURN.matches(method) && method.getSelect() instanceof J.MethodInvocation) {
+                if (Matchers.THEN_RETURN.matches(method) && method.getSelect() instanceof J.MethodInvocation) {
                     J.MethodInvocation select1 = (J.MethodInvocation) method.getSelect();
-                    boolean withArgumentsMethodMatch = WITH_ANY_ARGUMENTS.matches(select1) || WITH_ARGUMENTS.matches(select1) || WITH_NO_ARGUMENTS.matches(select1);
+                    boolean withArgumentsMethodMatch = Matchers.WITH_ANY_ARGUMENTS.matches(select1) || Matchers.WITH_ARGUMENTS.matches(select1) || Matchers.WITH_NO_ARGUMENTS.matches(select1);
                     if (withArgumentsMethodMatch && select1.getSelect() instanceof J.MethodInvocation) {
                         J.MethodInvocation select2 = (J.MethodInvocation) select1.getSelect();
-                        if (PM_WHEN_NEW.matches(select2) && select2.getArguments().size() == 1) {
+                        if (Matchers.PM_WHEN_NEW.matches(select2) && select2.getArguments().size() == 1) {
                             maybeRemoveImport("org.powermock.api.mockito.PowerMockito");
 
                             Cursor containingMethod = getCursor().dropParentUntil(x -> x instanceof J.MethodDeclaration);
@@ -130,7 +122,7 @@ public class PowerMockitoWhenNewToMockito extends Recipe {
                         List<J.VariableDeclarations.NamedVariable> variables = ListUtils.filter(ret.getVariables(), varr -> {
                             // The original code likely contains PowerMockito.mock(), but that gets converted to Mockito.mock() by other subrecipes of
                             // org.openrewrite.java.testing.mockito.ReplacePowerMockito, so we need to check both.
-                            if (varr.getInitializer() instanceof J.MethodInvocation && (MOCKITO_MOCK.matches(varr.getInitializer()) || PM_MOCK.matches(varr.getInitializer()))) {
+                            if (varr.getInitializer() instanceof J.MethodInvocation && (Matchers.MOCKITO_MOCK.matches(varr.getInitializer()) || Matchers.PM_MOCK.matches(varr.getInitializer()))) {
                                 J.MethodInvocation initializer = (J.MethodInvocation) varr.getInitializer();
                                 if (initializer.getArguments().size() == 1 && initializer.getArguments().get(0) instanceof J.FieldAccess) {
                                     J.FieldAccess classReference = (J.FieldAccess) initializer.getArguments().get(0);
@@ -147,4 +139,17 @@ public class PowerMockitoWhenNewToMockito extends Recipe {
             }
         });
     }
+
+    /**
+     * Lazy holder for the PowerMockito and Mockito method matchers.
+     */
+    private static class Matchers {
+        static final MethodMatcher PM_WHEN_NEW = new MethodMatcher("org.powermock.api.mockito.PowerMockito whenNew(..)");
+        static final MethodMatcher WITH_NO_ARGUMENTS = new MethodMatcher("*..* withNoArguments()");
+        static final MethodMatcher WITH_ARGUMENTS = new MethodMatcher("*..* withArguments(..)");
+        static final MethodMatcher WITH_ANY_ARGUMENTS = new MethodMatcher("*..* withAnyArguments()");
+        static final MethodMatcher THEN_RETURN = new MethodMatcher("org.mockito.stubbing.OngoingStubbing thenReturn(..)");
+        static final MethodMatcher MOCKITO_MOCK = new MethodMatcher("org.mockito.Mockito mock(..)");
+        static final MethodMatcher PM_MOCK = new MethodMatcher("org.powermock.api.mockito.PowerMockito mock(..)");
+    }
 }
@@ -45,17 +45,12 @@ public class RemoveDoNothingForDefaultMocks extends Recipe {
             "Mockito mocks already do nothing for void methods by default, making these stubbings redundant " +
             "and triggering strict stubbing violations in Mockito 3+.";
 
-    private static final MethodMatcher DO_NOTHING_MATCHER = new MethodMatcher("org.mockito.Mockito doNothing()");
-    private static final MethodMatcher STUBBER_WHEN_MATCHER = new MethodMatcher("org.mockito.stubbing.Stubber when(..)");
-    private static final MethodMatcher CAPTURE_MATCHER = new MethodMatcher("org.mockito.ArgumentCaptor capture()");
-    private static final MethodMatcher SPY_MATCHER = new MethodMatcher("org.mockito.Mockito spy(..)");
-    private static final AnnotationMatcher MOCK_ANNOTATION_MATCHER = new AnnotationMatcher("@org.mockito.Mock");
     private static final String CALLS_REAL_METHODS = "CALLS_REAL_METHODS";
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
-                new UsesMethod<>(DO_NOTHING_MATCHER),
+                new UsesMethod<>(Matchers.DO_NOTHING_MATCHER),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
@@ -84,7 +79,7 @@ public class RemoveDoNothingForDefaultMocks extends Recipe {
                      * void methods, so `doNothing()` on it changes behavior just like it does for a spy.
                      */
                     private boolean isDefaultAnswerMock(J.Annotation annotation) {
-                        if (!MOCK_ANNOTATION_MATCHER.matches(annotation)) {
+                        if (!Matchers.MOCK_ANNOTATION_MATCHER.matches(annotation)) {
                             return false;
                         }
                         List<Expression> arguments = annotation.getArguments();
@@ -116,7 +111,7 @@ public class RemoveDoNothingForDefaultMocks extends Recipe {
                         return new JavaIsoVisitor<Set<JavaType.Variable>>() {
                             @Override
                             public J.Assignment visitAssignment(J.Assignment assignment, Set<JavaType.Variable> acc) {
-                                if (SPY_MATCHER.matches(assignment.getAssignment())) {
+                                if (Matchers.SPY_MATCHER.matches(assignment.getAssignment())) {
                                     JavaType.Variable target = variableType(assignment.getVariable());
                                     if (target != null) {
                                         acc.add(target);
@@ -127,7 +122,7 @@ public class RemoveDoNothingForDefaultMocks extends Recipe {
 
                             @Override
                             public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Set<JavaType.Variable> acc) {
-                                if (SPY_MATCHER.matches(variable.getInitializer()) && variable.getVariableType() != null) {
+                                if (Matchers.SPY_MATCHER.matches(variable.getInitializer()) && variable.getVariableType() != null) {
                                     acc.add(variable.getVariableType());
                                 }
                                 return super.visitVariable(variable, acc);
@@ -170,7 +165,7 @@ public class RemoveDoNothingForDefaultMocks extends Recipe {
                             return false;
                         }
                         J.MethodInvocation whenCall = (J.MethodInvocation) mi.getSelect();
-                        if (!STUBBER_WHEN_MATCHER.matches(whenCall)) {
+                        if (!Matchers.STUBBER_WHEN_MATCHER.matches(whenCall)) {
                             return false;
                         }
                         // Ensure doNothing() is standalone (not chained after doThrow() etc.)
@@ -178,7 +173,7 @@ public class RemoveDoNothingForDefaultMocks extends Recipe {
                             return false;
                         }
                         J.MethodInvocation doNothingCall = (J.MethodInvocation) whenCall.getSelect();
-                        if (!DO_NOTHING_MATCHER.matches(doNothingCall) || doNothingCall.getSelect() != null) {
+                        if (!Matchers.DO_NOTHING_MATCHER.matches(doNothingCall) || doNothingCall.getSelect() != null) {
                             return false;
                         }
                         // Check that the when() argument references a @Mock field
@@ -200,7 +195,7 @@ public class RemoveDoNothingForDefaultMocks extends Recipe {
                         JavaIsoVisitor<AtomicBoolean> visitor = new JavaIsoVisitor<AtomicBoolean>() {
                             @Override
                             public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean acc) {
-                                if (CAPTURE_MATCHER.matches(method)) {
+                                if (Matchers.CAPTURE_MATCHER.matches(method)) {
                                     acc.set(true);
                                     return method;
                                 }
@@ -218,4 +213,15 @@ public class RemoveDoNothingForDefaultMocks extends Recipe {
                 }
         );
     }
+
+    /**
+     * Lazy holder for the Mockito matchers.
+     */
+    private static class Matchers {
+        static final MethodMatcher DO_NOTHING_MATCHER = new MethodMatcher("org.mockito.Mockito doNothing()");
+        static final MethodMatcher STUBBER_WHEN_MATCHER = new MethodMatcher("org.mockito.stubbing.Stubber when(..)");
+        static final MethodMatcher CAPTURE_MATCHER = new MethodMatcher("org.mockito.ArgumentCaptor capture()");
+        static final MethodMatcher SPY_MATCHER = new MethodMatcher("org.mockito.Mockito spy(..)");
+        static final AnnotationMatcher MOCK_ANNOTATION_MATCHER = new AnnotationMatcher("@org.mockito.Mock");
+    }
 }
@@ -51,29 +51,13 @@ public class RemoveInitMocksIfRunnersSpecified extends Recipe {
 
     private static final String MOCKITO_EXTENSION = "org.mockito.junit.jupiter.MockitoExtension";
     private static final String MOCKITO_JUNIT_RUNNER = "org.mockito.junit.MockitoJUnitRunner";
-    private static final AnnotationMatcher MOCKITO_EXTENSION_MATCHER = new AnnotationMatcher("@org.junit.jupiter.api.extension.ExtendWith(" + MOCKITO_EXTENSION + ".class)");
-    private static final AnnotationMatcher MOCKITO_JUNIT_MATCHER = new AnnotationMatcher("@org.junit.runner.RunWith(" + MOCKITO_JUNIT_RUNNER + ".class)");
-    private static final MethodMatcher INIT_MOCKS_MATCHER = new MethodMatcher("org.mockito.MockitoAnnotations initMocks(..)", false);
-    private static final MethodMatcher OPEN_MOCKS_MATCHER = new MethodMatcher("org.mockito.MockitoAnnotations openMocks(..)", false);
-    private static final MethodMatcher CLOSEABLE_MATCHER = new MethodMatcher("java.lang.AutoCloseable close()", false);
-    private static final List<AnnotationMatcher> BEFORE_AND_AFTER_MATCHERS = Arrays.asList(
-            new AnnotationMatcher("@org.junit.jupiter.api.BeforeAll"),
-            new AnnotationMatcher("@org.junit.jupiter.api.BeforeEach"),
-            new AnnotationMatcher("@org.junit.BeforeClass"),
-            new AnnotationMatcher("@org.junit.Before"),
-            new AnnotationMatcher("@org.junit.jupiter.api.AfterAll"),
-            new AnnotationMatcher("@org.junit.jupiter.api.AfterEach"),
-            new AnnotationMatcher("@org.junit.AfterClass"),
-            new AnnotationMatcher("@org.junit.After")
-    );
-
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 Preconditions.and(
                         Preconditions.or(
-                                new UsesMethod<>(INIT_MOCKS_MATCHER),
-                                new UsesMethod<>(OPEN_MOCKS_MATCHER)
+                                new UsesMethod<>(Matchers.INIT_MOCKS_MATCHER),
+                                new UsesMethod<>(Matchers.OPEN_MOCKS_MATCHER)
                         ),
                         Preconditions.or(
                                 new UsesType<>(MOCKITO_EXTENSION, false),
@@ -101,8 +85,8 @@ public class RemoveInitMocksIfRunnersSpecified extends Recipe {
 
                             @Override
                             public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
-                                if (service(AnnotationService.class).matches(getCursor(), MOCKITO_EXTENSION_MATCHER) ||
-                                        service(AnnotationService.class).matches(getCursor(), MOCKITO_JUNIT_MATCHER) ||
+                                if (service(AnnotationService.class).matches(getCursor(), Matchers.MOCKITO_EXTENSION_MATCHER) ||
+                                        service(AnnotationService.class).matches(getCursor(), Matchers.MOCKITO_JUNIT_MATCHER) ||
                                         getCursor().getParentTreeCursor().firstEnclosing(J.ClassDeclaration.class) != null) {
                                     return super.visitClassDeclaration(classDecl, ctx);
                                 }
@@ -123,10 +107,10 @@ public class RemoveInitMocksIfRunnersSpecified extends Recipe {
                             @Override
                             public  J.@Nullable MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                                 J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
-                                if (OPEN_MOCKS_MATCHER.matches(mi) || INIT_MOCKS_MATCHER.matches(mi)) {
+                                if (Matchers.OPEN_MOCKS_MATCHER.matches(mi) || Matchers.INIT_MOCKS_MATCHER.matches(mi)) {
                                     return null;
                                 }
-                                if (CLOSEABLE_MATCHER.matches(mi) && mi.getSelect() != null && closeables.stream().anyMatch(it -> SemanticallyEqual.areEqual(it, mi.getSelect()))) {
+                                if (Matchers.CLOSEABLE_MATCHER.matches(mi) && mi.getSelect() != null && closeables.stream().anyMatch(it -> SemanticallyEqual.areEqual(it, mi.getSelect()))) {
                                     return null;
                                 }
                                 return mi;
@@ -161,7 +145,7 @@ public class RemoveInitMocksIfRunnersSpecified extends Recipe {
                                 J.MethodDeclaration md = super.visitMethodDeclaration(method, ctx);
                                 if (md != method && md.getBody() != null && md.getBody().getStatements().isEmpty()) {
                                     // Only remove empty Before and After methods
-                                    if (BEFORE_AND_AFTER_MATCHERS.stream().anyMatch(matcher ->
+                                    if (Matchers.BEFORE_AND_AFTER_MATCHERS.stream().anyMatch(matcher ->
                                             service(AnnotationService.class).matches(getCursor(), matcher))) {
                                         return null;
                                     }
@@ -185,13 +169,34 @@ public class RemoveInitMocksIfRunnersSpecified extends Recipe {
                     }
 
                     private boolean isMockitoOpenMocksCall(Expression expr) {
-                        return expr instanceof J.MethodInvocation && OPEN_MOCKS_MATCHER.matches((J.MethodInvocation)expr);
+                        return expr instanceof J.MethodInvocation && Matchers.OPEN_MOCKS_MATCHER.matches((J.MethodInvocation)expr);
                     }
 
                     private boolean isMockitoInitMocksCall(Expression expr) {
-                        return expr instanceof J.MethodInvocation && INIT_MOCKS_MATCHER.matches((J.MethodInvocation)expr);
+                        return expr instanceof J.MethodInvocation && Matchers.INIT_MOCKS_MATCHER.matches((J.MethodInvocation)expr);
                     }
                 }
         );
     }
+
+    /**
+     * Initialized when the visitor is first requested, so that merely loading the recipe compiles no matchers.
+     */
+    private static class Matchers {
+        static final AnnotationMatcher MOCKITO_EXTENSION_MATCHER = new AnnotationMatcher("@org.junit.jupiter.api.extension.ExtendWith(" + MOCKITO_EXTENSION + ".class)");
+        static final AnnotationMatcher MOCKITO_JUNIT_MATCHER = new AnnotationMatcher("@org.junit.runner.RunWith(" + MOCKITO_JUNIT_RUNNER + ".class)");
+        static final MethodMatcher INIT_MOCKS_MATCHER = new MethodMatcher("org.mockito.MockitoAnnotations initMocks(..)", false);
+        static final MethodMatcher OPEN_MOCKS_MATCHER = new MethodMatcher("org.mockito.MockitoAnnotations openMocks(..)", false);
+        static final MethodMatcher CLOSEABLE_MATCHER = new MethodMatcher("java.lang.AutoCloseable close()", false);
+        static final List<AnnotationMatcher> BEFORE_AND_AFTER_MATCHERS = Arrays.asList(
+                new AnnotationMatcher("@org.junit.jupiter.api.BeforeAll"),
+                new AnnotationMatcher("@org.junit.jupiter.api.BeforeEach"),
+                new AnnotationMatcher("@org.junit.BeforeClass"),
+                new AnnotationMatcher("@org.junit.Before"),
+                new AnnotationMatcher("@org.junit.jupiter.api.AfterAll"),
+                new AnnotationMatcher("@org.junit.jupiter.api.AfterEach"),
+                new AnnotationMatcher("@org.junit.AfterClass"),
+                new AnnotationMatcher("@org.junit.After")
+        );
+    }
 }
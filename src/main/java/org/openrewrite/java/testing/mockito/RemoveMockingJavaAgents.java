@@ -0,0 +1,372 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.mockito;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.groovy.tree.G;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.java.testing.table.RemovedJavaAgents;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.xml.RemoveContentVisitor;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Removes the {@code -javaagent} of JMockit and PowerMock from the test JVM arguments of Maven and Gradle builds once
+ * no source in the module uses the framework anymore, together with the {@code -noverify} and {@code -Xverify:none}
+ * flags that only existed to let these agents rewrite bytecode.
+ * <p>
+ * Build files of modules without any Java sources, such as parent POMs or a root Gradle build configuring its
+ * subprojects, are only changed when no module in the repository uses the framework anymore.
+ * <p>
+ * Within {@code JMockitToMockito} and {@code ReplacePowerMockito} the sources are scanned before they are migrated,
+ * so the agent is only removed by a later cycle or run which no longer sees the old framework in use.
+ */
+public class RemoveMockingJavaAgents extends ScanningRecipe<RemoveMockingJavaAgents.Accumulator> {
+
+    /**
+     * The mocking frameworks which require a Java agent, keyed by the name reported in the data table.
+     * An agent argument belongs to a framework when it mentions the lowercase name, as the agent jar does.
+     */
+    private static final Map<String, String> AGENT_PACKAGES = new LinkedHashMap<>();
+
+    static {
+        AGENT_PACKAGES.put("JMockit", "mockit.");
+        AGENT_PACKAGES.put("PowerMock", "org.powermock.");
+    }
+
+    private static final List<String> VERIFY_FLAGS = Arrays.asList("-noverify", "-Xverify:none");
+
+    @Getter
+    final String displayName = "Remove JMockit and PowerMock Java agents from the test JVM";
+
+    @Getter
+    final String description = "Remove the `-javaagent` of JMockit and PowerMock from Maven `argLine` configuration " +
+            "and Gradle `jvmArgs` once no source in the module uses these frameworks anymore. " +
+            "The obsolete `-noverify` and `-Xverify:none` flags are removed along with the agents, " +
+            "which lets the JVM use class data sharing and verify bytecode again.";
+
+    transient RemovedJavaAgents removedJavaAgents = new RemovedJavaAgents(this);
+
+    static class Accumulator {
+        Map<JavaProject, Set<String>> frameworksInUse = new HashMap<>();
+        Set<String> frameworksInUseAnywhere = new HashSet<>();
+
+        Set<String> frameworksInUse(@Nullable JavaProject project) {
+            Set<String> inUse = frameworksInUse.get(project);
+            return inUse == null ? frameworksInUseAnywhere : inUse;
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree preVisit(Tree tree, ExecutionContext ctx) {
+                stopAfterPreVisit();
+                if (tree instanceof JavaSourceFile && !isGradleBuildScript((SourceFile) tree)) {
+                    JavaProject project = tree.getMarkers().findFirst(JavaProject.class).orElse(null);
+                    Set<String> inUse = acc.frameworksInUse.computeIfAbsent(project, p -> new HashSet<>());
+                    for (JavaType type : ((JavaSourceFile) tree).getTypesInUse().getTypesInUse()) {
+                        if (type instanceof JavaType.FullyQualified) {
+                            String fqn = ((JavaType.FullyQualified) type).getFullyQualifiedName();
+                            for (Map.Entry<String, String> agent : AGENT_PACKAGES.entrySet()) {
+                                if (fqn.startsWith(agent.getValue())) {
+                                    inUse.add(agent.getKey());
+                                    acc.frameworksInUseAnywhere.add(agent.getKey());
+                                }
+                            }
+                        }
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree preVisit(Tree tree, ExecutionContext ctx) {
+                stopAfterPreVisit();
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                SourceFile sourceFile = (SourceFile) tree;
+                boolean maven = sourceFile instanceof Xml.Document &&
+                        sourceFile.getMarkers().findFirst(MavenResolutionResult.class).isPresent();
+                if (!maven && !isGradleBuildScript(sourceFile)) {
+                    return tree;
+                }
+
+                JavaProject project = tree.getMarkers().findFirst(JavaProject.class).orElse(null);
+                Set<String> inUse = acc.frameworksInUse(project);
+                Set<String> removed = new LinkedHashSet<>();
+                Tree t = stripArguments(maven, arg -> {
+                    for (String agent : AGENT_PACKAGES.keySet()) {
+                        if (!inUse.contains(agent) && arg.contains("-javaagent") &&
+                                arg.toLowerCase(Locale.ROOT).contains(agent.toLowerCase(Locale.ROOT))) {
+                            return agent;
+                        }
+                    }
+                    return null;
+                }, removed).visitNonNull(tree, ctx);
+                if (removed.isEmpty()) {
+                    return tree;
+                }
+                t = stripArguments(maven, arg -> {
+                    String unquoted = arg.replaceAll("^['\"]|['\"]$", "");
+                    return VERIFY_FLAGS.contains(unquoted) ? unquoted : null;
+                }, removed).visitNonNull(t, ctx);
+
+                String projectName = project == null ? "" : project.getProjectName();
+                for (String argument : removed) {
+                    removedJavaAgents.insertRow(ctx, new RemovedJavaAgents.Row(
+                            projectName, sourceFile.getSourcePath().toString(), argument));
+                }
+                return t;
+            }
+        };
+    }
+
+    private static boolean isGradleBuildScript(SourceFile sourceFile) {
+        String fileName = String.valueOf(sourceFile.getSourcePath().getFileName());
+        return fileName.endsWith(".gradle") || fileName.endsWith(".gradle.kts");
+    }
+
+    private static TreeVisitor<?, ExecutionContext> stripArguments(boolean maven,
+                                                                   Function<String, @Nullable String> obsolete,
+                                                                   Set<String> removed) {
+        return maven ? new StripArgLine(obsolete, removed) : new StripJvmArgs(obsolete, removed);
+    }
+
+    /**
+     * Removes obsolete arguments from {@code <argLine>} values, both in the Surefire and Failsafe plugin configuration
+     * and in an {@code argLine} property. Only the removed arguments are cut out, so the remaining value keeps its
+     * formatting. A tag which ends up empty is removed.
+     */
+    private static class StripArgLine extends XmlIsoVisitor<ExecutionContext> {
+        private static final Pattern ARGUMENT = Pattern.compile("\\S+");
+
+        private final Function<String, @Nullable String> obsolete;
+        private final Set<String> removed;
+
+        StripArgLine(Function<String, @Nullable String> obsolete, Set<String> removed) {
+            this.obsolete = obsolete;
+            this.removed = removed;
+        }
+
+        @Override
+        public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+            Xml.Tag t = super.visitTag(tag, ctx);
+            if (!"argLine".equals(t.getName()) || !t.getValue().isPresent()) {
+                return t;
+            }
+            StringBuilder argLine = new StringBuilder(t.getValue().get());
+            List<int[]> obsoleteRanges = new ArrayList<>();
+            Matcher argument = ARGUMENT.matcher(argLine);
+            while (argument.find()) {
+                String label = obsolete.apply(argument.group());
+                if (label != null) {
+                    removed.add(label);
+                    obsoleteRanges.add(new int[]{argument.start(), argument.end()});
+                }
+            }
+            if (obsoleteRanges.isEmpty()) {
+                return t;
+            }
+            // remove each argument with the whitespace separating it from the next one, working backwards
+            // so that the offsets of the arguments before it stay valid
+            for (int i = obsoleteRanges.size() - 1; i >= 0; i--) {
+                int start = obsoleteRanges.get(i)[0];
+                int end = obsoleteRanges.get(i)[1];
+                while (end < argLine.length() && Character.isWhitespace(argLine.charAt(end))) {
+                    end++;
+                }
+                if (end == argLine.length()) {
+                    while (start > 0 && Character.isWhitespace(argLine.charAt(start - 1))) {
+                        start--;
+                    }
+                }
+                argLine.delete(start, end);
+            }
+            if (argLine.toString().trim().isEmpty()) {
+                doAfterVisit(new RemoveContentVisitor<>(t, true));
+                return t;
+            }
+            return t.withValue(argLine.toString());
+        }
+    }
+
+    /**
+     * Removes obsolete arguments from the {@code jvmArgs} of Groovy and Kotlin build scripts, whether they are passed
+     * to {@code jvmArgs(..)}, {@code jvmArgs.add(..)} or {@code jvmArgs.addAll(..)}, or assigned with {@code jvmArgs = ..}
+     * or {@code jvmArgs += ..}. A call or {@code +=} which ends up without arguments is removed, while an assignment
+     * keeps an empty list so that it still replaces the arguments configured before.
+     */
+    private static class StripJvmArgs extends JavaIsoVisitor<ExecutionContext> {
+        private static final String EMPTIED_JVM_ARGS = "emptied-jvm-args";
+        private static final List<String> LIST_FACTORIES = Arrays.asList("listOf", "mutableListOf", "asList");
+
+        private final Function<String, @Nullable String> obsolete;
+        private final Set<String> removed;
+
+        StripJvmArgs(Function<String, @Nullable String> obsolete, Set<String> removed) {
+            this.obsolete = obsolete;
+            this.removed = removed;
+        }
+
+        @Override
+        public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+            J.Block b = super.visitBlock(block, ctx);
+            Set<UUID> emptied = getCursor().pollMessage(EMPTIED_JVM_ARGS);
+            if (emptied == null) {
+                return b;
+            }
+            return b.withStatements(ListUtils.map(b.getStatements(), statement -> {
+                // the last statement of a Groovy closure is an implicit return
+                Tree s = statement instanceof J.Return && ((J.Return) statement).getExpression() != null ?
+                        ((J.Return) statement).getExpression() : statement;
+                return emptied.contains(s.getId()) ? null : statement;
+            }));
+        }
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+            boolean jvmArgsCall = "jvmArgs".equals(mi.getSimpleName()) ||
+                    isJvmArgs(mi.getSelect()) && ("add".equals(mi.getSimpleName()) || "addAll".equals(mi.getSimpleName()));
+            if (!jvmArgsCall || mi.getArguments().get(0) instanceof J.Empty) {
+                return mi;
+            }
+            List<String> labels = new ArrayList<>();
+            List<Expression> kept = strip(mi.getArguments(), labels);
+            if (labels.isEmpty() || kept.isEmpty() && !removeStatement(mi)) {
+                return mi;
+            }
+            removed.addAll(labels);
+            return kept.isEmpty() ? mi : mi.withArguments(withFirstPrefix(kept, mi.getArguments()));
+        }
+
+        @Override
+        public J.Assignment visitAssignment(J.Assignment assignment, ExecutionContext ctx) {
+            J.Assignment a = super.visitAssignment(assignment, ctx);
+            List<Expression> elements = listElements(a.getAssignment());
+            if (!isJvmArgs(a.getVariable()) || elements == null) {
+                return a;
+            }
+            List<String> labels = new ArrayList<>();
+            List<Expression> kept = strip(elements, labels);
+            if (labels.isEmpty()) {
+                return a;
+            }
+            removed.addAll(labels);
+            return a.withAssignment(withListElements(a.getAssignment(), kept.isEmpty() ?
+                    singletonList(new J.Empty(Tree.randomId(), Space.EMPTY, Markers.EMPTY)) :
+                    withFirstPrefix(kept, elements)));
+        }
+
+        @Override
+        public J.AssignmentOperation visitAssignmentOperation(J.AssignmentOperation assignOp, ExecutionContext ctx) {
+            J.AssignmentOperation a = super.visitAssignmentOperation(assignOp, ctx);
+            if (!isJvmArgs(a.getVariable()) || a.getOperator() != J.AssignmentOperation.Type.Addition) {
+                return a;
+            }
+            List<String> labels = new ArrayList<>();
+            List<Expression> kept = strip(singletonList(a.getAssignment()), labels);
+            if (labels.isEmpty() || kept.isEmpty() && !removeStatement(a)) {
+                return a;
+            }
+            removed.addAll(labels);
+            return kept.isEmpty() ? a : a.withAssignment(kept.get(0));
+        }
+
+        /**
+         * Drops the obsolete arguments, descending into list literals and {@code listOf(..)} calls. A list which ends
+         * up empty is dropped as well.
+         */
+        private List<Expression> strip(List<Expression> arguments, List<String> labels) {
+            return ListUtils.map(arguments, argument -> {
+                List<Expression> elements = listElements(argument);
+                if (elements != null) {
+                    List<Expression> kept = strip(elements, labels);
+                    return kept.isEmpty() ? null :
+                            kept == elements ? argument : withListElements(argument, withFirstPrefix(kept, elements));
+                }
+                String label = obsolete.apply(argument.printTrimmed(getCursor()));
+                if (label == null) {
+                    return argument;
+                }
+                labels.add(label);
+                return null;
+            });
+        }
+
+        private boolean removeStatement(Statement statement) {
+            Cursor blockCursor = getCursor().dropParentUntil(p -> p instanceof J.Block || p instanceof SourceFile);
+            if (!(blockCursor.getValue() instanceof J.Block)) {
+                return false;
+            }
+            blockCursor.<Set<UUID>>computeMessageIfAbsent(EMPTIED_JVM_ARGS, k -> new HashSet<>()).add(statement.getId());
+            return true;
+        }
+
+        private static boolean isJvmArgs(@Nullable Expression expression) {
+            return expression instanceof J.Identifier && "jvmArgs".equals(((J.Identifier) expression).getSimpleName()) ||
+                    expression instanceof J.FieldAccess && "jvmArgs".equals(((J.FieldAccess) expression).getSimpleName());
+        }
+
+        private static @Nullable List<Expression> listElements(Expression expression) {
+            if (expression instanceof G.ListLiteral) {
+                return ((G.ListLiteral) expression).getElements();
+            }
+            if (expression instanceof J.MethodInvocation &&
+                    LIST_FACTORIES.contains(((J.MethodInvocation) expression).getSimpleName())) {
+                return ((J.MethodInvocation) expression).getArguments();
+            }
+            return null;
+        }
+
+        private static Expression withListElements(Expression list, List<Expression> elements) {
+            return list instanceof G.ListLiteral ?
+                    ((G.ListLiteral) list).withElements(elements) :
+                    ((J.MethodInvocation) list).withArguments(elements);
+        }
+
+        private static List<Expression> withFirstPrefix(List<Expression> kept, List<Expression> original) {
+            return ListUtils.mapFirst(kept, first -> first.withPrefix(original.get(0).getPrefix()));
+        }
+    }
+}
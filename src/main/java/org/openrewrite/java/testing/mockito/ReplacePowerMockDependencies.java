@@ -20,11 +20,9 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.ScanningRecipe;
 import org.openrewrite.Tree;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.dependencies.ChangeDependency;
 import org.openrewrite.java.marker.JavaProject;
 import org.openrewrite.java.tree.JavaSourceFile;
-import org.openrewrite.java.tree.JavaType;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -36,7 +34,7 @@ public class ReplacePowerMockDependencies extends ScanningRecipe<ReplacePowerMoc
 
     @Getter
     final String description = "Replaces PowerMock API dependencies with `mockito-inline` when `mockStatic()`, " +
-            "`whenNew()`, or `@PrepareForTest` usage is detected, or `mockito-core` otherwise. PowerMock features " +
+            "`whenNew()`, `@PrepareForTest` or mocking of final classes is detected, or `mockito-core` otherwise. PowerMock features " +
             "like static mocking, constructor mocking, and final class mocking require the inline mock maker " +
             "which is bundled in `mockito-inline` for Mockito 3.x/4.x.";
 
@@ -49,34 +47,17 @@ public class ReplacePowerMockDependencies extends ScanningRecipe<ReplacePowerMoc
         return new Accumulator();
     }
 
-    private static final String PREPARE_FOR_TEST = "org.powermock.core.classloader.annotations.PrepareForTest";
-
     @Override
     public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
-        MethodMatcher mockStaticMatcher = new MethodMatcher("org.powermock.api.mockito.PowerMockito mockStatic(..)");
-        MethodMatcher whenNewMatcher = new MethodMatcher("org.powermock.api.mockito.PowerMockito whenNew(..)");
         return new TreeVisitor<Tree, ExecutionContext>() {
             @Override
             public Tree preVisit(Tree tree, ExecutionContext ctx) {
                 stopAfterPreVisit();
                 if (tree instanceof JavaSourceFile) {
                     JavaProject project = tree.getMarkers().findFirst(JavaProject.class).orElse(null);
-                    if (Boolean.TRUE.equals(acc.needsInlineMocking.get(project))) {
-                        return tree;
-                    }
-                    JavaSourceFile sourceFile = (JavaSourceFile) tree;
-                    for (JavaType.Method type : sourceFile.getTypesInUse().getUsedMethods()) {
-                        if (mockStaticMatcher.matches(type) || whenNewMatcher.matches(type)) {
-                            acc.needsInlineMocking.put(project, true);
-                            return tree;
-                        }
-                    }
-                    for (JavaType type : sourceFile.getTypesInUse().getTypesInUse()) {
-                        if (type instanceof JavaType.FullyQualified &&
-                                PREPARE_FOR_TEST.equals(((JavaType.FullyQualified) type).getFullyQualifiedName())) {
-                            acc.needsInlineMocking.put(project, true);
-                            return tree;
-                        }
+                    if (!Boolean.TRUE.equals(acc.needsInlineMocking.get(project)) &&
+                            InlineMockMakerUsage.isRequiredBy((JavaSourceFile) tree)) {
+                        acc.needsInlineMocking.put(project, true);
                     }
                 }
                 return tree;
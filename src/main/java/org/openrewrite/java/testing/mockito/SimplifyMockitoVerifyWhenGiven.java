@@ -36,18 +36,6 @@ import static java.util.Collections.singleton;
 
 public class SimplifyMockitoVerifyWhenGiven extends Recipe {
 
-    private static final MethodMatcher WHEN_MATCHER = new MethodMatcher("org.mockito.Mockito when(..)");
-    private static final MethodMatcher GIVEN_MATCHER = new MethodMatcher("org.mockito.BDDMockito given(..)");
-    private static final MethodMatcher VERIFY_MATCHER = new MethodMatcher("org.mockito.Mockito verify(..)");
-    private static final MethodMatcher STUBBER_MATCHER = new MethodMatcher("org.mockito.stubbing.Stubber when(..)");
-    private static final MethodMatcher INORDER_VERIFY_MATCHER = new MethodMatcher("org.mockito.InOrder verify(..)");
-    private static final MethodMatcher BDD_SHOULD_MATCHER = new MethodMatcher("org.mockito.BDDMockito$Then should(..)");
-    private static final MethodMatcher BDD_STUBBER_GIVEN_MATCHER = new MethodMatcher("org.mockito.BDDMockito$BDDStubber given(..)");
-    private static final MethodMatcher MOCKED_STATIC_WHEN_MATCHER = new MethodMatcher("org.mockito.MockedStatic when(..)");
-    private static final MethodMatcher MOCKED_STATIC_VERIFY_MATCHER = new MethodMatcher("org.mockito.MockedStatic verify(..)");
-    private static final MethodMatcher EQ_MATCHER = new MethodMatcher("org.mockito.ArgumentMatchers eq(..)");
-    private static final MethodMatcher MOCKITO_EQ_MATCHER = new MethodMatcher("org.mockito.Mockito eq(..)");
-
     @Getter
     final String displayName = "Call to Mockito method \"verify\", \"when\" or \"given\" should be simplified";
 
@@ -59,23 +47,23 @@ public class SimplifyMockitoVerifyWhenGiven extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(Preconditions.or(new UsesMethod<>(EQ_MATCHER), new UsesMethod<>(MOCKITO_EQ_MATCHER)),
+        return Preconditions.check(Preconditions.or(new UsesMethod<>(Matchers.EQ_MATCHER), new UsesMethod<>(Matchers.MOCKITO_EQ_MATCHER)),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.MethodInvocation visitMethodInvocation(J.MethodInvocation methodInvocation, ExecutionContext ctx) {
                         J.MethodInvocation mi = super.visitMethodInvocation(methodInvocation, ctx);
 
-                        if ((WHEN_MATCHER.matches(mi) || GIVEN_MATCHER.matches(mi)) && mi.getArguments().get(0) instanceof J.MethodInvocation) {
+                        if ((Matchers.WHEN_MATCHER.matches(mi) || Matchers.GIVEN_MATCHER.matches(mi)) && mi.getArguments().get(0) instanceof J.MethodInvocation) {
                             List<Expression> updatedArguments = new ArrayList<>(mi.getArguments());
                             updatedArguments.set(0, checkAndUpdateEq((J.MethodInvocation) mi.getArguments().get(0)));
                             mi = mi.withArguments(updatedArguments);
-                        } else if (VERIFY_MATCHER.matches(mi.getSelect()) ||
-                                   STUBBER_MATCHER.matches(mi.getSelect()) ||
-                                   INORDER_VERIFY_MATCHER.matches(mi.getSelect()) ||
-                                   BDD_SHOULD_MATCHER.matches(mi.getSelect()) ||
-                                   BDD_STUBBER_GIVEN_MATCHER.matches(mi.getSelect())) {
+                        } else if (Matchers.VERIFY_MATCHER.matches(mi.getSelect()) ||
+                                   Matchers.STUBBER_MATCHER.matches(mi.getSelect()) ||
+                                   Matchers.INORDER_VERIFY_MATCHER.matches(mi.getSelect()) ||
+                                   Matchers.BDD_SHOULD_MATCHER.matches(mi.getSelect()) ||
+                                   Matchers.BDD_STUBBER_GIVEN_MATCHER.matches(mi.getSelect())) {
                             mi = checkAndUpdateEq(mi);
-                        } else if (MOCKED_STATIC_WHEN_MATCHER.matches(mi) || MOCKED_STATIC_VERIFY_MATCHER.matches(mi)) {
+                        } else if (Matchers.MOCKED_STATIC_WHEN_MATCHER.matches(mi) || Matchers.MOCKED_STATIC_VERIFY_MATCHER.matches(mi)) {
                             Expression firstArg = mi.getArguments().get(0);
                             if (firstArg instanceof J.Lambda) {
                                 J.Lambda lambda = (J.Lambda) firstArg;
@@ -96,8 +84,8 @@ public class SimplifyMockitoVerifyWhenGiven extends Recipe {
                     }
 
                     private J.MethodInvocation checkAndUpdateEq(J.MethodInvocation methodInvocation) {
-                        if (methodInvocation.getArguments().stream().allMatch(arg -> EQ_MATCHER.matches(arg) ||
-                                                                                     MOCKITO_EQ_MATCHER.matches(arg))) {
+                        if (methodInvocation.getArguments().stream().allMatch(arg -> Matchers.EQ_MATCHER.matches(arg) ||
+                                                                                     Matchers.MOCKITO_EQ_MATCHER.matches(arg))) {
                             return methodInvocation.withArguments(ListUtils.map(methodInvocation.getArguments(), invocation ->
                                     ((MethodCall) invocation).getArguments().get(0).withPrefix(invocation.getPrefix())));
                         }
@@ -106,4 +94,20 @@ public class SimplifyMockitoVerifyWhenGiven extends Recipe {
                 });
     }
 
+    /**
+     * Lazy holder for the Mockito method matchers.
+     */
+    private static class Matchers {
+        static final MethodMatcher WHEN_MATCHER = new MethodMatcher("org.mockito.Mockito when(..)");
+        static final MethodMatcher GIVEN_MATCHER = new MethodMatcher("org.mockito.BDDMockito given(..)");
+        static final MethodMatcher VERIFY_MATCHER = new MethodMatcher("org.mockito.Mockito verify(..)");
+        static final MethodMatcher STUBBER_MATCHER = new MethodMatcher("org.mockito.stubbing.Stubber when(..)");
+        static final MethodMatcher INORDER_VERIFY_MATCHER = new MethodMatcher("org.mockito.InOrder verify(..)");
+        static final MethodMatcher BDD_SHOULD_MATCHER = new MethodMatcher("org.mockito.BDDMockito$Then should(..)");
+        static final MethodMatcher BDD_STUBBER_GIVEN_MATCHER = new MethodMatcher("org.mockito.BDDMockito$BDDStubber given(..)");
+        static final MethodMatcher MOCKED_STATIC_WHEN_MATCHER = new MethodMatcher("org.mockito.MockedStatic when(..)");
+        static final MethodMatcher MOCKED_STATIC_VERIFY_MATCHER = new MethodMatcher("org.mockito.MockedStatic verify(..)");
+        static final MethodMatcher EQ_MATCHER = new MethodMatcher("org.mockito.ArgumentMatchers eq(..)");
+        static final MethodMatcher MOCKITO_EQ_MATCHER = new MethodMatcher("org.mockito.Mockito eq(..)");
+    }
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.mockito;
+
+import lombok.Getter;
+import org.openrewrite.*;
+import org.openrewrite.gradle.marker.GradleDependencyConfiguration;
+import org.openrewrite.gradle.marker.GradleProject;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.maven.tree.ResolvedDependency;
+import org.openrewrite.maven.tree.Scope;
+import org.openrewrite.semver.LatestRelease;
+import org.openrewrite.text.PlainText;
+import org.openrewrite.text.PlainTextParser;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Configures the subclass mock maker for test source sets which use Mockito without mocking static methods,
+ * constructions or final classes, so Mockito 5 does not attach its agent and retransform every mocked class.
+ * <p>
+ * Projects which already configure a mock maker through {@code mockito-extensions} are left alone, whichever mock
+ * maker they choose, and so are projects depending on {@code mockito-inline}, which configures the inline mock maker
+ * itself. The {@code mock-maker-subclass} alias requires Mockito 4.8, so the resolved {@code mockito-core} version
+ * of the Maven or Gradle project must be known to be at least that.
+ */
+public class UseSubclassMockMaker extends ScanningRecipe<UseSubclassMockMaker.Accumulator> {
+    private static final String MOCK_MAKER_RESOURCE = "mockito-extensions/org.mockito.plugins.MockMaker";
+    private static final List<String> TEST_SOURCES = Arrays.asList("src/test/java/", "src/test/kotlin/");
+    private static final String TEST_RESOURCES = "src/test/resources/";
+    private static final String MOCKITO_GROUP = "org.mockito";
+    private static final String SUBCLASS_ALIAS_VERSION = "4.8.0";
+
+    @Getter
+    final String displayName = "Use the subclass mock maker when inline mocking is not needed";
+
+    @Getter
+    final String description = "Configure `mock-maker-subclass` through `mockito-extensions/org.mockito.plugins.MockMaker` " +
+            "in the test resources of projects whose tests use Mockito, but neither mock static methods or constructions " +
+            "nor mock final classes or methods, through Mockito or PowerMock. " +
+            "Subclass mocking avoids the Java agent and the bytecode retransformation of the inline mock maker, " +
+            "which is the default since Mockito 5. Projects using PowerMock or `mockito-inline`, projects which already configure a mock maker, " +
+            "and projects resolving a `mockito-core` older than 4.8 are left unchanged.";
+
+    public static class Accumulator {
+        final Map<JavaProject, String> testResources = new HashMap<>();
+        final Set<JavaProject> usesMockito = new HashSet<>();
+        final Set<JavaProject> supportsSubclassAlias = new HashSet<>();
+        final Set<JavaProject> needsInlineMocking = new HashSet<>();
+        final Set<Path> mockMakerConfigurations = new HashSet<>();
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree preVisit(Tree tree, ExecutionContext ctx) {
+                stopAfterPreVisit();
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                String sourcePath = ((SourceFile) tree).getSourcePath().toString().replace('\\', '/');
+                if (sourcePath.endsWith(MOCK_MAKER_RESOURCE)) {
+                    acc.mockMakerConfigurations.add(((SourceFile) tree).getSourcePath());
+                }
+                JavaProject project = tree.getMarkers().findFirst(JavaProject.class).orElse(null);
+                if (project != null) {
+                    scanDependencies(tree, project, acc);
+                }
+                if (!(tree instanceof JavaSourceFile) || project == null || acc.needsInlineMocking.contains(project)) {
+                    return tree;
+                }
+                JavaSourceFile sourceFile = (JavaSourceFile) tree;
+                for (String testSources : TEST_SOURCES) {
+                    int index = sourcePath.indexOf(testSources);
+                    if (index >= 0) {
+                        acc.testResources.putIfAbsent(project, sourcePath.substring(0, index) + TEST_RESOURCES);
+                    }
+                }
+                for (JavaType type : sourceFile.getTypesInUse().getTypesInUse()) {
+                    if (type instanceof JavaType.FullyQualified) {
+                        String fqn = ((JavaType.FullyQualified) type).getFullyQualifiedName();
+                        if (fqn.startsWith("org.mockito.")) {
+                            acc.usesMockito.add(project);
+                        } else if (fqn.startsWith("org.powermock.")) {
+                            // PowerMock brings its own mock maker
+                            acc.needsInlineMocking.add(project);
+                            return tree;
+                        }
+                    }
+                }
+                if (InlineMockMakerUsage.isRequiredBy(sourceFile)) {
+                    acc.needsInlineMocking.add(project);
+                }
+                return tree;
+            }
+        };
+    }
+
+    /**
+     * Records the Mockito artifacts a Maven or Gradle build file resolves for the tests of its project.
+     */
+    private static void scanDependencies(Tree tree, JavaProject project, Accumulator acc) {
+        List<ResolvedDependency> mockitoCore = new ArrayList<>();
+        boolean mockitoInline = false;
+        MavenResolutionResult maven = tree.getMarkers().findFirst(MavenResolutionResult.class).orElse(null);
+        if (maven != null) {
+            mockitoCore.addAll(maven.findDependencies(MOCKITO_GROUP, "mockito-core", Scope.Test));
+            mockitoInline = !maven.findDependencies(MOCKITO_GROUP, "mockito-inline", Scope.Test).isEmpty();
+        }
+        GradleDependencyConfiguration testRuntimeClasspath = tree.getMarkers().findFirst(GradleProject.class)
+                .map(gradle -> gradle.getConfiguration("testRuntimeClasspath"))
+                .orElse(null);
+        if (testRuntimeClasspath != null) {
+            ResolvedDependency core = testRuntimeClasspath.findResolvedDependency(MOCKITO_GROUP, "mockito-core");
+            if (core != null) {
+                mockitoCore.add(core);
+            }
+            mockitoInline |= testRuntimeClasspath.findResolvedDependency(MOCKITO_GROUP, "mockito-inline") != null;
+        }
+
+        if (mockitoInline) {
+            acc.needsInlineMocking.add(project);
+        }
+        LatestRelease versionComparator = new LatestRelease(null);
+        for (ResolvedDependency dependency : mockitoCore) {
+            if (versionComparator.compare(null, dependency.getVersion(), SUBCLASS_ALIAS_VERSION) >= 0) {
+                acc.supportsSubclassAlias.add(project);
+            }
+        }
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        List<SourceFile> generated = new ArrayList<>();
+        for (JavaProject project : acc.usesMockito) {
+            String testResources = acc.testResources.get(project);
+            if (testResources == null || acc.needsInlineMocking.contains(project) ||
+                    !acc.supportsSubclassAlias.contains(project)) {
+                continue;
+            }
+            Path mockMaker = Paths.get(testResources + MOCK_MAKER_RESOURCE);
+            if (acc.mockMakerConfigurations.stream().anyMatch(existing -> existing.startsWith(Paths.get(testResources)))) {
+                continue;
+            }
+            PlainTextParser.builder().build()
+                    .parse(ctx, "mock-maker-subclass\n")
+                    .map(text -> ((PlainText) text).withSourcePath(mockMaker))
+                    .forEach(generated::add);
+        }
+        return generated;
+    }
+}
@@ -26,12 +26,14 @@ import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.cleanup.ChangedSubtreeFormatter;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 
 import java.util.*;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.openrewrite.Tree.randomId;
 import static org.openrewrite.java.VariableNameUtils.GenerationStrategy.INCREMENT_NUMBER;
 import static org.openrewrite.java.VariableNameUtils.generateVariableName;
@@ -134,7 +136,7 @@ abstract class WhiteboxToReflectionVisitor extends JavaIsoVisitor<ExecutionConte
             md = addThrowsExceptionIfAbsent(md);
             maybeRemoveImport(WHITEBOX_FQN);
             maybeAddImport(reflectiveImport, false);
-            return maybeAutoFormat(method, md, ctx);
+            return ChangedSubtreeFormatter.maybeFormat(method, md, ctx, getCursor().getParentOrThrow());
         }
         return md;
     }
@@ -340,8 +342,13 @@ abstract class WhiteboxToReflectionVisitor extends JavaIsoVisitor<ExecutionConte
             return md;
         }
         JavaType.Class exceptionType = JavaType.ShallowClass.build("java.lang.Exception");
-        return md.withThrows(ListUtils.concat(md.getThrows(),
-                new J.Identifier(randomId(), Space.SINGLE_SPACE, Markers.EMPTY, emptyList(),
-                        exceptionType.getClassName(), exceptionType, null)));
+        J.Identifier exception = new J.Identifier(randomId(), Space.SINGLE_SPACE, Markers.EMPTY, emptyList(),
+                exceptionType.getClassName(), exceptionType, null);
+        if (md.getThrows() == null || md.getThrows().isEmpty()) {
+            // Only the added subtrees are formatted afterwards, so the space before `throws` is set here
+            return md.getPadding().withThrows(JContainer.build(Space.SINGLE_SPACE,
+                    singletonList(JRightPadded.build(exception)), Markers.EMPTY));
+        }
+        return md.withThrows(ListUtils.concat(md.getThrows(), exception));
     }
 }
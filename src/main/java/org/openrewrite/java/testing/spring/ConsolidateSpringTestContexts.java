@@ -0,0 +1,553 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.spring;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.AnnotationMatcher;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.java.marker.JavaSourceSet;
+import org.openrewrite.java.testing.table.SpringTestContexts;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Spring caches an application context by the merged configuration of a test class: its context configuring
+ * annotations such as {@code @SpringBootTest}, {@code @ActiveProfiles}, {@code @TestPropertySource} and
+ * {@code @Import}, together with its bean overrides such as {@code @MockBean}. Every distinct combination within a
+ * module builds a new application context.
+ * <p>
+ * Test classes which share all context configuring annotations, but differ in the beans they mock, can share one
+ * context when the union of their bean overrides is declared on a common abstract base class.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class ConsolidateSpringTestContexts extends ScanningRecipe<ConsolidateSpringTestContexts.Accumulator> {
+    private static final String BASE_CLASS_NAME = "AbstractSpringContextTest";
+    private static final String AUTOCONFIGURE_PACKAGE = "org.springframework.boot.test.autoconfigure.";
+    private static final String DIRTIES_CONTEXT = "org.springframework.test.annotation.DirtiesContext";
+    private static final AnnotationMatcher DYNAMIC_PROPERTY_SOURCE_MATCHER =
+            new AnnotationMatcher("@org.springframework.test.context.DynamicPropertySource");
+    private static final Set<String> BOOTSTRAP_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "org.springframework.boot.test.context.SpringBootTest",
+            "org.springframework.test.context.ContextConfiguration",
+            "org.springframework.test.context.ContextHierarchy",
+            "org.springframework.test.context.junit.jupiter.SpringJUnitConfig",
+            "org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig"));
+    private static final Set<String> CONTEXT_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "org.springframework.test.context.ActiveProfiles",
+            "org.springframework.test.context.TestPropertySource",
+            "org.springframework.test.context.TestPropertySources",
+            "org.springframework.test.context.web.WebAppConfiguration",
+            "org.springframework.context.annotation.Import",
+            DIRTIES_CONTEXT));
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Option(displayName = "Hoist to base class",
+            description = "Declare the configuration of test classes which only differ in their bean overrides on a " +
+                    "shared abstract base class, together with the union of their bean overrides, so that they share " +
+                    "one application context. Mocking additional beans changes the context those test classes run " +
+                    "against, so this is off by default.",
+            required = false)
+    @Nullable
+    Boolean hoistToBaseClass;
+
+    transient SpringTestContexts springTestContexts = new SpringTestContexts(this);
+
+    String displayName = "Consolidate Spring test application contexts";
+
+    String description = "Compute the application context cache key of every Spring test class in a module, made up " +
+            "of annotations such as `@SpringBootTest`, `@ActiveProfiles`, `@TestPropertySource` and `@Import` and of " +
+            "bean overrides such as `@MockBean` and `@SpyBean`, and report the distinct application contexts with the " +
+            "number of test classes sharing them. Optionally, test classes in the same package which only differ in " +
+            "their bean overrides are moved onto a shared abstract base class declaring the union of those overrides, " +
+            "so that Spring builds one application context for them instead of one each.";
+
+    public static class Accumulator {
+        final Map<@Nullable JavaProject, Map<String, TestClass>> modules = new HashMap<>();
+        final Set<Path> existingPaths = new HashSet<>();
+        final Map<String, String> baseClasses = new HashMap<>();
+        final Map<String, TestClass> hoisted = new HashMap<>();
+    }
+
+    static class TestClass {
+        final String fullyQualifiedName;
+        final String packageName;
+        final Path sourcePath;
+        final @Nullable JavaSourceSet sourceSet;
+        final @Nullable String superclass;
+        final boolean isAbstract;
+
+        /**
+         * The normalized context configuring annotations, keyed by their type.
+         */
+        final Map<String, String> annotations = new LinkedHashMap<>();
+        final List<String> annotationSources = new ArrayList<>();
+        final Set<UUID> annotationIds = new HashSet<>();
+
+        /**
+         * The bean overrides, keyed by their normalized form.
+         */
+        final Map<String, BeanOverride> beanOverrides = new TreeMap<>();
+
+        /**
+         * The names and types of the fields which are not bean overrides, such as {@code @Autowired} beans.
+         */
+        final Set<String> otherFields = new HashSet<>();
+        final Map<String, String> imports = new LinkedHashMap<>();
+
+        boolean bootstrapped;
+        boolean hoistable;
+
+        TestClass(String fullyQualifiedName, String packageName, Path sourcePath, @Nullable JavaSourceSet sourceSet,
+                  @Nullable String superclass, boolean isAbstract) {
+            this.fullyQualifiedName = fullyQualifiedName;
+            this.packageName = packageName;
+            this.sourcePath = sourcePath;
+            this.sourceSet = sourceSet;
+            this.superclass = superclass;
+            this.isAbstract = isAbstract;
+            this.hoistable = superclass == null && !isAbstract;
+        }
+    }
+
+    @Value
+    static class BeanOverride {
+        String annotationType;
+        String type;
+        String name;
+        String source;
+        UUID fieldId;
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree preVisit(Tree tree, ExecutionContext ctx) {
+                stopAfterPreVisit();
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                acc.existingPaths.add(((SourceFile) tree).getSourcePath());
+                if (tree instanceof J.CompilationUnit) {
+                    JavaProject project = tree.getMarkers().findFirst(JavaProject.class).orElse(null);
+                    new FindContextConfiguration(acc.modules.computeIfAbsent(project, p -> new HashMap<>()))
+                            .visit(tree, ctx);
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        List<SourceFile> generated = new ArrayList<>();
+        for (Map.Entry<@Nullable JavaProject, Map<String, TestClass>> module : acc.modules.entrySet()) {
+            String projectName = module.getKey() == null ? "" : module.getKey().getProjectName();
+            Map<String, TestClass> classes = module.getValue();
+
+            Map<String, List<String>> contexts = new TreeMap<>();
+            for (TestClass testClass : classes.values()) {
+                if (!testClass.isAbstract && isBootstrapped(testClass, classes)) {
+                    contexts.computeIfAbsent(contextKey(testClass, classes), k -> new ArrayList<>())
+                            .add(testClass.fullyQualifiedName);
+                }
+            }
+            for (Map.Entry<String, List<String>> context : contexts.entrySet()) {
+                Collections.sort(context.getValue());
+                springTestContexts.insertRow(ctx, new SpringTestContexts.Row(projectName, context.getKey(),
+                        context.getValue().size(), context.getValue().get(0)));
+            }
+
+            if (Boolean.TRUE.equals(hoistToBaseClass)) {
+                hoist(acc, classes, module.getKey(), ctx, generated);
+            }
+        }
+        return generated;
+    }
+
+    /**
+     * Groups the test classes declaring the same context configuring annotations in the same package and source
+     * directory, and moves each group whose bean overrides differ, and can be merged, onto a new base class.
+     */
+    private void hoist(Accumulator acc, Map<String, TestClass> classes, @Nullable JavaProject project,
+                       ExecutionContext ctx, List<SourceFile> generated) {
+        Map<String, List<TestClass>> groups = new TreeMap<>();
+        for (TestClass testClass : classes.values()) {
+            if (testClass.hoistable && testClass.bootstrapped) {
+                groups.computeIfAbsent(testClass.sourcePath.getParent() + "\n" + configuration(testClass.annotations),
+                        k -> new ArrayList<>()).add(testClass);
+            }
+        }
+        for (List<TestClass> group : groups.values()) {
+            group.sort(Comparator.comparing(testClass -> testClass.fullyQualifiedName));
+            Map<String, BeanOverride> union = new TreeMap<>();
+            Set<Set<String>> distinctOverrides = new HashSet<>();
+            for (TestClass testClass : group) {
+                union.putAll(testClass.beanOverrides);
+                distinctOverrides.add(testClass.beanOverrides.keySet());
+            }
+            if (distinctOverrides.size() < 2 || !canMerge(group, union.values())) {
+                continue;
+            }
+
+            TestClass first = group.get(0);
+            String baseClassName = BASE_CLASS_NAME;
+            Path path = first.sourcePath.resolveSibling(baseClassName + ".java");
+            for (int i = 2; acc.existingPaths.contains(path); i++) {
+                baseClassName = BASE_CLASS_NAME + i;
+                path = first.sourcePath.resolveSibling(baseClassName + ".java");
+            }
+            acc.existingPaths.add(path);
+            String baseClass = first.packageName.isEmpty() ? baseClassName : first.packageName + "." + baseClassName;
+            for (TestClass testClass : group) {
+                acc.baseClasses.put(testClass.fullyQualifiedName, baseClass);
+                acc.hoisted.put(testClass.fullyQualifiedName, testClass);
+            }
+
+            StringBuilder body = new StringBuilder();
+            for (String annotation : first.annotationSources) {
+                body.append(annotation).append('\n');
+            }
+            body.append("abstract class ").append(baseClassName).append(" {\n");
+            for (BeanOverride beanOverride : union.values()) {
+                body.append('\n').append(beanOverride.getSource()).append('\n');
+            }
+            body.append("}\n");
+
+            StringBuilder source = new StringBuilder();
+            if (!first.packageName.isEmpty()) {
+                source.append("package ").append(first.packageName).append(";\n\n");
+            }
+            Set<String> imports = new LinkedHashSet<>();
+            for (TestClass testClass : group) {
+                for (Map.Entry<String, String> anImport : testClass.imports.entrySet()) {
+                    if ("*".equals(anImport.getValue()) ||
+                            Pattern.compile("\\b" + Pattern.quote(anImport.getValue()) + "\\b").matcher(body).find()) {
+                        imports.add(anImport.getKey());
+                    }
+                }
+            }
+            for (String anImport : imports) {
+                source.append(anImport).append('\n');
+            }
+            if (!imports.isEmpty()) {
+                source.append('\n');
+            }
+            source.append(body);
+
+            Path sourcePath = path;
+            JavaParser.fromJavaVersion().build()
+                    .parse(ctx, source.toString())
+                    .map(cu -> {
+                        Markers markers = cu.getMarkers();
+                        if (project != null) {
+                            markers = markers.addIfAbsent(project);
+                        }
+                        if (first.sourceSet != null) {
+                            markers = markers.addIfAbsent(first.sourceSet);
+                        }
+                        return (SourceFile) cu.withSourcePath(sourcePath).withMarkers(markers);
+                    })
+                    .forEach(generated::add);
+        }
+    }
+
+    /**
+     * Whether every test class of the group can receive the bean overrides of the other test classes, without a
+     * bean it injects itself being replaced by a mock, or a field name clash.
+     */
+    private static boolean canMerge(List<TestClass> group, Collection<BeanOverride> union) {
+        Map<String, String> namesByType = new HashMap<>();
+        Map<String, String> typesByName = new HashMap<>();
+        for (BeanOverride beanOverride : union) {
+            if (!beanOverride.getName().equals(namesByType.computeIfAbsent(beanOverride.getType(), t -> beanOverride.getName())) ||
+                    !beanOverride.getType().equals(typesByName.computeIfAbsent(beanOverride.getName(), n -> beanOverride.getType()))) {
+                return false;
+            }
+        }
+        for (TestClass testClass : group) {
+            for (BeanOverride beanOverride : union) {
+                if (testClass.otherFields.contains(beanOverride.getType()) ||
+                        testClass.otherFields.contains(beanOverride.getName())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return Preconditions.check(!acc.hoisted.isEmpty(), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+                TestClass testClass = cd.getType() == null ? null : acc.hoisted.get(cd.getType().getFullyQualifiedName());
+                if (testClass == null || cd.getExtends() != null) {
+                    return cd;
+                }
+
+                List<J.Annotation> annotations = ListUtils.map(cd.getLeadingAnnotations(),
+                        a -> testClass.annotationIds.contains(a.getId()) ? null : a);
+                if (annotations.isEmpty()) {
+                    cd = cd.withLeadingAnnotations(annotations);
+                    cd = cd.getModifiers().isEmpty() ?
+                            cd.getPadding().withKind(cd.getPadding().getKind().withPrefix(Space.EMPTY)) :
+                            cd.withModifiers(ListUtils.mapFirst(cd.getModifiers(), m -> m.withPrefix(Space.EMPTY)));
+                } else {
+                    cd = cd.withLeadingAnnotations(ListUtils.mapFirst(annotations, a -> a.withPrefix(Space.EMPTY)));
+                }
+
+                Set<UUID> fieldIds = new HashSet<>();
+                for (BeanOverride beanOverride : testClass.beanOverrides.values()) {
+                    fieldIds.add(beanOverride.getFieldId());
+                    maybeRemoveImport(beanOverride.getAnnotationType());
+                    maybeRemoveImport(beanOverride.getType());
+                }
+                List<Statement> statements = cd.getBody().getStatements();
+                List<Statement> kept = ListUtils.map(statements, s -> fieldIds.contains(s.getId()) ? null : s);
+                if (!statements.isEmpty() && !kept.isEmpty() && kept.get(0) != statements.get(0)) {
+                    kept = ListUtils.mapFirst(kept, s -> s.withPrefix(statements.get(0).getPrefix()));
+                }
+                cd = cd.withBody(cd.getBody().withStatements(kept));
+                for (String annotationType : testClass.annotations.keySet()) {
+                    maybeRemoveImport(annotationType);
+                }
+
+                String baseClass = acc.baseClasses.get(testClass.fullyQualifiedName);
+                J.Identifier extendsClause = new J.Identifier(Tree.randomId(), Space.SINGLE_SPACE, Markers.EMPTY,
+                        emptyList(), baseClass.substring(baseClass.lastIndexOf('.') + 1),
+                        JavaType.ShallowClass.build(baseClass), null);
+                return cd.getPadding().withExtends(new JLeftPadded<>(Space.SINGLE_SPACE, extendsClause, Markers.EMPTY));
+            }
+        });
+    }
+
+    private static boolean isBootstrapped(TestClass testClass, Map<String, TestClass> classes) {
+        for (TestClass c : hierarchy(testClass, classes)) {
+            if (c.bootstrapped) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The context cache key of a test class, merging the configuration inherited from its superclasses in the
+     * same module. Annotations of a subclass override those of the same type on a superclass.
+     */
+    private static String contextKey(TestClass testClass, Map<String, TestClass> classes) {
+        Map<String, String> annotations = new HashMap<>();
+        Set<String> beanOverrides = new TreeSet<>();
+        List<TestClass> hierarchy = hierarchy(testClass, classes);
+        Collections.reverse(hierarchy);
+        for (TestClass c : hierarchy) {
+            annotations.putAll(c.annotations);
+            beanOverrides.addAll(c.beanOverrides.keySet());
+        }
+        String configuration = configuration(annotations);
+        return beanOverrides.isEmpty() ? configuration : configuration + " " + String.join(" ", beanOverrides);
+    }
+
+    private static String configuration(Map<String, String> annotations) {
+        return String.join(" ", new TreeSet<>(annotations.values()));
+    }
+
+    private static List<TestClass> hierarchy(TestClass testClass, Map<String, TestClass> classes) {
+        List<TestClass> hierarchy = new ArrayList<>();
+        for (TestClass c = testClass; c != null && !hierarchy.contains(c);
+             c = c.superclass == null ? null : classes.get(c.superclass)) {
+            hierarchy.add(c);
+        }
+        return hierarchy;
+    }
+
+    private static class FindContextConfiguration extends JavaIsoVisitor<ExecutionContext> {
+        private final Map<String, TestClass> classes;
+
+        FindContextConfiguration(Map<String, TestClass> classes) {
+            this.classes = classes;
+        }
+
+        @Override
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+            // Nested test classes share the context of their enclosing class
+            if (classDecl.getType() == null || !(getCursor().getParentTreeCursor().getValue() instanceof J.CompilationUnit)) {
+                return classDecl;
+            }
+            J.CompilationUnit cu = getCursor().firstEnclosingOrThrow(J.CompilationUnit.class);
+            JavaType.FullyQualified superclass = classDecl.getExtends() == null ? null :
+                    TypeUtils.asFullyQualified(classDecl.getExtends().getType());
+            TestClass testClass = new TestClass(
+                    classDecl.getType().getFullyQualifiedName(),
+                    cu.getPackageDeclaration() == null ? "" : cu.getPackageDeclaration().getPackageName(),
+                    cu.getSourcePath(),
+                    cu.getMarkers().findFirst(JavaSourceSet.class).orElse(null),
+                    superclass == null ? null : superclass.getFullyQualifiedName(),
+                    classDecl.hasModifier(J.Modifier.Type.Abstract));
+            testClass.hoistable &= classDecl.getExtends() == null;
+
+            for (J.Annotation annotation : classDecl.getLeadingAnnotations()) {
+                JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+                if (type == null || !isContextConfiguring(type)) {
+                    continue;
+                }
+                testClass.bootstrapped |= isBootstrap(type);
+                testClass.hoistable &= !DIRTIES_CONTEXT.equals(type.getFullyQualifiedName());
+                testClass.annotations.put(type.getFullyQualifiedName(), normalize(annotation, type));
+                testClass.annotationSources.add(annotation.printTrimmed(getCursor()));
+                testClass.annotationIds.add(annotation.getId());
+            }
+
+            for (Statement statement : classDecl.getBody().getStatements()) {
+                if (statement instanceof J.VariableDeclarations) {
+                    addField(testClass, (J.VariableDeclarations) statement);
+                } else if (statement instanceof J.MethodDeclaration &&
+                        ((J.MethodDeclaration) statement).getLeadingAnnotations().stream().anyMatch(DYNAMIC_PROPERTY_SOURCE_MATCHER::matches)) {
+                    // Each class registering dynamic properties gets a context of its own
+                    testClass.annotations.put(testClass.fullyQualifiedName + "#" + ((J.MethodDeclaration) statement).getSimpleName(),
+                            "@DynamicPropertySource(" + testClass.fullyQualifiedName + "#" + ((J.MethodDeclaration) statement).getSimpleName() + ")");
+                    testClass.hoistable = false;
+                }
+            }
+
+            for (J.Import anImport : cu.getImports()) {
+                testClass.imports.put(anImport.printTrimmed(getCursor()), anImport.getQualid().getSimpleName());
+            }
+            classes.put(testClass.fullyQualifiedName, testClass);
+            return classDecl;
+        }
+
+        private void addField(TestClass testClass, J.VariableDeclarations field) {
+            J.Annotation override = null;
+            JavaType.FullyQualified overrideType = null;
+            for (J.Annotation annotation : field.getLeadingAnnotations()) {
+                JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+                if (type != null && SpringTestFields.BEAN_OVERRIDE_ANNOTATIONS.contains(type.getFullyQualifiedName())) {
+                    override = annotation;
+                    overrideType = type;
+                }
+            }
+            JavaType.FullyQualified fieldType = field.getTypeAsFullyQualified();
+            String typeName = fieldType != null ? fieldType.getFullyQualifiedName() :
+                    field.getTypeExpression() == null ? "" : field.getTypeExpression().printTrimmed(getCursor());
+            if (override == null || field.getTypeExpression() == null) {
+                testClass.otherFields.add(typeName);
+                for (J.VariableDeclarations.NamedVariable variable : field.getVariables()) {
+                    testClass.otherFields.add(variable.getSimpleName());
+                }
+                return;
+            }
+
+            // Only a lone, unqualified and unconfigured bean override can be moved to a base class as is
+            boolean plain = field.getVariables().size() == 1 && field.getLeadingAnnotations().size() == 1 &&
+                    (override.getArguments() == null || override.getArguments().stream().allMatch(J.Empty.class::isInstance));
+            testClass.hoistable &= plain;
+            String name = field.getVariables().get(0).getSimpleName();
+            List<String> arguments = arguments(override);
+            arguments.add(0, typeName);
+            String key = "@" + overrideType.getClassName() + "(" + String.join(", ", arguments) + ")";
+            testClass.beanOverrides.put(key, new BeanOverride(overrideType.getFullyQualifiedName(), typeName, name,
+                    "    " + override.printTrimmed(getCursor()) + "\n    " +
+                            field.getTypeExpression().printTrimmed(getCursor()) + " " + name + ";",
+                    field.getId()));
+        }
+
+        private String normalize(J.Annotation annotation, JavaType.FullyQualified type) {
+            List<String> arguments = arguments(annotation);
+            String simpleName = type.getClassName();
+            if (arguments.isEmpty()) {
+                return "@" + simpleName;
+            }
+            if (arguments.size() == 1 && arguments.get(0).startsWith("value = ")) {
+                return "@" + simpleName + "(" + arguments.get(0).substring("value = ".length()) + ")";
+            }
+            return "@" + simpleName + "(" + String.join(", ", arguments) + ")";
+        }
+
+        /**
+         * The arguments of an annotation as {@code name = value} pairs in a stable order, with whitespace collapsed
+         * and single element arrays unwrapped.
+         */
+        private List<String> arguments(J.Annotation annotation) {
+            List<String> arguments = new ArrayList<>();
+            if (annotation.getArguments() != null) {
+                for (Expression argument : annotation.getArguments()) {
+                    if (argument instanceof J.Empty) {
+                        continue;
+                    }
+                    String name = argument instanceof J.Assignment ?
+                            ((J.Assignment) argument).getVariable().printTrimmed(getCursor()) : "value";
+                    Expression value = argument instanceof J.Assignment ? ((J.Assignment) argument).getAssignment() : argument;
+                    if (value instanceof J.NewArray && ((J.NewArray) value).getInitializer() != null &&
+                            ((J.NewArray) value).getInitializer().size() == 1) {
+                        value = ((J.NewArray) value).getInitializer().get(0);
+                    }
+                    arguments.add(name + " = " + WHITESPACE.matcher(value.printTrimmed(getCursor())).replaceAll(" "));
+                }
+            }
+            Collections.sort(arguments);
+            return arguments;
+        }
+    }
+
+    private static boolean isBootstrap(JavaType.FullyQualified type) {
+        if (BOOTSTRAP_ANNOTATIONS.contains(type.getFullyQualifiedName()) ||
+                type.getFullyQualifiedName().startsWith(AUTOCONFIGURE_PACKAGE) && type.getClassName().endsWith("Test")) {
+            return true;
+        }
+        for (JavaType.FullyQualified metaAnnotation : type.getAnnotations()) {
+            if (BOOTSTRAP_ANNOTATIONS.contains(metaAnnotation.getFullyQualifiedName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether the annotation takes part in the context cache key, either directly or as a composed annotation.
+     */
+    private static boolean isContextConfiguring(JavaType.FullyQualified type) {
+        if (isBootstrap(type) || CONTEXT_ANNOTATIONS.contains(type.getFullyQualifiedName()) ||
+                type.getFullyQualifiedName().startsWith(AUTOCONFIGURE_PACKAGE)) {
+            return true;
+        }
+        for (JavaType.FullyQualified metaAnnotation : type.getAnnotations()) {
+            if (CONTEXT_ANNOTATIONS.contains(metaAnnotation.getFullyQualifiedName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.spring;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.*;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.stream.Collectors.joining;
+import static org.openrewrite.java.testing.spring.SpringTestFields.isOnClasspath;
+import static org.openrewrite.java.testing.spring.SpringTestFields.simpleName;
+
+/**
+ * Replaces {@code @SpringBootTest} with a test slice when the beans injected into the test class all belong to one
+ * layer of the application:
+ * <p>
+ * - {@code MockMvc} or {@code WebTestClient} with the controllers under test becomes {@code @WebMvcTest} or
+ * {@code @WebFluxTest}, provided every dependency of those controllers is a bean override of the test class
+ * - {@code TestEntityManager}, {@code EntityManager} and JPA repositories become {@code @DataJpaTest}
+ * - {@code JdbcTemplate} and {@code JdbcClient} become {@code @JdbcTest}
+ * - {@code ObjectMapper} and the JSON testers become {@code @JsonTest}
+ * <p>
+ * Beans injected into test method parameters count as well. As the JPA and JDBC slices replace the data source with
+ * an embedded database, {@code @AutoConfigureTestDatabase(replace = NONE)} is added when the test class configures
+ * its own data source, through {@code spring.datasource} properties, {@code @ServiceConnection}, Testcontainers
+ * {@code @Container} fields or {@code @DynamicPropertySource} methods.
+ * <p>
+ * Otherwise, a {@code RANDOM_PORT} or {@code DEFINED_PORT} web environment is downgraded to the default mock web
+ * environment when the test class does not use a real HTTP client or the local server port.
+ */
+public class NarrowSpringBootTest extends Recipe {
+    private static final String SPRING_BOOT_TEST = "org.springframework.boot.test.context.SpringBootTest";
+    private static final AnnotationMatcher SPRING_BOOT_TEST_MATCHER = new AnnotationMatcher("@" + SPRING_BOOT_TEST);
+    private static final String AUTOCONFIGURE = "org.springframework.boot.test.autoconfigure.";
+    private static final List<String> CONTROLLER_ANNOTATIONS = Arrays.asList(
+            "org.springframework.stereotype.Controller",
+            "org.springframework.web.bind.annotation.RestController");
+    private static final List<String> MOCK_MVC_TYPES = Collections.singletonList(
+            "org.springframework.test.web.servlet.MockMvc");
+    private static final List<String> WEB_TEST_CLIENT_TYPES = Collections.singletonList(
+            "org.springframework.test.web.reactive.server.WebTestClient");
+    private static final List<String> JPA_TYPES = Arrays.asList(
+            AUTOCONFIGURE + "orm.jpa.TestEntityManager",
+            "org.springframework.data.jpa.repository.JpaRepository",
+            "jakarta.persistence.EntityManager",
+            "javax.persistence.EntityManager");
+    private static final List<String> JDBC_TYPES = Arrays.asList(
+            "org.springframework.jdbc.core.JdbcOperations",
+            "org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations",
+            "org.springframework.jdbc.core.simple.JdbcClient",
+            "javax.sql.DataSource");
+    private static final List<String> JSON_TYPES = Arrays.asList(
+            "com.fasterxml.jackson.databind.ObjectMapper",
+            "org.springframework.boot.test.json.JacksonTester",
+            "org.springframework.boot.test.json.GsonTester",
+            "org.springframework.boot.test.json.JsonbTester",
+            "org.springframework.boot.test.json.BasicJsonTester");
+    private static final List<String> HTTP_CLIENT_TYPES = Arrays.asList(
+            "org.springframework.boot.test.web.client.TestRestTemplate",
+            "org.springframework.test.web.reactive.server.WebTestClient",
+            "org.springframework.web.client.RestTemplate",
+            "org.springframework.web.client.RestClient",
+            "org.springframework.web.reactive.function.client.WebClient",
+            "java.net.http.HttpClient");
+    private static final String LOCAL_SERVER_PORT = "org.springframework.boot.test.web.server.LocalServerPort";
+    private static final String AUTO_CONFIGURE_TEST_DATABASE = AUTOCONFIGURE + "jdbc.AutoConfigureTestDatabase";
+    private static final List<String> DATA_SOURCE_ANNOTATIONS = Arrays.asList(
+            "org.springframework.boot.testcontainers.service.connection.ServiceConnection",
+            "org.testcontainers.junit.jupiter.Container",
+            "org.springframework.test.context.DynamicPropertySource");
+    private static final List<String> IMPLIED_BY_WEB_SLICES = Arrays.asList(
+            AUTOCONFIGURE + "web.servlet.AutoConfigureMockMvc",
+            AUTOCONFIGURE + "web.reactive.AutoConfigureWebTestClient");
+
+    @Getter
+    final String displayName = "Narrow `@SpringBootTest` to a test slice";
+
+    @Getter
+    final String description = "Replace `@SpringBootTest` with `@WebMvcTest`, `@WebFluxTest`, `@DataJpaTest`, " +
+            "`@JdbcTest` or `@JsonTest` when the beans injected into the test class all belong to the corresponding " +
+            "layer, so that only that layer of the application context is started. A test class configuring its own " +
+            "data source keeps it on the JPA and JDBC slices through `@AutoConfigureTestDatabase`. Web slices are only used when the " +
+            "controllers under test are injected and all their dependencies are bean overrides. When no slice fits, " +
+            "a `RANDOM_PORT` or `DEFINED_PORT` web environment is downgraded to the mock web environment if no real " +
+            "HTTP client or local server port is used.";
+
+    private enum Slice {
+        WEB_MVC("web.servlet.WebMvcTest"),
+        WEB_FLUX("web.reactive.WebFluxTest"),
+        DATA_JPA("orm.jpa.DataJpaTest"),
+        JDBC("jdbc.JdbcTest"),
+        JSON("json.JsonTest");
+
+        final String fullyQualifiedName;
+
+        Slice(String name) {
+            this.fullyQualifiedName = AUTOCONFIGURE + name;
+        }
+
+        String simpleName() {
+            return fullyQualifiedName.substring(fullyQualifiedName.lastIndexOf('.') + 1);
+        }
+
+        String stub() {
+            return "package " + fullyQualifiedName.substring(0, fullyQualifiedName.lastIndexOf('.')) + ";\n" +
+                   "public @interface " + simpleName() + " {\n" +
+                   "    Class<?>[] value() default {};\n" +
+                   "    Class<?>[] controllers() default {};\n" +
+                   "    String[] properties() default {};\n" +
+                   "}";
+        }
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesType<>(SPRING_BOOT_TEST, false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+                J.Annotation springBootTest = cd.getLeadingAnnotations().stream()
+                        .filter(SPRING_BOOT_TEST_MATCHER::matches).findFirst().orElse(null);
+                if (springBootTest == null || cd.getExtends() != null || cd.hasModifier(J.Modifier.Type.Abstract)) {
+                    return cd;
+                }
+
+                // Only the web environment and properties have an equivalent on the slices
+                Expression properties = null;
+                Expression webEnvironment = null;
+                for (Expression argument : springBootTest.getArguments() == null ?
+                        Collections.<Expression>emptyList() : springBootTest.getArguments()) {
+                    String name = argument instanceof J.Assignment ? simpleName(((J.Assignment) argument).getVariable()) :
+                            argument instanceof J.Empty ? null : "value";
+                    if ("webEnvironment".equals(name)) {
+                        webEnvironment = argument;
+                    } else if ("properties".equals(name) || "value".equals(name)) {
+                        properties = argument instanceof J.Assignment ? ((J.Assignment) argument).getAssignment() : argument;
+                    } else if (name != null) {
+                        return cd;
+                    }
+                }
+
+                SpringTestFields fields = new SpringTestFields(cd);
+                boolean usesServer = usesServer(cd, fields);
+                List<JavaType.FullyQualified> controllers = new ArrayList<>();
+                Slice slice = slice(fields, controllers);
+                if (slice != null && isOnClasspath(getCursor(), slice.fullyQualifiedName)) {
+                    return toSlice(cd, springBootTest, slice, controllers, properties, ctx);
+                }
+                if (webEnvironment != null && !usesServer && servesOnPort(webEnvironment)) {
+                    Expression removed = webEnvironment;
+                    List<Expression> arguments = ListUtils.mapFirst(
+                            ListUtils.map(springBootTest.getArguments(), arg -> arg == removed ? null : arg),
+                            arg -> arg.withPrefix(Space.EMPTY));
+                    maybeRemoveImport(SPRING_BOOT_TEST + ".WebEnvironment");
+                    return cd.withLeadingAnnotations(ListUtils.map(cd.getLeadingAnnotations(), a -> a != springBootTest ? a :
+                            a.withArguments(ListUtils.nullIfEmpty(arguments))));
+                }
+                return cd;
+            }
+
+            private J.ClassDeclaration toSlice(J.ClassDeclaration cd, J.Annotation springBootTest, Slice slice,
+                                               List<JavaType.FullyQualified> controllers, @Nullable Expression properties,
+                                               ExecutionContext ctx) {
+                List<String> arguments = new ArrayList<>();
+                if (!controllers.isEmpty()) {
+                    String classes = controllers.stream().map(c -> c.getClassName() + ".class").collect(joining(", "));
+                    arguments.add(controllers.size() == 1 ? classes : "{" + classes + "}");
+                }
+                if (properties != null) {
+                    if (!arguments.isEmpty()) {
+                        arguments.set(0, "controllers = " + arguments.get(0));
+                    }
+                    arguments.add("properties = " + properties.printTrimmed(getCursor()));
+                }
+                String template = "@" + slice.simpleName() + (arguments.isEmpty() ? "" : "(" + String.join(", ", arguments) + ")");
+
+                J.ClassDeclaration c = cd;
+                if (slice == Slice.WEB_MVC || slice == Slice.WEB_FLUX) {
+                    c = c.withLeadingAnnotations(ListUtils.map(c.getLeadingAnnotations(), a ->
+                            IMPLIED_BY_WEB_SLICES.stream().anyMatch(fqn -> TypeUtils.isOfClassType(a.getType(), fqn)) ? null : a));
+                    IMPLIED_BY_WEB_SLICES.forEach(this::maybeRemoveImport);
+                }
+                maybeRemoveImport(SPRING_BOOT_TEST);
+                maybeRemoveImport(SPRING_BOOT_TEST + ".WebEnvironment");
+                maybeAddImport(slice.fullyQualifiedName);
+                J.ClassDeclaration withSlice = c;
+                c = c.withLeadingAnnotations(ListUtils.map(c.getLeadingAnnotations(), a -> a != springBootTest ? a :
+                        JavaTemplate.builder(template)
+                                .contextSensitive()
+                                .imports(slice.fullyQualifiedName)
+                                .javaParser(JavaParser.fromJavaVersion().dependsOn(slice.stub()))
+                                .build()
+                                .<J.Annotation>apply(new Cursor(updateCursor(withSlice), a), a.getCoordinates().replace())));
+
+                // Keep the data source of the test class rather than replacing it with an embedded database
+                if ((slice == Slice.DATA_JPA || slice == Slice.JDBC) && configuresDataSource(cd) &&
+                        c.getLeadingAnnotations().stream().noneMatch(a -> TypeUtils.isOfClassType(a.getType(), AUTO_CONFIGURE_TEST_DATABASE))) {
+                    maybeAddImport(AUTO_CONFIGURE_TEST_DATABASE);
+                    c = JavaTemplate.builder("@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)")
+                            .imports(AUTO_CONFIGURE_TEST_DATABASE)
+                            .javaParser(JavaParser.fromJavaVersion().dependsOn(
+                                    "package org.springframework.boot.test.autoconfigure.jdbc;\n" +
+                                    "public @interface AutoConfigureTestDatabase {\n" +
+                                    "    Replace replace() default Replace.ANY;\n" +
+                                    "    enum Replace { ANY, AUTO_CONFIGURED, NONE }\n" +
+                                    "}"))
+                            .build()
+                            .apply(updateCursor(c), c.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+                }
+                return c;
+            }
+        });
+    }
+
+    /**
+     * The slice covering all beans injected into the test class, collecting the injected controllers.
+     */
+    private static @Nullable Slice slice(SpringTestFields fields, List<JavaType.FullyQualified> controllers) {
+        Map<String, @Nullable JavaType> beans = new LinkedHashMap<>(fields.injected);
+        beans.putAll(fields.injectedParameters);
+        if (beans.isEmpty()) {
+            return null;
+        }
+
+        boolean mockMvc = false;
+        boolean webTestClient = false;
+        Set<Slice> candidates = EnumSet.allOf(Slice.class);
+        for (JavaType type : beans.values()) {
+            JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+            if (fq != null && isController(fq)) {
+                controllers.add(fq);
+                candidates.retainAll(EnumSet.of(Slice.WEB_MVC, Slice.WEB_FLUX));
+            } else if (isAssignableToAny(type, MOCK_MVC_TYPES)) {
+                mockMvc = true;
+                candidates.retainAll(EnumSet.of(Slice.WEB_MVC));
+            } else if (isAssignableToAny(type, WEB_TEST_CLIENT_TYPES)) {
+                webTestClient = true;
+                candidates.retainAll(EnumSet.of(Slice.WEB_FLUX));
+            } else if (isAssignableToAny(type, JPA_TYPES)) {
+                candidates.retainAll(EnumSet.of(Slice.DATA_JPA));
+            } else if (isAssignableToAny(type, JDBC_TYPES)) {
+                candidates.retainAll(EnumSet.of(Slice.DATA_JPA, Slice.JDBC));
+            } else if (isAssignableToAny(type, JSON_TYPES)) {
+                candidates.retainAll(EnumSet.of(Slice.WEB_MVC, Slice.WEB_FLUX, Slice.JSON));
+            } else {
+                return null;
+            }
+        }
+
+        // The servlet and reactive stacks are told apart by the client the test class uses
+        Slice web = candidates.contains(Slice.WEB_MVC) && mockMvc ? Slice.WEB_MVC :
+                candidates.contains(Slice.WEB_FLUX) && webTestClient ? Slice.WEB_FLUX : null;
+        if (web != null) {
+            return !controllers.isEmpty() && controllers.stream().allMatch(c -> dependenciesOverridden(c, fields)) ? web : null;
+        }
+        controllers.clear();
+        for (Slice slice : Arrays.asList(Slice.JDBC, Slice.DATA_JPA, Slice.JSON)) {
+            if (candidates.contains(slice)) {
+                return slice;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isController(JavaType.FullyQualified type) {
+        return type.getAnnotations().stream().anyMatch(a -> CONTROLLER_ANNOTATIONS.contains(a.getFullyQualifiedName()));
+    }
+
+    /**
+     * Whether every constructor parameter and injected field of the controller is replaced by a bean override of
+     * the test class, as the web slices do not create services or repositories.
+     */
+    private static boolean dependenciesOverridden(JavaType.FullyQualified controller, SpringTestFields fields) {
+        List<JavaType> dependencies = new ArrayList<>();
+        for (JavaType.Method method : controller.getMethods()) {
+            if (method.isConstructor()) {
+                dependencies.addAll(method.getParameterTypes());
+            }
+        }
+        for (JavaType.Variable member : controller.getMembers()) {
+            if (member.getAnnotations().stream().anyMatch(a -> SpringTestFields.INJECTION_ANNOTATIONS.contains(a.getFullyQualifiedName()))) {
+                dependencies.add(member.getType());
+            }
+        }
+        for (JavaType dependency : dependencies) {
+            if (fields.beanOverrideTypes.values().stream().noneMatch(type -> TypeUtils.isAssignableTo(dependency, type))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the test class configures the data source itself, which the JPA and JDBC slices would otherwise
+     * replace with an embedded database.
+     */
+    private static boolean configuresDataSource(J.ClassDeclaration classDecl) {
+        return new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Annotation visitAnnotation(J.Annotation annotation, AtomicBoolean found) {
+                if (isAssignableToAny(annotation.getType(), DATA_SOURCE_ANNOTATIONS)) {
+                    found.set(true);
+                }
+                return super.visitAnnotation(annotation, found);
+            }
+
+            @Override
+            public J.Literal visitLiteral(J.Literal literal, AtomicBoolean found) {
+                if (literal.getValue() instanceof String && ((String) literal.getValue()).contains("spring.datasource")) {
+                    found.set(true);
+                }
+                return literal;
+            }
+        }.reduce(classDecl, new AtomicBoolean()).get();
+    }
+
+    /**
+     * Whether the test class talks to a server listening on a port, rather than to a mock web environment.
+     */
+    private static boolean usesServer(J.ClassDeclaration classDecl, SpringTestFields fields) {
+        for (JavaType type : fields.injected.values()) {
+            if (isAssignableToAny(type, HTTP_CLIENT_TYPES)) {
+                return true;
+            }
+        }
+        for (JavaType type : fields.injectedParameters.values()) {
+            if (isAssignableToAny(type, HTTP_CLIENT_TYPES)) {
+                return true;
+            }
+        }
+        return new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Annotation visitAnnotation(J.Annotation annotation, AtomicBoolean found) {
+                if (TypeUtils.isOfClassType(annotation.getType(), LOCAL_SERVER_PORT)) {
+                    found.set(true);
+                }
+                return super.visitAnnotation(annotation, found);
+            }
+
+            @Override
+            public J.Literal visitLiteral(J.Literal literal, AtomicBoolean found) {
+                if (literal.getValue() instanceof String && ((String) literal.getValue()).contains("local.server.port")) {
+                    found.set(true);
+                }
+                return literal;
+            }
+
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean found) {
+                if (isAssignableToAny(identifier.getType(), HTTP_CLIENT_TYPES)) {
+                    found.set(true);
+                }
+                return super.visitIdentifier(identifier, found);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean found) {
+                if (method.getMethodType() != null &&
+                        method.getMethodType().getDeclaringType().getPackageName().startsWith("io.restassured")) {
+                    found.set(true);
+                }
+                return super.visitMethodInvocation(method, found);
+            }
+        }.reduce(classDecl.getBody(), new AtomicBoolean()).get();
+    }
+
+    private static boolean servesOnPort(Expression webEnvironment) {
+        String environment = webEnvironment instanceof J.Assignment ? simpleName(((J.Assignment) webEnvironment).getAssignment()) : null;
+        return "RANDOM_PORT".equals(environment) || "DEFINED_PORT".equals(environment);
+    }
+
+    private static boolean isAssignableToAny(@Nullable JavaType type, List<String> fullyQualifiedNames) {
+        return fullyQualifiedNames.stream().anyMatch(fqn -> TypeUtils.isAssignableTo(fqn, type));
+    }
+}
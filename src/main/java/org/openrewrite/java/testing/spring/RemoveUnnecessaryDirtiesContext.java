@@ -0,0 +1,337 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.spring;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.*;
+import org.openrewrite.java.search.FindAnnotations;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.table.RetainedDirtiesContexts;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+import static org.openrewrite.java.testing.spring.SpringTestFields.isOnClasspath;
+import static org.openrewrite.java.testing.spring.SpringTestFields.simpleName;
+
+/**
+ * Removes {@code @DirtiesContext} from test classes whose tests only change state that is reset between tests anyway:
+ * <p>
+ * - Bean overrides such as {@code @MockBean} are reset after each test, unless configured with {@code MockReset.NONE},
+ * in which case they are reset explicitly with {@code Mockito.reset} in an {@code @AfterEach} method
+ * - Data written through repositories, JDBC or JPA is cleaned up by {@code @Sql} scripts or rolled back by
+ * {@code @Transactional}, which is added when neither is present and the application runs in the test thread
+ * <p>
+ * Test classes which change singleton beans, the application context, its environment, system properties or static
+ * fields, or which call the application through a web client such as {@code MockMvc}, keep their
+ * {@code @DirtiesContext}, and are reported together with the reason. Requests handled by the web layer may
+ * change state a test transaction does not roll back, such as caches or data written in a new transaction.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class RemoveUnnecessaryDirtiesContext extends Recipe {
+    private static final String DIRTIES_CONTEXT = "org.springframework.test.annotation.DirtiesContext";
+    private static final AnnotationMatcher DIRTIES_CONTEXT_MATCHER = new AnnotationMatcher("@" + DIRTIES_CONTEXT);
+    private static final AnnotationMatcher SPRING_BOOT_TEST_MATCHER =
+            new AnnotationMatcher("@org.springframework.boot.test.context.SpringBootTest");
+    private static final String TRANSACTIONAL = "org.springframework.transaction.annotation.Transactional";
+    private static final List<String> TRANSACTIONAL_ANNOTATIONS = Arrays.asList(
+            TRANSACTIONAL, "jakarta.transaction.Transactional", "javax.transaction.Transactional");
+    private static final List<String> SQL_ANNOTATIONS = Arrays.asList(
+            "org.springframework.test.context.jdbc.Sql", "org.springframework.test.context.jdbc.SqlGroup");
+    private static final List<String> DATA_ACCESS_TYPES = Arrays.asList(
+            "org.springframework.data.repository.Repository",
+            "org.springframework.jdbc.core.JdbcOperations",
+            "org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations",
+            "org.springframework.jdbc.core.simple.JdbcClient",
+            "org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager",
+            "jakarta.persistence.EntityManager",
+            "javax.persistence.EntityManager");
+    private static final List<String> WEB_CLIENT_TYPES = Arrays.asList(
+            "org.springframework.test.web.servlet.MockMvc",
+            "org.springframework.test.web.reactive.server.WebTestClient",
+            "org.springframework.boot.test.web.client.TestRestTemplate",
+            "org.springframework.web.client.RestTemplate");
+    private static final List<String> CONTEXT_TYPES = Arrays.asList(
+            "org.springframework.context.ApplicationContext",
+            "org.springframework.core.env.Environment");
+    private static final MethodMatcher REFLECTION_TEST_UTILS_MATCHER =
+            new MethodMatcher("org.springframework.test.util.ReflectionTestUtils *(..)");
+    private static final MethodMatcher SET_PROPERTY_MATCHER = new MethodMatcher("java.lang.System setProperty(..)");
+    private static final MethodMatcher CLEAR_PROPERTY_MATCHER = new MethodMatcher("java.lang.System clearProperty(..)");
+    private static final Set<J.Unary.Type> MODIFYING_UNARY_OPERATORS = EnumSet.of(J.Unary.Type.PreIncrement,
+            J.Unary.Type.PreDecrement, J.Unary.Type.PostIncrement, J.Unary.Type.PostDecrement);
+    private static final Pattern QUERY_METHOD = Pattern.compile("^(get|find|is|has|contains|count|exists|load|read|list|search)([A-Z].*)?$");
+
+    transient RetainedDirtiesContexts retainedDirtiesContexts = new RetainedDirtiesContexts(this);
+
+    String displayName = "Remove unnecessary `@DirtiesContext`";
+
+    String description = "Remove `@DirtiesContext` from Spring test classes whose tests only change mock beans or " +
+            "database content, so that the application context is reused instead of rebuilt. Mocks configured with " +
+            "`MockReset.NONE` are reset with `Mockito.reset` after each test, and data changes are left to `@Sql` " +
+            "scripts or rolled back by adding `@Transactional`. Test classes which change singleton beans, the " +
+            "application context, its environment, system properties or static fields, or which call the " +
+            "application through `MockMvc`, `WebTestClient` or a `RestTemplate`, keep their `@DirtiesContext` and " +
+            "are reported in a data table.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesType<>(DIRTIES_CONTEXT, false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                // Nested test classes share the application context of their enclosing class
+                if (!(getCursor().getParentTreeCursor().getValue() instanceof JavaSourceFile) || classDecl.getType() == null ||
+                        FindAnnotations.find(classDecl, "@" + DIRTIES_CONTEXT).isEmpty()) {
+                    return classDecl;
+                }
+
+                TestClassState state = new TestClassState(classDecl);
+                state.visit(classDecl.getBody(), ctx, getCursor());
+                String reason = state.reason;
+                boolean cleansData = hasAnnotation(classDecl, SQL_ANNOTATIONS) || hasAnnotation(classDecl, TRANSACTIONAL_ANNOTATIONS);
+                boolean addTransactional = false;
+                if (reason == null && state.writesData && !cleansData) {
+                    if (runsServerInOwnThread(classDecl)) {
+                        reason = "Writes data through a server running in its own thread, which a test transaction does not roll back";
+                    } else if (!isOnClasspath(getCursor(), TRANSACTIONAL)) {
+                        reason = "Writes data without `@Sql` cleanup, and `@Transactional` is not on the classpath";
+                    } else {
+                        addTransactional = true;
+                    }
+                }
+                if (reason == null && !state.unresetMocks.isEmpty() && !isJupiterTestClass(classDecl)) {
+                    reason = "Mock beans configured with `MockReset.NONE` are only reset automatically for JUnit Jupiter tests";
+                }
+                if (reason != null) {
+                    retainedDirtiesContexts.insertRow(ctx, new RetainedDirtiesContexts.Row(
+                            getCursor().firstEnclosingOrThrow(JavaSourceFile.class).getSourcePath().toString(),
+                            classDecl.getType().getFullyQualifiedName(),
+                            reason));
+                    return classDecl;
+                }
+
+                J.ClassDeclaration cd = (J.ClassDeclaration) new RemoveAnnotationVisitor(DIRTIES_CONTEXT_MATCHER)
+                        .visitNonNull(classDecl, ctx, getCursor().getParentOrThrow());
+                maybeRemoveImport(DIRTIES_CONTEXT);
+                maybeRemoveImport(DIRTIES_CONTEXT + ".ClassMode");
+                maybeRemoveImport(DIRTIES_CONTEXT + ".MethodMode");
+                maybeRemoveImport(DIRTIES_CONTEXT + ".HierarchyMode");
+
+                if (addTransactional) {
+                    cd = JavaTemplate.builder("@Transactional")
+                            .imports(TRANSACTIONAL)
+                            .javaParser(JavaParser.fromJavaVersion().dependsOn(
+                                    "package org.springframework.transaction.annotation;\n" +
+                                    "public @interface Transactional {}"))
+                            .build()
+                            .apply(updateCursor(cd), cd.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+                    maybeAddImport(TRANSACTIONAL);
+                }
+                if (!state.unresetMocks.isEmpty()) {
+                    cd = JavaTemplate.builder("@AfterEach\nvoid resetMocks() {\nMockito.reset(" +
+                                    String.join(", ", state.unresetMocks) + ");\n}")
+                            .contextSensitive()
+                            .imports("org.junit.jupiter.api.AfterEach", "org.mockito.Mockito")
+                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-api-5", "mockito-core-5"))
+                            .build()
+                            .apply(updateCursor(cd), cd.getBody().getCoordinates().lastStatement());
+                    maybeAddImport("org.junit.jupiter.api.AfterEach");
+                    maybeAddImport("org.mockito.Mockito");
+                }
+                return cd;
+            }
+        });
+    }
+
+    /**
+     * Collects the state the tests of a class change: singleton beans, mock beans and data.
+     */
+    private static class TestClassState extends JavaIsoVisitor<ExecutionContext> {
+        private final Map<String, @Nullable JavaType> beans = new HashMap<>();
+        private final Set<String> mocks = new HashSet<>();
+        final List<String> unresetMocks = new ArrayList<>();
+        boolean writesData;
+
+        @Nullable
+        String reason;
+
+        TestClassState(J.ClassDeclaration classDecl) {
+            SpringTestFields fields = new SpringTestFields(classDecl);
+            beans.putAll(fields.injected);
+            mocks.addAll(fields.beanOverrides.keySet());
+            fields.beanOverrides.forEach((name, beanOverride) -> {
+                if (beanOverride.getArguments() != null && beanOverride.getArguments().stream()
+                        .anyMatch(argument -> argument instanceof J.Assignment &&
+                                "NONE".equals(simpleName(((J.Assignment) argument).getAssignment())))) {
+                    unresetMocks.add(name);
+                }
+            });
+        }
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+            if (SET_PROPERTY_MATCHER.matches(mi) || CLEAR_PROPERTY_MATCHER.matches(mi)) {
+                retain("Changes a system property through `System." + mi.getSimpleName() + "`");
+                return mi;
+            }
+            if (REFLECTION_TEST_UTILS_MATCHER.matches(mi) && !mi.getSimpleName().startsWith("get")) {
+                String target = mi.getArguments().isEmpty() ? null : fieldName(mi.getArguments().get(0));
+                if (target == null || !mocks.contains(target)) {
+                    retain("Changes " + (target == null ? "an object" : "bean `" + target + "`") +
+                           " through `ReflectionTestUtils." + mi.getSimpleName() + "`");
+                }
+                return mi;
+            }
+
+            String bean = fieldName(mi.getSelect());
+            if (bean == null || !beans.containsKey(bean)) {
+                return mi;
+            }
+            JavaType type = beans.get(bean);
+            if (isAssignableToAny(type, CONTEXT_TYPES)) {
+                if (!QUERY_METHOD.matcher(mi.getSimpleName()).matches()) {
+                    retain("Changes the application context through `" + bean + "." + mi.getSimpleName() + "`");
+                }
+            } else if (isAssignableToAny(type, WEB_CLIENT_TYPES)) {
+                retain("Calls the web layer through `" + bean + "." + mi.getSimpleName() + "`, which may change state " +
+                       "a test transaction does not roll back");
+            } else if (isAssignableToAny(type, DATA_ACCESS_TYPES)) {
+                writesData |= !QUERY_METHOD.matcher(mi.getSimpleName()).matches();
+            } else if (!QUERY_METHOD.matcher(mi.getSimpleName()).matches()) {
+                retain("Calls `" + bean + "." + mi.getSimpleName() + "`, which may change the state of a singleton bean");
+            }
+            return mi;
+        }
+
+        @Override
+        public J.Assignment visitAssignment(J.Assignment assignment, ExecutionContext ctx) {
+            J.Assignment a = super.visitAssignment(assignment, ctx);
+            if (isStaticField(a.getVariable())) {
+                retain("Assigns static field `" + a.getVariable().printTrimmed(getCursor()) + "`");
+            } else if (a.getVariable() instanceof J.FieldAccess) {
+                String bean = fieldName(((J.FieldAccess) a.getVariable()).getTarget());
+                if (bean != null && beans.containsKey(bean)) {
+                    retain("Assigns `" + a.getVariable().printTrimmed(getCursor()) + "` of singleton bean `" + bean + "`");
+                }
+            }
+            return a;
+        }
+
+        @Override
+        public J.AssignmentOperation visitAssignmentOperation(J.AssignmentOperation assignOp, ExecutionContext ctx) {
+            J.AssignmentOperation a = super.visitAssignmentOperation(assignOp, ctx);
+            if (isStaticField(a.getVariable())) {
+                retain("Assigns static field `" + a.getVariable().printTrimmed(getCursor()) + "`");
+            }
+            return a;
+        }
+
+        @Override
+        public J.Unary visitUnary(J.Unary unary, ExecutionContext ctx) {
+            J.Unary u = super.visitUnary(unary, ctx);
+            if (MODIFYING_UNARY_OPERATORS.contains(u.getOperator()) && isStaticField(u.getExpression())) {
+                retain("Assigns static field `" + u.getExpression().printTrimmed(getCursor()) + "`");
+            }
+            return u;
+        }
+
+        private void retain(String reason) {
+            if (this.reason == null) {
+                this.reason = reason;
+            }
+        }
+
+        /**
+         * The name of the field of the test class an expression refers to, either as {@code name} or {@code this.name}.
+         */
+        private static @Nullable String fieldName(@Nullable Expression expression) {
+            if (expression instanceof J.FieldAccess && ((J.FieldAccess) expression).getTarget() instanceof J.Identifier &&
+                    "this".equals(((J.Identifier) ((J.FieldAccess) expression).getTarget()).getSimpleName())) {
+                return ((J.FieldAccess) expression).getSimpleName();
+            }
+            if (expression instanceof J.Identifier && ((J.Identifier) expression).getFieldType() != null &&
+                    ((J.Identifier) expression).getFieldType().getOwner() instanceof JavaType.FullyQualified) {
+                return ((J.Identifier) expression).getSimpleName();
+            }
+            return null;
+        }
+
+        private static boolean isStaticField(Expression expression) {
+            JavaType.Variable field = expression instanceof J.Identifier ? ((J.Identifier) expression).getFieldType() :
+                    expression instanceof J.FieldAccess ? ((J.FieldAccess) expression).getName().getFieldType() : null;
+            return field != null && field.getOwner() instanceof JavaType.FullyQualified &&
+                    field.hasFlags(Flag.Static);
+        }
+
+        private static boolean isAssignableToAny(@Nullable JavaType type, List<String> fullyQualifiedNames) {
+            return fullyQualifiedNames.stream().anyMatch(fqn -> TypeUtils.isAssignableTo(fqn, type));
+        }
+    }
+
+    /**
+     * Whether the class is annotated with one of the annotations, directly or through a composed annotation such as
+     * {@code @DataJpaTest}, which is meta-annotated with {@code @Transactional}.
+     */
+    private static boolean hasAnnotation(J.ClassDeclaration classDecl, List<String> fullyQualifiedNames) {
+        for (J.Annotation annotation : classDecl.getLeadingAnnotations()) {
+            JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+            if (type == null) {
+                continue;
+            }
+            if (fullyQualifiedNames.contains(type.getFullyQualifiedName()) || type.getAnnotations().stream()
+                    .anyMatch(meta -> fullyQualifiedNames.contains(meta.getFullyQualifiedName()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether the test methods of the class run on JUnit Jupiter, rather than on JUnit 4 through
+     * {@code @RunWith(SpringRunner.class)}, so that an {@code @AfterEach} method is called.
+     */
+    private static boolean isJupiterTestClass(J.ClassDeclaration classDecl) {
+        if (classDecl.getLeadingAnnotations().stream()
+                .anyMatch(a -> TypeUtils.isOfClassType(a.getType(), "org.junit.runner.RunWith"))) {
+            return false;
+        }
+        return classDecl.getBody().getStatements().stream()
+                .filter(J.MethodDeclaration.class::isInstance)
+                .flatMap(m -> ((J.MethodDeclaration) m).getLeadingAnnotations().stream())
+                .map(a -> TypeUtils.asFullyQualified(a.getType()))
+                .anyMatch(type -> type != null && type.getFullyQualifiedName().startsWith("org.junit.jupiter."));
+    }
+
+    /**
+     * A {@code @SpringBootTest} with a random or defined port serves requests in threads of its own, outside the
+     * transaction of the test method.
+     */
+    private static boolean runsServerInOwnThread(J.ClassDeclaration classDecl) {
+        return classDecl.getLeadingAnnotations().stream()
+                .filter(SPRING_BOOT_TEST_MATCHER::matches)
+                .filter(a -> a.getArguments() != null)
+                .flatMap(a -> a.getArguments().stream())
+                .filter(J.Assignment.class::isInstance)
+                .map(argument -> simpleName(((J.Assignment) argument).getAssignment()))
+                .anyMatch(webEnvironment -> "RANDOM_PORT".equals(webEnvironment) || "DEFINED_PORT".equals(webEnvironment));
+    }
+}
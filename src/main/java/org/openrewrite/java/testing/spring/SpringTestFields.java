@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.spring;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.java.marker.JavaSourceSet;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+
+/**
+ * The instance fields of a Spring test class, split into the beans injected into the test instance and the bean
+ * overrides, such as {@code @MockBean}, it declares, along with the beans injected into its test methods.
+ */
+class SpringTestFields {
+    static final Set<String> BEAN_OVERRIDE_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "org.springframework.boot.test.mock.mockito.MockBean",
+            "org.springframework.boot.test.mock.mockito.SpyBean",
+            "org.springframework.test.context.bean.override.mockito.MockitoBean",
+            "org.springframework.test.context.bean.override.mockito.MockitoSpyBean"));
+    static final Set<String> INJECTION_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "org.springframework.beans.factory.annotation.Autowired",
+            "jakarta.inject.Inject",
+            "javax.inject.Inject",
+            "jakarta.annotation.Resource",
+            "javax.annotation.Resource"));
+
+    /**
+     * Fields annotated for injection, and final fields without initializer which are injected through the
+     * constructor, keyed by name.
+     */
+    final Map<String, @Nullable JavaType> injected = new LinkedHashMap<>();
+
+    /**
+     * The bean override annotation of each overriding field, keyed by name.
+     */
+    final Map<String, J.Annotation> beanOverrides = new LinkedHashMap<>();
+    final Map<String, @Nullable JavaType> beanOverrideTypes = new LinkedHashMap<>();
+
+    /**
+     * Method parameters annotated for injection, keyed by method and parameter name.
+     */
+    final Map<String, @Nullable JavaType> injectedParameters = new LinkedHashMap<>();
+
+    SpringTestFields(J.ClassDeclaration classDecl) {
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.MethodDeclaration) {
+                J.MethodDeclaration method = (J.MethodDeclaration) statement;
+                for (Statement parameter : method.getParameters()) {
+                    if (parameter instanceof J.VariableDeclarations &&
+                            findAnnotation((J.VariableDeclarations) parameter, INJECTION_ANNOTATIONS) != null) {
+                        for (J.VariableDeclarations.NamedVariable variable : ((J.VariableDeclarations) parameter).getVariables()) {
+                            injectedParameters.put(method.getSimpleName() + "." + variable.getSimpleName(), variable.getType());
+                        }
+                    }
+                }
+            }
+            if (!(statement instanceof J.VariableDeclarations) ||
+                    ((J.VariableDeclarations) statement).hasModifier(J.Modifier.Type.Static)) {
+                continue;
+            }
+            J.VariableDeclarations field = (J.VariableDeclarations) statement;
+            J.Annotation beanOverride = findAnnotation(field, BEAN_OVERRIDE_ANNOTATIONS);
+            boolean injection = findAnnotation(field, INJECTION_ANNOTATIONS) != null;
+            for (J.VariableDeclarations.NamedVariable variable : field.getVariables()) {
+                if (beanOverride != null) {
+                    beanOverrides.put(variable.getSimpleName(), beanOverride);
+                    beanOverrideTypes.put(variable.getSimpleName(), variable.getType());
+                } else if (injection || field.hasModifier(J.Modifier.Type.Final) && variable.getInitializer() == null) {
+                    injected.put(variable.getSimpleName(), variable.getType());
+                }
+            }
+        }
+    }
+
+    private static J.@Nullable Annotation findAnnotation(J.VariableDeclarations field, Set<String> fullyQualifiedNames) {
+        for (J.Annotation annotation : field.getLeadingAnnotations()) {
+            JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+            if (type != null && fullyQualifiedNames.contains(type.getFullyQualifiedName())) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether a type is on the classpath of the source set of the source file, assuming it is when the classpath is
+     * not known.
+     */
+    static boolean isOnClasspath(Cursor cursor, String fullyQualifiedName) {
+        JavaSourceSet sourceSet = cursor.firstEnclosingOrThrow(JavaSourceFile.class)
+                .getMarkers().findFirst(JavaSourceSet.class).orElse(null);
+        return sourceSet == null || sourceSet.getClasspath().isEmpty() ||
+                sourceSet.getClasspath().stream().anyMatch(type -> fullyQualifiedName.equals(type.getFullyQualifiedName()));
+    }
+
+    /**
+     * The simple name of an identifier or field access, such as an enum constant.
+     */
+    static @Nullable String simpleName(Expression expression) {
+        if (expression instanceof J.FieldAccess) {
+            return ((J.FieldAccess) expression).getSimpleName();
+        }
+        return expression instanceof J.Identifier ? ((J.Identifier) expression).getSimpleName() : null;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class PerTestMockWebServers extends DataTable<PerTestMockWebServers.Row> {
+
+    public PerTestMockWebServers(Recipe recipe) {
+        super(recipe,
+                "Per-test MockWebServers",
+                "Test classes whose `MockWebServer` had to be kept per test method instead of per test class.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path of the source file containing the test class.")
+        String sourcePath;
+
+        @Column(displayName = "Class name",
+                description = "The fully qualified name of the test class.")
+        String className;
+
+        @Column(displayName = "Reason",
+                description = "Why the `MockWebServer` could not be shared between the test methods of the class.")
+        String reason;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class RemovedJavaAgents extends DataTable<RemovedJavaAgents.Row> {
+
+    public RemovedJavaAgents(Recipe recipe) {
+        super(recipe,
+                "Removed Java agents",
+                "Java agents and bytecode verification flags removed from the test JVM configuration of a module.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Project name",
+                description = "The name of the module whose build file was changed.")
+        String projectName;
+
+        @Column(displayName = "Source path",
+                description = "The path of the build file the argument was removed from.")
+        String sourcePath;
+
+        @Column(displayName = "Removed argument",
+                description = "The mocking framework whose `-javaagent` was removed, or the removed verification flag.")
+        String removedArgument;
+    }
+}
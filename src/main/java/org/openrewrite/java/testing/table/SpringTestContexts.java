@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class SpringTestContexts extends DataTable<SpringTestContexts.Row> {
+
+    public SpringTestContexts(Recipe recipe) {
+        super(recipe,
+                "Spring test contexts",
+                "The distinct application contexts the Spring test classes of a module build, with the number of test classes sharing each of them.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Project name",
+                description = "The name of the module the test classes belong to.")
+        String projectName;
+
+        @Column(displayName = "Context configuration",
+                description = "The effective context configuring annotations and bean overrides, which together form the context cache key.")
+        String contextConfiguration;
+
+        @Column(displayName = "Test classes",
+                description = "The number of test classes sharing this application context.")
+        int testClasses;
+
+        @Column(displayName = "Example test class",
+                description = "The fully qualified name of one of the test classes using this application context.")
+        String exampleTestClass;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.testcontainers;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesJavaVersion;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.J;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class AddTmpFsToDatabaseContainer extends Recipe {
+
+    /**
+     * Data directories of the official images used by the Testcontainers database modules, keyed by the simple
+     * name of the container class so that both the 1.x and 2.x packages resolve to the same entry.
+     */
+    private static final Map<String, String> DATA_DIRECTORIES = new HashMap<>();
+
+    static {
+        DATA_DIRECTORIES.put("CassandraContainer", "/var/lib/cassandra");
+        DATA_DIRECTORIES.put("ClickHouseContainer", "/var/lib/clickhouse");
+        DATA_DIRECTORIES.put("CockroachContainer", "/cockroach/cockroach-data");
+        DATA_DIRECTORIES.put("CouchbaseContainer", "/opt/couchbase/var");
+        DATA_DIRECTORIES.put("Db2Container", "/database");
+        DATA_DIRECTORIES.put("InfluxDBContainer", "/var/lib/influxdb");
+        DATA_DIRECTORIES.put("MariaDBContainer", "/var/lib/mysql");
+        DATA_DIRECTORIES.put("MongoDBContainer", "/data/db");
+        DATA_DIRECTORIES.put("MSSQLServerContainer", "/var/opt/mssql");
+        DATA_DIRECTORIES.put("MySQLContainer", "/var/lib/mysql");
+        DATA_DIRECTORIES.put("Neo4jContainer", "/data");
+        DATA_DIRECTORIES.put("OracleContainer", "/opt/oracle/oradata");
+        DATA_DIRECTORIES.put("PostgreSQLContainer", "/var/lib/postgresql/data");
+    }
+
+    private static final String POSTGRES_CONTAINER = "PostgreSQLContainer";
+
+    @Option(displayName = "Container class",
+            description = "The fully qualified name of the database container class to mount a tmpfs data directory for.",
+            example = "org.testcontainers.containers.PostgreSQLContainer")
+    String containerClass;
+
+    @Option(displayName = "Data directory",
+            description = "The data directory to mount as tmpfs. " +
+                    "Defaults to the data directory of the official image for known database container classes.",
+            example = "/var/lib/postgresql/data",
+            required = false)
+    @Nullable
+    String dataDirectory;
+
+    String displayName = "Mount the data directory of a database container on tmpfs";
+
+    String description = "Add `.withTmpFs(Map.of(dataDirectory, \"rw\"))` to database container constructions, " +
+            "so the database writes to memory instead of the overlay filesystem of the container. " +
+            "For `PostgreSQLContainer`, durability is also switched off through `fsync=off` and `synchronous_commit=off`. " +
+            "Containers which already configure a tmpfs mount are left untouched.";
+
+    @Override
+    public Validated<Object> validate() {
+        return super.validate().and(Validated.test("dataDirectory",
+                "No default data directory is known for this container class, so one must be configured.",
+                dataDirectory,
+                dir -> dir != null || DATA_DIRECTORIES.containsKey(simpleName(containerClass))));
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        String simpleName = simpleName(containerClass);
+        String dir = dataDirectory != null ? dataDirectory : DATA_DIRECTORIES.get(simpleName);
+        if (dir == null) {
+            return TreeVisitor.noop();
+        }
+        boolean postgres = POSTGRES_CONTAINER.equals(simpleName);
+        MethodMatcher containerConstructor = new MethodMatcher(containerClass + " <constructor>(..)");
+        return Preconditions.check(
+                Preconditions.and(new UsesJavaVersion<>(9), new UsesMethod<>(containerConstructor)),
+                new JavaVisitor<ExecutionContext>() {
+                    @Override
+                    public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                        J j = super.visitNewClass(newClass, ctx);
+                        if (!(j instanceof J.NewClass) || !containerConstructor.matches((J.NewClass) j) ||
+                                isChainedWith("withTmpFs")) {
+                            return j;
+                        }
+
+                        StringBuilder template = new StringBuilder("#{any(org.testcontainers.containers.GenericContainer)}")
+                                .append(".withTmpFs(Map.of(\"").append(dir).append("\", \"rw\"))");
+                        if (postgres && !isChainedWith("withCommand")) {
+                            template.append(".withCommand(\"postgres\", \"-c\", \"fsync=off\", \"-c\", \"synchronous_commit=off\")");
+                        }
+                        maybeAddImport("java.util.Map");
+                        return JavaTemplate.builder(template.toString())
+                                .imports("java.util.Map")
+                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "testcontainers-1"))
+                                .build()
+                                .apply(getCursor(), ((J.NewClass) j).getCoordinates().replace(), j);
+                    }
+
+                    /**
+                     * Whether the container being constructed is configured by a fluent call with the given name
+                     * further up the method chain, e.g. {@code new PostgreSQLContainer<>(image).withTmpFs(...)}.
+                     */
+                    private boolean isChainedWith(String methodName) {
+                        Object child = getCursor().getValue();
+                        Cursor parent = getCursor().getParentTreeCursor();
+                        while (parent.getValue() instanceof J.MethodInvocation) {
+                            J.MethodInvocation mi = parent.getValue();
+                            if (mi.getSelect() != child) {
+                                return false;
+                            }
+                            if (methodName.equals(mi.getSimpleName())) {
+                                return true;
+                            }
+                            child = mi;
+                            parent = parent.getParentTreeCursor();
+                        }
+                        return false;
+                    }
+                });
+    }
+
+    private static String simpleName(String fullyQualifiedName) {
+        return fullyQualifiedName.substring(fullyQualifiedName.lastIndexOf('.') + 1);
+    }
+}
@@ -15,6 +15,7 @@
  */
 package org.openrewrite.java.testing.testcontainers;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.Nullable;
@@ -56,9 +57,12 @@ public class ExplicitContainerImage extends Recipe {
     @Getter
     final String description = "Set the image to use for a container explicitly if unset, rather than relying on the default image for the container class.";
 
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final MethodMatcher defaultConstructor = new MethodMatcher(containerClass + " <constructor>()");
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        final MethodMatcher methodMatcher = new MethodMatcher(containerClass + " <constructor>()");
+        MethodMatcher methodMatcher = getDefaultConstructor();
         return Preconditions.check(new UsesMethod<>(methodMatcher), new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.NewClass visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
@@ -15,7 +15,10 @@
  */
 package org.openrewrite.java.testing.testcontainers;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
 import org.openrewrite.*;
 import org.openrewrite.java.JavaIsoVisitor;
@@ -55,10 +58,14 @@ public class ReplaceContainerImageName extends Recipe {
     String description = "Replace a Docker image name in `DockerImageName.parse(image)` or " +
             "`new DockerImageName(image)` constructor arguments for a specific container class.";
 
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    MethodMatcher containerConstructor = new MethodMatcher(containerClass + " <constructor>(..)");
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        MethodMatcher containerConstructor = new MethodMatcher(containerClass + " <constructor>(..)");
-        return Preconditions.check(new UsesMethod<>(containerConstructor), new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(new UsesMethod<>(getContainerConstructor()), new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.Literal visitLiteral(J.Literal literal, ExecutionContext ctx) {
                 J.Literal l = super.visitLiteral(literal, ctx);
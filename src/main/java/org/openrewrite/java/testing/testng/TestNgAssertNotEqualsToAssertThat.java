@@ -20,18 +20,14 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
-import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.search.UsesMethod;
-import org.openrewrite.java.tree.Expression;
-import org.openrewrite.java.tree.J;
-import org.openrewrite.java.tree.JavaType;
-import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.java.testing.assertj.AssertionTranslationVisitor;
+import org.openrewrite.java.testing.assertj.AssertionTranslationVisitor.Translation;
 
 import java.util.List;
 
+import static java.util.Arrays.asList;
+
 public class TestNgAssertNotEqualsToAssertThat extends Recipe {
 
     @Getter
@@ -40,90 +36,18 @@ public class TestNgAssertNotEqualsToAssertThat extends Recipe {
     @Getter
     final String description = "Convert TestNG-style `assertNotEquals()` to AssertJ's `assertThat().isNotEqualTo()`.";
 
-    private static final String ASSERTJ = "org.assertj.core.api.Assertions";
-    private static final MethodMatcher TESTNG_ASSERT_METHOD = new MethodMatcher("org.testng.Assert assertNotEquals(..)");
+    private static final String TESTNG_ASSERT = "org.testng.Assert";
+
+    static final List<Translation> TRANSLATIONS = asList(
+            // Iterators are single-pass; `isNotEqualTo` would compare iterator identity which is never what TestNG
+            // intends. Leave the call untouched rather than rewrite it wrong.
+            Translation.iterator(TESTNG_ASSERT, "assertNotEquals(..)", false, null),
+            Translation.binary(TESTNG_ASSERT, "assertNotEquals(..)", false, "isNotEqualTo(#{any()})", "isNotCloseTo")
+    );
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(TESTNG_ASSERT_METHOD), new JavaIsoVisitor<ExecutionContext>() {
-            @Override
-            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
-                method = super.visitMethodInvocation(method, ctx);
-                if (!TESTNG_ASSERT_METHOD.matches(method)) {
-                    return method;
-                }
-
-                List<Expression> args = method.getArguments();
-                Expression actual = args.get(0);
-                Expression expected = args.get(1);
-
-                // Iterators are single-pass; `isNotEqualTo` would compare iterator identity which is never what TestNG
-                // intends. Leave the call untouched rather than rewrite it wrong.
-                if (TypeUtils.isAssignableTo("java.util.Iterator", actual.getType())) {
-                    return method;
-                }
-
-                maybeRemoveImport("org.testng.Assert");
-                maybeAddImport(ASSERTJ, "assertThat", false);
-
-                if (args.size() == 2) {
-                    method = JavaTemplate.builder("assertThat(#{any()}).isNotEqualTo(#{any()});")
-                            .staticImports(ASSERTJ + ".assertThat")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
-                            .build()
-                            .apply(getCursor(), method.getCoordinates().replace(), actual, expected);
-                } else if (args.size() == 3 && !TestNgAsserts.isFloatingPointType(args.get(2))) {
-                    Expression message = args.get(2);
-                    method = JavaTemplate.builder("assertThat(#{any()}).as(#{any(String)}).isNotEqualTo(#{any()});")
-                            .staticImports(ASSERTJ + ".assertThat")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
-                            .build()
-                            .apply(getCursor(), method.getCoordinates().replace(), actual, message, expected);
-                } else if (args.size() == 3) {
-                    if (isIntegralType(actual)) {
-                        method = JavaTemplate.builder("assertThat(#{any()}).isNotEqualTo(#{any()});")
-                                .staticImports(ASSERTJ + ".assertThat")
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
-                                .build()
-                                .apply(getCursor(), method.getCoordinates().replace(), actual, expected);
-                    } else {
-                        maybeAddImport(ASSERTJ, "within", false);
-                        method = JavaTemplate.builder("assertThat(#{any()}).isNotCloseTo(#{any()}, within(#{any()}));")
-                                .staticImports(ASSERTJ + ".assertThat", ASSERTJ + ".within")
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
-                                .build()
-                                .apply(getCursor(), method.getCoordinates().replace(), actual, expected, args.get(2));
-                    }
-                } else {
-                    Expression message = args.get(3);
-                    if (isIntegralType(actual)) {
-                        method = JavaTemplate.builder("assertThat(#{any()}).as(#{any(String)}).isNotEqualTo(#{any()});")
-                                .staticImports(ASSERTJ + ".assertThat")
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
-                                .build()
-                                .apply(getCursor(), method.getCoordinates().replace(), actual, message, expected);
-                    } else {
-                        maybeAddImport(ASSERTJ, "within", false);
-                        method = JavaTemplate.builder("assertThat(#{any()}).as(#{any(String)}).isNotCloseTo(#{any()}, within(#{any()}));")
-                                .staticImports(ASSERTJ + ".assertThat", ASSERTJ + ".within")
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
-                                .build()
-                                .apply(getCursor(), method.getCoordinates().replace(), actual, message, expected, args.get(2));
-                    }
-                }
-
-                return method;
-            }
-
-            private boolean isIntegralType(Expression expression) {
-                JavaType.FullyQualified fq = TypeUtils.asFullyQualified(expression.getType());
-                if (fq != null) {
-                    String typeName = fq.getFullyQualifiedName();
-                    return "java.lang.Long".equals(typeName) || "java.lang.Integer".equals(typeName);
-                }
-                JavaType.Primitive p = TypeUtils.asPrimitive(expression.getType());
-                return p == JavaType.Primitive.Long || p == JavaType.Primitive.Int;
-            }
-        });
+        return Preconditions.check(new UsesMethod<>(TESTNG_ASSERT + " assertNotEquals(..)"),
+                new AssertionTranslationVisitor(TRANSLATIONS));
     }
 }
@@ -20,15 +20,11 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
-import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.search.UsesMethod;
-import org.openrewrite.java.tree.Expression;
-import org.openrewrite.java.tree.J;
+import org.openrewrite.java.testing.assertj.AssertionTranslationVisitor;
+import org.openrewrite.java.testing.assertj.AssertionTranslationVisitor.Translation;
 
-import java.util.List;
+import static java.util.Collections.singletonList;
 
 public class TestNgAssertNotSameToAssertThat extends Recipe {
 
@@ -38,39 +34,11 @@ public class TestNgAssertNotSameToAssertThat extends Recipe {
     @Getter
     final String description = "Convert TestNG-style `assertNotSame()` to AssertJ's `assertThat().isNotSameAs()`.";
 
-    private static final MethodMatcher TESTNG_ASSERT_METHOD = new MethodMatcher("org.testng.Assert assertNotSame(..)");
+    static final Translation TRANSLATION = Translation.binary("org.testng.Assert", "assertNotSame(..)", false, "isNotSameAs(#{any()})", null);
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(TESTNG_ASSERT_METHOD), new JavaIsoVisitor<ExecutionContext>() {
-            @Override
-            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
-                method = super.visitMethodInvocation(method, ctx);
-                if (!TESTNG_ASSERT_METHOD.matches(method)) {
-                    return method;
-                }
-
-                maybeRemoveImport("org.testng.Assert");
-                maybeAddImport("org.assertj.core.api.Assertions", "assertThat", false);
-
-                List<Expression> args = method.getArguments();
-                Expression actual = args.get(0);
-                Expression expected = args.get(1);
-                if (args.size() == 2) {
-                    return JavaTemplate.builder("assertThat(#{any()}).isNotSameAs(#{any()});")
-                            .staticImports("org.assertj.core.api.Assertions.assertThat")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
-                            .build()
-                            .apply(getCursor(), method.getCoordinates().replace(), actual, expected);
-                }
-
-                Expression message = args.get(2);
-                return JavaTemplate.builder("assertThat(#{any()}).as(#{any(String)}).isNotSameAs(#{any()});")
-                        .staticImports("org.assertj.core.api.Assertions.assertThat")
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
-                        .build()
-                        .apply(getCursor(), method.getCoordinates().replace(), actual, message, expected);
-            }
-        });
+        return Preconditions.check(new UsesMethod<>(TRANSLATION.getMatcher()),
+                new AssertionTranslationVisitor(singletonList(TRANSLATION)));
     }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.testng;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.assertj.AssertionTranslationVisitor;
+import org.openrewrite.java.testing.assertj.AssertionTranslationVisitor.Translation;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
+public class TestNgAssertionsToAssertThat extends Recipe {
+
+    private static final String TESTNG_ASSERT = "org.testng.Assert";
+
+    private static final List<Translation> TRANSLATIONS = ListUtils.concatAll(ListUtils.concatAll(
+            TestNgAssertEqualsToAssertThat.TRANSLATIONS,
+            TestNgAssertNotEqualsToAssertThat.TRANSLATIONS), asList(
+            Translation.unary(TESTNG_ASSERT, "assertTrue(boolean, ..)", "isTrue()"),
+            Translation.unary(TESTNG_ASSERT, "assertFalse(boolean, ..)", "isFalse()"),
+            Translation.unary(TESTNG_ASSERT, "assertNull(..)", "isNull()"),
+            Translation.unary(TESTNG_ASSERT, "assertNotNull(..)", "isNotNull()"),
+            TestNgAssertSameToAssertThat.TRANSLATION,
+            TestNgAssertNotSameToAssertThat.TRANSLATION
+    ));
+
+    @Getter
+    final String displayName = "TestNG assertions to AssertJ";
+
+    @Getter
+    final String description = "Convert TestNG-style `assertEquals()`, `assertNotEquals()`, `assertTrue()`, `assertFalse()`, " +
+            "`assertNull()`, `assertNotNull()`, `assertSame()` and `assertNotSame()` to the corresponding AssertJ " +
+            "`assertThat()` chain in a single pass over each source file, using element-wise assertions for arrays, " +
+            "iterators and collections.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesType<>(TESTNG_ASSERT, false), new AssertionTranslationVisitor(TRANSLATIONS));
+    }
+}
@@ -16,6 +16,7 @@
 package org.openrewrite.java.testing.truth;
 
 import lombok.Getter;
+import lombok.Value;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
@@ -27,18 +28,32 @@ import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.J;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.groupingBy;
+
 public class TruthThrowableAssertions extends Recipe {
 
     private static final MethodMatcher ASSERT_THAT = new MethodMatcher("com.google.common.truth.Truth assertThat(..)");
     private static final MethodMatcher HAS_MESSAGE_THAT = new MethodMatcher("com.google.common.truth.ThrowableSubject hasMessageThat()");
     private static final MethodMatcher HAS_CAUSE_THAT = new MethodMatcher("com.google.common.truth.ThrowableSubject hasCauseThat()");
-    private static final MethodMatcher CONTAINS = new MethodMatcher("com.google.common.truth.StringSubject contains(..)");
-    private static final MethodMatcher CONTAINS_MATCH = new MethodMatcher("com.google.common.truth.StringSubject containsMatch(..)");
-    private static final MethodMatcher DOES_NOT_CONTAIN = new MethodMatcher("com.google.common.truth.StringSubject doesNotContain(..)");
-    private static final MethodMatcher STARTS_WITH = new MethodMatcher("com.google.common.truth.StringSubject startsWith(..)");
-    private static final MethodMatcher ENDS_WITH = new MethodMatcher("com.google.common.truth.StringSubject endsWith(..)");
-    private static final MethodMatcher IS_EQUAL_TO = new MethodMatcher("com.google.common.truth.Subject isEqualTo(..)");
-    private static final MethodMatcher IS_INSTANCE_OF = new MethodMatcher("com.google.common.truth.Subject isInstanceOf(..)");
+
+    /**
+     * The assertions on the message or cause of a throwable, keyed by the name of the Truth assertion, so that an
+     * invocation is only matched against the rows for its name.
+     */
+    private static final Map<String, List<Translation>> TRANSLATIONS = asList(
+            new Translation(HAS_MESSAGE_THAT, "com.google.common.truth.StringSubject", "contains", "hasMessageContaining"),
+            new Translation(HAS_MESSAGE_THAT, "com.google.common.truth.StringSubject", "containsMatch", "hasMessageMatching"),
+            new Translation(HAS_MESSAGE_THAT, "com.google.common.truth.StringSubject", "doesNotContain", "hasMessageNotContaining"),
+            new Translation(HAS_MESSAGE_THAT, "com.google.common.truth.StringSubject", "startsWith", "hasMessageStartingWith"),
+            new Translation(HAS_MESSAGE_THAT, "com.google.common.truth.StringSubject", "endsWith", "hasMessageEndingWith"),
+            new Translation(HAS_MESSAGE_THAT, "com.google.common.truth.Subject", "isEqualTo", "hasMessage"),
+            new Translation(HAS_CAUSE_THAT, "com.google.common.truth.Subject", "isInstanceOf", "hasCauseInstanceOf")
+    ).stream().collect(groupingBy(Translation::getMethodName));
 
     @Getter
     final String displayName = "Convert Truth Throwable assertions to AssertJ";
@@ -46,16 +61,37 @@ public class TruthThrowableAssertions extends Recipe {
     @Getter
     final String description = "Converts Google Truth's Throwable assertion chains like `hasMessageThat().contains()` to AssertJ equivalents.";
 
+    /**
+     * A Truth assertion on a subject derived from a throwable, and the AssertJ assertion on the throwable itself.
+     */
+    @Value
+    private static class Translation {
+        MethodMatcher subject;
+        String methodName;
+        MethodMatcher matcher;
+        String assertion;
+
+        Translation(MethodMatcher subject, String declaringType, String methodName, String assertion) {
+            this.subject = subject;
+            this.methodName = methodName;
+            this.matcher = new MethodMatcher(declaringType + " " + methodName + "(..)");
+            this.assertion = assertion;
+        }
+    }
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 Preconditions.or(new UsesMethod<>(HAS_MESSAGE_THAT), new UsesMethod<>(HAS_CAUSE_THAT)),
                 new JavaIsoVisitor<ExecutionContext>() {
+                    private final Map<String, JavaTemplate> templates = new HashMap<>();
+
                     @Override
                     public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                         J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
 
-                        if (!(mi.getSelect() instanceof J.MethodInvocation)) {
+                        List<Translation> candidates = TRANSLATIONS.get(mi.getSimpleName());
+                        if (candidates == null || !(mi.getSelect() instanceof J.MethodInvocation)) {
                             return mi;
                         }
                         J.MethodInvocation hasMethod = (J.MethodInvocation) mi.getSelect();
@@ -64,111 +100,22 @@ public class TruthThrowableAssertions extends Recipe {
                         }
                         J.MethodInvocation assertThat = (J.MethodInvocation) hasMethod.getSelect();
 
-                        // Handle hasMessageThat().contains(text)
-                        if (CONTAINS.matches(mi) && HAS_MESSAGE_THAT.matches(hasMethod)) {
-                            maybeRemoveImport("com.google.common.truth.Truth");
-                            maybeRemoveImport("com.google.common.truth.Truth.assertThat");
-                            maybeAddImport("org.assertj.core.api.Assertions", "assertThat");
-                            return JavaTemplate.builder("assertThat(#{any()}).hasMessageContaining(#{any()})")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
-                                    .staticImports("org.assertj.core.api.Assertions.assertThat")
-                                    .build()
-                                    .apply(getCursor(),
-                                            mi.getCoordinates().replace(),
-                                            assertThat.getArguments().get(0),
-                                            mi.getArguments().get(0));
-                        }
-
-                        // Handle hasMessageThat().containsMatch(regex)
-                        if (CONTAINS_MATCH.matches(mi) && HAS_MESSAGE_THAT.matches(hasMethod)) {
-                            maybeRemoveImport("com.google.common.truth.Truth");
-                            maybeRemoveImport("com.google.common.truth.Truth.assertThat");
-                            maybeAddImport("org.assertj.core.api.Assertions", "assertThat");
-                            return JavaTemplate.builder("assertThat(#{any()}).hasMessageMatching(#{any()})")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
-                                    .staticImports("org.assertj.core.api.Assertions.assertThat")
-                                    .build()
-                                    .apply(getCursor(),
-                                            mi.getCoordinates().replace(),
-                                            assertThat.getArguments().get(0),
-                                            mi.getArguments().get(0));
-                        }
-
-                        // Handle hasMessageThat().doesNotContain(text)
-                        if (DOES_NOT_CONTAIN.matches(mi) && HAS_MESSAGE_THAT.matches(hasMethod)) {
-                            maybeRemoveImport("com.google.common.truth.Truth");
-                            maybeRemoveImport("com.google.common.truth.Truth.assertThat");
-                            maybeAddImport("org.assertj.core.api.Assertions", "assertThat");
-                            return JavaTemplate.builder("assertThat(#{any()}).hasMessageNotContaining(#{any()})")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
-                                    .staticImports("org.assertj.core.api.Assertions.assertThat")
-                                    .build()
-                                    .apply(getCursor(),
-                                            mi.getCoordinates().replace(),
-                                            assertThat.getArguments().get(0),
-                                            mi.getArguments().get(0));
-                        }
-
-                        // Handle hasMessageThat().startsWith(prefix)
-                        if (STARTS_WITH.matches(mi) && HAS_MESSAGE_THAT.matches(hasMethod)) {
-                            maybeRemoveImport("com.google.common.truth.Truth");
-                            maybeRemoveImport("com.google.common.truth.Truth.assertThat");
-                            maybeAddImport("org.assertj.core.api.Assertions", "assertThat");
-                            return JavaTemplate.builder("assertThat(#{any()}).hasMessageStartingWith(#{any()})")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
-                                    .staticImports("org.assertj.core.api.Assertions.assertThat")
-                                    .build()
-                                    .apply(getCursor(),
-                                            mi.getCoordinates().replace(),
-                                            assertThat.getArguments().get(0),
-                                            mi.getArguments().get(0));
-                        }
-
-                        // Handle hasMessageThat().endsWith(suffix)
-                        if (ENDS_WITH.matches(mi) && HAS_MESSAGE_THAT.matches(hasMethod)) {
-                            maybeRemoveImport("com.google.common.truth.Truth");
-                            maybeRemoveImport("com.google.common.truth.Truth.assertThat");
-                            maybeAddImport("org.assertj.core.api.Assertions", "assertThat");
-                            return JavaTemplate.builder("assertThat(#{any()}).hasMessageEndingWith(#{any()})")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
-                                    .staticImports("org.assertj.core.api.Assertions.assertThat")
-                                    .build()
-                                    .apply(getCursor(),
-                                            mi.getCoordinates().replace(),
-                                            assertThat.getArguments().get(0),
-                                            mi.getArguments().get(0));
+                        for (Translation translation : candidates) {
+                            if (translation.getSubject().matches(hasMethod) && translation.getMatcher().matches(mi)) {
+                                maybeRemoveImport("com.google.common.truth.Truth");
+                                maybeRemoveImport("com.google.common.truth.Truth.assertThat");
+                                maybeAddImport("org.assertj.core.api.Assertions", "assertThat");
+                                return templates.computeIfAbsent(translation.getAssertion(), assertion ->
+                                                JavaTemplate.builder("assertThat(#{any()})." + assertion + "(#{any()})")
+                                                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                                                        .staticImports("org.assertj.core.api.Assertions.assertThat")
+                                                        .build())
+                                        .apply(getCursor(),
+                                                mi.getCoordinates().replace(),
+                                                assertThat.getArguments().get(0),
+                                                mi.getArguments().get(0));
+                            }
                         }
-
-                        // Handle hasMessageThat().isEqualTo(text)
-                        if (IS_EQUAL_TO.matches(mi) && HAS_MESSAGE_THAT.matches(hasMethod)) {
-                            maybeRemoveImport("com.google.common.truth.Truth");
-                            maybeRemoveImport("com.google.common.truth.Truth.assertThat");
-                            maybeAddImport("org.assertj.core.api.Assertions", "assertThat");
-                            return JavaTemplate.builder("assertThat(#{any()}).hasMessage(#{any()})")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
-                                    .staticImports("org.assertj.core.api.Assertions.assertThat")
-                                    .build()
-                                    .apply(getCursor(),
-                                            mi.getCoordinates().replace(),
-                                            assertThat.getArguments().get(0),
-                                            mi.getArguments().get(0));
-                        }
-
-                        // Handle hasCauseThat().isInstanceOf(type)
-                        if (IS_INSTANCE_OF.matches(mi) && HAS_CAUSE_THAT.matches(hasMethod)) {
-                            maybeRemoveImport("com.google.common.truth.Truth");
-                            maybeRemoveImport("com.google.common.truth.Truth.assertThat");
-                            maybeAddImport("org.assertj.core.api.Assertions", "assertThat");
-                            return JavaTemplate.builder("assertThat(#{any()}).hasCauseInstanceOf(#{any()})")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
-                                    .staticImports("org.assertj.core.api.Assertions.assertThat")
-                                    .build()
-                                    .apply(getCursor(),
-                                            mi.getCoordinates().replace(),
-                                            assertThat.getArguments().get(0),
-                                            mi.getArguments().get(0));
-                        }
-
                         return mi;
                     }
                 });
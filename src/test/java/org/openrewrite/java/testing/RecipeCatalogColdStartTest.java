@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.config.Environment;
+import org.openrewrite.config.RecipeDescriptor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.testing.cleanup.AssertionsArgumentOrder;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+/**
+ * Covers what a command line invocation pays before any source is visited: loading the full recipe catalog of this
+ * module, and then activating and running a single small recipe. Describing a recipe must not create the matchers
+ * that only its visitor uses.
+ */
+class RecipeCatalogColdStartTest implements RewriteTest {
+
+    private static final String RECIPE = "org.openrewrite.java.testing.cleanup.AssertionsArgumentOrder";
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.parser(JavaParser.fromJavaVersion()
+          .classpathFromResources(new InMemoryExecutionContext(), "junit-jupiter-api-5"));
+    }
+
+    @Test
+    void loadCatalogAndActivateOneRecipe() {
+        Environment env = Environment.builder()
+          .scanRuntimeClasspath("org.openrewrite.java.testing")
+          .build();
+        assertThat(env.listRecipeDescriptors())
+          .extracting(RecipeDescriptor::getName)
+          .contains(RECIPE, "org.openrewrite.java.testing.junit5.JUnit4to5Migration");
+
+        //language=java
+        rewriteRun(
+          spec -> spec.recipe(env.activateRecipes(RECIPE)),
+          java(
+            """
+              import static org.junit.jupiter.api.Assertions.assertEquals;
+
+              class MyTest {
+                  void test(String actual) {
+                      assertEquals(actual, "expected");
+                  }
+              }
+              """,
+            """
+              import static org.junit.jupiter.api.Assertions.assertEquals;
+
+              class MyTest {
+                  void test(String actual) {
+                      assertEquals("expected", actual);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void describingRecipeLeavesMatchersUninitialized() throws Exception {
+        // Other tests in this JVM may already have initialized the holder, so load the recipe afresh
+        try (IsolatingClassLoader loader = new IsolatingClassLoader(
+          AssertionsArgumentOrder.class.getProtectionDomain().getCodeSource().getLocation())) {
+            Recipe recipe = (Recipe) Class.forName(RECIPE, true, loader).getDeclaredConstructor().newInstance();
+
+            assertThat(recipe.getDescriptor().getName()).isEqualTo(RECIPE);
+            assertThat(loader.loaded).doesNotContain(RECIPE + "$Matchers");
+
+            recipe.getVisitor();
+            assertThat(loader.loaded).contains(RECIPE + "$Matchers");
+        }
+    }
+
+    /**
+     * Defines the classes of this module itself, so that a holder class is only loaded once something references it,
+     * and records their names. Everything else, like {@link Recipe}, is shared with the test.
+     */
+    private static class IsolatingClassLoader extends URLClassLoader {
+        final Set<String> loaded = ConcurrentHashMap.newKeySet();
+
+        IsolatingClassLoader(URL mainClasses) {
+            super(new URL[]{mainClasses}, RecipeCatalogColdStartTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.startsWith("org.openrewrite.java.testing.")) {
+                synchronized (getClassLoadingLock(name)) {
+                    Class<?> c = findLoadedClass(name);
+                    if (c == null) {
+                        try {
+                            c = findClass(name);
+                            loaded.add(name);
+                        } catch (ClassNotFoundException e) {
+                            return super.loadClass(name, resolve);
+                        }
+                    }
+                    if (resolve) {
+                        resolveClass(c);
+                    }
+                    return c;
+                }
+            }
+            return super.loadClass(name, resolve);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.Recipe;
+import org.openrewrite.java.testing.assertj.SimplifyAssertJAssertion;
+import org.openrewrite.java.testing.assertj.SimplifyChainedAssertJAssertion;
+import org.openrewrite.java.testing.testcontainers.ExplicitContainerImage;
+import org.openrewrite.java.testing.testcontainers.ReplaceContainerImageName;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Visitors are requested for every source file, so building one should reuse the matchers a recipe derives from its
+ * options rather than compile them again.
+ */
+class RecipeVisitorAllocationTest {
+
+    @Test
+    void explicitContainerImage() throws Exception {
+        assertMemoizedAcrossVisitors(
+          new ExplicitContainerImage("org.testcontainers.containers.NginxContainer", "nginx:1.9.4", null),
+          "defaultConstructor");
+    }
+
+    @Test
+    void replaceContainerImageName() throws Exception {
+        assertMemoizedAcrossVisitors(
+          new ReplaceContainerImageName(
+            "org.testcontainers.containers.KafkaContainer", "confluentinc/cp-kafka", "apache/kafka-native:4.0.2"),
+          "containerConstructor");
+    }
+
+    @Test
+    void simplifyAssertJAssertion() throws Exception {
+        assertMemoizedAcrossVisitors(
+          new SimplifyAssertJAssertion("hasSize", "0", "isEmpty", "java.util.Collection"),
+          "assertToReplaceMatcher");
+    }
+
+    @Test
+    void simplifyChainedAssertJAssertion() throws Exception {
+        assertMemoizedAcrossVisitors(
+          new SimplifyChainedAssertJAssertion("isEmpty", "isTrue", "isEmpty", "java.lang.String"),
+          "rules");
+    }
+
+    /**
+     * Asserts the lazy getter backing the given field is computed by the first visitor and reused by the next.
+     */
+    private static void assertMemoizedAcrossVisitors(Recipe recipe, String fieldName) throws Exception {
+        Field field = recipe.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        AtomicReference<?> memoized = (AtomicReference<?>) field.get(recipe);
+
+        assertThat(recipe.getVisitor()).isNotNull();
+        Object first = memoized.get();
+        assertThat(first).as("%s after the first visitor", fieldName).isNotNull();
+
+        assertThat(recipe.getVisitor()).isNotNull();
+        assertThat(memoized.get()).as("%s after the second visitor", fieldName).isSameAs(first);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.archunit;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.*;
+import static org.openrewrite.maven.Assertions.pomXml;
+
+class UseAnalyzeClassesTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion().classpath("archunit-0.23.1", "junit-jupiter-api"))
+          .recipe(new UseAnalyzeClasses());
+    }
+
+    @DocumentExample
+    @Test
+    void importPerTestToAnalyzeClasses() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import com.tngtech.archunit.core.domain.JavaClasses;
+              import com.tngtech.archunit.core.importer.ClassFileImporter;
+              import com.tngtech.archunit.core.importer.ImportOption;
+              import org.junit.jupiter.api.Test;
+
+              import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+
+              class ArchitectureTest {
+                  @Test
+                  void servicesShouldNotDependOnControllers() {
+                      JavaClasses classes = new ClassFileImporter().withImportOption(ImportOption.Predefined.DO_NOT_INCLUDE_TESTS).importPackages("com.acme..");
+                      noClasses().that().resideInAPackage("..service..").should().dependOnClassesThat().resideInAPackage("..controller..").check(classes);
+                  }
+
+                  @Test
+                  void repositoriesShouldNotDependOnServices() {
+                      noClasses().that().resideInAPackage("..repository..").should().dependOnClassesThat().resideInAPackage("..service..").check(new ClassFileImporter().withImportOption(ImportOption.Predefined.DO_NOT_INCLUDE_TESTS).importPackages("com.acme.."));
+                  }
+              }
+              """,
+            """
+              import com.tngtech.archunit.core.importer.ImportOption;
+              import com.tngtech.archunit.junit.AnalyzeClasses;
+              import com.tngtech.archunit.junit.ArchTest;
+              import com.tngtech.archunit.lang.ArchRule;
+
+              import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+
+              @AnalyzeClasses(packages = "com.acme..", importOptions = ImportOption.DoNotIncludeTests.class)
+              class ArchitectureTest {
+                  @ArchTest
+                  static final ArchRule servicesShouldNotDependOnControllers = noClasses().that().resideInAPackage("..service..").should().dependOnClassesThat().resideInAPackage("..controller..");
+
+                  @ArchTest
+                  static final ArchRule repositoriesShouldNotDependOnServices = noClasses().that().resideInAPackage("..repository..").should().dependOnClassesThat().resideInAPackage("..service..");
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void differentLocationsPerMethod() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import com.tngtech.archunit.core.importer.ClassFileImporter;
+              import org.junit.jupiter.api.Test;
+
+              import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+
+              class ArchitectureTest {
+                  @Test
+                  void services() {
+                      noClasses().should().accessClassesThat().resideInAPackage("..controller..").check(new ClassFileImporter().importPackages("com.acme.service"));
+                  }
+
+                  @Test
+                  void repositories() {
+                      noClasses().should().accessClassesThat().resideInAPackage("..service..").check(new ClassFileImporter().importPackages("com.acme.repository"));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void ruleDependsOnLocalState() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import com.tngtech.archunit.core.importer.ClassFileImporter;
+              import org.junit.jupiter.api.Test;
+
+              import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+
+              class ArchitectureTest {
+                  String layer = "..controller..";
+
+                  @Test
+                  void services() {
+                      noClasses().should().accessClassesThat().resideInAPackage(layer).check(new ClassFileImporter().importPackages("com.acme"));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void addEngineToProjectWithoutIt() {
+        rewriteRun(
+          spec -> spec.expectedCyclesThatMakeChanges(2),
+          mavenProject("project",
+            //language=java
+            srcTestJava(java(
+              """
+                import com.tngtech.archunit.core.importer.ClassFileImporter;
+                import org.junit.jupiter.api.Test;
+
+                import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+
+                class ArchitectureTest {
+                    @Test
+                    void services() {
+                        noClasses().should().accessClassesThat().resideInAPackage("..controller..").check(new ClassFileImporter().importPackages("com.acme"));
+                    }
+                }
+                """,
+              """
+                import com.tngtech.archunit.junit.AnalyzeClasses;
+                import com.tngtech.archunit.junit.ArchTest;
+                import com.tngtech.archunit.lang.ArchRule;
+
+                import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+
+                @AnalyzeClasses(packages = "com.acme")
+                class ArchitectureTest {
+                    @ArchTest
+                    static final ArchRule services = noClasses().should().accessClassesThat().resideInAPackage("..controller..");
+                }
+                """
+            )),
+            pomXml(
+              //language=xml
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>org.example</groupId>
+                    <artifactId>project</artifactId>
+                    <version>0.0.1</version>
+                    <dependencies>
+                        <dependency>
+                            <groupId>com.tngtech.archunit</groupId>
+                            <artifactId>archunit</artifactId>
+                            <version>1.3.0</version>
+                            <scope>test</scope>
+                        </dependency>
+                        <dependency>
+                            <groupId>org.junit.jupiter</groupId>
+                            <artifactId>junit-jupiter</artifactId>
+                            <version>5.11.4</version>
+                            <scope>test</scope>
+                        </dependency>
+                    </dependencies>
+                </project>
+                """,
+              spec -> spec.after(pom -> assertThat(pom)
+                .containsPattern("<artifactId>archunit-junit5</artifactId>\\s*<version>1\\.[^<]+</version>\\s*<scope>test</scope>")
+                .actual())
+            )
+          )
+        );
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.assertj;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class JUnitAssertionsToAssertThatTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "junit-jupiter-api-5"))
+          .recipe(new JUnitAssertionsToAssertThat());
+    }
+
+    @DocumentExample
+    @Test
+    void allAssertionsInOnePass() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import static org.junit.jupiter.api.Assertions.*;
+
+              class MyTest {
+                  void test(Object actual, Object expected, double value) {
+                      assertEquals(expected, actual);
+                      assertNotEquals(expected, actual, "differs");
+                      assertEquals(1.0, value, 0.1);
+                      assertSame(expected, actual);
+                      assertTrue(actual != null);
+                      assertFalse(actual == null, "not null");
+                      assertNull(expected);
+                      assertNotNull(actual);
+                  }
+              }
+              """,
+            """
+              import static org.assertj.core.api.Assertions.assertThat;
+              import static org.assertj.core.api.Assertions.within;
+
+              class MyTest {
+                  void test(Object actual, Object expected, double value) {
+                      assertThat(actual).isEqualTo(expected);
+                      assertThat(actual).as("differs").isNotEqualTo(expected);
+                      assertThat(value).isCloseTo(1.0, within(0.1));
+                      assertThat(actual).isSameAs(expected);
+                      assertThat(actual != null).isTrue();
+                      assertThat(actual == null).as("not null").isFalse();
+                      assertThat(expected).isNull();
+                      assertThat(actual).isNotNull();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void leaveOtherAssertionsAlone() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+              import static org.junit.jupiter.api.Assertions.assertTrue;
+
+              class MyTest {
+                  void test(int[] actual, int[] expected) {
+                      assertArrayEquals(expected, actual);
+                      assertTrue(() -> actual.length > 0);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
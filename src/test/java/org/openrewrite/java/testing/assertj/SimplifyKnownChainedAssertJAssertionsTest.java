@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.assertj;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class SimplifyKnownChainedAssertJAssertionsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "assertj-core-3"))
+          .recipe(new SimplifyKnownChainedAssertJAssertions());
+    }
+
+    @DocumentExample
+    @Test
+    void simplifyAllChainedAssertionsInOneVisit() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+              import java.util.Map;
+
+              import static org.assertj.core.api.Assertions.assertThat;
+
+              class MyTest {
+                  void test(String s, List<String> list, Map<String, Integer> map) {
+                      assertThat(s.trim().isEmpty()).isTrue();
+                      assertThat(list.size()).as("size").isEqualTo(2);
+                      assertThat(map.containsKey("a")).isTrue();
+                  }
+              }
+              """,
+            """
+              import java.util.List;
+              import java.util.Map;
+
+              import static org.assertj.core.api.Assertions.assertThat;
+
+              class MyTest {
+                  void test(String s, List<String> list, Map<String, Integer> map) {
+                      assertThat(s).isBlank();
+                      assertThat(list).as("size").hasSize(2);
+                      assertThat(map).containsKey("a");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void firstRuleForRequiredTypeApplies() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.nio.file.Path;
+
+              import static org.assertj.core.api.Assertions.assertThat;
+
+              class MyTest {
+                  void test(String s, Path path, Path other) {
+                      assertThat(s.startsWith("a")).isTrue();
+                      assertThat(path.startsWith(other)).isTrue();
+                  }
+              }
+              """,
+            """
+              import java.nio.file.Path;
+
+              import static org.assertj.core.api.Assertions.assertThat;
+
+              class MyTest {
+                  void test(String s, Path path, Path other) {
+                      assertThat(s).startsWith("a");
+                      assertThat(path).startsWithRaw(other);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeWithoutMatchingRule() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import static org.assertj.core.api.Assertions.assertThat;
+
+              class MyTest {
+                  void test(StringBuilder sb) {
+                      assertThat(sb.length()).isZero();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
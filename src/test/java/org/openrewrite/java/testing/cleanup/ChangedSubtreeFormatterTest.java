@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.cleanup;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.test.RewriteTest.toRecipe;
+
+class ChangedSubtreeFormatterTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(toRecipe(() -> new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                J.MethodDeclaration md = super.visitMethodDeclaration(method, ctx);
+                if (!"tearDown".equals(md.getSimpleName()) || md.getBody() == null ||
+                        md.getBody().getStatements().size() != 1) {
+                    return md;
+                }
+                J.MethodDeclaration changed = JavaTemplate.apply("System.out.println(\"done\");",
+                        getCursor(), md.getBody().getCoordinates().lastStatement());
+                return ChangedSubtreeFormatter.maybeFormat(md, changed, ctx, getCursor().getParentOrThrow());
+            }
+        }));
+    }
+
+    @Test
+    void formatsInsertedStatementOnly() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              class A {
+                  int  unchanged=1;
+
+                  void tearDown() {
+                      int  x=1;
+                  }
+              }
+              """,
+            """
+              class A {
+                  int  unchanged=1;
+
+                  void tearDown() {
+                      int  x=1;
+                      System.out.println("done");
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.cleanup;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.kotlin.KotlinParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.kotlin.Assertions.kotlin;
+
+class CleanupTestingFrameworkImportsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(),
+              "junit-4", "hamcrest-3", "assertj-core-3", "mockito-all-1.10"))
+          .recipe(new CleanupTestingFrameworkImports());
+    }
+
+    @DocumentExample
+    @Test
+    void removesUnusedImportsOfAllFrameworks() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.junit.Assert;
+              import org.junit.Test;
+              import org.mockito.Mock;
+
+              import static org.assertj.core.api.Assertions.assertThat;
+              import static org.assertj.core.api.Assertions.fail;
+              import static org.hamcrest.Matchers.is;
+              import static org.mockito.Mockito.verify;
+
+              public class MyTest {
+                  @Test
+                  public void test() {
+                      assertThat(1).isEqualTo(1);
+                  }
+              }
+              """,
+            """
+              import org.junit.Test;
+
+              import static org.assertj.core.api.Assertions.assertThat;
+
+              public class MyTest {
+                  @Test
+                  public void test() {
+                      assertThat(1).isEqualTo(1);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepsUsedImports() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import java.util.List;
+
+              import org.junit.Test;
+              import org.mockito.Mock;
+
+              import static org.hamcrest.MatcherAssert.assertThat;
+              import static org.hamcrest.Matchers.hasSize;
+              import static org.mockito.Mockito.verify;
+
+              public class MyTest {
+                  @Mock
+                  List<String> list;
+
+                  @Test
+                  public void test() {
+                      assertThat(list, hasSize(0));
+                      verify(list).size();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void removesStaticAssertionsImportsInKotlinWithWildcardImport() {
+        rewriteRun(
+          spec -> spec
+            .parser(KotlinParser.builder()
+              .classpathFromResources(new InMemoryExecutionContext(), "junit-jupiter-api-5"))
+            .typeValidationOptions(TypeValidation.all().methodInvocations(false)),
+          //language=kotlin
+          kotlin(
+            """
+              import org.junit.jupiter.api.*
+              import org.junit.jupiter.api.Assertions.assertNull
+
+              class ATest {
+                  @Test
+                  fun testSomething() {
+                      assertNull(null)
+                  }
+              }
+              """,
+            """
+              import org.junit.jupiter.api.*
+
+              class ATest {
+                  @Test
+                  fun testSomething() {
+                      assertNull(null)
+                  }
+              }
+              """
+          )
+        );
+    }
+}
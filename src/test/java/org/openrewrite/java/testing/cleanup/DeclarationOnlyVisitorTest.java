@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.cleanup;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.J;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures how much of a long test class the declaration-only traversal avoids, by counting the visited nodes.
+ */
+class DeclarationOnlyVisitorTest {
+
+    private static final int TEST_METHODS = 300;
+
+    private static J.CompilationUnit longTestClass() {
+        StringBuilder source = new StringBuilder("import org.junit.Test;\n\nclass LongTest {\n")
+                .append("    private final java.util.List<String> names = java.util.Arrays.asList(\"a\", \"b\", \"c\");\n");
+        for (int i = 0; i < TEST_METHODS; i++) {
+            source.append("    @Test\n    public void test").append(i).append("() {\n")
+                    .append("        int sum = 0;\n")
+                    .append("        for (String name : names) {\n")
+                    .append("            sum += name.length() * ").append(i).append(";\n")
+                    .append("        }\n")
+                    .append("        if (sum < 0) {\n")
+                    .append("            throw new IllegalStateException(\"negative \" + sum);\n")
+                    .append("        }\n")
+                    .append("    }\n");
+        }
+        source.append("}\n");
+        return JavaParser.fromJavaVersion()
+                .classpathFromResources(new InMemoryExecutionContext(), "junit-4")
+                .build()
+                .parse(source.toString())
+                .map(J.CompilationUnit.class::cast)
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    @Test
+    void avoidsTraversingMethodBodiesAndFieldInitializers() {
+        J.CompilationUnit cu = longTestClass();
+        AtomicInteger methods = new AtomicInteger();
+        AtomicInteger annotations = new AtomicInteger();
+
+        AtomicInteger all = new AtomicInteger();
+        new JavaIsoVisitor<AtomicInteger>() {
+            @Override
+            public J preVisit(J tree, AtomicInteger count) {
+                count.incrementAndGet();
+                return tree;
+            }
+        }.visit(cu, all);
+
+        AtomicInteger declarations = new AtomicInteger();
+        J.CompilationUnit after = (J.CompilationUnit) new DeclarationOnlyVisitor<AtomicInteger>() {
+            @Override
+            public J preVisit(J tree, AtomicInteger count) {
+                count.incrementAndGet();
+                return tree;
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, AtomicInteger count) {
+                methods.incrementAndGet();
+                return super.visitMethodDeclaration(method, count);
+            }
+
+            @Override
+            public J.Annotation visitAnnotation(J.Annotation annotation, AtomicInteger count) {
+                annotations.incrementAndGet();
+                return super.visitAnnotation(annotation, count);
+            }
+        }.visit(cu, declarations);
+
+        assertThat(after).isSameAs(cu);
+        assertThat(methods).hasValue(TEST_METHODS);
+        assertThat(annotations).hasValue(TEST_METHODS);
+        // Each test method contributes a few dozen nodes to its body, but only a handful to its declaration
+        assertThat(declarations.get()).isLessThan(all.get() / 4);
+    }
+
+    @Test
+    void optInToMethodBodies() {
+        J.CompilationUnit cu = longTestClass();
+        AtomicInteger all = new AtomicInteger();
+        new JavaIsoVisitor<AtomicInteger>() {
+            @Override
+            public J preVisit(J tree, AtomicInteger count) {
+                count.incrementAndGet();
+                return tree;
+            }
+        }.visit(cu, all);
+
+        AtomicInteger visited = new AtomicInteger();
+        new DeclarationOnlyVisitor<AtomicInteger>() {
+            @Override
+            protected boolean isVisitingMethodBodies() {
+                return true;
+            }
+
+            @Override
+            protected boolean isVisitingFieldInitializers() {
+                return true;
+            }
+
+            @Override
+            public J preVisit(J tree, AtomicInteger count) {
+                count.incrementAndGet();
+                return tree;
+            }
+        }.visit(cu, visited);
+
+        assertThat(visited).hasValue(all.get());
+    }
+}
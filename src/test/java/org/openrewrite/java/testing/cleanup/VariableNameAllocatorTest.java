@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.cleanup;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.test.RewriteTest.toRecipe;
+
+class VariableNameAllocatorTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(toRecipe(() -> new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                J.MethodDeclaration md = super.visitMethodDeclaration(method, ctx);
+                if (!"test".equals(md.getSimpleName()) || md.getBody() == null ||
+                        md.getBody().getStatements().size() != 1) {
+                    return md;
+                }
+                J.MethodDeclaration changed = md;
+                for (int i = 0; i < 2; i++) {
+                    String name = VariableNameAllocator.of(getCursor()).allocate("value", getCursor());
+                    changed = JavaTemplate.apply("int " + name + " = 0;",
+                            updateCursor(changed), changed.getBody().getCoordinates().lastStatement());
+                }
+                return ChangedSubtreeFormatter.maybeFormat(md, changed, ctx, getCursor().getParentOrThrow());
+            }
+        }));
+    }
+
+    @Test
+    void skipsNamesInScopeAndNamesAllocatedBefore() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              class A {
+                  int value;
+
+                  void test() {
+                      int value1 = 1;
+                  }
+
+                  void other() {
+                      Runnable r = () -> {
+                          int value2 = 2;
+                      };
+                  }
+              }
+              """,
+            """
+              class A {
+                  int value;
+
+                  void test() {
+                      int value1 = 1;
+                      int value2 = 0;
+                      int value3 = 0;
+                  }
+
+                  void other() {
+                      Runnable r = () -> {
+                          int value2 = 2;
+                      };
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.datafaker;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class ShareFakerInstanceTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new ShareFakerInstance())
+          .parser(JavaParser.fromJavaVersion().classpath("datafaker", "junit-jupiter-api"));
+    }
+
+    @DocumentExample
+    @Test
+    void sharePerLocale() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import net.datafaker.Faker;
+              import org.junit.jupiter.api.Test;
+
+              import java.util.Locale;
+
+              class FixtureTest {
+                  @Test
+                  void name() {
+                      Faker faker = new Faker();
+                      String name = faker.name().fullName();
+                  }
+
+                  @Test
+                  void address() {
+                      String address = new Faker().address().fullAddress();
+                  }
+
+                  @Test
+                  void germanName() {
+                      String name = new Faker(Locale.GERMANY).name().fullName();
+                  }
+              }
+              """,
+            """
+              import net.datafaker.Faker;
+              import org.junit.jupiter.api.Test;
+
+              import java.util.Locale;
+
+              class FixtureTest {
+                  private static final Faker FAKER = new Faker();
+                  private static final Faker FAKER_GERMANY = new Faker(Locale.GERMANY);
+
+                  @Test
+                  void name() {
+                      Faker faker = FAKER;
+                      String name = faker.name().fullName();
+                  }
+
+                  @Test
+                  void address() {
+                      String address = FAKER.address().fullAddress();
+                  }
+
+                  @Test
+                  void germanName() {
+                      String name = FAKER_GERMANY.name().fullName();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reuseExistingStaticInstance() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import net.datafaker.Faker;
+              import org.junit.jupiter.api.Test;
+
+              class FixtureTest {
+                  static final Faker faker = new Faker();
+
+                  @Test
+                  void name() {
+                      String name = new Faker().name().fullName();
+                  }
+              }
+              """,
+            """
+              import net.datafaker.Faker;
+              import org.junit.jupiter.api.Test;
+
+              class FixtureTest {
+                  static final Faker faker = new Faker();
+
+                  @Test
+                  void name() {
+                      String name = faker.name().fullName();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void declareAfterLocaleFieldOfTheClass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import net.datafaker.Faker;
+              import org.junit.jupiter.api.Test;
+
+              import java.util.Locale;
+
+              class FixtureTest {
+                  @Test
+                  void name() {
+                      String name = new Faker(LOCALE).name().fullName();
+                  }
+
+                  private static final Locale LOCALE = Locale.GERMANY;
+              }
+              """,
+            """
+              import net.datafaker.Faker;
+              import org.junit.jupiter.api.Test;
+
+              import java.util.Locale;
+
+              class FixtureTest {
+                  @Test
+                  void name() {
+                      String name = FAKER_LOCALE.name().fullName();
+                  }
+
+                  private static final Locale LOCALE = Locale.GERMANY;
+                  private static final Faker FAKER_LOCALE = new Faker(LOCALE);
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepLocaleFromFactoryMethod() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import net.datafaker.Faker;
+              import org.junit.jupiter.api.Test;
+
+              import java.util.Locale;
+
+              class FixtureTest {
+                  @Test
+                  void name() {
+                      String name = new Faker(Locale.getDefault()).name().fullName();
+                  }
+
+                  @Test
+                  void address() {
+                      String address = new Faker(randomLocale()).address().fullAddress();
+                  }
+
+                  static Locale randomLocale() {
+                      return Locale.getAvailableLocales()[0];
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepSeededFaker() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import net.datafaker.Faker;
+              import org.junit.jupiter.api.Test;
+
+              import java.util.Random;
+
+              class FixtureTest {
+                  @Test
+                  void name() {
+                      String name = new Faker(new Random(42)).name().fullName();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
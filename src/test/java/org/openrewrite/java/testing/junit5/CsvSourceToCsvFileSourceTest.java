@@ -0,0 +1,222 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.junit5;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.test.SourceSpecs.text;
+
+class CsvSourceToCsvFileSourceTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "junit-jupiter-api-5", "junit-jupiter-params-5"))
+          .recipe(new CsvSourceToCsvFileSource(2));
+    }
+
+    @DocumentExample
+    @Test
+    void moveCsvSourceToFile() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.junit.jupiter.params.ParameterizedTest;
+              import org.junit.jupiter.params.provider.CsvSource;
+
+              class ATest {
+                  @ParameterizedTest
+                  @CsvSource(value = {"apple, 1", "banana, 2", "'cherry, ripe', 3"}, nullValues = "NIL")
+                  void fruit(String name, int rank) {
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import org.junit.jupiter.params.ParameterizedTest;
+              import org.junit.jupiter.params.provider.CsvFileSource;
+
+              class ATest {
+                  @ParameterizedTest
+                  @CsvFileSource(resources = "/com/example/ATest/fruit.csv", nullValues = "NIL", quoteCharacter = '\\'')
+                  void fruit(String name, int rank) {
+                  }
+              }
+              """,
+            spec -> spec.path("src/test/java/com/example/ATest.java")
+          ),
+          text(
+            null,
+            """
+              apple, 1
+              banana, 2
+              'cherry, ripe', 3
+              """,
+            spec -> spec.path("src/test/resources/com/example/ATest/fruit.csv")
+          )
+        );
+    }
+
+    @Test
+    void moveValueSourceToFile() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.junit.jupiter.params.ParameterizedTest;
+              import org.junit.jupiter.params.provider.ValueSource;
+
+              class ATest {
+                  @ParameterizedTest
+                  @ValueSource(strings = {"apple", "banana, ripe", "#cherry"})
+                  void fruit(String name) {
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import org.junit.jupiter.params.ParameterizedTest;
+              import org.junit.jupiter.params.provider.CsvFileSource;
+
+              class ATest {
+                  @ParameterizedTest
+                  @CsvFileSource(resources = "/com/example/ATest/fruit.csv")
+                  void fruit(String name) {
+                  }
+              }
+              """,
+            spec -> spec.path("src/test/java/com/example/ATest.java")
+          ),
+          text(
+            null,
+            """
+              apple
+              "banana, ripe"
+              "#cherry"
+              """,
+            spec -> spec.path("src/test/resources/com/example/ATest/fruit.csv")
+          )
+        );
+    }
+
+    @Test
+    void avoidExistingResource() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.junit.jupiter.params.ParameterizedTest;
+              import org.junit.jupiter.params.provider.ValueSource;
+
+              class ATest {
+                  @ParameterizedTest
+                  @ValueSource(ints = {1, 2, 3})
+                  void number(int n) {
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import org.junit.jupiter.params.ParameterizedTest;
+              import org.junit.jupiter.params.provider.CsvFileSource;
+
+              class ATest {
+                  @ParameterizedTest
+                  @CsvFileSource(resources = "/com/example/ATest/number_2.csv")
+                  void number(int n) {
+                  }
+              }
+              """,
+            spec -> spec.path("src/test/java/com/example/ATest.java")
+          ),
+          text(
+            "0",
+            spec -> spec.path("src/test/resources/com/example/ATest/number.csv")
+          ),
+          text(
+            null,
+            """
+              1
+              2
+              3
+              """,
+            spec -> spec.path("src/test/resources/com/example/ATest/number_2.csv")
+          )
+        );
+    }
+
+    @Test
+    void keepSmallTables() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.junit.jupiter.params.ParameterizedTest;
+              import org.junit.jupiter.params.provider.CsvSource;
+
+              class ATest {
+                  @ParameterizedTest
+                  @CsvSource({"apple, 1", "banana, 2"})
+                  void fruit(String name, int rank) {
+                  }
+              }
+              """,
+            spec -> spec.path("src/test/java/com/example/ATest.java")
+          )
+        );
+    }
+
+    @Test
+    void keepCommentedRows() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.junit.jupiter.params.ParameterizedTest;
+              import org.junit.jupiter.params.provider.CsvSource;
+
+              class ATest {
+                  @ParameterizedTest
+                  @CsvSource({"apple, 1", "banana, 2", "#cherry, 3"})
+                  void fruit(String name, int rank) {
+                  }
+              }
+              """,
+            spec -> spec.path("src/test/java/com/example/ATest.java")
+          )
+        );
+    }
+}
@@ -1831,4 +1831,63 @@ class ExpectedExceptionToAssertThrowsTest implements RewriteTest {
             );
         }
     }
+
+    @Test
+    void onlyMethodsUsingTheRuleAreRewritten() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.junit.Rule;
+              import org.junit.rules.ExpectedException;
+
+              public class SimpleExpectedExceptionTest {
+                  @Rule
+                  public ExpectedException thrown = ExpectedException.none();
+
+                  public void inAnonymousClass() {
+                      Runnable runnable = new Runnable() {
+                          @Override
+                          public void run() {
+                              thrown.expect(NullPointerException.class);
+                              throw new NullPointerException();
+                          }
+                      };
+                      runnable.run();
+                  }
+
+                  public void withoutRule() {
+                      String value = "a";
+                      value = "b";
+                      System.out.println(value);
+                  }
+              }
+              """,
+            """
+              import static org.junit.jupiter.api.Assertions.assertThrows;
+
+              public class SimpleExpectedExceptionTest {
+
+                  public void inAnonymousClass() {
+                      Runnable runnable = new Runnable() {
+                          @Override
+                          public void run() {
+                              assertThrows(NullPointerException.class, () -> {
+                                  throw new NullPointerException();
+                              });
+                          }
+                      };
+                      runnable.run();
+                  }
+
+                  public void withoutRule() {
+                      String value = "a";
+                      value = "b";
+                      System.out.println(value);
+                  }
+              }
+              """
+          )
+        );
+    }
 }
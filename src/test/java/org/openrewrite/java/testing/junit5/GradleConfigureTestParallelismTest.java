@@ -0,0 +1,220 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.junit5;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.gradle.Assertions.buildGradle;
+import static org.openrewrite.gradle.Assertions.buildGradleKts;
+import static org.openrewrite.java.Assertions.*;
+
+class GradleConfigureTestParallelismTest implements RewriteTest {
+
+    //language=java
+    private static final String JUPITER_TEST = """
+      import org.junit.jupiter.api.Test;
+
+      class ATest {
+          @Test
+          void test() {
+          }
+      }
+      """;
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new GradleConfigureTestParallelism())
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "junit-jupiter-api-5", "mockito-core-5", "mockwebserver-3.14"));
+    }
+
+    @DocumentExample
+    @Test
+    void addToExistingTestTask() {
+        rewriteRun(
+          mavenProject("project",
+            srcTestJava(java(JUPITER_TEST)),
+            //language=groovy
+            buildGradle(
+              """
+                plugins {
+                    id 'java'
+                }
+                test {
+                    useJUnitPlatform()
+                }
+                """,
+              """
+                plugins {
+                    id 'java'
+                }
+                test {
+                    useJUnitPlatform()
+                    maxParallelForks = Runtime.runtime.availableProcessors().intdiv(2) ?: 1
+                    systemProperty 'junit.jupiter.execution.parallel.enabled', 'true'
+                    systemProperty 'junit.jupiter.execution.parallel.mode.default', 'same_thread'
+                    systemProperty 'junit.jupiter.execution.parallel.mode.classes.default', 'concurrent'
+                }
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void forkEveryForStaticMocks() {
+        rewriteRun(
+          mavenProject("project",
+            //language=java
+            srcTestJava(java(
+              """
+                import org.junit.jupiter.api.Test;
+                import org.mockito.MockedStatic;
+
+                import static org.mockito.Mockito.mockStatic;
+
+                class ATest {
+                    @Test
+                    void test() {
+                        try (MockedStatic<Math> math = mockStatic(Math.class)) {
+                            System.setOut(null);
+                        }
+                    }
+                }
+                """
+            )),
+            //language=groovy
+            buildGradle(
+              """
+                plugins {
+                    id 'java'
+                }
+                tasks.withType(Test).configureEach {
+                    maxParallelForks = 2
+                    useJUnitPlatform()
+                }
+                """,
+              """
+                plugins {
+                    id 'java'
+                }
+                tasks.withType(Test).configureEach {
+                    maxParallelForks = 2
+                    useJUnitPlatform()
+                    forkEvery = 100
+                }
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void kotlinDsl() {
+        rewriteRun(
+          mavenProject("project",
+            srcTestJava(java(JUPITER_TEST)),
+            //language=kotlin
+            buildGradleKts(
+              """
+                plugins {
+                    java
+                }
+                tasks.test {
+                    useJUnitPlatform()
+                }
+                """,
+              """
+                plugins {
+                    java
+                }
+                tasks.test {
+                    useJUnitPlatform()
+                    maxParallelForks = (Runtime.getRuntime().availableProcessors() / 2).coerceAtLeast(1)
+                    systemProperty("junit.jupiter.execution.parallel.enabled", "true")
+                    systemProperty("junit.jupiter.execution.parallel.mode.default", "same_thread")
+                    systemProperty("junit.jupiter.execution.parallel.mode.classes.default", "concurrent")
+                }
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void addTestTaskToKotlinDsl() {
+        rewriteRun(
+          mavenProject("project",
+            srcTestJava(java(JUPITER_TEST)),
+            //language=kotlin
+            buildGradleKts(
+              """
+                plugins {
+                    java
+                }
+                """,
+              """
+                plugins {
+                    java
+                }
+                tasks.withType<Test>().configureEach {
+                    maxParallelForks = (Runtime.getRuntime().availableProcessors() / 2).coerceAtLeast(1)
+                    systemProperty("junit.jupiter.execution.parallel.enabled", "true")
+                    systemProperty("junit.jupiter.execution.parallel.mode.default", "same_thread")
+                    systemProperty("junit.jupiter.execution.parallel.mode.classes.default", "concurrent")
+                }
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void leaveModuleWithFixedPortsAlone() {
+        rewriteRun(
+          mavenProject("project",
+            //language=java
+            srcTestJava(java(
+              """
+                import okhttp3.mockwebserver.MockWebServer;
+
+                class ATest {
+                    void start(MockWebServer server) throws Exception {
+                        server.start(8080);
+                    }
+                }
+                """
+            )),
+            //language=groovy
+            buildGradle(
+              """
+                plugins {
+                    id 'java'
+                }
+                test {
+                    useJUnitPlatform()
+                }
+                """
+            )
+          )
+        );
+    }
+}
@@ -222,6 +222,30 @@ class GradleUseJunitJupiterTest implements RewriteTest {
         );
     }
 
+    @Test
+    void tasksTest() {
+        rewriteRun(
+          //language=groovy
+          buildGradle(
+            """
+              plugins {
+                  id 'java'
+              }
+              tasks.test {
+              }
+              """,
+            """
+              plugins {
+                  id 'java'
+              }
+              tasks.test {
+                  useJUnitPlatform()
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void leaveOtherTestDslAlone() {
         rewriteRun(
@@ -21,6 +21,7 @@ import org.openrewrite.InMemoryExecutionContext;
 import org.openrewrite.java.JavaParser;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
 
 import static org.openrewrite.java.Assertions.java;
 
@@ -35,7 +36,7 @@ class JUnitParamsRunnerToParameterizedTest implements RewriteTest {
               "junit-4",
               "JUnitParams-1.1",
               "hamcrest-3"))
-          .recipe(new JUnitParamsRunnerToParameterized());
+          .recipe(new JUnitParamsRunnerToParameterized(null));
     }
 
     @DocumentExample
@@ -409,4 +410,53 @@ class JUnitParamsRunnerToParameterizedTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void streamArrayRows() {
+        //language=java
+        rewriteRun(
+          spec -> spec.recipe(new JUnitParamsRunnerToParameterized(true))
+            .typeValidationOptions(TypeValidation.none()),
+          java(
+            """
+              import org.junit.Test;
+              import org.junit.runner.RunWith;
+              import junitparams.JUnitParamsRunner;
+              import junitparams.Parameters;
+
+              @RunWith(JUnitParamsRunner.class)
+              public class PersonTests {
+
+                  @Test
+                  @Parameters
+                  public void personIsAdult(int age, boolean valid) {
+                  }
+
+                  private Object[] parametersForPersonIsAdult() {
+                      return new Object[]{new Object[]{13, false}, new Object[]{17, false}};
+                  }
+              }
+              """,
+            """
+              import org.junit.jupiter.params.ParameterizedTest;
+              import org.junit.jupiter.params.provider.Arguments;
+              import org.junit.jupiter.params.provider.MethodSource;
+
+              import java.util.stream.Stream;
+
+              public class PersonTests {
+
+                  @ParameterizedTest
+                  @MethodSource("parametersForPersonIsAdult")
+                  public void personIsAdult(int age, boolean valid) {
+                  }
+
+                  private static Stream<Arguments> parametersForPersonIsAdult() {
+                      return Stream.<Object[]>of(new Object[]{13, false}, new Object[]{17, false}).map(Arguments::of);
+                  }
+              }
+              """
+          )
+        );
+    }
 }
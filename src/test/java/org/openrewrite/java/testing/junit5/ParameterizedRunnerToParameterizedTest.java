@@ -33,7 +33,7 @@ class ParameterizedRunnerToParameterizedTest implements RewriteTest {
         spec
           .parser(JavaParser.fromJavaVersion()
             .classpathFromResources(new InMemoryExecutionContext(), "junit-4", "hamcrest-3"))
-          .recipe(new ParameterizedRunnerToParameterized());
+          .recipe(new ParameterizedRunnerToParameterized(null));
     }
 
     @DocumentExample
@@ -790,4 +790,74 @@ class ParameterizedRunnerToParameterizedTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void streamRowsGeneratedInLoop() {
+        //language=java
+        rewriteRun(
+          spec -> spec.recipe(new ParameterizedRunnerToParameterized(true))
+            .typeValidationOptions(TypeValidation.none()),
+          java(
+            """
+              import org.junit.Test;
+              import org.junit.runner.RunWith;
+              import org.junit.runners.Parameterized;
+              import org.junit.runners.Parameterized.Parameters;
+
+              import java.util.ArrayList;
+              import java.util.List;
+
+              @RunWith(Parameterized.class)
+              public class SquareTest {
+                  private int input;
+
+                  public SquareTest(int input) {
+                      this.input = input;
+                  }
+
+                  @Parameters
+                  public static List<Object[]> data() {
+                      List<Object[]> rows = new ArrayList<>();
+                      for (int i = 0; i < 10000; i++) {
+                          rows.add(new Object[]{i});
+                      }
+                      return rows;
+                  }
+
+                  @Test
+                  public void square() {
+                      assert input * input >= 0;
+                  }
+              }
+              """,
+            """
+              import org.junit.jupiter.params.ParameterizedTest;
+              import org.junit.jupiter.params.provider.Arguments;
+              import org.junit.jupiter.params.provider.MethodSource;
+
+              import java.util.stream.IntStream;
+              import java.util.stream.Stream;
+
+              public class SquareTest {
+                  private int input;
+
+                  public void initSquareTest(int input) {
+                      this.input = input;
+                  }
+
+                  public static Stream<Arguments> data() {
+                      return IntStream.range(0, 10000).mapToObj(i -> Arguments.of(i));
+                  }
+
+                  @MethodSource("data")
+                  @ParameterizedTest
+                  public void square(int input) {
+                      initSquareTest(input);
+                      assert input * input >= 0;
+                  }
+              }
+              """
+          )
+        );
+    }
 }
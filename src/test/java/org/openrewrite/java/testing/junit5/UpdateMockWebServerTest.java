@@ -19,9 +19,11 @@ import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
 import org.openrewrite.InMemoryExecutionContext;
 import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.testing.table.PerTestMockWebServers;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 
 @SuppressWarnings("RedundantThrows")
@@ -36,7 +38,7 @@ class UpdateMockWebServerTest implements RewriteTest {
               "junit-4",
               "junit-jupiter-api-5",
               "mockwebserver-3.14"))
-          .recipe(new UpdateMockWebServer());
+          .recipe(new UpdateMockWebServer(null));
     }
 
     @DocumentExample
@@ -108,4 +110,226 @@ class UpdateMockWebServerTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void perClassLifecycle() {
+        //language=java
+        rewriteRun(
+          spec -> spec.recipe(new UpdateMockWebServer(true)),
+          java(
+            """
+              import okhttp3.mockwebserver.MockResponse;
+              import okhttp3.mockwebserver.MockWebServer;
+              import org.junit.Rule;
+              import org.junit.jupiter.api.Test;
+
+              class MyTest {
+                  @Rule
+                  public MockWebServer server = new MockWebServer();
+
+                  @Test
+                  void test() {
+                      server.enqueue(new MockResponse().setBody("hello"));
+                  }
+              }
+              """,
+            """
+              import okhttp3.mockwebserver.MockResponse;
+              import okhttp3.mockwebserver.MockWebServer;
+              import okhttp3.mockwebserver.QueueDispatcher;
+              import org.junit.jupiter.api.AfterAll;
+              import org.junit.jupiter.api.AfterEach;
+              import org.junit.jupiter.api.BeforeAll;
+              import org.junit.jupiter.api.Test;
+
+              import java.io.IOException;
+
+              class MyTest {
+                  public static MockWebServer server = new MockWebServer();
+
+                  @Test
+                  void test() {
+                      server.enqueue(new MockResponse().setBody("hello"));
+                  }
+
+                  @BeforeAll
+                  static void beforeAll() throws IOException {
+                      server.start();
+                  }
+
+                  @AfterEach
+                  void afterEachTest() {
+                      server.setDispatcher(new QueueDispatcher());
+                  }
+
+                  @AfterAll
+                  static void afterAll() throws IOException {
+                      server.close();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void perTestLifecycleKeptForTakeRequest() {
+        //language=java
+        rewriteRun(
+          spec -> spec.recipe(new UpdateMockWebServer(true))
+            .dataTable(PerTestMockWebServers.Row.class, rows -> assertThat(rows)
+              .singleElement()
+              .extracting(PerTestMockWebServers.Row::getClassName)
+              .isEqualTo("MyTest")),
+          java(
+            """
+              import okhttp3.mockwebserver.MockWebServer;
+              import org.junit.Rule;
+              import org.junit.jupiter.api.Test;
+
+              class MyTest {
+                  @Rule
+                  public MockWebServer server = new MockWebServer();
+
+                  @Test
+                  void test() throws Exception {
+                      server.takeRequest();
+                  }
+              }
+              """,
+            """
+              import okhttp3.mockwebserver.MockWebServer;
+              import org.junit.jupiter.api.AfterEach;
+              import org.junit.jupiter.api.Test;
+
+              import java.io.IOException;
+
+              class MyTest {
+                  public MockWebServer server = new MockWebServer();
+
+                  @Test
+                  void test() throws Exception {
+                      server.takeRequest();
+                  }
+
+                  @AfterEach
+                  void afterEachTest() throws IOException {
+                      server.close();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void perTestLifecycleKeptForGetRequestCount() {
+        //language=java
+        rewriteRun(
+          spec -> spec.recipe(new UpdateMockWebServer(true)),
+          java(
+            """
+              import okhttp3.mockwebserver.MockWebServer;
+              import org.junit.Rule;
+              import org.junit.jupiter.api.Test;
+
+              import static org.junit.jupiter.api.Assertions.assertEquals;
+
+              class MyTest {
+                  @Rule
+                  public MockWebServer server = new MockWebServer();
+
+                  @Test
+                  void test() {
+                      assertEquals(0, server.getRequestCount());
+                  }
+              }
+              """,
+            """
+              import okhttp3.mockwebserver.MockWebServer;
+              import org.junit.jupiter.api.AfterEach;
+              import org.junit.jupiter.api.Test;
+
+              import java.io.IOException;
+
+              import static org.junit.jupiter.api.Assertions.assertEquals;
+
+              class MyTest {
+                  public MockWebServer server = new MockWebServer();
+
+                  @Test
+                  void test() {
+                      assertEquals(0, server.getRequestCount());
+                  }
+
+                  @AfterEach
+                  void afterEachTest() throws IOException {
+                      server.close();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void perTestLifecycleKeptForShutdownInAfterEach() {
+        //language=java
+        rewriteRun(
+          spec -> spec.recipe(new UpdateMockWebServer(true))
+            .dataTable(PerTestMockWebServers.Row.class, rows -> assertThat(rows)
+              .singleElement()
+              .extracting(PerTestMockWebServers.Row::getReason)
+              .isEqualTo("Shuts the server down in an `@AfterEach` method, which a shared server must survive")),
+          java(
+            """
+              import okhttp3.mockwebserver.MockResponse;
+              import okhttp3.mockwebserver.MockWebServer;
+              import org.junit.Rule;
+              import org.junit.jupiter.api.AfterEach;
+              import org.junit.jupiter.api.Test;
+
+              import java.io.IOException;
+
+              class MyTest {
+                  @Rule
+                  public MockWebServer server = new MockWebServer();
+
+                  @Test
+                  void test() {
+                      server.enqueue(new MockResponse());
+                  }
+
+                  @AfterEach
+                  void afterEachTest() throws IOException {
+                      server.shutdown();
+                  }
+              }
+              """,
+            """
+              import okhttp3.mockwebserver.MockResponse;
+              import okhttp3.mockwebserver.MockWebServer;
+              import org.junit.jupiter.api.AfterEach;
+              import org.junit.jupiter.api.Test;
+
+              import java.io.IOException;
+
+              class MyTest {
+                  public MockWebServer server = new MockWebServer();
+
+                  @Test
+                  void test() {
+                      server.enqueue(new MockResponse());
+                  }
+
+                  @AfterEach
+                  void afterEachTest() throws IOException {
+                      server.shutdown();
+                      server.close();
+                  }
+              }
+              """
+          )
+        );
+    }
 }
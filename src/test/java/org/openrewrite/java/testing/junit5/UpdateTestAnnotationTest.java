@@ -129,6 +129,86 @@ class UpdateTestAnnotationTest implements RewriteTest {
         );
     }
 
+    @Test
+    void assertThrowsInAnonymousClass() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.junit.Test;
+
+              public class MyTest {
+
+                  Object suite = new Object() {
+                      @Test(expected = IllegalArgumentException.class)
+                      public void test() {
+                          throw new IllegalArgumentException("boom");
+                      }
+                  };
+              }
+              """,
+            """
+              import org.junit.jupiter.api.Test;
+
+              import static org.junit.jupiter.api.Assertions.assertThrows;
+
+              public class MyTest {
+
+                  Object suite = new Object() {
+                      @Test
+                      public void test() {
+                          assertThrows(IllegalArgumentException.class, () -> {
+                              throw new IllegalArgumentException("boom");
+                          });
+                      }
+                  };
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void timeoutInLocalClass() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.junit.Test;
+
+              public class MyTest {
+
+                  void suite() {
+                      class LocalTest {
+                          @Test(timeout = 500)
+                          public void test() {
+                          }
+                      }
+                  }
+              }
+              """,
+            """
+              import org.junit.jupiter.api.Test;
+              import org.junit.jupiter.api.Timeout;
+
+              import java.util.concurrent.TimeUnit;
+
+              public class MyTest {
+
+                  void suite() {
+                      class LocalTest {
+                          @Test
+                          @Timeout(value = 500, unit = TimeUnit.MILLISECONDS, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+                          public void test() {
+                          }
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void assertThrowsSingleLineInlined() {
         //language=java
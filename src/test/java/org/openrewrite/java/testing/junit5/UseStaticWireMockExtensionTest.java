@@ -0,0 +1,300 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.junit5;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+@SuppressWarnings("JUnitMalformedDeclaration")
+class UseStaticWireMockExtensionTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "junit-jupiter-api-5", "wiremock-jre8-2.35"))
+          .recipe(new UseStaticWireMockExtension());
+    }
+
+    @DocumentExample
+    @Test
+    void staticExtensionWithDynamicPort() {
+        //language=java
+        rewriteRun(
+          spec -> spec.recipe(new UseStaticWireMockExtension(true)),
+          java(
+            """
+              import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+              import org.junit.jupiter.api.Test;
+              import org.junit.jupiter.api.extension.RegisterExtension;
+
+              import static com.github.tomakehurst.wiremock.client.WireMock.*;
+              import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+              class ATest {
+                  @RegisterExtension
+                  WireMockExtension wm = WireMockExtension.newInstance().options(options().port(7001)).build();
+
+                  @Test
+                  void hello() {
+                      wm.stubFor(get("/hello").willReturn(ok()));
+                  }
+              }
+              """,
+            """
+              import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+              import org.junit.jupiter.api.Test;
+              import org.junit.jupiter.api.extension.RegisterExtension;
+
+              import static com.github.tomakehurst.wiremock.client.WireMock.*;
+              import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+              class ATest {
+                  @RegisterExtension
+                  static WireMockExtension wm = WireMockExtension.newInstance().options(options().dynamicPort()).build();
+
+                  @Test
+                  void hello() {
+                      wm.stubFor(get("/hello").willReturn(ok()));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepFixedPortByDefault() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+              import org.junit.jupiter.api.extension.RegisterExtension;
+
+              import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+              class ATest {
+                  @RegisterExtension
+                  WireMockExtension wm = WireMockExtension.newInstance().options(options().port(7001)).build();
+              }
+              """,
+            """
+              import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+              import org.junit.jupiter.api.extension.RegisterExtension;
+
+              import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+              class ATest {
+                  @RegisterExtension
+                  static WireMockExtension wm = WireMockExtension.newInstance().options(options().port(7001)).build();
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepPortReferencedElsewhere() {
+        //language=java
+        rewriteRun(
+          spec -> spec.recipe(new UseStaticWireMockExtension(true)),
+          java(
+            """
+              import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+              import org.junit.jupiter.api.extension.RegisterExtension;
+
+              import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+              class ATest {
+                  private static final String BASE_URL = "http://localhost:7001";
+
+                  @RegisterExtension
+                  public WireMockExtension wm = WireMockExtension.newInstance().options(options().port(7001)).build();
+              }
+              """,
+            """
+              import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+              import org.junit.jupiter.api.extension.RegisterExtension;
+
+              import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+              class ATest {
+                  private static final String BASE_URL = "http://localhost:7001";
+
+                  @RegisterExtension
+                  public static WireMockExtension wm = WireMockExtension.newInstance().options(options().port(7001)).build();
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void resetInExistingAfterEach() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+              import org.junit.jupiter.api.AfterEach;
+              import org.junit.jupiter.api.Test;
+              import org.junit.jupiter.api.extension.RegisterExtension;
+
+              import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+              class ATest {
+                  @RegisterExtension
+                  WireMockExtension wm = WireMockExtension.newInstance().resetOnEachTest(false).build();
+
+                  @AfterEach
+                  void tearDown() {
+                      System.out.println("done");
+                  }
+
+                  @Test
+                  void hello() {
+                      wm.stubFor(get("/hello").willReturn(ok()));
+                  }
+              }
+              """,
+            """
+              import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+              import org.junit.jupiter.api.AfterEach;
+              import org.junit.jupiter.api.Test;
+              import org.junit.jupiter.api.extension.RegisterExtension;
+
+              import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+              class ATest {
+                  @RegisterExtension
+                  static WireMockExtension wm = WireMockExtension.newInstance().resetOnEachTest(false).build();
+
+                  @AfterEach
+                  void tearDown() {
+                      System.out.println("done");
+                      wm.resetAll();
+                  }
+
+                  @Test
+                  void hello() {
+                      wm.stubFor(get("/hello").willReturn(ok()));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void addAfterEachWhenResetOnEachTestIsDisabled() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+              import org.junit.jupiter.api.Test;
+              import org.junit.jupiter.api.extension.RegisterExtension;
+
+              import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+              class ATest {
+                  @RegisterExtension
+                  WireMockExtension wm = WireMockExtension.newInstance().resetOnEachTest(false).build();
+
+                  @Test
+                  void hello() {
+                      wm.stubFor(get("/hello").willReturn(ok()));
+                  }
+              }
+              """,
+            """
+              import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+              import org.junit.jupiter.api.AfterEach;
+              import org.junit.jupiter.api.Test;
+              import org.junit.jupiter.api.extension.RegisterExtension;
+
+              import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+              class ATest {
+                  @RegisterExtension
+                  static WireMockExtension wm = WireMockExtension.newInstance().resetOnEachTest(false).build();
+
+                  @Test
+                  void hello() {
+                      wm.stubFor(get("/hello").willReturn(ok()));
+                  }
+
+                  @AfterEach
+                  void resetWireMock() {
+                      wm.resetAll();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void leaveInitializerUsingInstanceMembersAlone() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+              import org.junit.jupiter.api.extension.RegisterExtension;
+
+              import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+              class ATest {
+                  int port = 7001;
+
+                  @RegisterExtension
+                  WireMockExtension wm = WireMockExtension.newInstance().options(options().port(port)).build();
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void leaveNestedInnerClassAlone() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+              import org.junit.jupiter.api.Nested;
+              import org.junit.jupiter.api.extension.RegisterExtension;
+
+              class ATest {
+                  @Nested
+                  class Inner {
+                      @RegisterExtension
+                      WireMockExtension wm = WireMockExtension.newInstance().build();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
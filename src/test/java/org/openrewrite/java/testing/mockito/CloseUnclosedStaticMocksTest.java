@@ -539,4 +539,175 @@ class CloseUnclosedStaticMocksTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void shouldShareMockedStaticCreatedBeforeEach() {
+        //language=java
+        rewriteRun(
+          spec -> spec.recipe(new CloseUnclosedStaticMocks(true))
+            .afterTypeValidationOptions(TypeValidation.builder().identifiers(false).build()),
+          java(
+            """
+              import org.junit.jupiter.api.AfterEach;
+              import org.junit.jupiter.api.BeforeEach;
+              import org.junit.jupiter.api.Test;
+              import org.mockito.MockedStatic;
+
+              import static org.junit.jupiter.api.Assertions.assertEquals;
+              import static org.mockito.Mockito.*;
+
+              class ATest {
+                  private MockedStatic<A> mockedA;
+
+                  @BeforeEach
+                  void setUp() {
+                      mockedA = mockStatic(A.class);
+                  }
+
+                  @AfterEach
+                  void tearDown() {
+                      mockedA.close();
+                  }
+
+                  @Test
+                  void test() {
+                      mockedA.when(A::getNumber).thenReturn(1);
+                      assertEquals(1, A.getNumber());
+                  }
+              }
+              """,
+            """
+              import org.junit.jupiter.api.AfterAll;
+              import org.junit.jupiter.api.AfterEach;
+              import org.junit.jupiter.api.BeforeAll;
+              import org.junit.jupiter.api.Test;
+              import org.mockito.MockedStatic;
+
+              import static org.junit.jupiter.api.Assertions.assertEquals;
+              import static org.mockito.Mockito.*;
+
+              class ATest {
+                  private static MockedStatic<A> mockedA;
+
+                  @AfterEach
+                  void tearDown() {
+                      mockedA.reset();
+                  }
+
+                  @Test
+                  void test() {
+                      mockedA.when(A::getNumber).thenReturn(1);
+                      assertEquals(1, A.getNumber());
+                  }
+
+                  @BeforeAll
+                  public static void setUpStaticMocks() {
+                      mockedA = mockStatic(A.class);
+                  }
+
+                  @AfterAll
+                  public static void closeStaticMocks() {
+                      mockedA.closeOnDemand();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void shouldNotShareMockedStaticUsingInstanceField() {
+        //language=java
+        rewriteRun(
+          spec -> spec.recipe(new CloseUnclosedStaticMocks(true)),
+          java(
+            """
+              import org.junit.jupiter.api.AfterEach;
+              import org.junit.jupiter.api.BeforeEach;
+              import org.junit.jupiter.api.Test;
+              import org.mockito.MockedStatic;
+              import org.mockito.stubbing.Answer;
+
+              import static org.junit.jupiter.api.Assertions.assertEquals;
+              import static org.mockito.Mockito.*;
+
+              class ATest {
+                  private final Answer<Object> defaultAnswer = CALLS_REAL_METHODS;
+                  private MockedStatic<A> mockedA;
+
+                  @BeforeEach
+                  void setUp() {
+                      mockedA = mockStatic(A.class, defaultAnswer);
+                  }
+
+                  @AfterEach
+                  void tearDown() {
+                      mockedA.close();
+                  }
+
+                  @Test
+                  void test() {
+                      mockedA.when(A::getNumber).thenReturn(1);
+                      assertEquals(1, A.getNumber());
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void shouldNotShareMockedStaticOfNestedClass() {
+        //language=java
+        rewriteRun(
+          spec -> spec.recipe(new CloseUnclosedStaticMocks(true))
+            .afterTypeValidationOptions(TypeValidation.builder().identifiers(false).build()),
+          java(
+            """
+              import org.junit.jupiter.api.BeforeEach;
+              import org.junit.jupiter.api.Nested;
+              import org.mockito.MockedStatic;
+
+              import static org.mockito.Mockito.*;
+
+              class ATest {
+                  @Nested
+                  class Inner {
+                      private MockedStatic<A> mockedA;
+
+                      @BeforeEach
+                      void setUp() {
+                          mockedA = mockStatic(A.class);
+                      }
+                  }
+              }
+              """,
+            """
+              import org.junit.jupiter.api.AfterEach;
+              import org.junit.jupiter.api.BeforeEach;
+              import org.junit.jupiter.api.Nested;
+              import org.mockito.MockedStatic;
+
+              import static org.mockito.Mockito.*;
+
+              class ATest {
+                  @Nested
+                  class Inner {
+                      private MockedStatic<A> mockedA;
+
+                      @BeforeEach
+                      void setUp() {
+                          mockedA = mockStatic(A.class);
+                      }
+
+                      @AfterEach
+                      public void tearDown() {
+                          mockedA.closeOnDemand();
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
 }
@@ -2191,4 +2191,172 @@ class MockitoWhenOnStaticToMockStaticTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void shareMockedStaticPerTestClass() {
+        rewriteRun(
+          spec -> spec.recipe(new MockitoWhenOnStaticToMockStatic(true)),
+          //language=java
+          java(
+            """
+              import org.example.A;
+              import org.junit.jupiter.api.Test;
+
+              import static org.junit.jupiter.api.Assertions.assertEquals;
+              import static org.mockito.Mockito.*;
+
+              class ATest {
+                  @Test
+                  void positive() {
+                      when(A.getNumber()).thenReturn(1);
+                      assertEquals(1, A.getNumber());
+                  }
+
+                  @Test
+                  void negative() {
+                      when(A.getNumber()).thenReturn(-1);
+                      assertEquals(-1, A.getNumber());
+                  }
+              }
+              """,
+            """
+              import org.example.A;
+              import org.junit.jupiter.api.AfterAll;
+              import org.junit.jupiter.api.AfterEach;
+              import org.junit.jupiter.api.BeforeAll;
+              import org.junit.jupiter.api.Test;
+              import org.mockito.MockedStatic;
+
+              import static org.junit.jupiter.api.Assertions.assertEquals;
+              import static org.mockito.Mockito.*;
+
+              class ATest {
+                  private static MockedStatic<A> mockedA;
+
+                  @Test
+                  void positive() {
+                      mockedA.when(() -> A.getNumber()).thenReturn(1);
+                      assertEquals(1, A.getNumber());
+                  }
+
+                  @Test
+                  void negative() {
+                      mockedA.when(() -> A.getNumber()).thenReturn(-1);
+                      assertEquals(-1, A.getNumber());
+                  }
+
+                  @BeforeAll
+                  static void setUpStaticMocks() {
+                      mockedA = mockStatic(A.class);
+                  }
+
+                  @AfterEach
+                  void resetStaticMocks() {
+                      mockedA.reset();
+                  }
+
+                  @AfterAll
+                  static void closeStaticMocks() {
+                      mockedA.close();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void shareMockedStaticKeepsExistingMockedStatic() {
+        rewriteRun(
+          spec -> spec.recipe(new MockitoWhenOnStaticToMockStatic(true)),
+          //language=java
+          java(
+            """
+              import org.example.A;
+              import org.junit.jupiter.api.Test;
+              import org.mockito.MockedStatic;
+
+              import static org.mockito.Mockito.*;
+
+              class ATest {
+                  @Test
+                  void test() {
+                      try (MockedStatic<A> mockA = mockStatic(A.class)) {
+                          when(A.getNumber()).thenReturn(-1);
+                      }
+                  }
+              }
+              """,
+            """
+              import org.example.A;
+              import org.junit.jupiter.api.Test;
+              import org.mockito.MockedStatic;
+
+              import static org.mockito.Mockito.*;
+
+              class ATest {
+                  @Test
+                  void test() {
+                      try (MockedStatic<A> mockA = mockStatic(A.class)) {
+                          mockA.when(() -> A.getNumber()).thenReturn(-1);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void doNotShareMockedStaticWhenTestCallsUnstubbedMethod() {
+        rewriteRun(
+          spec -> spec.recipe(new MockitoWhenOnStaticToMockStatic(true)),
+          //language=java
+          java(
+            """
+              import org.example.A;
+              import org.junit.jupiter.api.Test;
+
+              import static org.junit.jupiter.api.Assertions.assertEquals;
+              import static org.mockito.Mockito.*;
+
+              class ATest {
+                  @Test
+                  void stubbed() {
+                      when(A.getNumber()).thenReturn(1);
+                      assertEquals(1, A.getNumber());
+                  }
+
+                  @Test
+                  void real() {
+                      assertEquals(42, A.getNumber());
+                  }
+              }
+              """,
+            """
+              import org.example.A;
+              import org.junit.jupiter.api.Test;
+              import org.mockito.MockedStatic;
+
+              import static org.junit.jupiter.api.Assertions.assertEquals;
+              import static org.mockito.Mockito.*;
+
+              class ATest {
+                  @Test
+                  void stubbed() {
+                      try (MockedStatic<A> mockA1 = mockStatic(A.class)) {
+                          mockA1.when(() -> A.getNumber()).thenReturn(1);
+                          assertEquals(1, A.getNumber());
+                      }
+                  }
+
+                  @Test
+                  void real() {
+                      assertEquals(42, A.getNumber());
+                  }
+              }
+              """
+          )
+        );
+    }
 }
@@ -0,0 +1,345 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.mockito;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.testing.table.RemovedJavaAgents;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.gradle.Assertions.buildGradle;
+import static org.openrewrite.java.Assertions.*;
+import static org.openrewrite.maven.Assertions.pomXml;
+
+class RemoveMockingJavaAgentsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new RemoveMockingJavaAgents())
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "jmockit-1.49", "junit-jupiter-api-5"));
+    }
+
+    @DocumentExample
+    @Test
+    void removeAgentAndVerifyFlagFromSurefire() {
+        rewriteRun(
+          spec -> spec.dataTable(RemovedJavaAgents.Row.class, rows -> assertThat(rows)
+            .extracting(RemovedJavaAgents.Row::getRemovedArgument)
+            .containsExactly("JMockit", "-noverify")),
+          mavenProject("project",
+            //language=java
+            srcTestJava(java(
+              """
+                import org.junit.jupiter.api.Test;
+
+                class ATest {
+                    @Test
+                    void test() {
+                    }
+                }
+                """
+            )),
+            //language=xml
+            pomXml(
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>org.example</groupId>
+                    <artifactId>project</artifactId>
+                    <version>0.0.1</version>
+                    <build>
+                        <plugins>
+                            <plugin>
+                                <groupId>org.apache.maven.plugins</groupId>
+                                <artifactId>maven-surefire-plugin</artifactId>
+                                <configuration>
+                                    <argLine>@{argLine} -javaagent:${settings.localRepository}/org/jmockit/jmockit/1.49/jmockit-1.49.jar -noverify -Xmx1g</argLine>
+                                </configuration>
+                            </plugin>
+                        </plugins>
+                    </build>
+                </project>
+                """,
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>org.example</groupId>
+                    <artifactId>project</artifactId>
+                    <version>0.0.1</version>
+                    <build>
+                        <plugins>
+                            <plugin>
+                                <groupId>org.apache.maven.plugins</groupId>
+                                <artifactId>maven-surefire-plugin</artifactId>
+                                <configuration>
+                                    <argLine>@{argLine} -Xmx1g</argLine>
+                                </configuration>
+                            </plugin>
+                        </plugins>
+                    </build>
+                </project>
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void removeAgentWithinJMockitMigration() {
+        rewriteRun(
+          spec -> spec.recipeFromResources("org.openrewrite.java.testing.jmockit.JMockitToMockito")
+            .parser(JavaParser.fromJavaVersion()
+              .classpathFromResources(new InMemoryExecutionContext(),
+                "jmockit-1.49", "junit-jupiter-api-5", "mockito-core-3.12", "mockito-junit-jupiter-3.12"))
+            .expectedCyclesThatMakeChanges(2),
+          mavenProject("project",
+            //language=java
+            srcTestJava(java(
+              """
+                import mockit.Mocked;
+                import org.junit.jupiter.api.Test;
+
+                import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+                class ATest {
+                    @Mocked
+                    Object mockedObject;
+
+                    @Test
+                    void test() {
+                        assertNotNull(mockedObject);
+                    }
+                }
+                """,
+              spec -> spec.after(java -> assertThat(java)
+                .doesNotContain("import mockit.")
+                .contains("import org.mockito.Mock;")
+                .actual())
+            )),
+            //language=xml
+            pomXml(
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>org.example</groupId>
+                    <artifactId>project</artifactId>
+                    <version>0.0.1</version>
+                    <build>
+                        <plugins>
+                            <plugin>
+                                <groupId>org.apache.maven.plugins</groupId>
+                                <artifactId>maven-surefire-plugin</artifactId>
+                                <configuration>
+                                    <argLine>-javaagent:${settings.localRepository}/org/jmockit/jmockit/1.49/jmockit-1.49.jar -Xmx1g</argLine>
+                                </configuration>
+                            </plugin>
+                        </plugins>
+                    </build>
+                </project>
+                """,
+              spec -> spec.after(pom -> assertThat(pom)
+                .doesNotContain("-javaagent")
+                .contains("<argLine>-Xmx1g</argLine>")
+                .actual())
+            )
+          )
+        );
+    }
+
+    @Test
+    void removeEmptiedArgLineProperty() {
+        rewriteRun(
+          mavenProject("project",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>org.example</groupId>
+                    <artifactId>project</artifactId>
+                    <version>0.0.1</version>
+                    <properties>
+                        <java.version>17</java.version>
+                        <argLine>-javaagent:${settings.localRepository}/org/powermock/powermock-module-javaagent/2.0.9/powermock-module-javaagent-2.0.9.jar -Xverify:none</argLine>
+                    </properties>
+                </project>
+                """,
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>org.example</groupId>
+                    <artifactId>project</artifactId>
+                    <version>0.0.1</version>
+                    <properties>
+                        <java.version>17</java.version>
+                    </properties>
+                </project>
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void keepAgentWhileStillInUse() {
+        rewriteRun(
+          mavenProject("project",
+            //language=java
+            srcTestJava(java(
+              """
+                import mockit.Mocked;
+
+                class ATest {
+                    @Mocked
+                    Object dependency;
+                }
+                """
+            )),
+            //language=xml
+            pomXml(
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>org.example</groupId>
+                    <artifactId>project</artifactId>
+                    <version>0.0.1</version>
+                    <build>
+                        <plugins>
+                            <plugin>
+                                <groupId>org.apache.maven.plugins</groupId>
+                                <artifactId>maven-surefire-plugin</artifactId>
+                                <configuration>
+                                    <argLine>-javaagent:${settings.localRepository}/org/jmockit/jmockit/1.49/jmockit-1.49.jar -noverify</argLine>
+                                </configuration>
+                            </plugin>
+                        </plugins>
+                    </build>
+                </project>
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void keepVerifyFlagWithoutRemovedAgent() {
+        rewriteRun(
+          //language=xml
+          pomXml(
+            """
+              <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>org.example</groupId>
+                  <artifactId>project</artifactId>
+                  <version>0.0.1</version>
+                  <properties>
+                      <argLine>-noverify</argLine>
+                  </properties>
+              </project>
+              """
+          )
+        );
+    }
+
+    @Test
+    void removeJvmArgsFromGradleTestTask() {
+        rewriteRun(
+          //language=groovy
+          buildGradle(
+            """
+              plugins {
+                  id 'java'
+              }
+              test {
+                  jvmArgs "-javaagent:${classpath.find { it.name.contains('jmockit') }.absolutePath}", '-Xmx1g'
+                  jvmArgs '-noverify'
+              }
+              """,
+            """
+              plugins {
+                  id 'java'
+              }
+              test {
+                  jvmArgs '-Xmx1g'
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepFormattingOfRemainingArgLine() {
+        rewriteRun(
+          //language=xml
+          pomXml(
+            """
+              <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>org.example</groupId>
+                  <artifactId>project</artifactId>
+                  <version>0.0.1</version>
+                  <properties>
+                      <argLine>-Xms512m  -javaagent:${settings.localRepository}/org/jmockit/jmockit/1.49/jmockit-1.49.jar  -Xmx1g</argLine>
+                  </properties>
+              </project>
+              """,
+            """
+              <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>org.example</groupId>
+                  <artifactId>project</artifactId>
+                  <version>0.0.1</version>
+                  <properties>
+                      <argLine>-Xms512m  -Xmx1g</argLine>
+                  </properties>
+              </project>
+              """
+          )
+        );
+    }
+
+    @Test
+    void removeJvmArgsAssignedToGradleTestTask() {
+        rewriteRun(
+          //language=groovy
+          buildGradle(
+            """
+              plugins {
+                  id 'java'
+              }
+              test {
+                  jvmArgs = ['-javaagent:/libs/jmockit-1.49.jar', '-Xmx1g']
+                  jvmArgs += '-noverify'
+                  jvmArgs.add('-javaagent:/libs/powermock-module-javaagent-2.0.9.jar')
+              }
+              """,
+            """
+              plugins {
+                  id 'java'
+              }
+              test {
+                  jvmArgs = ['-Xmx1g']
+              }
+              """
+          )
+        );
+    }
+}
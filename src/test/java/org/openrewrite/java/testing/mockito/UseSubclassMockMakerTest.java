@@ -0,0 +1,402 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.mockito;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.*;
+import static org.openrewrite.maven.Assertions.pomXml;
+import static org.openrewrite.test.SourceSpecs.text;
+
+class UseSubclassMockMakerTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseSubclassMockMaker())
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "junit-jupiter-api-5", "mockito-core-5")
+            //language=java
+            .dependsOn(
+              """
+                package org.example;
+                public class Service {
+                    public String name() {
+                        return "service";
+                    }
+                    public final String id() {
+                        return "id";
+                    }
+                }
+                """,
+              """
+                package org.example;
+                public final class Clock {
+                    public long now() {
+                        return 0L;
+                    }
+                }
+                """
+            ));
+    }
+
+    @DocumentExample
+    @Test
+    void subclassMockMakerWhenOnlyPlainMocks() {
+        rewriteRun(
+          mavenProject("project",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.example</groupId>
+                  <artifactId>project</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.mockito</groupId>
+                      <artifactId>mockito-core</artifactId>
+                      <version>5.14.2</version>
+                      <scope>test</scope>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """
+            ),
+            srcTestJava(
+              //language=java
+              java(
+                """
+                  import org.example.Service;
+                  import org.junit.jupiter.api.Test;
+
+                  import static org.mockito.Mockito.*;
+
+                  class ServiceTest {
+                      @Test
+                      void name() {
+                          Service service = mock(Service.class);
+                          when(service.name()).thenReturn("mocked");
+                      }
+                  }
+                  """
+              )
+            ),
+            srcTestResources(
+              text(
+                null,
+                """
+                  mock-maker-subclass
+                  """,
+                spec -> spec.path("mockito-extensions/org.mockito.plugins.MockMaker")
+              )
+            )
+          )
+        );
+    }
+
+    @Test
+    void keepInlineMockMakerForStaticMocks() {
+        rewriteRun(
+          mavenProject("project",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.example</groupId>
+                  <artifactId>project</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.mockito</groupId>
+                      <artifactId>mockito-core</artifactId>
+                      <version>5.14.2</version>
+                      <scope>test</scope>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """
+            ),
+            srcTestJava(
+              //language=java
+              java(
+                """
+                  import org.example.Service;
+                  import org.junit.jupiter.api.Test;
+                  import org.mockito.MockedStatic;
+
+                  import static org.mockito.Mockito.*;
+
+                  class ServiceTest {
+                      @Test
+                      void name() {
+                          Service service = mock(Service.class);
+                          try (MockedStatic<Service> mocked = mockStatic(Service.class)) {
+                          }
+                      }
+                  }
+                  """
+              )
+            )
+          )
+        );
+    }
+
+    @Test
+    void keepInlineMockMakerForFinalClass() {
+        rewriteRun(
+          mavenProject("project",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.example</groupId>
+                  <artifactId>project</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.mockito</groupId>
+                      <artifactId>mockito-core</artifactId>
+                      <version>5.14.2</version>
+                      <scope>test</scope>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """
+            ),
+            srcTestJava(
+              //language=java
+              java(
+                """
+                  import org.example.Clock;
+                  import org.junit.jupiter.api.Test;
+                  import org.mockito.Mock;
+
+                  class ClockTest {
+                      @Mock
+                      Clock clock;
+
+                      @Test
+                      void now() {
+                      }
+                  }
+                  """
+              )
+            )
+          )
+        );
+    }
+
+    @Test
+    void keepInlineMockMakerForFinalMethod() {
+        rewriteRun(
+          mavenProject("project",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.example</groupId>
+                  <artifactId>project</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.mockito</groupId>
+                      <artifactId>mockito-core</artifactId>
+                      <version>5.14.2</version>
+                      <scope>test</scope>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """
+            ),
+            srcTestJava(
+              //language=java
+              java(
+                """
+                  import org.example.Service;
+                  import org.junit.jupiter.api.Test;
+
+                  import static org.mockito.Mockito.*;
+
+                  class ServiceTest {
+                      @Test
+                      void id() {
+                          Service service = mock(Service.class);
+                          when(service.id()).thenReturn("mocked");
+                      }
+                  }
+                  """
+              )
+            )
+          )
+        );
+    }
+
+    @Test
+    void keepConfiguredMockMaker() {
+        rewriteRun(
+          mavenProject("project",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.example</groupId>
+                  <artifactId>project</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.mockito</groupId>
+                      <artifactId>mockito-core</artifactId>
+                      <version>5.14.2</version>
+                      <scope>test</scope>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """
+            ),
+            srcTestJava(
+              //language=java
+              java(
+                """
+                  import org.example.Service;
+
+                  import static org.mockito.Mockito.mock;
+
+                  class ServiceTest {
+                      Service service = mock(Service.class);
+                  }
+                  """
+              )
+            ),
+            srcTestResources(
+              text(
+                """
+                  mock-maker-inline
+                  """,
+                spec -> spec.path("mockito-extensions/org.mockito.plugins.MockMaker")
+              )
+            )
+          )
+        );
+    }
+
+    @Test
+    void keepInlineMockMakerBeforeSubclassAlias() {
+        rewriteRun(
+          mavenProject("project",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.example</groupId>
+                  <artifactId>project</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.mockito</groupId>
+                      <artifactId>mockito-core</artifactId>
+                      <version>4.6.1</version>
+                      <scope>test</scope>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """
+            ),
+            srcTestJava(
+              //language=java
+              java(
+                """
+                  import org.example.Service;
+                  import org.junit.jupiter.api.Test;
+
+                  import static org.mockito.Mockito.*;
+
+                  class ServiceTest {
+                      @Test
+                      void name() {
+                          Service service = mock(Service.class);
+                          when(service.name()).thenReturn("mocked");
+                      }
+                  }
+                  """
+              )
+            )
+          )
+        );
+    }
+
+    @Test
+    void keepInlineMockMakerOfMockitoInline() {
+        rewriteRun(
+          mavenProject("project",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.example</groupId>
+                  <artifactId>project</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.mockito</groupId>
+                      <artifactId>mockito-core</artifactId>
+                      <version>4.11.0</version>
+                      <scope>test</scope>
+                    </dependency>
+                    <dependency>
+                      <groupId>org.mockito</groupId>
+                      <artifactId>mockito-inline</artifactId>
+                      <version>4.11.0</version>
+                      <scope>test</scope>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """
+            ),
+            srcTestJava(
+              //language=java
+              java(
+                """
+                  import org.example.Service;
+                  import org.junit.jupiter.api.Test;
+
+                  import static org.mockito.Mockito.*;
+
+                  class ServiceTest {
+                      @Test
+                      void name() {
+                          Service service = mock(Service.class);
+                          when(service.name()).thenReturn("mocked");
+                      }
+                  }
+                  """
+              )
+            )
+          )
+        );
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.testing.table.SpringTestContexts;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class ConsolidateSpringTestContextsTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(),
+              "spring-test-6.1", "spring-boot-test-3.2", "junit-jupiter-api-5"))
+          .recipe(new ConsolidateSpringTestContexts(null));
+    }
+
+    private static final String USER_SERVICE = """
+      package com.example;
+      public interface UserService {}
+      """;
+    private static final String ORDER_SERVICE = """
+      package com.example;
+      public interface OrderService {}
+      """;
+
+    @DocumentExample
+    @Test
+    void reportDistinctContexts() {
+        rewriteRun(
+          spec -> spec.dataTable(SpringTestContexts.Row.class, rows -> assertThat(rows).containsExactly(
+            new SpringTestContexts.Row("", "@ActiveProfiles(\"test\") @SpringBootTest @MockBean(com.example.OrderService)", 1, "com.example.BTest"),
+            new SpringTestContexts.Row("", "@ActiveProfiles(\"test\") @SpringBootTest @MockBean(com.example.UserService)", 2, "com.example.ATest")
+          )),
+          java(USER_SERVICE),
+          java(ORDER_SERVICE),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.boot.test.mock.mockito.MockBean;
+              import org.springframework.test.context.ActiveProfiles;
+
+              @SpringBootTest
+              @ActiveProfiles("test")
+              class ATest {
+                  @MockBean
+                  UserService userService;
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.boot.test.mock.mockito.MockBean;
+              import org.springframework.test.context.ActiveProfiles;
+
+              @SpringBootTest
+              @ActiveProfiles({"test"})
+              class BTest {
+                  @MockBean
+                  OrderService orderService;
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.boot.test.mock.mockito.MockBean;
+              import org.springframework.test.context.ActiveProfiles;
+
+              @ActiveProfiles(value = "test")
+              @SpringBootTest
+              class CTest {
+                  @MockBean
+                  private UserService users;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void inheritConfigurationFromSuperclass() {
+        rewriteRun(
+          spec -> spec.dataTable(SpringTestContexts.Row.class, rows -> assertThat(rows).containsExactly(
+            new SpringTestContexts.Row("", "@SpringBootTest @TestPropertySource(properties = \"a=b\")", 2, "com.example.ATest")
+          )),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.boot.test.context.SpringBootTest;
+
+              @SpringBootTest
+              abstract class AbstractIntegrationTest {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.test.context.TestPropertySource;
+
+              @TestPropertySource(properties = "a=b")
+              class ATest extends AbstractIntegrationTest {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.test.context.TestPropertySource;
+
+              @SpringBootTest
+              @TestPropertySource(properties = {"a=b"})
+              class BTest {
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void hoistBeanOverridesToBaseClass() {
+        rewriteRun(
+          spec -> spec.recipe(new ConsolidateSpringTestContexts(true))
+            .afterTypeValidationOptions(TypeValidation.none()),
+          java(USER_SERVICE),
+          java(ORDER_SERVICE),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.junit.jupiter.api.Test;
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.boot.test.mock.mockito.MockBean;
+              import org.springframework.test.context.ActiveProfiles;
+
+              @SpringBootTest
+              @ActiveProfiles("test")
+              class ATest {
+                  @MockBean
+                  UserService userService;
+
+                  @Test
+                  void test() {
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import org.junit.jupiter.api.Test;
+
+              class ATest extends AbstractSpringContextTest {
+                  @Test
+                  void test() {
+                  }
+              }
+              """,
+            spec -> spec.path("src/test/java/com/example/ATest.java")
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.boot.test.mock.mockito.MockBean;
+              import org.springframework.test.context.ActiveProfiles;
+
+              @SpringBootTest
+              @ActiveProfiles("test")
+              public class BTest {
+                  @MockBean
+                  OrderService orderService;
+              }
+              """,
+            """
+              package com.example;
+
+              public class BTest extends AbstractSpringContextTest {
+              }
+              """,
+            spec -> spec.path("src/test/java/com/example/BTest.java")
+          ),
+          //language=java
+          java(
+            null,
+            """
+              package com.example;
+
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.boot.test.mock.mockito.MockBean;
+              import org.springframework.test.context.ActiveProfiles;
+
+              @SpringBootTest
+              @ActiveProfiles("test")
+              abstract class AbstractSpringContextTest {
+
+                  @MockBean
+                  OrderService orderService;
+
+                  @MockBean
+                  UserService userService;
+              }
+              """,
+            spec -> spec.path("src/test/java/com/example/AbstractSpringContextTest.java")
+          )
+        );
+    }
+
+    @Test
+    void doNotMockInjectedBean() {
+        rewriteRun(
+          spec -> spec.recipe(new ConsolidateSpringTestContexts(true)),
+          java(USER_SERVICE),
+          java(ORDER_SERVICE),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.boot.test.mock.mockito.MockBean;
+
+              @SpringBootTest
+              class ATest {
+                  @MockBean
+                  UserService userService;
+
+                  OrderService orderService = new OrderService() {
+                  };
+              }
+              """,
+            spec -> spec.path("src/test/java/com/example/ATest.java")
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.boot.test.mock.mockito.MockBean;
+
+              @SpringBootTest
+              class BTest {
+                  @MockBean
+                  OrderService orderService;
+              }
+              """,
+            spec -> spec.path("src/test/java/com/example/BTest.java")
+          )
+        );
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class NarrowSpringBootTestTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(),
+              "spring-test-6.1", "spring-boot-test-3.2", "junit-jupiter-api-5")
+            //language=java
+            .dependsOn(
+              """
+                package org.springframework.beans.factory.annotation;
+                public @interface Autowired {}
+                """,
+              """
+                package org.springframework.web.bind.annotation;
+                public @interface RestController {}
+                """,
+              """
+                package org.springframework.boot.test.autoconfigure.web.servlet;
+                public @interface AutoConfigureMockMvc {}
+                """,
+              """
+                package org.springframework.jdbc.core;
+                public interface JdbcOperations {}
+                """,
+              """
+                package org.springframework.jdbc.core;
+                public class JdbcTemplate implements JdbcOperations {}
+                """,
+              """
+                package com.example;
+                public interface UserService {}
+                """,
+              """
+                package com.example;
+                public interface AuditLog {}
+                """,
+              """
+                package com.example;
+                import org.springframework.web.bind.annotation.RestController;
+                @RestController
+                public class UserController {
+                    public UserController(UserService userService) {}
+                }
+                """,
+              """
+                package com.example;
+                import org.springframework.web.bind.annotation.RestController;
+                @RestController
+                public class AuditController {
+                    public AuditController(UserService userService, AuditLog auditLog) {}
+                }
+                """,
+              """
+                package com.fasterxml.jackson.databind;
+                public class ObjectMapper {}
+                """
+            ))
+          .recipe(new NarrowSpringBootTest());
+    }
+
+    @DocumentExample
+    @Test
+    void controllerToWebMvcTest() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.beans.factory.annotation.Autowired;
+              import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.boot.test.mock.mockito.MockBean;
+              import org.springframework.test.web.servlet.MockMvc;
+
+              @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+              @AutoConfigureMockMvc
+              class UserControllerTest {
+                  @Autowired
+                  MockMvc mockMvc;
+
+                  @Autowired
+                  UserController controller;
+
+                  @MockBean
+                  UserService userService;
+              }
+              """,
+            """
+              package com.example;
+
+              import org.springframework.beans.factory.annotation.Autowired;
+              import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+              import org.springframework.boot.test.mock.mockito.MockBean;
+              import org.springframework.test.web.servlet.MockMvc;
+
+              @WebMvcTest(UserController.class)
+              class UserControllerTest {
+                  @Autowired
+                  MockMvc mockMvc;
+
+                  @Autowired
+                  UserController controller;
+
+                  @MockBean
+                  UserService userService;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepWhenControllerDependencyIsNotMocked() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.beans.factory.annotation.Autowired;
+              import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.boot.test.mock.mockito.MockBean;
+              import org.springframework.test.web.servlet.MockMvc;
+
+              @SpringBootTest
+              @AutoConfigureMockMvc
+              class AuditControllerTest {
+                  @Autowired
+                  MockMvc mockMvc;
+
+                  @Autowired
+                  AuditController controller;
+
+                  @MockBean
+                  UserService userService;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void jdbcTemplateToJdbcTest() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.beans.factory.annotation.Autowired;
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.jdbc.core.JdbcTemplate;
+
+              @SpringBootTest(properties = "spring.sql.init.mode=always")
+              class UserRepositoryTest {
+                  @Autowired
+                  JdbcTemplate jdbcTemplate;
+              }
+              """,
+            """
+              package com.example;
+
+              import org.springframework.beans.factory.annotation.Autowired;
+              import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+              import org.springframework.jdbc.core.JdbcTemplate;
+
+              @JdbcTest(properties = "spring.sql.init.mode=always")
+              class UserRepositoryTest {
+                  @Autowired
+                  JdbcTemplate jdbcTemplate;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepConfiguredDataSourceOnJdbcTest() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.beans.factory.annotation.Autowired;
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.jdbc.core.JdbcTemplate;
+              import org.springframework.test.context.DynamicPropertyRegistry;
+              import org.springframework.test.context.DynamicPropertySource;
+
+              @SpringBootTest
+              class UserRepositoryTest {
+                  @Autowired
+                  JdbcTemplate jdbcTemplate;
+
+                  @DynamicPropertySource
+                  static void dataSource(DynamicPropertyRegistry registry) {
+                      registry.add("spring.datasource.url", () -> "jdbc:postgresql://localhost/test");
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import org.springframework.beans.factory.annotation.Autowired;
+              import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+              import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+              import org.springframework.jdbc.core.JdbcTemplate;
+              import org.springframework.test.context.DynamicPropertyRegistry;
+              import org.springframework.test.context.DynamicPropertySource;
+
+              @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+              @JdbcTest
+              class UserRepositoryTest {
+                  @Autowired
+                  JdbcTemplate jdbcTemplate;
+
+                  @DynamicPropertySource
+                  static void dataSource(DynamicPropertyRegistry registry) {
+                      registry.add("spring.datasource.url", () -> "jdbc:postgresql://localhost/test");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepWhenTestMethodParameterIsOutsideSlice() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.junit.jupiter.api.Test;
+              import org.springframework.beans.factory.annotation.Autowired;
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.jdbc.core.JdbcTemplate;
+
+              @SpringBootTest
+              class UserRepositoryTest {
+                  @Autowired
+                  JdbcTemplate jdbcTemplate;
+
+                  @Test
+                  void createsUser(@Autowired UserService userService) {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepWhenOnlyPlainFieldIsJsonType() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import org.junit.jupiter.api.Test;
+              import org.springframework.boot.test.context.SpringBootTest;
+
+              @SpringBootTest
+              class UserTest {
+                  private ObjectMapper om = new ObjectMapper();
+
+                  @Test
+                  void serializesUser() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void downgradeUnusedRandomPort() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.beans.factory.annotation.Autowired;
+              import org.springframework.boot.test.context.SpringBootTest;
+
+              @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+              class UserServiceTest {
+                  @Autowired
+                  UserService userService;
+              }
+              """,
+            """
+              package com.example;
+
+              import org.springframework.beans.factory.annotation.Autowired;
+              import org.springframework.boot.test.context.SpringBootTest;
+
+              @SpringBootTest
+              class UserServiceTest {
+                  @Autowired
+                  UserService userService;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepRandomPortForRealHttpClient() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.beans.factory.annotation.Autowired;
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.boot.test.web.client.TestRestTemplate;
+
+              @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+              class UserApiTest {
+                  @Autowired
+                  TestRestTemplate restTemplate;
+
+                  @Autowired
+                  UserService userService;
+              }
+              """
+          )
+        );
+    }
+}
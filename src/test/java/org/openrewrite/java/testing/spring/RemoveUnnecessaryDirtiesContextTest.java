@@ -0,0 +1,432 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.testing.table.RetainedDirtiesContexts;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class RemoveUnnecessaryDirtiesContextTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(),
+              "spring-test-6.1", "spring-boot-test-3.2", "junit-jupiter-api-5", "mockito-core-5")
+            //language=java
+            .dependsOn(
+              """
+                package org.springframework.beans.factory.annotation;
+                public @interface Autowired {}
+                """,
+              """
+                package org.springframework.jdbc.core;
+                public class JdbcTemplate {
+                    public int update(String sql) { return 0; }
+                }
+                """,
+              """
+                package com.example;
+                public interface UserService {
+                    String greeting();
+                    void setGreeting(String greeting);
+                }
+                """
+            ))
+          .recipe(new RemoveUnnecessaryDirtiesContext());
+    }
+
+    @DocumentExample
+    @Test
+    void removeWhenOnlyMocksChange() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.junit.jupiter.api.Test;
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.boot.test.mock.mockito.MockBean;
+              import org.springframework.test.annotation.DirtiesContext;
+
+              import static org.mockito.Mockito.when;
+
+              @SpringBootTest
+              @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+              class ATest {
+                  @MockBean
+                  UserService userService;
+
+                  @Test
+                  void greeting() {
+                      when(userService.greeting()).thenReturn("hello");
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import org.junit.jupiter.api.Test;
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.boot.test.mock.mockito.MockBean;
+
+              import static org.mockito.Mockito.when;
+
+              @SpringBootTest
+              class ATest {
+                  @MockBean
+                  UserService userService;
+
+                  @Test
+                  void greeting() {
+                      when(userService.greeting()).thenReturn("hello");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void resetMocksWithoutAutomaticReset() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.junit.jupiter.api.Test;
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.boot.test.mock.mockito.MockBean;
+              import org.springframework.boot.test.mock.mockito.MockReset;
+              import org.springframework.test.annotation.DirtiesContext;
+
+              @SpringBootTest
+              @DirtiesContext
+              class ATest {
+                  @MockBean(reset = MockReset.NONE)
+                  UserService userService;
+
+                  @Test
+                  void greeting() {
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import org.junit.jupiter.api.AfterEach;
+              import org.junit.jupiter.api.Test;
+              import org.mockito.Mockito;
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.boot.test.mock.mockito.MockBean;
+              import org.springframework.boot.test.mock.mockito.MockReset;
+
+              @SpringBootTest
+              class ATest {
+                  @MockBean(reset = MockReset.NONE)
+                  UserService userService;
+
+                  @Test
+                  void greeting() {
+                  }
+
+                  @AfterEach
+                  void resetMocks() {
+                      Mockito.reset(userService);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void rollBackDataChanges() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.junit.jupiter.api.Test;
+              import org.springframework.beans.factory.annotation.Autowired;
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.jdbc.core.JdbcTemplate;
+              import org.springframework.test.annotation.DirtiesContext;
+
+              @SpringBootTest
+              class ATest {
+                  @Autowired
+                  JdbcTemplate jdbcTemplate;
+
+                  @Test
+                  @DirtiesContext
+                  void insert() {
+                      jdbcTemplate.update("insert into users values ('alice')");
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import org.junit.jupiter.api.Test;
+              import org.springframework.beans.factory.annotation.Autowired;
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.jdbc.core.JdbcTemplate;
+              import org.springframework.transaction.annotation.Transactional;
+
+              @SpringBootTest
+              @Transactional
+              class ATest {
+                  @Autowired
+                  JdbcTemplate jdbcTemplate;
+
+                  @Test
+                  void insert() {
+                      jdbcTemplate.update("insert into users values ('alice')");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepWhenSingletonBeanChanges() {
+        rewriteRun(
+          spec -> spec.dataTable(RetainedDirtiesContexts.Row.class, rows -> assertThat(rows).containsExactly(
+            new RetainedDirtiesContexts.Row("com/example/ATest.java", "com.example.ATest",
+              "Calls `userService.setGreeting`, which may change the state of a singleton bean")
+          )),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.junit.jupiter.api.Test;
+              import org.springframework.beans.factory.annotation.Autowired;
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.test.annotation.DirtiesContext;
+
+              @SpringBootTest
+              @DirtiesContext
+              class ATest {
+                  @Autowired
+                  UserService userService;
+
+                  @Test
+                  void greeting() {
+                      userService.setGreeting("bye");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepWhenServerRunsInOwnThread() {
+        rewriteRun(
+          spec -> spec.dataTable(RetainedDirtiesContexts.Row.class, rows -> assertThat(rows).hasSize(1)),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.junit.jupiter.api.Test;
+              import org.springframework.beans.factory.annotation.Autowired;
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.boot.test.web.client.TestRestTemplate;
+              import org.springframework.test.annotation.DirtiesContext;
+
+              @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+              @DirtiesContext
+              class ATest {
+                  @Autowired
+                  TestRestTemplate restTemplate;
+
+                  @Test
+                  void createUser() {
+                      restTemplate.postForObject("/users", "alice", String.class);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepWhenCallingWebLayer() {
+        rewriteRun(
+          spec -> spec.dataTable(RetainedDirtiesContexts.Row.class, rows -> assertThat(rows).containsExactly(
+            new RetainedDirtiesContexts.Row("com/example/ATest.java", "com.example.ATest",
+              "Calls the web layer through `mockMvc.perform`, which may change state a test transaction does not roll back")
+          )),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.junit.jupiter.api.Test;
+              import org.springframework.beans.factory.annotation.Autowired;
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.test.annotation.DirtiesContext;
+              import org.springframework.test.web.servlet.MockMvc;
+
+              import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+              @SpringBootTest
+              @DirtiesContext
+              class ATest {
+                  @Autowired
+                  MockMvc mockMvc;
+
+                  @Test
+                  void createUser() throws Exception {
+                      mockMvc.perform(post("/users"));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepWhenSettingSystemProperty() {
+        rewriteRun(
+          spec -> spec.dataTable(RetainedDirtiesContexts.Row.class, rows -> assertThat(rows).containsExactly(
+            new RetainedDirtiesContexts.Row("com/example/ATest.java", "com.example.ATest",
+              "Changes a system property through `System.setProperty`")
+          )),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.junit.jupiter.api.Test;
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.test.annotation.DirtiesContext;
+
+              @SpringBootTest
+              @DirtiesContext
+              class ATest {
+                  @Test
+                  void greeting() {
+                      System.setProperty("greeting", "bye");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepWhenAssigningStaticField() {
+        rewriteRun(
+          spec -> spec.dataTable(RetainedDirtiesContexts.Row.class, rows -> assertThat(rows).containsExactly(
+            new RetainedDirtiesContexts.Row("com/example/ATest.java", "com.example.ATest",
+              "Assigns static field `Settings.greeting`")
+          )),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              public class Settings {
+                  public static String greeting = "hello";
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.junit.jupiter.api.Test;
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.test.annotation.DirtiesContext;
+
+              @SpringBootTest
+              @DirtiesContext
+              class ATest {
+                  @Test
+                  void greeting() {
+                      Settings.greeting = "bye";
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepUnresetMocksOfJUnit4TestClass() {
+        rewriteRun(
+          spec -> spec
+            .parser(JavaParser.fromJavaVersion()
+              .classpathFromResources(new InMemoryExecutionContext(),
+                "spring-test-6.1", "spring-boot-test-3.2", "junit-4", "junit-jupiter-api-5", "mockito-core-5")
+              //language=java
+              .dependsOn(
+                """
+                  package com.example;
+                  public interface UserService {
+                      String greeting();
+                  }
+                  """
+              ))
+            .dataTable(RetainedDirtiesContexts.Row.class, rows -> assertThat(rows).containsExactly(
+              new RetainedDirtiesContexts.Row("com/example/ATest.java", "com.example.ATest",
+                "Mock beans configured with `MockReset.NONE` are only reset automatically for JUnit Jupiter tests")
+            )),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.junit.Test;
+              import org.junit.runner.RunWith;
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.springframework.boot.test.mock.mockito.MockBean;
+              import org.springframework.boot.test.mock.mockito.MockReset;
+              import org.springframework.test.annotation.DirtiesContext;
+              import org.springframework.test.context.junit4.SpringRunner;
+
+              @RunWith(SpringRunner.class)
+              @SpringBootTest
+              @DirtiesContext
+              class ATest {
+                  @MockBean(reset = MockReset.NONE)
+                  UserService userService;
+
+                  @Test
+                  public void greeting() {
+                  }
+              }
+              """
+          )
+        );
+    }
+}
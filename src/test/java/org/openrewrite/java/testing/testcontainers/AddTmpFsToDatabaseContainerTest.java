@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.testcontainers;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class AddTmpFsToDatabaseContainerTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.parser(JavaParser.fromJavaVersion()
+          .classpathFromResources(new InMemoryExecutionContext(), "testcontainers-1")
+          //language=java
+          .dependsOn(
+            """
+              package org.testcontainers.containers;
+              public class PostgreSQLContainer<SELF extends PostgreSQLContainer<SELF>> extends GenericContainer<SELF> {
+                  public PostgreSQLContainer(String image) { super(image); }
+              }
+              """,
+            """
+              package org.testcontainers.containers;
+              public class MySQLContainer<SELF extends MySQLContainer<SELF>> extends GenericContainer<SELF> {
+                  public MySQLContainer(String image) { super(image); }
+              }
+              """
+          ));
+    }
+
+    @DocumentExample
+    @Test
+    void postgresDataDirectoryAndDurability() {
+        rewriteRun(
+          spec -> spec.recipe(new AddTmpFsToDatabaseContainer("org.testcontainers.containers.PostgreSQLContainer", null)),
+          //language=java
+          java(
+            """
+              import org.testcontainers.containers.PostgreSQLContainer;
+
+              class A {
+                  PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+              }
+              """,
+            """
+              import org.testcontainers.containers.PostgreSQLContainer;
+
+              import java.util.Map;
+
+              class A {
+                  PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16").withTmpFs(Map.of("/var/lib/postgresql/data", "rw")).withCommand("postgres", "-c", "fsync=off", "-c", "synchronous_commit=off");
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void mysqlDataDirectory() {
+        rewriteRun(
+          spec -> spec.recipe(new AddTmpFsToDatabaseContainer("org.testcontainers.containers.MySQLContainer", null)),
+          //language=java
+          java(
+            """
+              import org.testcontainers.containers.MySQLContainer;
+
+              class A {
+                  MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8").withReuse(true);
+              }
+              """,
+            """
+              import org.testcontainers.containers.MySQLContainer;
+
+              import java.util.Map;
+
+              class A {
+                  MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8").withTmpFs(Map.of("/var/lib/mysql", "rw")).withReuse(true);
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepExistingTmpFs() {
+        rewriteRun(
+          spec -> spec.recipe(new AddTmpFsToDatabaseContainer("org.testcontainers.containers.MySQLContainer", null)),
+          //language=java
+          java(
+            """
+              import org.testcontainers.containers.MySQLContainer;
+
+              import java.util.Map;
+
+              class A {
+                  MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8").withReuse(true).withTmpFs(Map.of("/var/lib/mysql", "rw"));
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void onlyConfiguredContainerClass() {
+        rewriteRun(
+          spec -> spec.recipe(new AddTmpFsToDatabaseContainer("org.testcontainers.containers.PostgreSQLContainer", null)),
+          //language=java
+          java(
+            """
+              import org.testcontainers.containers.MySQLContainer;
+
+              class A {
+                  MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8");
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.testng;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class TestNgAssertionsToAssertThatTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion().classpath("testng"))
+          .recipe(new TestNgAssertionsToAssertThat());
+    }
+
+    @DocumentExample
+    @Test
+    void allAssertionsInOnePass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import static org.testng.Assert.*;
+
+              class Test {
+                  void test(Object actual, Object expected) {
+                      assertTrue(actual != null);
+                      assertFalse(actual == null, "foo");
+                      assertNull(actual);
+                      assertNotNull(actual, "foo");
+                      assertSame(actual, expected);
+                      assertNotSame(actual, expected, "foo");
+                  }
+              }
+              """,
+            """
+              import static org.assertj.core.api.Assertions.assertThat;
+
+              class Test {
+                  void test(Object actual, Object expected) {
+                      assertThat(actual != null).isTrue();
+                      assertThat(actual == null).as("foo").isFalse();
+                      assertThat(actual).isNull();
+                      assertThat(actual).as("foo").isNotNull();
+                      assertThat(actual).isSameAs(expected);
+                      assertThat(actual).as("foo").isNotSameAs(expected);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void equalsShapesInOnePass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Iterator;
+              import java.util.List;
+              import java.util.Set;
+
+              import static org.testng.Assert.*;
+
+              class Test {
+                  void test(String[] array, List<String> list, Set<String> set, Iterator<String> iterator, double value,
+                            String[] expectedArray, List<String> expectedList, Set<String> expectedSet, Iterator<String> expectedIterator) {
+                      assertEquals(array, expectedArray);
+                      assertEquals(list, expectedList, "foo");
+                      assertEquals(set, expectedSet);
+                      assertEquals(iterator, expectedIterator);
+                      assertEquals(value, 1.0, 0.1);
+                      assertNotEquals(value, 2.0);
+                  }
+              }
+              """,
+            """
+              import java.util.Iterator;
+              import java.util.List;
+              import java.util.Set;
+
+              import static org.assertj.core.api.Assertions.assertThat;
+              import static org.assertj.core.api.Assertions.within;
+
+              class Test {
+                  void test(String[] array, List<String> list, Set<String> set, Iterator<String> iterator, double value,
+                            String[] expectedArray, List<String> expectedList, Set<String> expectedSet, Iterator<String> expectedIterator) {
+                      assertThat(array).containsExactly(expectedArray);
+                      assertThat(list).as("foo").containsExactlyElementsOf(expectedList);
+                      assertThat(set).containsExactlyInAnyOrderElementsOf(expectedSet);
+                      assertThat(iterator).toIterable().containsExactlyElementsOf(() -> expectedIterator);
+                      assertThat(value).isCloseTo(1.0, within(0.1));
+                      assertThat(value).isNotEqualTo(2.0);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void leaveAssertNotEqualsOnIteratorsAlone() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Iterator;
+
+              import static org.testng.Assert.assertNotEquals;
+
+              class Test {
+                  void test(Iterator<String> actual, Iterator<String> expected) {
+                      assertNotEquals(actual, expected);
+                  }
+              }
+              """
+          )
+        );
+    }
+}